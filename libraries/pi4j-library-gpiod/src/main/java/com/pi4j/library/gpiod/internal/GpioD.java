@@ -401,4 +401,183 @@ public class GpioD {
     private static native String c_gpiod_version_string();
 
     private static native String c_gpiod_strerror();
+
+    static int lineEventGetFd(long linePtr) {
+        int result = c_gpiod_line_event_get_fd(linePtr);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_event_get_fd failed: " + result + " (" + c_gpiod_strerror() + ")");
+        return result;
+    }
+
+    private static native int c_gpiod_line_event_get_fd(long linePtr);
+
+    /**
+     * Reads all pending events of a line (up to half the buffer length) in one call.
+     *
+     * @param linePtr line requested for events
+     * @param buffer  receives (timestamp in ns, {@link LineEvent} value) pairs
+     * @return the number of events read
+     */
+    static int lineEventReadMultiple(long linePtr, long[] buffer) {
+        int result = c_gpiod_line_event_read_multiple(linePtr, buffer);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_event_read_multiple failed: " + result + " (" + c_gpiod_strerror() + ")");
+        return result;
+    }
+
+    private static native int c_gpiod_line_event_read_multiple(long linePtr, long[] buffer);
+
+    static int epollCreate() {
+        int result = c_epoll_create();
+        if (result < 0)
+            throw new GpioDException("c_epoll_create failed: " + result + " (" + c_gpiod_strerror() + ")");
+        return result;
+    }
+
+    private static native int c_epoll_create();
+
+    static void epollAdd(int epollFd, int fd, long key) {
+        int result = c_epoll_add(epollFd, fd, key);
+        if (result < 0)
+            throw new GpioDException("c_epoll_add failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_epoll_add(int epollFd, int fd, long key);
+
+    static void epollRemove(int epollFd, int fd) {
+        int result = c_epoll_remove(epollFd, fd);
+        if (result < 0)
+            throw new GpioDException("c_epoll_remove failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_epoll_remove(int epollFd, int fd);
+
+    static int epollWait(int epollFd, long[] readyKeys, int timeoutMs) {
+        int result = c_epoll_wait(epollFd, readyKeys, timeoutMs);
+        if (result < 0)
+            throw new GpioDException("c_epoll_wait failed: " + result + " (" + c_gpiod_strerror() + ")");
+        return result;
+    }
+
+    private static native int c_epoll_wait(int epollFd, long[] readyKeys, int timeoutMs);
+
+    static int eventFdCreate() {
+        int result = c_eventfd_create();
+        if (result < 0)
+            throw new GpioDException("c_eventfd_create failed: " + result + " (" + c_gpiod_strerror() + ")");
+        return result;
+    }
+
+    private static native int c_eventfd_create();
+
+    static void eventFdSignal(int fd) {
+        int result = c_eventfd_signal(fd);
+        if (result < 0)
+            throw new GpioDException("c_eventfd_signal failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_eventfd_signal(int fd);
+
+    static void eventFdClear(int fd) {
+        int result = c_eventfd_clear(fd);
+        if (result < 0)
+            throw new GpioDException("c_eventfd_clear failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_eventfd_clear(int fd);
+
+    static void close(int fd) {
+        c_close(fd);
+    }
+
+    private static native int c_close(int fd);
+
+    static int gpioV2LineRequestEvents(String chipPath, int offset, String consumer, int flags, int debounceUs) {
+        int result = c_gpio_v2_line_request_events(chipPath, offset, consumer, flags, debounceUs);
+        if (result < 0)
+            throw new GpioDException("c_gpio_v2_line_request_events failed: " + result + " (" + c_gpiod_strerror() + ")");
+        return result;
+    }
+
+    private static native int c_gpio_v2_line_request_events(String chipPath, int offset, String consumer, int flags,
+        int debounceUs);
+
+    static int gpioV2LineGetValue(int fd) {
+        int result = c_gpio_v2_line_get_value(fd);
+        if (result < 0)
+            throw new GpioDException("c_gpio_v2_line_get_value failed: " + result + " (" + c_gpiod_strerror() + ")");
+        return result;
+    }
+
+    private static native int c_gpio_v2_line_get_value(int fd);
+
+    /**
+     * Reads all pending events of a v2 line request (up to a third of the buffer length) in one call.
+     *
+     * @param fd     the line request file descriptor
+     * @param buffer receives (timestamp in ns, {@link LineEvent} value, line sequence number) triples
+     * @return the number of events read
+     */
+    static int gpioV2LineEventReadMultiple(int fd, long[] buffer) {
+        int result = c_gpio_v2_line_event_read_multiple(fd, buffer);
+        if (result < 0)
+            throw new GpioDException("c_gpio_v2_line_event_read_multiple failed: " + result + " (" + c_gpiod_strerror() + ")");
+        return result;
+    }
+
+    private static native int c_gpio_v2_line_event_read_multiple(int fd, long[] buffer);
+
+    static long lineBulkNew(long[] linePtrs) {
+        Long ptr = c_gpiod_line_bulk_new(linePtrs);
+        if (ptr == null)
+            throw new GpioDException("c_gpiod_line_bulk_new failed! (" + c_gpiod_strerror() + ")");
+        return ptr;
+    }
+
+    private static native Long c_gpiod_line_bulk_new(long[] linePtrs);
+
+    static void lineBulkFree(long bulkPtr) {
+        c_gpiod_line_bulk_free(bulkPtr);
+    }
+
+    private static native void c_gpiod_line_bulk_free(long bulkPtr);
+
+    static void lineRequestBulkInputFlags(long bulkPtr, String consumer, int flags) {
+        int result = c_gpiod_line_request_bulk_input_flags(bulkPtr, consumer, flags);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_request_bulk_input_flags failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_request_bulk_input_flags(long bulkPtr, String consumer, int flags);
+
+    static void lineRequestBulkOutputFlags(long bulkPtr, String consumer, int flags, long defaultValues) {
+        int result = c_gpiod_line_request_bulk_output_flags(bulkPtr, consumer, flags, defaultValues);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_request_bulk_output_flags failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_request_bulk_output_flags(long bulkPtr, String consumer, int flags,
+        long defaultValues);
+
+    static void lineReleaseBulk(long bulkPtr) {
+        c_gpiod_line_release_bulk(bulkPtr);
+    }
+
+    private static native void c_gpiod_line_release_bulk(long bulkPtr);
+
+    static void lineGetValueBulk(long bulkPtr, long[] mask) {
+        int result = c_gpiod_line_get_value_bulk(bulkPtr, mask);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_get_value_bulk failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_get_value_bulk(long bulkPtr, long[] mask);
+
+    static void lineSetValueBulk(long bulkPtr, long mask) {
+        int result = c_gpiod_line_set_value_bulk(bulkPtr, mask);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_set_value_bulk failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_set_value_bulk(long bulkPtr, long mask);
 }
@@ -5,8 +5,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -28,6 +30,10 @@ public class GpioDContext implements Closeable {
     private final Map<Integer, GpioLine> openLines;
 
     private final Set<Long> openLineEvents;
+    private final Set<GpioLineEventRequest> openLineEventRequests = new HashSet<>();
+    private final Set<GpioLineBulk> openLineBulks = new HashSet<>();
+
+    private final GpioLineEventLoop eventLoop = new GpioLineEventLoop();
 
     public GpioDContext() {
         this.openLines = new HashMap<>();
@@ -87,6 +93,39 @@ public class GpioDContext implements Closeable {
         GpioD.lineRelease(linePtr);
     }
 
+    /**
+     * Opens a bulk of lines; the lines must be requested through the bulk before they can be read or written.
+     *
+     * @param offsets the line offsets, at most {@link GpioLineBulk#MAX_LINES}
+     * @return the bulk
+     */
+    public synchronized GpioLineBulk openLineBulk(int... offsets) {
+        if (offsets.length == 0 || offsets.length > GpioLineBulk.MAX_LINES)
+            throw new IllegalArgumentException("A line bulk requires 1 to " + GpioLineBulk.MAX_LINES + " lines: " + offsets.length);
+        List<GpioLine> lines = new ArrayList<>(offsets.length);
+        long[] linePtrs = new long[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            GpioLine line = getOrOpenLine(offsets[i]);
+            lines.add(line);
+            linePtrs[i] = line.getCPointer();
+        }
+        GpioLineBulk bulk = new GpioLineBulk(GpioD.lineBulkNew(linePtrs), lines);
+        this.openLineBulks.add(bulk);
+        return bulk;
+    }
+
+    /**
+     * Releases the lines of a bulk and frees it.
+     *
+     * @param bulk the bulk
+     */
+    public synchronized void closeLineBulk(GpioLineBulk bulk) {
+        if (!this.openLineBulks.remove(bulk))
+            return;
+        GpioD.lineReleaseBulk(bulk.getCPointer());
+        GpioD.lineBulkFree(bulk.getCPointer());
+    }
+
     public synchronized GpioLineEvent openLineEvent() {
         long lineEventPtr = GpioD.lineEventNew();
         this.openLineEvents.add(lineEventPtr);
@@ -100,8 +139,106 @@ public class GpioDContext implements Closeable {
         }
     }
 
+    /**
+     * Registers a listener for the edge events of a line already requested for events. All lines share
+     * a single event loop thread owned by this context.
+     *
+     * @param line       the line requested for edge events
+     * @param debounceNs debounce period in nanoseconds; 0 to deliver every edge
+     * @param listener   the listener, invoked on the event loop thread
+     */
+    public void addLineEventListener(GpioLine line, long debounceNs, GpioLineEventListener listener) {
+        this.eventLoop.add(line, debounceNs, listener);
+    }
+
+    /**
+     * Removes the event listener of a line; once this method returns the listener is no longer invoked.
+     *
+     * @param line the line to stop watching
+     */
+    public void removeLineEventListener(GpioLine line) {
+        this.eventLoop.remove(line.getOriginalOffset());
+    }
+
+    /**
+     * Requests a line for edge events through the GPIO v2 character device uAPI, with the debounce period
+     * applied by the kernel. The line must not be requested through libgpiod at the same time.
+     *
+     * @param line       the line to request
+     * @param consumer   the consumer label
+     * @param flags      {@link LineRequestFlag} values
+     * @param debounceUs debounce period in microseconds, 0 to report every edge
+     * @return the line request
+     * @throws GpioDException if the kernel doesn't support the v2 uAPI or the debounce period
+     */
+    public synchronized GpioLineEventRequest requestLineEvents(GpioLine line, String consumer, int flags, long debounceUs) {
+        if (this.gpioChip == null)
+            throw new IllegalStateException("No gpio chip yet initialized!");
+        int fd = GpioD.gpioV2LineRequestEvents("/dev/" + this.gpioChip.getName(), line.getOriginalOffset(), consumer,
+            flags, (int) Math.min(Integer.MAX_VALUE, debounceUs));
+        GpioLineEventRequest request = new GpioLineEventRequest(line.getOriginalOffset(), fd, debounceUs);
+        this.openLineEventRequests.add(request);
+        return request;
+    }
+
+    /**
+     * Releases a line requested through {@link #requestLineEvents(GpioLine, String, int, long)}.
+     *
+     * @param request the line request
+     */
+    public synchronized void closeLineEventRequest(GpioLineEventRequest request) {
+        request.close();
+        this.openLineEventRequests.remove(request);
+    }
+
+    /**
+     * Registers a listener for the edge events of a line requested through the v2 uAPI.
+     *
+     * @param request  the line request
+     * @param listener the listener, invoked on the event loop thread
+     */
+    public void addLineEventListener(GpioLineEventRequest request, GpioLineEventListener listener) {
+        this.eventLoop.add(request, listener);
+    }
+
+    /**
+     * Removes the event listener of a line requested through the v2 uAPI.
+     *
+     * @param request the line request
+     */
+    public void removeLineEventListener(GpioLineEventRequest request) {
+        this.eventLoop.remove(request.getOffset());
+    }
+
+    /**
+     * Lost edges are counted from gaps in the kernel sequence numbers, which are only reported for lines
+     * requested through the v2 uAPI ({@link #requestLineEvents(GpioLine, String, int, long)}).
+     *
+     * @return number of edges lost (kernel event fifo overflow) on all lines
+     */
+    public long getLineEventOverflows() {
+        return this.eventLoop.overflows();
+    }
+
+    /**
+     * @param line a line with an event listener
+     * @return number of edges lost (kernel event fifo overflow) on this line, always zero for lines
+     *         not requested through the v2 uAPI
+     */
+    public long getLineEventOverflows(GpioLine line) {
+        return this.eventLoop.overflows(line.getOriginalOffset());
+    }
+
     @Override
-    public synchronized void close() {
+    public void close() {
+        // stop the event loop before locking this context, event listeners may call back into it
+        this.eventLoop.stop();
+        synchronized (this) {
+            closeChip();
+        }
+    }
+
+    private void closeChip() {
         if (this.gpioChip == null)
             return;
 
@@ -110,6 +247,17 @@ public class GpioDContext implements Closeable {
         }
         this.openLineEvents.clear();
 
+        for (GpioLineBulk bulk : this.openLineBulks) {
+            GpioD.lineReleaseBulk(bulk.getCPointer());
+            GpioD.lineBulkFree(bulk.getCPointer());
+        }
+        this.openLineBulks.clear();
+
+        for (GpioLineEventRequest request : this.openLineEventRequests) {
+            request.close();
+        }
+        this.openLineEventRequests.clear();
+
         for (int address : new HashSet<>(this.openLines.keySet())) {
             GpioLine line = this.openLines.remove(address);
             GpioD.lineRelease(line.getCPointer());
@@ -138,6 +138,10 @@ public class GpioLine extends CWrapper {
         return GpioD.lineEventWait(getCPointer(), timeoutNs);
     }
 
+    public int getEventFd() {
+        return GpioD.lineEventGetFd(getCPointer());
+    }
+
     public GpioLineEvent eventRead(GpioLineEvent lineEvent) {
         GpioD.lineEventRead(getCPointer(), lineEvent.getCPointer());
         return lineEvent;
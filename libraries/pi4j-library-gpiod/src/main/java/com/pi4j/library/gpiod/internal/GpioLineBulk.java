@@ -0,0 +1,49 @@
+package com.pi4j.library.gpiod.internal;
+
+import java.util.List;
+
+/**
+ * <p>A group of up to 64 lines requested, read and written together; every bulk operation is a single ioctl.</p>
+ *
+ * <p>Values are passed as bitmasks: bit {@code i} is the value of the {@code i}th line of the bulk.</p>
+ */
+public class GpioLineBulk extends CWrapper {
+    public static final int MAX_LINES = 64;
+
+    private final List<GpioLine> lines;
+    private final long[] values = new long[1];
+
+    protected GpioLineBulk(long cPointer, List<GpioLine> lines) {
+        super(cPointer);
+        this.lines = List.copyOf(lines);
+    }
+
+    public List<GpioLine> getLines() {
+        return this.lines;
+    }
+
+    public int size() {
+        return this.lines.size();
+    }
+
+    public void requestInputFlags(String consumer, int flags) {
+        GpioD.lineRequestBulkInputFlags(getCPointer(), consumer, flags);
+    }
+
+    public void requestOutputFlags(String consumer, int flags, long defaultValues) {
+        GpioD.lineRequestBulkOutputFlags(getCPointer(), consumer, flags, defaultValues);
+    }
+
+    public synchronized long getValues() {
+        GpioD.lineGetValueBulk(getCPointer(), this.values);
+        return this.values[0];
+    }
+
+    public void setValues(long values) {
+        GpioD.lineSetValueBulk(getCPointer(), values);
+    }
+
+    public void release() {
+        GpioD.lineReleaseBulk(getCPointer());
+    }
+}
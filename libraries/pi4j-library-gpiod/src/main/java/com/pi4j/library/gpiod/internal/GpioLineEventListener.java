@@ -0,0 +1,14 @@
+package com.pi4j.library.gpiod.internal;
+
+/**
+ * <p>Listener for edge events of a requested gpio line; invoked on the {@link GpioDContext} event loop thread.</p>
+ */
+@FunctionalInterface
+public interface GpioLineEventListener {
+
+    /**
+     * @param type        the edge type
+     * @param timestampNs kernel timestamp of the edge in nanoseconds (CLOCK_MONOTONIC)
+     */
+    void onLineEvent(LineEvent type, long timestampNs);
+}
@@ -0,0 +1,360 @@
+package com.pi4j.library.gpiod.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Single event loop shared by all gpio lines requested for edge events.</p>
+ *
+ * <p>The event file descriptors of all registered lines are watched by one epoll instance on a
+ * dedicated thread; all pending events of a ready line are read in bulk and routed to the
+ * registered listener.
+ * An eventfd is part of the epoll set so registration changes and shutdown wake the loop
+ * immediately instead of relying on a polling timeout. Lines requested through the v2 uAPI
+ * ({@link GpioLineEventRequest}) are debounced by the kernel; for all other lines debouncing is performed here:
+ * an edge is only delivered once no further edge occurred on the same line within the debounce
+ * period, and the epoll timeout is derived from the earliest pending debounce deadline.</p>
+ *
+ * <p>Events are collected while holding the registration lock and dispatched to the listeners after
+ * releasing it, so listeners may add or remove registrations and never delay them.</p>
+ *
+ * <p>A failed iteration is logged and retried after a growing delay; should the thread end anyway, the
+ * next registration starts a new one.</p>
+ */
+class GpioLineEventLoop implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GpioLineEventLoop.class);
+
+    private static final long WAKEUP_KEY = -1L;
+    private static final int MAX_READY = 64;
+    private static final int MAX_EVENTS = 64;
+    private static final long STOP_TIMEOUT_MS = 5000L;
+    // delay before retrying after a failed iteration, doubling up to MAX_RETRY_DELAY_MS
+    private static final long RETRY_DELAY_MS = 100L;
+    private static final long MAX_RETRY_DELAY_MS = 5000L;
+
+    private final Object lock = new Object();
+    private final long[] readyKeys = new long[MAX_READY];
+    // (timestamp, type) pairs or (timestamp, type, sequence number) triples filled by a single bulk read
+    private final long[] eventBuffer = new long[3 * MAX_EVENTS];
+
+    // registrations indexed by line offset; guarded by lock
+    private Registration[] registrations = new Registration[0];
+    private int registered = 0;
+    private long overflows = 0;
+
+    // events collected under the lock and dispatched after releasing it; only used by the loop thread
+    private Registration[] dispatchRegistrations = new Registration[MAX_EVENTS];
+    private LineEvent[] dispatchTypes = new LineEvent[MAX_EVENTS];
+    private long[] dispatchTimes = new long[MAX_EVENTS];
+    private int dispatchCount = 0;
+
+    private volatile boolean running = false;
+    private Thread thread;
+    private int epollFd = -1;
+    private int wakeupFd = -1;
+
+    private static final class Registration {
+        private final int offset;
+        // either a line requested through libgpiod or a line requested through the v2 uAPI
+        private final GpioLine line;
+        private final GpioLineEventRequest request;
+        private final int fd;
+        private final long debounceNs;
+        private final GpioLineEventListener listener;
+        private volatile boolean removed = false;
+
+        // kernel sequence number of the last edge read, used to detect lost edges
+        private long lastSeqno;
+        private long overflows;
+
+        // edge waiting for the debounce period to expire
+        private LineEvent pendingType;
+        private long pendingTimeNs;
+
+        private Registration(int offset, GpioLine line, GpioLineEventRequest request, int fd, long debounceNs,
+            GpioLineEventListener listener) {
+            this.offset = offset;
+            this.line = line;
+            this.request = request;
+            this.fd = fd;
+            this.debounceNs = debounceNs;
+            this.listener = listener;
+        }
+    }
+
+    void add(GpioLine line, long debounceNs, GpioLineEventListener listener) {
+        synchronized (this.lock) {
+            int offset = line.getOriginalOffset();
+            checkFree(offset);
+            register(new Registration(offset, line, null, line.getEventFd(), Math.max(0, debounceNs), listener));
+        }
+    }
+
+    void add(GpioLineEventRequest request, GpioLineEventListener listener) {
+        synchronized (this.lock) {
+            checkFree(request.getOffset());
+            // the kernel debounces v2 line requests
+            register(new Registration(request.getOffset(), null, request, request.getFd(), 0, listener));
+        }
+    }
+
+    private void checkFree(int offset) {
+        if (offset < this.registrations.length && this.registrations[offset] != null)
+            throw new IllegalStateException("Line " + offset + " already has an event listener");
+    }
+
+    private void register(Registration registration) {
+        if (!this.running)
+            start();
+        GpioD.epollAdd(this.epollFd, registration.fd, registration.offset);
+        if (registration.offset >= this.registrations.length)
+            this.registrations = Arrays.copyOf(this.registrations, registration.offset + 1);
+        this.registrations[registration.offset] = registration;
+        this.registered++;
+    }
+
+    void remove(int offset) {
+        synchronized (this.lock) {
+            if (offset >= this.registrations.length || this.registrations[offset] == null)
+                return;
+            Registration registration = this.registrations[offset];
+            this.registrations[offset] = null;
+            this.registered--;
+            registration.removed = true;
+            try {
+                GpioD.epollRemove(this.epollFd, registration.fd);
+            } catch (GpioDException e) {
+                logger.warn("Failed to remove line {} from event loop: {}", offset, e.getMessage());
+            }
+        }
+    }
+
+    void stop() {
+        Thread loopThread;
+        synchronized (this.lock) {
+            if (!this.running)
+                return;
+            this.running = false;
+            loopThread = this.thread;
+            GpioD.eventFdSignal(this.wakeupFd);
+        }
+
+        if (loopThread != Thread.currentThread()) {
+            try {
+                loopThread.join(STOP_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (loopThread.isAlive())
+                logger.error("GpioD event loop didn't stop in {} ms", STOP_TIMEOUT_MS);
+        }
+
+        synchronized (this.lock) {
+            GpioD.close(this.epollFd);
+            GpioD.close(this.wakeupFd);
+            this.epollFd = -1;
+            this.wakeupFd = -1;
+            this.registrations = new Registration[0];
+            this.registered = 0;
+            this.thread = null;
+        }
+    }
+
+    private void start() {
+        this.epollFd = GpioD.epollCreate();
+        this.wakeupFd = GpioD.eventFdCreate();
+        GpioD.epollAdd(this.epollFd, this.wakeupFd, WAKEUP_KEY);
+        // lines registered before the previous loop thread died are watched again
+        for (Registration registration : this.registrations) {
+            if (registration != null)
+                GpioD.epollAdd(this.epollFd, registration.fd, registration.offset);
+        }
+        this.running = true;
+        this.thread = new Thread(this, "Pi4J.GPIOD.EVENTS");
+        this.thread.setDaemon(true);
+        this.thread.start();
+        logger.info("Started GpioD event loop");
+    }
+
+    @Override
+    public void run() {
+        int failures = 0;
+        try {
+            while (this.running) {
+                try {
+                    int timeoutMs;
+                    synchronized (this.lock) {
+                        timeoutMs = nextTimeoutMs(System.nanoTime());
+                    }
+
+                    int ready = GpioD.epollWait(this.epollFd, this.readyKeys, timeoutMs);
+
+                    synchronized (this.lock) {
+                        if (!this.running)
+                            break;
+                        for (int i = 0; i < ready; i++) {
+                            long key = this.readyKeys[i];
+                            if (key == WAKEUP_KEY) {
+                                GpioD.eventFdClear(this.wakeupFd);
+                                continue;
+                            }
+                            if (key < this.registrations.length && this.registrations[(int) key] != null)
+                                read(this.registrations[(int) key]);
+                        }
+                        deliverDebounced(System.nanoTime());
+                    }
+                    dispatch();
+                    failures = 0;
+                } catch (Exception e) {
+                    // deliver the events read before the failure and keep watching the other lines
+                    dispatch();
+                    long delayMs = Math.min(RETRY_DELAY_MS << Math.min(failures++, 16), MAX_RETRY_DELAY_MS);
+                    if (failures == 1)
+                        logger.error("GpioD event loop failed, retrying: {}", e.getMessage(), e);
+                    else
+                        logger.debug("GpioD event loop failed {} times, retrying in {} ms: {}", failures, delayMs, e.getMessage());
+                    Thread.sleep(delayMs);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exited();
+        }
+        logger.info("Stopped GpioD event loop");
+    }
+
+    private void exited() {
+        synchronized (this.lock) {
+            // stop() cleans up after a requested stop
+            if (!this.running || this.thread != Thread.currentThread())
+                return;
+            // the thread died on its own: let the next registration start a new one
+            this.running = false;
+            this.thread = null;
+            GpioD.close(this.epollFd);
+            GpioD.close(this.wakeupFd);
+            this.epollFd = -1;
+            this.wakeupFd = -1;
+        }
+    }
+
+    private void read(Registration registration) {
+        if (registration.request != null) {
+            readRequest(registration);
+            return;
+        }
+
+        // drain all events queued by the kernel for this line in a single call
+        int count = GpioD.lineEventReadMultiple(registration.line.getCPointer(), this.eventBuffer);
+        for (int i = 0; i < count; i++) {
+            long timeNs = this.eventBuffer[2 * i];
+            LineEvent type = LineEvent.fromInt((int) this.eventBuffer[2 * i + 1]);
+
+            // the v1 uAPI carries no sequence numbers; two edges of the same type in a row are as likely
+            // contact bounce as lost events, so lost edges are only counted for v2 requests
+
+            if (registration.debounceNs == 0) {
+                deliver(registration, type, timeNs);
+            } else {
+                // (re)start the debounce period; only the last edge within the period is delivered
+                registration.pendingType = type;
+                registration.pendingTimeNs = timeNs;
+            }
+        }
+    }
+
+    private void readRequest(Registration registration) {
+        int count = GpioD.gpioV2LineEventReadMultiple(registration.fd, this.eventBuffer);
+        for (int i = 0; i < count; i++) {
+            long timeNs = this.eventBuffer[3 * i];
+            LineEvent type = LineEvent.fromInt((int) this.eventBuffer[3 * i + 1]);
+            long seqno = this.eventBuffer[3 * i + 2];
+
+            // the kernel numbers the events of each line, a gap means events were lost
+            if (registration.lastSeqno != 0 && seqno > registration.lastSeqno + 1)
+                overflow(registration, seqno - registration.lastSeqno - 1);
+            registration.lastSeqno = seqno;
+            deliver(registration, type, timeNs);
+        }
+    }
+
+    private void overflow(Registration registration, long lost) {
+        registration.overflows += lost;
+        this.overflows += lost;
+    }
+
+    long overflows() {
+        synchronized (this.lock) {
+            return this.overflows;
+        }
+    }
+
+    long overflows(int offset) {
+        synchronized (this.lock) {
+            if (offset >= this.registrations.length || this.registrations[offset] == null)
+                return 0;
+            return this.registrations[offset].overflows;
+        }
+    }
+
+    private void deliverDebounced(long nowNs) {
+        for (Registration registration : this.registrations) {
+            if (registration != null && registration.pendingType != null
+                && registration.pendingTimeNs + registration.debounceNs <= nowNs) {
+                LineEvent type = registration.pendingType;
+                registration.pendingType = null;
+                deliver(registration, type, registration.pendingTimeNs);
+            }
+        }
+    }
+
+    private int nextTimeoutMs(long nowNs) {
+        long next = Long.MAX_VALUE;
+        for (Registration registration : this.registrations) {
+            if (registration != null && registration.pendingType != null)
+                next = Math.min(next, registration.pendingTimeNs + registration.debounceNs - nowNs);
+        }
+        if (next == Long.MAX_VALUE)
+            return -1;
+        if (next <= 0)
+            return 0;
+        // round up so the deadline has passed once epoll returns
+        return (int) Math.min(Integer.MAX_VALUE, (next + TimeUnit.MILLISECONDS.toNanos(1) - 1) / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private void deliver(Registration registration, LineEvent type, long timeNs) {
+        if (this.dispatchCount == this.dispatchRegistrations.length) {
+            int capacity = 2 * this.dispatchCount;
+            this.dispatchRegistrations = Arrays.copyOf(this.dispatchRegistrations, capacity);
+            this.dispatchTypes = Arrays.copyOf(this.dispatchTypes, capacity);
+            this.dispatchTimes = Arrays.copyOf(this.dispatchTimes, capacity);
+        }
+        this.dispatchRegistrations[this.dispatchCount] = registration;
+        this.dispatchTypes[this.dispatchCount] = type;
+        this.dispatchTimes[this.dispatchCount] = timeNs;
+        this.dispatchCount++;
+    }
+
+    private void dispatch() {
+        for (int i = 0; i < this.dispatchCount; i++) {
+            Registration registration = this.dispatchRegistrations[i];
+            LineEvent type = this.dispatchTypes[i];
+            this.dispatchRegistrations[i] = null;
+            this.dispatchTypes[i] = null;
+            // skip events of lines removed after they were collected
+            if (!this.running || registration.removed)
+                continue;
+            try {
+                registration.listener.onLineEvent(type, this.dispatchTimes[i]);
+            } catch (Exception e) {
+                logger.error("Line event listener for line {} failed: {}", registration.offset, e.getMessage(), e);
+            }
+        }
+        this.dispatchCount = 0;
+    }
+}
@@ -0,0 +1,48 @@
+package com.pi4j.library.gpiod.internal;
+
+/**
+ * <p>A line requested for edge events directly through the GPIO v2 character device uAPI.</p>
+ *
+ * <p>libgpiod 1.x only uses the v1 uAPI which has no notion of debouncing; a v2 request lets the kernel
+ * debounce the line so only clean edges are reported. Events carry a per line sequence number, so lost
+ * events are reported by the kernel as well.</p>
+ */
+public class GpioLineEventRequest {
+    private final int offset;
+    private final int fd;
+    private final long debounceUs;
+    private volatile boolean closed;
+
+    GpioLineEventRequest(int offset, int fd, long debounceUs) {
+        this.offset = offset;
+        this.fd = fd;
+        this.debounceUs = debounceUs;
+    }
+
+    int getFd() {
+        return this.fd;
+    }
+
+    public int getOffset() {
+        return this.offset;
+    }
+
+    public long getDebounceUs() {
+        return this.debounceUs;
+    }
+
+    public int getValue() {
+        return GpioD.gpioV2LineGetValue(this.fd);
+    }
+
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    void close() {
+        if (this.closed)
+            return;
+        this.closed = true;
+        GpioD.close(this.fd);
+    }
+}
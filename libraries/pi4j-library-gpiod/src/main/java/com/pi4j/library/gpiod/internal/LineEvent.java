@@ -3,6 +3,7 @@ package com.pi4j.library.gpiod.internal;
 public enum LineEvent {
     RISING_EDGE(1),
     FALLING_EDGE(2);
+    private static final LineEvent[] VALUES = values();
     final int val;
 
     public int getVal() {
@@ -14,7 +15,7 @@ public enum LineEvent {
     }
 
     static LineEvent fromInt(int val) {
-        for (LineEvent dir : LineEvent.values()) {
+        for (LineEvent dir : VALUES) {
             if (dir.val == val)
                 return dir;
         }
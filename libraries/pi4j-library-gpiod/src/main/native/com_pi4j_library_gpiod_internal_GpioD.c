@@ -3,6 +3,12 @@
 #include <stdint.h>
 #include <errno.h>
 #include <string.h>
+#include <fcntl.h>
+#include <unistd.h>
+#include <linux/gpio.h>
+#include <sys/ioctl.h>
+#include <sys/epoll.h>
+#include <sys/eventfd.h>
 #include "com_pi4j_library_gpiod_internal_GpioD.h"
 
 // Compile using:
@@ -627,4 +633,370 @@ JNIEXPORT jstring JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1v
 JNIEXPORT jstring JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1strerror
   (JNIEnv* env, jclass javaClass) {
   return (*env)->NewStringUTF(env, strerror(errno));
-}
\ No newline at end of file
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_event_get_fd
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1event_1get_1fd
+  (JNIEnv* env, jclass javaClass, jlong linePtr) {
+    return gpiod_line_event_get_fd((struct gpiod_line*) (uintptr_t) linePtr);
+}
+
+#define LINE_EVENT_MAX_READ 64
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_event_read_multiple
+ * Signature: (J[J)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1event_1read_1multiple
+  (JNIEnv* env, jclass javaClass, jlong linePtr, jlongArray buffer) {
+    struct gpiod_line_event events[LINE_EVENT_MAX_READ];
+    jlong values[2 * LINE_EVENT_MAX_READ];
+    int max = (*env)->GetArrayLength(env, buffer) / 2;
+    if(max > LINE_EVENT_MAX_READ) {
+      max = LINE_EVENT_MAX_READ;
+    }
+    if(max <= 0) {
+      return 0;
+    }
+    int count = gpiod_line_event_read_multiple((struct gpiod_line*) (uintptr_t) linePtr, events, max);
+    if(count < 0) {
+      return count;
+    }
+    // (timestamp, type) pairs
+    for(int i = 0; i < count; i++) {
+      values[2 * i] = events[i].ts.tv_nsec + events[i].ts.tv_sec * (jlong) 1000000000;
+      values[2 * i + 1] = events[i].event_type;
+    }
+    (*env)->SetLongArrayRegion(env, buffer, 0, 2 * count, values);
+    return count;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_epoll_create
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1epoll_1create
+  (JNIEnv* env, jclass javaClass) {
+    return epoll_create1(EPOLL_CLOEXEC);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_epoll_add
+ * Signature: (IIJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1epoll_1add
+  (JNIEnv* env, jclass javaClass, jint epfd, jint fd, jlong key) {
+    struct epoll_event event;
+    memset(&event, 0, sizeof(event));
+    event.events = EPOLLIN | EPOLLPRI;
+    event.data.u64 = (uint64_t) key;
+    return epoll_ctl(epfd, EPOLL_CTL_ADD, fd, &event);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_epoll_remove
+ * Signature: (II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1epoll_1remove
+  (JNIEnv* env, jclass javaClass, jint epfd, jint fd) {
+    struct epoll_event event;
+    memset(&event, 0, sizeof(event));
+    return epoll_ctl(epfd, EPOLL_CTL_DEL, fd, &event);
+}
+
+#define EPOLL_MAX_EVENTS 64
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_epoll_wait
+ * Signature: (I[JI)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1epoll_1wait
+  (JNIEnv* env, jclass javaClass, jint epfd, jlongArray keys, jint timeoutMs) {
+    struct epoll_event events[EPOLL_MAX_EVENTS];
+    jlong ready[EPOLL_MAX_EVENTS];
+    int max = (*env)->GetArrayLength(env, keys);
+    if(max > EPOLL_MAX_EVENTS) {
+      max = EPOLL_MAX_EVENTS;
+    }
+    int count = epoll_wait(epfd, events, max, timeoutMs);
+    if(count < 0) {
+      // a signal interrupting the wait is not an error
+      return (errno == EINTR) ? 0 : count;
+    }
+    for(int i = 0; i < count; i++) {
+      ready[i] = (jlong) events[i].data.u64;
+    }
+    (*env)->SetLongArrayRegion(env, keys, 0, count, ready);
+    return count;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_eventfd_create
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1eventfd_1create
+  (JNIEnv* env, jclass javaClass) {
+    return eventfd(0, EFD_CLOEXEC | EFD_NONBLOCK);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_eventfd_signal
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1eventfd_1signal
+  (JNIEnv* env, jclass javaClass, jint fd) {
+    return eventfd_write(fd, 1);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_eventfd_clear
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1eventfd_1clear
+  (JNIEnv* env, jclass javaClass, jint fd) {
+    eventfd_t value;
+    if(eventfd_read(fd, &value) < 0) {
+      // nothing pending on the (non-blocking) eventfd
+      return (errno == EAGAIN) ? 0 : -1;
+    }
+    return 0;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_close
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1close
+  (JNIEnv* env, jclass javaClass, jint fd) {
+    return close(fd);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpio_v2_line_request_events
+ * Signature: (Ljava/lang/String;ILjava/lang/String;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpio_1v2_1line_1request_1events
+  (JNIEnv* env, jclass javaClass, jstring chipPath, jint offset, jstring consumer, jint flags, jint debounceUs) {
+    struct gpio_v2_line_request request;
+    memset(&request, 0, sizeof(request));
+    request.offsets[0] = offset;
+    request.num_lines = 1;
+
+    const char* c_consumer = (*env)->GetStringUTFChars(env, consumer, NULL);
+    strncpy(request.consumer, c_consumer, GPIO_MAX_NAME_SIZE - 1);
+    (*env)->ReleaseStringUTFChars(env, consumer, c_consumer);
+
+    // map the (libgpiod v1) request flags to the v2 uAPI line flags
+    request.config.flags = GPIO_V2_LINE_FLAG_INPUT | GPIO_V2_LINE_FLAG_EDGE_RISING | GPIO_V2_LINE_FLAG_EDGE_FALLING;
+    if(flags & GPIOD_LINE_REQUEST_FLAG_ACTIVE_LOW) {
+      request.config.flags |= GPIO_V2_LINE_FLAG_ACTIVE_LOW;
+    }
+    if(flags & GPIOD_LINE_REQUEST_FLAG_BIAS_DISABLE) {
+      request.config.flags |= GPIO_V2_LINE_FLAG_BIAS_DISABLED;
+    }
+    if(flags & GPIOD_LINE_REQUEST_FLAG_BIAS_PULL_DOWN) {
+      request.config.flags |= GPIO_V2_LINE_FLAG_BIAS_PULL_DOWN;
+    }
+    if(flags & GPIOD_LINE_REQUEST_FLAG_BIAS_PULL_UP) {
+      request.config.flags |= GPIO_V2_LINE_FLAG_BIAS_PULL_UP;
+    }
+    if(debounceUs > 0) {
+      request.config.num_attrs = 1;
+      request.config.attrs[0].attr.id = GPIO_V2_LINE_ATTR_ID_DEBOUNCE;
+      request.config.attrs[0].attr.debounce_period_us = debounceUs;
+      request.config.attrs[0].mask = 1;
+    }
+
+    const char* c_path = (*env)->GetStringUTFChars(env, chipPath, NULL);
+    int chip = open(c_path, O_RDWR | O_CLOEXEC);
+    (*env)->ReleaseStringUTFChars(env, chipPath, c_path);
+    if(chip < 0) {
+      return -1;
+    }
+    int result = ioctl(chip, GPIO_V2_GET_LINE_IOCTL, &request);
+    int error = errno;
+    close(chip);
+    if(result < 0) {
+      errno = error;
+      return -1;
+    }
+    return request.fd;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpio_v2_line_get_value
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpio_1v2_1line_1get_1value
+  (JNIEnv* env, jclass javaClass, jint fd) {
+    struct gpio_v2_line_values values;
+    memset(&values, 0, sizeof(values));
+    values.mask = 1;
+    if(ioctl(fd, GPIO_V2_LINE_GET_VALUES_IOCTL, &values) < 0) {
+      return -1;
+    }
+    return (values.bits & 1) ? 1 : 0;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpio_v2_line_event_read_multiple
+ * Signature: (I[J)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpio_1v2_1line_1event_1read_1multiple
+  (JNIEnv* env, jclass javaClass, jint fd, jlongArray buffer) {
+    struct gpio_v2_line_event events[LINE_EVENT_MAX_READ];
+    jlong values[3 * LINE_EVENT_MAX_READ];
+    int max = (*env)->GetArrayLength(env, buffer) / 3;
+    if(max > LINE_EVENT_MAX_READ) {
+      max = LINE_EVENT_MAX_READ;
+    }
+    if(max <= 0) {
+      return 0;
+    }
+    ssize_t size = read(fd, events, max * sizeof(struct gpio_v2_line_event));
+    if(size < 0) {
+      return -1;
+    }
+    int count = size / sizeof(struct gpio_v2_line_event);
+    // (timestamp, type, line sequence number) triples
+    for(int i = 0; i < count; i++) {
+      values[3 * i] = (jlong) events[i].timestamp_ns;
+      values[3 * i + 1] = events[i].id;
+      values[3 * i + 2] = events[i].line_seqno;
+    }
+    (*env)->SetLongArrayRegion(env, buffer, 0, 3 * count, values);
+    return count;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_bulk_new
+ * Signature: ([J)Ljava/lang/Long;
+ */
+JNIEXPORT jobject JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1bulk_1new
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs) {
+    int count = (*env)->GetArrayLength(env, linePtrs);
+    if(count <= 0 || count > GPIOD_LINE_BULK_MAX_LINES) {
+      errno = EINVAL;
+      return NULL;
+    }
+    struct gpiod_line_bulk* bulkPtr = (struct gpiod_line_bulk*) malloc(sizeof(struct gpiod_line_bulk));
+    if(bulkPtr == NULL) {
+      return NULL;
+    }
+    jlong lines[GPIOD_LINE_BULK_MAX_LINES];
+    (*env)->GetLongArrayRegion(env, linePtrs, 0, count, lines);
+    gpiod_line_bulk_init(bulkPtr);
+    for(int i = 0; i < count; i++) {
+      gpiod_line_bulk_add(bulkPtr, (struct gpiod_line*) (uintptr_t) lines[i]);
+    }
+    jclass cls = (*env)->FindClass(env, "java/lang/Long");
+    jmethodID longConstructor = (*env)->GetMethodID(env, cls, "<init>","(J)V");
+    return (*env)->NewObject(env, cls, longConstructor, (jlong) (uintptr_t) bulkPtr);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_bulk_free
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1bulk_1free
+  (JNIEnv* env, jclass javaClass, jlong bulkPtr) {
+    free((struct gpiod_line_bulk*) (uintptr_t) bulkPtr);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_request_bulk_input_flags
+ * Signature: (JLjava/lang/String;I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1request_1bulk_1input_1flags
+  (JNIEnv* env, jclass javaClass, jlong bulkPtr, jstring consumer, jint flags) {
+    const char* c_consumer = (*env)->GetStringUTFChars(env, consumer, NULL);
+    int result = gpiod_line_request_bulk_input_flags((struct gpiod_line_bulk*) (uintptr_t) bulkPtr, c_consumer, flags);
+    (*env)->ReleaseStringUTFChars(env, consumer, c_consumer);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_request_bulk_output_flags
+ * Signature: (JLjava/lang/String;IJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1request_1bulk_1output_1flags
+  (JNIEnv* env, jclass javaClass, jlong bulkPtr, jstring consumer, jint flags, jlong defaultValues) {
+    struct gpiod_line_bulk* bulk = (struct gpiod_line_bulk*) (uintptr_t) bulkPtr;
+    int values[GPIOD_LINE_BULK_MAX_LINES];
+    for(unsigned int i = 0; i < bulk->num_lines; i++) {
+      values[i] = (defaultValues >> i) & 1;
+    }
+    const char* c_consumer = (*env)->GetStringUTFChars(env, consumer, NULL);
+    int result = gpiod_line_request_bulk_output_flags(bulk, c_consumer, flags, values);
+    (*env)->ReleaseStringUTFChars(env, consumer, c_consumer);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_release_bulk
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1release_1bulk
+  (JNIEnv* env, jclass javaClass, jlong bulkPtr) {
+    gpiod_line_release_bulk((struct gpiod_line_bulk*) (uintptr_t) bulkPtr);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_get_value_bulk
+ * Signature: (J[J)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1get_1value_1bulk
+  (JNIEnv* env, jclass javaClass, jlong bulkPtr, jlongArray mask) {
+    struct gpiod_line_bulk* bulk = (struct gpiod_line_bulk*) (uintptr_t) bulkPtr;
+    int values[GPIOD_LINE_BULK_MAX_LINES];
+    int result = gpiod_line_get_value_bulk(bulk, values);
+    if(result < 0) {
+      return result;
+    }
+    // bit i of the mask is the value of line i of the bulk
+    jlong bits = 0;
+    for(unsigned int i = 0; i < bulk->num_lines; i++) {
+      if(values[i]) {
+        bits |= ((jlong) 1) << i;
+      }
+    }
+    (*env)->SetLongArrayRegion(env, mask, 0, 1, &bits);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_set_value_bulk
+ * Signature: (JJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1set_1value_1bulk
+  (JNIEnv* env, jclass javaClass, jlong bulkPtr, jlong mask) {
+    struct gpiod_line_bulk* bulk = (struct gpiod_line_bulk*) (uintptr_t) bulkPtr;
+    int values[GPIOD_LINE_BULK_MAX_LINES];
+    for(unsigned int i = 0; i < bulk->num_lines; i++) {
+      values[i] = (mask >> i) & 1;
+    }
+    return gpiod_line_set_value_bulk(bulk, values);
+}
@@ -34,6 +34,7 @@ import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.IntBuffer;
+import java.util.Objects;
 
 import com.pi4j.library.linuxfs.util.NativeLibraryLoader;
 
@@ -56,6 +57,17 @@ public class LinuxFile extends RandomAccessFile {
     public static final ThreadLocal<ByteBuffer> localDataBuffer = new ThreadLocal<>();
     public static final ThreadLocal<IntBuffer> localOffsetsBuffer = new ThreadLocal<>();
 
+    /** poll(2) event: urgent data; raised by sysfs when an attribute such as a GPIO value changes */
+    public static final int POLLPRI = 0x002;
+    /** poll(2) event: error condition; always reported, also raised by sysfs attribute changes */
+    public static final int POLLERR = 0x008;
+    /** poll(2) event: hang up; always reported */
+    public static final int POLLHUP = 0x010;
+    /** poll(2) event: invalid file descriptor; always reported */
+    public static final int POLLNVAL = 0x020;
+
+    private static final int EINTR = 4;
+
     static {
         // Load the platform library
         NativeLibraryLoader.load("libpi4j-linuxfs.so", "pi4j-linuxfs");
@@ -183,6 +195,39 @@ public class LinuxFile extends RandomAccessFile {
         }
     }
 
+    /**
+     * Waits for events on a set of file descriptors with poll(2).
+     *
+     * To wait for a sysfs attribute change (e.g. a GPIO <code>value</code> with an interrupt edge
+     * configured) poll for {@link #POLLPRI} | {@link #POLLERR}, then read the attribute from offset
+     * zero on the same file to re-arm it.  An interrupted wait returns zero.
+     *
+     * @param fds
+     *     POSIX file descriptors to wait on, see {@link #getPosixFD()}
+     * @param revents
+     *     receives the returned events of each descriptor
+     * @param count
+     *     number of descriptors to use from the start of the arrays
+     * @param events
+     *     requested events
+     * @param timeout
+     *     maximum wait in milliseconds; negative waits indefinitely
+     *
+     * @return number of descriptors with returned events, zero on timeout
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static int poll(int[] fds, int[] revents, int count, int events, int timeout) throws IOException {
+        Objects.checkFromIndexSize(0, count, Math.min(fds.length, revents.length));
+        final int response = directPoll(fds, revents, count, events, timeout);
+        if (response == -EINTR)
+            return 0;
+        if (response < 0)
+            throw new LinuxFileException(-response);
+        return response;
+    }
+
     /**
      * Gets the real POSIX file descriptor for use by custom jni calls.
      *
@@ -191,7 +236,7 @@ public class LinuxFile extends RandomAccessFile {
      * @throws IOException
      *     if reading fails
      */
-    protected int getPosixFD() throws IOException {
+    public int getPosixFD() throws IOException {
         final int fd = getPosixFD(getFD());
         if (fd < 1)
             throw new IOException("failed to get POSIX file descriptor!");
@@ -299,4 +344,12 @@ public class LinuxFile extends RandomAccessFile {
 
     protected static native int directIOCTLStructure(int fd, long command, ByteBuffer data, int dataOffset,
         IntBuffer offsetMap, int offsetMapOffset, int offsetCapacity);
+
+    protected static native int directPoll(int[] fds, int[] revents, int count, int events, int timeout);
+
+    protected static native long mmap(int fd, int length, int prot, int flags, int offset);
+
+    protected static native int munmapDirect(long address, long capacity);
+
+    protected static native ByteBuffer directBuffer(long address, long capacity);
 }
@@ -0,0 +1,248 @@
+package com.pi4j.library.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for LinuxFS Library
+ * FILENAME      :  MappedRegion.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A region of a file or of device memory (e.g. <code>/dev/gpiomem</code>) mapped into the address space of
+ * the JVM.
+ *
+ * Registers are accessed as 32-bit words in native byte order with volatile semantics, so every read
+ * and write really reaches the mapped memory in program order; all accesses are bounds checked.  The
+ * mapping of device memory is released with {@link #close()}, after which any access fails.  Each access
+ * counts itself in for its duration and {@link #close()} waits for the count to drop to zero, so the
+ * memory is never unmapped while a register is being read or written by another thread.
+ */
+public class MappedRegion implements Closeable {
+
+    /** mmap(2) protection: pages may be read */
+    public static final int PROT_READ = 0x1;
+    /** mmap(2) protection: pages may be written */
+    public static final int PROT_WRITE = 0x2;
+    /** mmap(2) flag: updates are visible to other mappings and carried through to the file */
+    public static final int MAP_SHARED = 0x01;
+
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(MappedRegion.class, "state", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // sign bit of state: set by close(), no further accesses may start
+    private static final int CLOSED = Integer.MIN_VALUE;
+
+    private final long offset;
+    private final int length;
+    private final long address;
+    // CLOSED bit and the number of accesses in progress
+    private volatile int state;
+    // only cleared by close() once no access is in progress
+    private ByteBuffer buffer;
+
+    /**
+     * Maps a region of an open file with mmap(2); works for device files such as <code>/dev/mem</code> and
+     * <code>/dev/gpiomem</code>.  The file may be closed once mapped.
+     *
+     * @param file   the file to map
+     * @param offset offset of the region in the file; must be a multiple of the page size
+     * @param length length of the region in bytes
+     * @return the mapped region
+     * @throws IOException when the region cannot be mapped
+     */
+    public static MappedRegion map(LinuxFile file, long offset, int length) throws IOException {
+        check(offset, length);
+        if (offset > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("offset out of range: " + offset);
+        long address = LinuxFile.mmap(file.getPosixFD(), length, PROT_READ | PROT_WRITE, MAP_SHARED, (int) offset);
+        if (address == -1)
+            throw new LinuxFile.LinuxFileException();
+        return new MappedRegion(offset, length, address, LinuxFile.directBuffer(address, length));
+    }
+
+    /**
+     * Maps a region of an ordinary file through a {@link FileChannel}; the region is unmapped when it is no
+     * longer referenced, {@link #close()} only releases this view of it.
+     *
+     * @param path   the file to map
+     * @param offset offset of the region in the file
+     * @param length length of the region in bytes; the file is extended as needed
+     * @return the mapped region
+     * @throws IOException when the region cannot be mapped
+     */
+    public static MappedRegion map(Path path, long offset, int length) throws IOException {
+        check(offset, length);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new MappedRegion(offset, length, 0, channel.map(FileChannel.MapMode.READ_WRITE, offset, length));
+        }
+    }
+
+    private static void check(long offset, int length) {
+        if (offset < 0)
+            throw new IllegalArgumentException("offset must not be negative: " + offset);
+        if (length <= 0)
+            throw new IllegalArgumentException("length must be greater than zero: " + length);
+    }
+
+    private MappedRegion(long offset, int length, long address, ByteBuffer buffer) {
+        this.offset = offset;
+        this.length = length;
+        this.address = address;
+        this.buffer = buffer.order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Reads a 32-bit register.
+     *
+     * @param offset byte offset of the register in this region; must be a multiple of 4
+     * @return the register value
+     */
+    public int readInt(int offset) {
+        ByteBuffer buffer = acquire(offset);
+        try {
+            return (int) INT.getVolatile(buffer, offset);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Writes a 32-bit register.
+     *
+     * @param offset byte offset of the register in this region; must be a multiple of 4
+     * @param value  the register value
+     */
+    public void writeInt(int offset, int value) {
+        ByteBuffer buffer = acquire(offset);
+        try {
+            INT.setVolatile(buffer, offset, value);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Replaces the bits of a 32-bit register selected by a mask.  The read-modify-write is not atomic with
+     * respect to other threads or processes writing the same register.
+     *
+     * @param offset byte offset of the register in this region; must be a multiple of 4
+     * @param mask   the bits to replace
+     * @param bits   the new values of the bits selected by the mask
+     * @return the new register value
+     */
+    public int updateInt(int offset, int mask, int bits) {
+        ByteBuffer buffer = acquire(offset);
+        try {
+            int value = ((int) INT.getVolatile(buffer, offset) & ~mask) | (bits & mask);
+            INT.setVolatile(buffer, offset, value);
+            return value;
+        } finally {
+            release();
+        }
+    }
+
+    private ByteBuffer acquire(int offset) {
+        Objects.checkFromIndexSize(offset, Integer.BYTES, length);
+        if ((offset & 3) != 0)
+            throw new IllegalArgumentException("unaligned register offset: " + offset);
+        int current;
+        do {
+            current = state;
+            if (current < 0)
+                throw new IllegalStateException("region is unmapped");
+        } while (!STATE.weakCompareAndSet(this, current, current + 1));
+        return buffer;
+    }
+
+    private void release() {
+        STATE.getAndAdd(this, -1);
+    }
+
+    /**
+     * <p>offset.</p>
+     *
+     * @return offset of this region in the mapped file
+     */
+    public long offset() {
+        return offset;
+    }
+
+    /**
+     * <p>length.</p>
+     *
+     * @return length of this region in bytes
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * <p>isOpen.</p>
+     *
+     * @return true until this region is unmapped
+     */
+    public boolean isOpen() {
+        return state >= 0;
+    }
+
+    /**
+     * Unmaps this region once the register accesses in progress have completed.
+     *
+     * @throws IOException when munmap(2) fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (((int) STATE.getAndBitwiseOr(this, CLOSED) & CLOSED) != 0)
+            return;
+        // accesses are a few memory operations, never blocking
+        while (state != CLOSED)
+            Thread.onSpinWait();
+        buffer = null;
+        if (address != 0 && LinuxFile.munmapDirect(address, length) < 0)
+            throw new LinuxFile.LinuxFileException();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format("MappedRegion[offset=0x%x, length=%d%s]", offset, length, isOpen() ? "" : ", unmapped");
+    }
+}
@@ -36,6 +36,7 @@
 #include <errno.h>
 #include <stdint.h>
 #include <sys/mman.h>
+#include <poll.h>
 #include <linux/i2c-dev.h>
 
 
@@ -101,6 +102,11 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_munmapDirect
     return munmap((void *)(uintptr_t)address, (size_t)capacity);
 }
 
+JNIEXPORT jobject JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directBuffer
+  (JNIEnv *env, jclass obj, jlong address, jlong capacity) {
+    return (*env)->NewDirectByteBuffer(env, (void *)(uintptr_t)address, capacity);
+}
+
 JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directIOCTLStructure
   (JNIEnv *env, jclass obj, jint fd, jlong command, jobject data, jint dataOffset, jobject offsetMap, jint offsetMapOffset, jint offsetCapacity) {
     uint8_t *dataBuffer = (uint8_t *)((*env)->GetDirectBufferAddress(env, data));
@@ -109,6 +115,30 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directIOCTLStruct
     return directIOCTLStructure(fd, command, dataBuffer, (size_t)dataOffset, offsetBuffer + offsetMapOffset, offsetCapacity);
 }
 
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directPoll
+  (JNIEnv *env, jclass obj, jintArray fds, jintArray revents, jint count, jint events, jint timeout) {
+    struct pollfd pfds[count > 0 ? count : 1];
+    jint values[count > 0 ? count : 1];
+    int i, result;
+
+    (*env)->GetIntArrayRegion(env, fds, 0, count, values);
+    for(i = 0 ; i < count ; i++) {
+        pfds[i].fd = values[i];
+        pfds[i].events = (short)events;
+        pfds[i].revents = 0;
+    }
+
+    result = poll(pfds, count, timeout);
+    if(result < 0)
+        return -errno;
+
+    for(i = 0 ; i < count ; i++) {
+        values[i] = pfds[i].revents;
+    }
+    (*env)->SetIntArrayRegion(env, revents, 0, count, values);
+    return result;
+}
+
 int directIOCTLStructure (int fd, unsigned long command, void *data, size_t headOffset, uint32_t *offsetMap, uint32_t offsetSize) {
     uint32_t i;
 
@@ -50,9 +50,15 @@ JNIEXPORT jlong JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_mmap
 JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_munmapDirect
   (JNIEnv *env, jclass obj, jlong address, jlong capacity);
 
+JNIEXPORT jobject JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directBuffer
+  (JNIEnv *env, jclass obj, jlong address, jlong capacity);
+
 JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directIOCTLStructure
   (JNIEnv *env, jclass obj, jint fd, jlong command, jobject data, jint dataOffset, jobject offsetMap, jint offsetMapOffset, jint offsetCapacity);
 
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directPoll
+  (JNIEnv *env, jclass obj, jintArray fds, jintArray revents, jint count, jint events, jint timeout);
+
 #ifdef __cplusplus
 }
 #endif
@@ -0,0 +1,981 @@
+package com.pi4j.library.pigpio.emulator;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: PIGPIO Daemon Emulator
+ * FILENAME      :  PiGpioEmulator.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioConst;
+import com.pi4j.library.pigpio.PiGpioError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>PiGpioEmulator class.</p>
+ *
+ * <p>In-process stand-in for the PIGPIO daemon socket interface, listening on the loopback interface and
+ * answering the commands of each connection in order the way pigpiod does, so the socket clients can be
+ * exercised and benchmarked without a Raspberry Pi.  Emulated state:</p>
+ * <ul>
+ *     <li>GPIO: levels written with WRITE or BS1/BS2/BC1/BC2 are returned by READ and BR1/BR2; modes,
+ *     pulls (which drive input levels), PWM duty cycles and servo pulse widths are remembered.</li>
+ *     <li>Notifications: NOIB turns a connection into a notification stream; reports are written by
+ *     {@link #sendNotification(byte[], int, int)}, {@link #level(int, int)} and, at the configured
+ *     {@link #eventRate(int)}, by an event generator toggling the pins enabled with NB.</li>
+ *     <li>I2C: handles opened with I2CO address 256 byte register files shared per bus address, whose
+ *     register {@code r} initially holds {@code address + r}; reads and writes without a register use and
+ *     advance a register pointer.  Handles never opened address the device at address 0.  I2CZ runs the
+ *     command sequence against the same register files.</li>
+ *     <li>SPI: handles opened with SPIO loop MOSI back to MISO; reads return zeros.</li>
+ *     <li>Serial: handles opened with SERO loop transmitted bytes back to the receive buffer; more input
+ *     can be queued with {@link #serialInput(int, byte[])}.  GPIOs opened for bit bang serial reads with
+ *     SLRO receive the bytes queued with {@link #bitBangInput(int, byte[])}, returned by SLR.</li>
+ *     <li>Waveforms and scripts: WVNEW, WVAG and WVCRE build waveforms returned by {@link #wave(int)},
+ *     WVTXM and WVCHA record the last transmission; PROC stores scripts returned by {@link #script(int)},
+ *     PROCR and PROCU set their parameters and PROCP reports them.</li>
+ * </ul>
+ * <p>Every other command succeeds with a result of zero.  An artificial processing {@link #latency(long, TimeUnit)}
+ * can be added to every command.</p>
+ */
+public class PiGpioEmulator implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioEmulator.class);
+
+    /** Constant <code>VERSION=79</code>; the daemon version reported by PIGPV. */
+    public static final int VERSION = 79;
+
+    /** Constant <code>HARDWARE_REVISION=0xa02082</code>; the hardware revision reported by HWVER (Raspberry Pi 3 Model B). */
+    public static final int HARDWARE_REVISION = 0xa02082;
+
+    private static final int GPIO_COUNT = 54;
+    private static final int REPORT_SIZE = 12;
+    private static final int SMBUS_BLOCK_LENGTH = 32;
+
+    private final ServerSocket server;
+    private final long started = System.nanoTime();
+    private final AtomicIntegerArray levels = new AtomicIntegerArray(GPIO_COUNT);
+    private final AtomicIntegerArray modes = new AtomicIntegerArray(GPIO_COUNT);
+    private final AtomicIntegerArray dutyCycles = new AtomicIntegerArray(GPIO_COUNT);
+    private final AtomicIntegerArray pulseWidths = new AtomicIntegerArray(GPIO_COUNT);
+    private final AtomicLong commands = new AtomicLong();
+    private final AtomicLong roundTrips = new AtomicLong();
+    private final AtomicLong reports = new AtomicLong();
+    private final AtomicInteger nextHandle = new AtomicInteger();
+    private volatile boolean running = true;
+    private volatile long latencyNanos = 0;
+    private volatile int eventRate = 0;
+    private volatile Thread generator = null;
+
+    // notifications
+    private volatile OutputStream notifications = null;
+    private volatile int notifyBits = 0;
+    private int sequence = 0;
+
+    // handles
+    private final Map<Integer, I2CDevice> i2cDevices = new ConcurrentHashMap<>();
+    private final Map<Integer, I2CDevice> i2cHandles = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> spiHandles = new ConcurrentHashMap<>();
+    private final Map<Integer, SerialPort> serialHandles = new ConcurrentHashMap<>();
+    private final Map<Integer, SerialPort> bitBangReaders = new ConcurrentHashMap<>();
+
+    // waveforms and scripts
+    private final List<long[]> pendingWave = new ArrayList<>();
+    private final Map<Integer, List<long[]>> waves = new ConcurrentHashMap<>();
+    private int nextWaveId = 0;
+    private volatile int[] lastTransmit = null;
+    private volatile byte[] lastChain = null;
+    private final Map<Integer, String> scripts = new ConcurrentHashMap<>();
+    private final Map<Integer, int[]> scriptParams = new ConcurrentHashMap<>();
+    private final AtomicInteger nextScriptId = new AtomicInteger();
+
+    /**
+     * Start an emulator listening on an ephemeral loopback port.
+     *
+     * @throws java.io.IOException if the server socket cannot be opened
+     */
+    public PiGpioEmulator() throws IOException {
+        this(0);
+    }
+
+    /**
+     * Start an emulator listening on a loopback port.
+     *
+     * @param port TCP port number, or 0 for an ephemeral port
+     * @throws java.io.IOException if the server socket cannot be opened
+     */
+    public PiGpioEmulator(int port) throws IOException {
+        server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "pigpio-emulator");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        logger.debug("[EMULATOR] listening on port {}", port());
+    }
+
+    /**
+     * <p>port.</p>
+     *
+     * @return the TCP port the emulator listens on
+     */
+    public int port() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * <p>commands.</p>
+     *
+     * @return number of commands answered so far
+     */
+    public long commands() {
+        return commands.get();
+    }
+
+    /**
+     * <p>roundTrips.</p>
+     *
+     * @return number of times replies were flushed to a client; pipelined commands received together
+     *         are answered in a single flush and count as one round trip
+     */
+    public long roundTrips() {
+        return roundTrips.get();
+    }
+
+    /**
+     * <p>reports.</p>
+     *
+     * @return number of notification reports written by the emulator itself
+     */
+    public long reports() {
+        return reports.get();
+    }
+
+    /**
+     * Add an artificial processing delay to every command.
+     *
+     * @param latency the delay; zero for none
+     * @param unit the unit of the delay
+     * @return this emulator
+     */
+    public PiGpioEmulator latency(long latency, TimeUnit unit) {
+        this.latencyNanos = unit.toNanos(latency);
+        return this;
+    }
+
+    /**
+     * Generate pin changes on the notification stream at a fixed rate.  Each event toggles the next
+     * pin enabled with NB and writes a report; events are generated only while a notification stream
+     * is open and pins are enabled.
+     *
+     * @param eventsPerSecond events per second; zero stops the generator
+     * @return this emulator
+     */
+    public synchronized PiGpioEmulator eventRate(int eventsPerSecond) {
+        if (eventsPerSecond < 0)
+            throw new IllegalArgumentException("event rate must not be negative: " + eventsPerSecond);
+        this.eventRate = eventsPerSecond;
+        if (eventsPerSecond > 0 && generator == null) {
+            generator = new Thread(this::generate, "pigpio-emulator-events");
+            generator.setDaemon(true);
+            generator.start();
+        }
+        return this;
+    }
+
+    /**
+     * <p>level.</p>
+     *
+     * @param pin a int.
+     * @return the current level of a pin
+     */
+    public int level(int pin) {
+        return levels.get(pin);
+    }
+
+    /**
+     * Drive the level of a pin as an external signal would; a report is written to the notification
+     * stream if the level of a pin enabled for notifications changes.
+     *
+     * @param pin a int.
+     * @param level 0 or 1
+     * @return this emulator
+     * @throws java.io.IOException if the notification stream fails
+     */
+    public PiGpioEmulator level(int pin, int level) throws IOException {
+        int previous = levels.getAndSet(pin, level);
+        if (previous != level && pin < 32 && (notifyBits & (1 << pin)) != 0 && notifications != null) {
+            byte[] report = new byte[REPORT_SIZE];
+            synchronized (this) {
+                encodeReport(report, 0, sequence++, bank1());
+            }
+            sendNotification(report, 0, report.length);
+            reports.incrementAndGet();
+        }
+        return this;
+    }
+
+    /**
+     * <p>mode.</p>
+     *
+     * @param pin a int.
+     * @return the mode last set for a pin
+     */
+    public int mode(int pin) {
+        return modes.get(pin);
+    }
+
+    /**
+     * <p>notifyBits.</p>
+     *
+     * @return the pin set last enabled for notifications with NB
+     */
+    public int notifyBits() {
+        return notifyBits;
+    }
+
+    /**
+     * <p>wave.</p>
+     *
+     * @param id a int.
+     * @return the edges of a created waveform as {time, gpioOn, gpioOff} triplets, ordered by time
+     */
+    public List<long[]> wave(int id) {
+        return waves.get(id);
+    }
+
+    /**
+     * <p>lastTransmit.</p>
+     *
+     * @return the wave id and mode of the last WVTXM command
+     */
+    public int[] lastTransmit() {
+        return lastTransmit;
+    }
+
+    /**
+     * <p>lastChain.</p>
+     *
+     * @return the chain definition of the last WVCHA command
+     */
+    public byte[] lastChain() {
+        return lastChain;
+    }
+
+    /**
+     * <p>script.</p>
+     *
+     * @param id a int.
+     * @return the text of a stored script, or null if no such script exists
+     */
+    public String script(int id) {
+        return scripts.get(id);
+    }
+
+    /**
+     * Read a register of an emulated I2C device.
+     *
+     * @param bus the I2C bus
+     * @param address the device address
+     * @param register the register
+     * @return the register value
+     */
+    public int i2cRegister(int bus, int address, int register) {
+        return i2cDevice(bus, address).memory[register & 0xFF] & 0xFF;
+    }
+
+    /**
+     * Queue bytes to be received by an open serial handle.
+     *
+     * @param handle the serial handle
+     * @param data the bytes to receive
+     * @return this emulator
+     */
+    public PiGpioEmulator serialInput(int handle, byte[] data) {
+        SerialPort port = serialHandles.get(handle);
+        if (port == null) throw new IllegalArgumentException("no such serial handle: " + handle);
+        port.receive(data, 0, data.length);
+        return this;
+    }
+
+    /**
+     * Queue bytes to be received by a GPIO opened for bit bang serial reads.
+     *
+     * @param pin the GPIO opened with SLRO
+     * @param data the bytes to receive
+     * @return this emulator
+     */
+    public PiGpioEmulator bitBangInput(int pin, byte[] data) {
+        SerialPort port = bitBangReaders.get(pin);
+        if (port == null) throw new IllegalArgumentException("no bit bang serial read on GPIO " + pin);
+        port.receive(data, 0, data.length);
+        return this;
+    }
+
+    /**
+     * <p>bitBangInverted.</p>
+     *
+     * @param pin the GPIO opened with SLRO
+     * @return true if the serial logic of the GPIO was inverted with SLRI
+     */
+    public boolean bitBangInverted(int pin) {
+        SerialPort port = bitBangReaders.get(pin);
+        return port != null && port.inverted;
+    }
+
+    /**
+     * Encode a notification report.
+     *
+     * @param sequence the report sequence number
+     * @param flags the report flags
+     * @param tick the report tick in microseconds
+     * @param levels the levels of GPIO 0-31
+     * @return the encoded report
+     */
+    public static byte[] report(int sequence, int flags, long tick, int levels) {
+        return ByteBuffer.allocate(REPORT_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+            .putShort((short) sequence).putShort((short) flags).putInt((int) tick).putInt(levels)
+            .array();
+    }
+
+    /**
+     * Write raw bytes to the notification stream opened with NOIB.
+     *
+     * @param data the bytes to write
+     * @param offset offset of the first byte
+     * @param length number of bytes
+     * @throws java.io.IOException if the notification stream fails
+     */
+    public void sendNotification(byte[] data, int offset, int length) throws IOException {
+        OutputStream out = notifications;
+        if (out == null) throw new IllegalStateException("no notification stream is open");
+        synchronized (out) {
+            out.write(data, offset, length);
+            out.flush();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        server.close();
+    }
+
+    private void accept() {
+        while (running) {
+            try {
+                Socket client = server.accept();
+                client.setTcpNoDelay(true);
+                Thread handler = new Thread(() -> serve(client), "pigpio-emulator-client");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket client) {
+        try (client) {
+            InputStream in = new BufferedInputStream(client.getInputStream());
+            OutputStream out = new BufferedOutputStream(client.getOutputStream());
+            ByteBuffer header = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer response = ByteBuffer.allocate(16 + 4096).order(ByteOrder.LITTLE_ENDIAN);
+            while (running) {
+                if (in.readNBytes(header.array(), 0, 16) < 16) return;
+                int cmd = header.getInt(0);
+                int p1 = header.getInt(4);
+                int p2 = header.getInt(8);
+                int length = header.getInt(12);
+                byte[] extended = length > 0 ? in.readNBytes(length) : null;
+                commands.incrementAndGet();
+
+                // leave room for the largest extended reply of this command
+                int capacity = 16 + Math.max(4096, Math.max(p2, length) + 64);
+                if (response.capacity() < capacity) response = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+                response.clear();
+                response.putInt(cmd).putInt(p1).putInt(p2);
+                PiGpioCmd command = PiGpioCmd.from(cmd);
+                if (command == PiGpioCmd.NOIB) {
+                    notifications = out;
+                    response.putInt(0);
+                } else {
+                    execute(command, p1, p2, extended, response);
+                }
+
+                long latency = latencyNanos;
+                if (latency > 0) LockSupport.parkNanos(latency);
+
+                synchronized (out) {
+                    out.write(response.array(), 0, response.position());
+
+                    // flush once the pipelined requests received so far have been answered
+                    if (in.available() == 0) {
+                        // count before the client can see the replies
+                        roundTrips.incrementAndGet();
+                        out.flush();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // client disconnected
+        }
+    }
+
+    private void execute(PiGpioCmd command, int p1, int p2, byte[] extended, ByteBuffer response) {
+        switch (command) {
+            // ------------------------------------------------------------------------------------
+            // SYSTEM
+            // ------------------------------------------------------------------------------------
+            case PIGPV:
+                response.putInt(VERSION);
+                break;
+            case HWVER:
+                response.putInt(HARDWARE_REVISION);
+                break;
+            case TICK:
+                response.putInt((int) tick());
+                break;
+
+            // ------------------------------------------------------------------------------------
+            // GPIO
+            // ------------------------------------------------------------------------------------
+            case MODES:
+                modes.set(p1, p2);
+                response.putInt(0);
+                break;
+            case MODEG:
+                response.putInt(modes.get(p1));
+                break;
+            case PUD:
+                // pull resistors drive the level of inputs
+                if (modes.get(p1) == 0 && p2 != 0) levels.set(p1, p2 == 2 ? 1 : 0);
+                response.putInt(0);
+                break;
+            case WRITE:
+                levels.set(p1, p2);
+                response.putInt(0);
+                break;
+            case READ:
+                response.putInt(levels.get(p1));
+                break;
+            case BR1:
+                response.putInt(bank1());
+                break;
+            case BR2:
+                int highBits = 0;
+                for (int pin = 32; pin < GPIO_COUNT; pin++) highBits |= levels.get(pin) << (pin - 32);
+                response.putInt(highBits);
+                break;
+            case BS1:
+            case BC1:
+            case BS2:
+            case BC2:
+                int first = (command == PiGpioCmd.BS1 || command == PiGpioCmd.BC1) ? 0 : 32;
+                int level = (command == PiGpioCmd.BS1 || command == PiGpioCmd.BS2) ? 1 : 0;
+                for (int pin = first; pin < Math.min(first + 32, GPIO_COUNT); pin++) {
+                    if ((p1 & (1 << (pin - first))) != 0) levels.set(pin, level);
+                }
+                response.putInt(0);
+                break;
+            case PWM:
+                dutyCycles.set(p1, p2);
+                response.putInt(0);
+                break;
+            case GDC:
+                response.putInt(dutyCycles.get(p1));
+                break;
+            case SERVO:
+                pulseWidths.set(p1, p2);
+                response.putInt(0);
+                break;
+            case GPW:
+                response.putInt(pulseWidths.get(p1));
+                break;
+            case NB:
+                notifyBits = p2;
+                response.putInt(0);
+                break;
+
+            // ------------------------------------------------------------------------------------
+            // I2C
+            // ------------------------------------------------------------------------------------
+            case I2CO:
+                int i2cHandle = nextHandle.getAndIncrement();
+                i2cHandles.put(i2cHandle, i2cDevice(p1, p2));
+                response.putInt(i2cHandle);
+                break;
+            case I2CC:
+                response.putInt(i2cHandles.remove(p1) != null ? 0 : PiGpioError.PI_BAD_HANDLE.value());
+                break;
+            case I2CWS:
+                i2c(p1).pointer = p2 & 0xFF;
+                response.putInt(0);
+                break;
+            case I2CRS:
+                response.putInt(i2c(p1).read());
+                break;
+            case I2CWB:
+                i2c(p1).write(p2, new byte[]{ (byte) intValue(extended) }, 0, 1);
+                response.putInt(0);
+                break;
+            case I2CRB:
+                response.putInt(i2c(p1).memory[p2 & 0xFF] & 0xFF);
+                break;
+            case I2CWW:
+                int word = intValue(extended);
+                i2c(p1).write(p2, new byte[]{ (byte) word, (byte) (word >> 8) }, 0, 2);
+                response.putInt(0);
+                break;
+            case I2CPC:
+                int processed = intValue(extended);
+                I2CDevice processDevice = i2c(p1);
+                processDevice.write(p2, new byte[]{ (byte) processed, (byte) (processed >> 8) }, 0, 2);
+                response.putInt(processDevice.word(p2));
+                break;
+            case I2CRW:
+                response.putInt(i2c(p1).word(p2));
+                break;
+            case I2CWK:
+            case I2CWI:
+                if (extended != null) i2c(p1).write(p2, extended, 0, extended.length);
+                response.putInt(0);
+                break;
+            case I2CRK:
+                putRegisters(i2c(p1), p2, SMBUS_BLOCK_LENGTH, response);
+                break;
+            case I2CPK:
+                I2CDevice blockDevice = i2c(p1);
+                int written = extended == null ? 0 : extended.length;
+                if (written > 0) blockDevice.write(p2, extended, 0, written);
+                putRegisters(blockDevice, p2, written, response);
+                break;
+            case I2CRI:
+                putRegisters(i2c(p1), p2, intValue(extended), response);
+                break;
+            case I2CRD:
+                I2CDevice device = i2c(p1);
+                int count = Math.min(p2, response.remaining() - 4);
+                response.putInt(count);
+                for (int i = 0; i < count; i++) response.put((byte) device.read());
+                break;
+            case I2CWD:
+                if (extended != null && extended.length > 0) {
+                    I2CDevice target = i2c(p1);
+                    target.pointer = extended[0] & 0xFF;
+                    target.write(target.pointer, extended, 1, extended.length - 1);
+                }
+                response.putInt(0);
+                break;
+            case I2CZ:
+                response.putInt(0);
+                int zipped = zip(i2cHandles.get(p1), extended, response);
+                response.putInt(12, zipped);
+                break;
+
+            // ------------------------------------------------------------------------------------
+            // SPI
+            // ------------------------------------------------------------------------------------
+            case SPIO:
+                int spiHandle = nextHandle.getAndIncrement();
+                spiHandles.put(spiHandle, p1);
+                response.putInt(spiHandle);
+                break;
+            case SPIC:
+                response.putInt(spiHandles.remove(p1) != null ? 0 : PiGpioError.PI_BAD_HANDLE.value());
+                break;
+            case SPIW:
+                if (!spiHandles.containsKey(p1)) {
+                    response.putInt(PiGpioError.PI_BAD_HANDLE.value());
+                    break;
+                }
+                response.putInt(extended == null ? 0 : extended.length);
+                break;
+            case SPIR:
+                if (!spiHandles.containsKey(p1)) {
+                    response.putInt(PiGpioError.PI_BAD_HANDLE.value());
+                    break;
+                }
+                response.putInt(p2);
+                Arrays.fill(response.array(), response.position(), response.position() + p2, (byte) 0);
+                response.position(response.position() + p2);
+                break;
+            case SPIX:
+                if (!spiHandles.containsKey(p1)) {
+                    response.putInt(PiGpioError.PI_BAD_HANDLE.value());
+                    break;
+                }
+                // MOSI is looped back to MISO
+                response.putInt(extended == null ? 0 : extended.length);
+                if (extended != null) response.put(extended);
+                break;
+
+            // ------------------------------------------------------------------------------------
+            // SERIAL
+            // ------------------------------------------------------------------------------------
+            case SERO:
+                int serialHandle = nextHandle.getAndIncrement();
+                serialHandles.put(serialHandle, new SerialPort());
+                response.putInt(serialHandle);
+                break;
+            case SERC:
+                response.putInt(serialHandles.remove(p1) != null ? 0 : PiGpioError.PI_BAD_HANDLE.value());
+                break;
+            case SERWB:
+                SerialPort writeByte = serialHandles.get(p1);
+                if (writeByte != null) writeByte.receive(new byte[]{ (byte) p2 }, 0, 1);
+                response.putInt(writeByte != null ? 0 : PiGpioError.PI_BAD_HANDLE.value());
+                break;
+            case SERW:
+                SerialPort write = serialHandles.get(p1);
+                if (write != null && extended != null) write.receive(extended, 0, extended.length);
+                response.putInt(write != null ? 0 : PiGpioError.PI_BAD_HANDLE.value());
+                break;
+            case SERDA:
+                SerialPort available = serialHandles.get(p1);
+                response.putInt(available != null ? available.available() : PiGpioError.PI_BAD_HANDLE.value());
+                break;
+            case SERRB:
+                SerialPort readByte = serialHandles.get(p1);
+                response.putInt(readByte == null ? PiGpioError.PI_BAD_HANDLE.value() : readByte.read());
+                break;
+            case SERR:
+                SerialPort read = serialHandles.get(p1);
+                if (read == null) {
+                    response.putInt(PiGpioError.PI_BAD_HANDLE.value());
+                    break;
+                }
+                int received = read.read(response.array(), response.position() + 4, Math.min(p2, response.remaining() - 4));
+                response.putInt(received);
+                response.position(response.position() + received);
+                break;
+            case SLRO:
+                int dataBits = (extended != null && extended.length >= 4)
+                        ? ByteBuffer.wrap(extended).order(ByteOrder.LITTLE_ENDIAN).getInt() : 0;
+                if (p1 < 0 || p1 > 31) {
+                    response.putInt(PiGpioError.PI_BAD_USER_GPIO.value());
+                } else if (p2 < 50 || p2 > 250000) {
+                    response.putInt(PiGpioError.PI_BAD_WAVE_BAUD.value());
+                } else if (dataBits < 1 || dataBits > 32) {
+                    response.putInt(PiGpioError.PI_BAD_DATABITS.value());
+                } else {
+                    response.putInt(bitBangReaders.putIfAbsent(p1, new SerialPort()) == null ? 0 : PiGpioError.PI_GPIO_IN_USE.value());
+                }
+                break;
+            case SLRI:
+                SerialPort invert = bitBangReaders.get(p1);
+                if (invert == null) {
+                    response.putInt(PiGpioError.PI_NOT_SERIAL_GPIO.value());
+                } else if (p2 != 0 && p2 != 1) {
+                    response.putInt(PiGpioError.PI_BAD_SER_INVERT.value());
+                } else {
+                    invert.inverted = p2 == 1;
+                    response.putInt(0);
+                }
+                break;
+            case SLR:
+                SerialPort bitBang = bitBangReaders.get(p1);
+                if (bitBang == null) {
+                    response.putInt(PiGpioError.PI_NOT_SERIAL_GPIO.value());
+                    break;
+                }
+                int copied = bitBang.read(response.array(), response.position() + 4, Math.min(p2, response.remaining() - 4));
+                response.putInt(copied);
+                response.position(response.position() + copied);
+                break;
+            case SLRC:
+                response.putInt(bitBangReaders.remove(p1) != null ? 0 : PiGpioError.PI_NOT_SERIAL_GPIO.value());
+                break;
+
+            // ------------------------------------------------------------------------------------
+            // WAVEFORMS
+            // ------------------------------------------------------------------------------------
+            case WVNEW:
+            case WVCLR:
+                synchronized (pendingWave) {
+                    pendingWave.clear();
+                }
+                response.putInt(0);
+                break;
+            case WVAG:
+                // pulses of each call are timed from the start of the waveform
+                ByteBuffer pulses = ByteBuffer.wrap(extended).order(ByteOrder.LITTLE_ENDIAN);
+                long time = 0;
+                synchronized (pendingWave) {
+                    while (pulses.remaining() >= 12) {
+                        int on = pulses.getInt();
+                        int off = pulses.getInt();
+                        if ((on | off) != 0) pendingWave.add(new long[]{time, on, off});
+                        time += Integer.toUnsignedLong(pulses.getInt());
+                    }
+                    response.putInt(pendingWave.size());
+                }
+                break;
+            case WVCRE:
+                synchronized (pendingWave) {
+                    List<long[]> wave = new ArrayList<>(pendingWave);
+                    wave.sort(Comparator.comparingLong(edge -> edge[0]));
+                    waves.put(nextWaveId, wave);
+                    pendingWave.clear();
+                    response.putInt(nextWaveId++);
+                }
+                break;
+            case WVDEL:
+                response.putInt(waves.remove(p1) != null ? 0 : PiGpioError.PI_BAD_WAVE_ID.value());
+                break;
+            case WVTXM:
+                lastTransmit = new int[]{p1, p2};
+                response.putInt(waves.containsKey(p1) ? waves.get(p1).size() : PiGpioError.PI_BAD_WAVE_ID.value());
+                break;
+            case WVCHA:
+                lastChain = extended;
+                response.putInt(0);
+                break;
+
+            // ------------------------------------------------------------------------------------
+            // SCRIPTS
+            // ------------------------------------------------------------------------------------
+            case PROC:
+                int script = nextScriptId.getAndIncrement();
+                scripts.put(script, new String(extended, StandardCharsets.US_ASCII));
+                scriptParams.put(script, new int[PiGpioConst.PI_MAX_SCRIPT_PARAMS]);
+                response.putInt(script);
+                break;
+            case PROCR:
+            case PROCU:
+                int[] params = scriptParams.get(p1);
+                if (params == null) {
+                    response.putInt(PiGpioError.PI_BAD_SCRIPT_ID.value());
+                    break;
+                }
+                ByteBuffer values = ByteBuffer.wrap(extended == null ? new byte[0] : extended)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+                for (int i = 0; values.remaining() >= 4; i++) params[i] = values.getInt();
+                response.putInt(0);
+                break;
+            case PROCP:
+                int[] current = scriptParams.get(p1);
+                if (current == null) {
+                    response.putInt(PiGpioError.PI_BAD_SCRIPT_ID.value());
+                    break;
+                }
+                response.putInt(4 + current.length * 4).putInt(PiGpioConst.PI_SCRIPT_HALTED);
+                for (int value : current) response.putInt(value);
+                break;
+            case PROCD:
+                scriptParams.remove(p1);
+                response.putInt(scripts.remove(p1) != null ? 0 : PiGpioError.PI_BAD_SCRIPT_ID.value());
+                break;
+
+            default:
+                response.putInt(0);
+                break;
+        }
+    }
+
+    private int bank1() {
+        int bits = 0;
+        for (int pin = 0; pin < 32; pin++) bits |= levels.get(pin) << pin;
+        return bits;
+    }
+
+    private long tick() {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+    }
+
+    private static int intValue(byte[] extended) {
+        if (extended == null || extended.length < 4) return 0;
+        return ByteBuffer.wrap(extended).order(ByteOrder.LITTLE_ENDIAN).getInt();
+    }
+
+    private static void putRegisters(I2CDevice device, int register, int length, ByteBuffer response) {
+        response.putInt(length);
+        for (int i = 0; i < length; i++) response.put(device.memory[(register + i) & 0xFF]);
+    }
+
+    private I2CDevice i2cDevice(int bus, int address) {
+        return i2cDevices.computeIfAbsent((bus << 8) | (address & 0xFF), key -> new I2CDevice(bus, address));
+    }
+
+    private I2CDevice i2c(int handle) {
+        I2CDevice device = i2cHandles.get(handle);
+        return device != null ? device : i2cDevice(0, 0);
+    }
+
+    private int zip(I2CDevice device, byte[] commands, ByteBuffer response) {
+        int read = 0, pos = 0;
+        if (device == null) device = i2cDevice(0, 0);
+        boolean escape = false;
+        while (pos < commands.length) {
+            int command = commands[pos++];
+            switch (command) {
+                case 0: return read;
+                case 1: escape = true; continue;
+                case 2: case 3: break;
+                case 4:
+                    device = i2cDevice(device.bus, commands[pos++]);
+                    break;
+                case 5: pos += 2; break;
+                case 6:
+                case 7:
+                    int length = commands[pos++] & 0xFF;
+                    if (escape) length |= (commands[pos++] & 0xFF) << 8;
+                    if (command == 6) {
+                        for (int i = 0; i < length; i++) response.put((byte) device.read());
+                        read += length;
+                    } else {
+                        // the first byte written selects the register, the others are stored from there
+                        device.pointer = commands[pos] & 0xFF;
+                        device.write(device.pointer, commands, pos + 1, length - 1);
+                        pos += length;
+                    }
+                    break;
+                default: return PiGpioError.PI_BAD_I2C_CMD.value();
+            }
+            escape = false;
+        }
+        return read;
+    }
+
+    private void generate() {
+        byte[] batch = new byte[REPORT_SIZE * 1024];
+        long start = System.nanoTime();
+        long generated = 0;
+        int next = 0;
+        while (running) {
+            int rate = eventRate;
+            OutputStream out = notifications;
+            int enabled = notifyBits;
+            if (rate == 0 || out == null || enabled == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                start = System.nanoTime();
+                generated = 0;
+                continue;
+            }
+            long due = (System.nanoTime() - start) * rate / TimeUnit.SECONDS.toNanos(1) - generated;
+            int count = (int) Math.min(due, batch.length / REPORT_SIZE);
+            if (count <= 0) {
+                LockSupport.parkNanos(Math.max(1000, TimeUnit.SECONDS.toNanos(1) / rate / 2));
+                continue;
+            }
+            synchronized (this) {
+                for (int i = 0; i < count; i++) {
+                    // toggle the next enabled pin
+                    do { next = (next + 1) & 31; } while ((enabled & (1 << next)) == 0);
+                    levels.set(next, levels.get(next) ^ 1);
+                    encodeReport(batch, i * REPORT_SIZE, sequence++, bank1());
+                }
+            }
+            try {
+                sendNotification(batch, 0, count * REPORT_SIZE);
+                reports.addAndGet(count);
+                generated += count;
+            } catch (IOException | IllegalStateException e) {
+                notifications = null;
+            }
+        }
+    }
+
+    private void encodeReport(byte[] buffer, int offset, int sequence, int levels) {
+        ByteBuffer.wrap(buffer, offset, REPORT_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+            .putShort((short) sequence).putShort((short) 0).putInt((int) tick()).putInt(levels);
+    }
+
+    private static final class I2CDevice {
+        private final int bus;
+        private final byte[] memory = new byte[256];
+        private int pointer = 0;
+
+        private I2CDevice(int bus, int address) {
+            this.bus = bus;
+            for (int register = 0; register < memory.length; register++) memory[register] = (byte) (address + register);
+        }
+
+        private synchronized int read() {
+            int value = memory[pointer] & 0xFF;
+            pointer = (pointer + 1) & 0xFF;
+            return value;
+        }
+
+        private synchronized int word(int register) {
+            return (memory[register & 0xFF] & 0xFF) | ((memory[(register + 1) & 0xFF] & 0xFF) << 8);
+        }
+
+        private synchronized void write(int register, byte[] data, int offset, int length) {
+            for (int i = 0; i < length; i++) memory[(register + i) & 0xFF] = data[offset + i];
+        }
+    }
+
+    private static final class SerialPort {
+        private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        private volatile boolean inverted = false;
+
+        private synchronized void receive(byte[] data, int offset, int length) {
+            buffer.put(data, offset, Math.min(length, buffer.remaining()));
+        }
+
+        private synchronized int available() {
+            return buffer.position();
+        }
+
+        private synchronized int read() {
+            if (buffer.position() == 0) return PiGpioError.PI_SER_READ_NO_DATA.value();
+            buffer.flip();
+            int value = buffer.get() & 0xFF;
+            buffer.compact();
+            return value;
+        }
+
+        private synchronized int read(byte[] data, int offset, int length) {
+            buffer.flip();
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(data, offset, count);
+            buffer.compact();
+            return count;
+        }
+    }
+}
@@ -27,6 +27,7 @@ package com.pi4j.library.pigpio;
  * #L%
  */
 
+import com.pi4j.library.pigpio.impl.PiGpioAsyncSocketImpl;
 import com.pi4j.library.pigpio.impl.PiGpioNativeImpl;
 import com.pi4j.library.pigpio.impl.PiGpioSocketImpl;
 
@@ -42,7 +43,9 @@ public interface PiGpio extends
         PiGpio_PWM,
         PiGpio_Serial,
         PiGpio_SPI,
-        PiGpio_Servo {
+        PiGpio_Servo,
+        PiGpio_Script,
+        PiGpio_Wave {
 
     /**
      * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
@@ -89,6 +92,31 @@ public interface PiGpio extends
         return PiGpioSocketImpl.newInstance();
     }
 
+    /**
+     * Creates a PiGpio instance using non-blocking TCP Socket communication for remote I/O access;
+     * the connection is served by the I/O thread shared by all asynchronous instances.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioAsync} object.
+     */
+    static PiGpioAsync newAsyncSocketInstance(String host, int port) {
+        return PiGpioAsyncSocketImpl.newInstance(host, port);
+    }
+
+    /**
+     * Creates a PiGpio instance using non-blocking TCP Socket communication for remote I/O access,
+     * served by the I/O thread of the given selector.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param selector a {@link com.pi4j.library.pigpio.PiGpioSelector} object.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioAsync} object.
+     */
+    static PiGpioAsync newAsyncSocketInstance(String host, int port, PiGpioSelector selector) {
+        return PiGpioAsyncSocketImpl.newInstance(host, port, selector);
+    }
+
     /**
      * Creates a PiGpio instance using direct (native) JNI access to the
      * libpigpio.so shared library.  This instance may only be used
@@ -116,6 +144,22 @@ public interface PiGpio extends
         return isInitialised();
     }
 
+    /**
+     * Executes a batch of commands.  The socket implementation pipelines the batch: all
+     * commands are sent to the daemon in a single write and the replies are matched to
+     * the commands in order; the results are stored in the batch.  Other implementations
+     * run the commands one after the other and store their results the same way; commands
+     * they have no method for fail with {@link PiGpioError#PI_UNKNOWN_COMMAND}.
+     *
+     * @param batch a {@link com.pi4j.library.pigpio.PiGpioBatch} object.
+     * @return the executed batch holding the results
+     * @throws PiGpioException if a command run one after the other fails without a PIGPIO error code
+     */
+    default PiGpioBatch execute(PiGpioBatch batch) {
+        batch.executeSequentially(this);
+        return batch;
+    }
+
 
     /**
      * Configures pigpio to use a particular sample rate timed by a specified peripheral.
@@ -343,6 +387,16 @@ public interface PiGpio extends
     default void gpioDisableNotifications(int pin) {
         gpioNotifications(pin, false);
     }
+
+    /**
+     * Returns the number of GPIO notifications lost since the library was initialised,
+     * e.g. because a notification buffer overflowed or the daemon dropped reports.
+     *
+     * @return number of lost notifications
+     */
+    default long gpioNotificationsLost() {
+        return 0;
+    }
     /**
      * <p>addPinListener.</p>
      *
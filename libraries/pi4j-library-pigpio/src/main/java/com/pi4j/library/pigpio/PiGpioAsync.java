@@ -0,0 +1,177 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioAsync.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>PiGpioAsync interface.</p>
+ *
+ * <p>A {@link PiGpio} connected to the PIGPIO daemon through a non-blocking channel.  The blocking
+ * {@link PiGpio} methods remain available; the methods below return as soon as the command is queued
+ * and complete their future when the daemon replies, so a single connection can carry many
+ * outstanding requests and a single I/O thread can serve many daemons.  Futures complete on the I/O
+ * thread; use the <code>*Async</code> completion stages for dependent actions that block.
+ * Failed commands complete exceptionally with a {@link PiGpioException}.</p>
+ */
+public interface PiGpioAsync extends PiGpio {
+
+    /**
+     * Establish the daemon connection without blocking; the connection is otherwise
+     * established on first use.
+     *
+     * @return a future completed once connected
+     */
+    CompletableFuture<Void> connectAsync();
+
+    /**
+     * <p>isConnected.</p>
+     *
+     * @return true while the daemon connection is established
+     */
+    boolean isConnected();
+
+    /**
+     * <p>metrics.</p>
+     *
+     * @return the health and latency metrics of the daemon connection, kept across reconnects
+     */
+    PiGpioMetrics metrics();
+
+    /**
+     * Send a raw command packet; the result is not validated.
+     *
+     * @param packet a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @return a future completed with the response packet
+     */
+    CompletableFuture<PiGpioPacket> sendAsync(PiGpioPacket packet);
+
+    /**
+     * Send a command without extended data.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @return a future completed with the (non-negative) command result
+     */
+    CompletableFuture<Integer> commandAsync(PiGpioCmd cmd, int p1, int p2);
+
+    /**
+     * Send all commands of a batch in one write.
+     *
+     * @param batch a {@link com.pi4j.library.pigpio.PiGpioBatch} object.
+     * @return a future completed with the batch once all replies are received
+     */
+    CompletableFuture<PiGpioBatch> executeAsync(PiGpioBatch batch);
+
+    /**
+     * <p>gpioReadAsync.</p>
+     *
+     * @param pin a int.
+     * @return a future completed with the GPIO level
+     * @see PiGpio_GPIO#gpioRead(int)
+     */
+    CompletableFuture<PiGpioState> gpioReadAsync(int pin);
+
+    /**
+     * <p>gpioWriteAsync.</p>
+     *
+     * @param pin a int.
+     * @param state a {@link com.pi4j.library.pigpio.PiGpioState} object.
+     * @return a future completed once the level is set
+     * @see PiGpio_GPIO#gpioWrite(int, PiGpioState)
+     */
+    CompletableFuture<Void> gpioWriteAsync(int pin, PiGpioState state);
+
+    /**
+     * <p>gpioRead_Bits_0_31Async.</p>
+     *
+     * @return a future completed with the levels of GPIO 0-31
+     * @see PiGpio_GPIO#gpioRead_Bits_0_31()
+     */
+    CompletableFuture<Integer> gpioRead_Bits_0_31Async();
+
+    /**
+     * <p>gpioRead_Bits_32_53Async.</p>
+     *
+     * @return a future completed with the levels of GPIO 32-53
+     * @see PiGpio_GPIO#gpioRead_Bits_32_53()
+     */
+    CompletableFuture<Integer> gpioRead_Bits_32_53Async();
+
+    /**
+     * <p>gpioPWMAsync.</p>
+     *
+     * @param pin a int.
+     * @param dutyCycle a int.
+     * @return a future completed once the duty cycle is set
+     * @see PiGpio_PWM#gpioPWM(int, int)
+     */
+    CompletableFuture<Void> gpioPWMAsync(int pin, int dutyCycle);
+
+    /**
+     * <p>gpioServoAsync.</p>
+     *
+     * @param pin a int.
+     * @param pulseWidth a int.
+     * @return a future completed once the pulse width is set
+     * @see PiGpio_Servo#gpioServo(int, int)
+     */
+    CompletableFuture<Void> gpioServoAsync(int pin, int pulseWidth);
+
+    /**
+     * <p>i2cReadByteDataAsync.</p>
+     *
+     * @param handle a int.
+     * @param register a int.
+     * @return a future completed with the byte read
+     * @see PiGpio_I2C#i2cReadByteData(int, int)
+     */
+    CompletableFuture<Integer> i2cReadByteDataAsync(int handle, int register);
+
+    /**
+     * <p>i2cWriteByteDataAsync.</p>
+     *
+     * @param handle a int.
+     * @param register a int.
+     * @param value a byte.
+     * @return a future completed once the byte is written
+     * @see PiGpio_I2C#i2cWriteByteData(int, int, byte)
+     */
+    CompletableFuture<Void> i2cWriteByteDataAsync(int handle, int register, byte value);
+
+    /**
+     * <p>i2cReadDeviceAsync.</p>
+     *
+     * @param handle a int.
+     * @param length a int.
+     * @return a future completed with the bytes read
+     * @see PiGpio_I2C#i2cReadDevice(int, byte[], int, int)
+     */
+    CompletableFuture<byte[]> i2cReadDeviceAsync(int handle, int length);
+}
@@ -0,0 +1,482 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioBatch.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>A reusable list of PIGPIO daemon commands sent to the daemon in a single write
+ * and answered in order; see {@link PiGpio#execute(PiGpioBatch)}.  Implementations
+ * without a daemon connection run the commands one after the other.</p>
+ *
+ * <p>Commands are encoded into an internal little endian request buffer as they are
+ * added, and the results are stored back into this batch when it is executed, so a
+ * batch that is cleared and refilled does not allocate once its buffers have grown
+ * to the required size.  A batch is not thread-safe.</p>
+ *
+ * <pre>
+ *     PiGpioBatch batch = new PiGpioBatch()
+ *         .gpioWrite(17, PiGpioState.HIGH)
+ *         .gpioPWM(18, 128)
+ *         .i2cWriteDevice(handle, data);
+ *     piGpio.execute(batch);
+ *     if (!batch.success()) ...
+ * </pre>
+ */
+public class PiGpioBatch {
+
+    /** Constant <code>HEADER_SIZE=16</code> */
+    public static final int HEADER_SIZE = 16;
+
+    /** Constant <code>DEFAULT_CAPACITY=64</code> */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private int size = 0;
+    private int received = 0;
+    private PiGpioCmd[] commands;
+    private int[] requestOffsets;
+    private int[] results;
+    private int[] replyOffsets;
+    private ByteBuffer request;
+    private ByteBuffer reply;
+
+    /**
+     * <p>Constructor for PiGpioBatch.</p>
+     */
+    public PiGpioBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * <p>Constructor for PiGpioBatch.</p>
+     *
+     * @param capacity initial number of commands this batch can hold without growing
+     */
+    public PiGpioBatch(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("capacity must be greater than zero: " + capacity);
+        this.commands = new PiGpioCmd[capacity];
+        this.requestOffsets = new int[capacity + 1];
+        this.results = new int[capacity];
+        this.replyOffsets = new int[capacity + 1];
+        this.request = ByteBuffer.allocate(capacity * HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        this.reply = ByteBuffer.allocate(capacity * HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Queue a command without extended data.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @return this batch
+     */
+    public PiGpioBatch add(PiGpioCmd cmd, int p1, int p2) {
+        return add(cmd, p1, p2, null, 0, 0);
+    }
+
+    /**
+     * Queue a command with extended data.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @param data extended data bytes
+     * @param offset offset of the first byte in the data array
+     * @param length number of bytes of extended data
+     * @return this batch
+     */
+    public PiGpioBatch add(PiGpioCmd cmd, int p1, int p2, byte[] data, int offset, int length) {
+        if (length > 0) Objects.checkFromIndexSize(offset, length, data.length);
+        ensureCommandCapacity(size + 1);
+        request = ensureCapacity(request, request.position() + HEADER_SIZE + Math.max(length, 0));
+        commands[size] = cmd;
+        results[size] = 0;
+        request.putInt(cmd.value()).putInt(p1).putInt(p2).putInt(Math.max(length, 0));
+        if (length > 0) request.put(data, offset, length);
+        requestOffsets[++size] = request.position();
+        return this;
+    }
+
+    /**
+     * Queue a command with a single 32-bit extended data value.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @param value extended data value
+     * @return this batch
+     */
+    public PiGpioBatch add(PiGpioCmd cmd, int p1, int p2, int value) {
+        ensureCommandCapacity(size + 1);
+        request = ensureCapacity(request, request.position() + HEADER_SIZE + 4);
+        commands[size] = cmd;
+        results[size] = 0;
+        request.putInt(cmd.value()).putInt(p1).putInt(p2).putInt(4).putInt(value);
+        requestOffsets[++size] = request.position();
+        return this;
+    }
+
+    /**
+     * <p>Queue a GPIO level read (READ).</p>
+     *
+     * @param pin a int.
+     * @return this batch
+     */
+    public PiGpioBatch gpioRead(int pin) {
+        return add(PiGpioCmd.READ, pin, 0);
+    }
+
+    /**
+     * <p>Queue a GPIO level write (WRITE).</p>
+     *
+     * @param pin a int.
+     * @param state a {@link com.pi4j.library.pigpio.PiGpioState} object.
+     * @return this batch
+     */
+    public PiGpioBatch gpioWrite(int pin, PiGpioState state) {
+        return add(PiGpioCmd.WRITE, pin, state.value());
+    }
+
+    /**
+     * <p>Queue a PWM duty cycle change (PWM).</p>
+     *
+     * @param pin a int.
+     * @param dutyCycle a int.
+     * @return this batch
+     */
+    public PiGpioBatch gpioPWM(int pin, int dutyCycle) {
+        return add(PiGpioCmd.PWM, pin, dutyCycle);
+    }
+
+    /**
+     * <p>Queue a servo pulse width change (SERVO).</p>
+     *
+     * @param pin a int.
+     * @param pulseWidth a int.
+     * @return this batch
+     */
+    public PiGpioBatch gpioServo(int pin, int pulseWidth) {
+        return add(PiGpioCmd.SERVO, pin, pulseWidth);
+    }
+
+    /**
+     * <p>Queue an I2C device write (I2CWD).</p>
+     *
+     * @param handle a int.
+     * @param data an array of {@link byte} objects.
+     * @return this batch
+     */
+    public PiGpioBatch i2cWriteDevice(int handle, byte[] data) {
+        return i2cWriteDevice(handle, data, 0, data.length);
+    }
+
+    /**
+     * <p>Queue an I2C device write (I2CWD).</p>
+     *
+     * @param handle a int.
+     * @param data an array of {@link byte} objects.
+     * @param offset a int.
+     * @param length a int.
+     * @return this batch
+     */
+    public PiGpioBatch i2cWriteDevice(int handle, byte[] data, int offset, int length) {
+        return add(PiGpioCmd.I2CWD, handle, 0, data, offset, length);
+    }
+
+    /**
+     * <p>Queue an I2C register byte write (I2CWB).</p>
+     *
+     * @param handle a int.
+     * @param register a int.
+     * @param value a int.
+     * @return this batch
+     */
+    public PiGpioBatch i2cWriteByteData(int handle, int register, int value) {
+        return add(PiGpioCmd.I2CWB, handle, register, value);
+    }
+
+    /**
+     * <p>Queue an I2C device read (I2CRD); the bytes read are available from
+     * {@link #data(int, byte[], int)} once the batch has been executed.</p>
+     *
+     * @param handle a int.
+     * @param length number of bytes to read
+     * @return this batch
+     */
+    public PiGpioBatch i2cReadDevice(int handle, int length) {
+        return add(PiGpioCmd.I2CRD, handle, length);
+    }
+
+    /**
+     * Remove all commands and results; the internal buffers are retained for reuse.
+     *
+     * @return this batch
+     */
+    public PiGpioBatch clear() {
+        Arrays.fill(commands, 0, size, null);
+        size = 0;
+        received = 0;
+        request.clear();
+        return this;
+    }
+
+    /**
+     * <p>size.</p>
+     *
+     * @return number of queued commands
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * <p>isEmpty.</p>
+     *
+     * @return true if no commands are queued
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * <p>cmd.</p>
+     *
+     * @param index command index
+     * @return a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     */
+    public PiGpioCmd cmd(int index) {
+        Objects.checkIndex(index, size);
+        return commands[index];
+    }
+
+    /**
+     * The result (P3) the daemon returned for a command; for commands with extended
+     * replies a non-negative result is the number of data bytes returned.  Results are
+     * zero until the batch has been executed.
+     *
+     * @param index command index
+     * @return a int.
+     */
+    public int result(int index) {
+        Objects.checkIndex(index, size);
+        return results[index];
+    }
+
+    /**
+     * <p>success.</p>
+     *
+     * @param index command index
+     * @return true if the command did not return an error code
+     */
+    public boolean success(int index) {
+        return result(index) >= 0;
+    }
+
+    /**
+     * <p>success.</p>
+     *
+     * @return true if no command returned an error code
+     */
+    public boolean success() {
+        return failures() == 0;
+    }
+
+    /**
+     * <p>failures.</p>
+     *
+     * @return number of commands that returned an error code
+     */
+    public int failures() {
+        int failures = 0;
+        for (int i = 0; i < size; i++) {
+            if (results[i] < 0) failures++;
+        }
+        return failures;
+    }
+
+    /**
+     * <p>dataLength.</p>
+     *
+     * @param index command index
+     * @return number of extended reply bytes returned for the command
+     */
+    public int dataLength(int index) {
+        Objects.checkIndex(index, size);
+        if (index >= received) return 0;
+        return replyOffsets[index + 1] - replyOffsets[index] - HEADER_SIZE;
+    }
+
+    /**
+     * Copy the extended reply bytes of a command into a buffer.
+     *
+     * @param index command index
+     * @param buffer destination buffer
+     * @param offset offset in the destination buffer
+     * @return number of bytes copied
+     */
+    public int data(int index, byte[] buffer, int offset) {
+        int length = Math.min(dataLength(index), buffer.length - offset);
+        if (length > 0) System.arraycopy(reply.array(), replyOffsets[index] + HEADER_SIZE, buffer, offset, length);
+        return Math.max(length, 0);
+    }
+
+    /**
+     * Write the encoded commands in the range [from, to) to a stream in a single write.
+     *
+     * @param from index of the first command
+     * @param to index after the last command
+     * @param out a {@link java.io.OutputStream} object.
+     * @throws java.io.IOException if the stream fails
+     */
+    public void send(int from, int to, OutputStream out) throws IOException {
+        Objects.checkFromToIndex(from, to, size);
+        out.write(request.array(), requestOffsets[from], requestOffsets[to] - requestOffsets[from]);
+    }
+
+    /**
+     * Read the replies to the commands in the range [from, to) from a stream; the replies
+     * are expected in command order.  Reading starts over when <code>from</code> is zero.
+     *
+     * @param from index of the first command
+     * @param to index after the last command
+     * @param in a {@link java.io.InputStream} object.
+     * @throws java.io.IOException if the stream fails or ends before all replies are read
+     */
+    public void receive(int from, int to, InputStream in) throws IOException {
+        Objects.checkFromToIndex(from, to, size);
+        if (from == 0) {
+            replyOffsets[0] = 0;
+            received = 0;
+        }
+        for (int index = from; index < to; index++) {
+            int offset = replyOffsets[index];
+            read(in, offset, HEADER_SIZE);
+            int result = reply.getInt(offset + 12);
+            int extended = (commands[index].extendedReply() && result > 0) ? result : 0;
+            if (extended > 0) read(in, offset + HEADER_SIZE, extended);
+            results[index] = result;
+            replyOffsets[index + 1] = offset + HEADER_SIZE + extended;
+            received = index + 1;
+        }
+    }
+
+    /**
+     * Run the commands one after the other through the regular {@link PiGpio} methods and store
+     * their results; used by implementations that cannot pipeline commands.  A command that fails
+     * stores its error code and does not stop the remaining commands, like a pipelined batch.
+     *
+     * @param piGpio the implementation running the commands
+     * @throws PiGpioException if a command fails without a PIGPIO error code
+     */
+    void executeSequentially(PiGpio piGpio) {
+        replyOffsets[0] = 0;
+        received = 0;
+        for (int index = 0; index < size; index++) {
+            int p1 = request.getInt(requestOffsets[index] + 4);
+            int p2 = request.getInt(requestOffsets[index] + 8);
+            byte[] data = null;
+            int result;
+            try {
+                switch (commands[index]) {
+                    case READ: result = piGpio.gpioRead(p1).value(); break;
+                    case WRITE: piGpio.gpioWrite(p1, PiGpioState.from(p2)); result = 0; break;
+                    case PWM: piGpio.gpioPWM(p1, p2); result = 0; break;
+                    case SERVO: piGpio.gpioServo(p1, p2); result = 0; break;
+                    case BR1: result = piGpio.gpioRead_Bits_0_31(); break;
+                    case BR2: result = piGpio.gpioRead_Bits_32_53(); break;
+                    case BC1: piGpio.gpioWrite_Bits_0_31_Clear(p1); result = 0; break;
+                    case BC2: piGpio.gpioWrite_Bits_32_53_Clear(p1); result = 0; break;
+                    case BS1: piGpio.gpioWrite_Bits_0_31_Set(p1); result = 0; break;
+                    case BS2: piGpio.gpioWrite_Bits_32_53_Set(p1); result = 0; break;
+                    case I2CWB: result = piGpio.i2cWriteByteData(p1, p2, (byte) request.getInt(requestOffsets[index] + HEADER_SIZE)); break;
+                    case I2CWD:
+                        int offset = requestOffsets[index] + HEADER_SIZE;
+                        result = piGpio.i2cWriteDevice(p1, request.array(), offset, requestOffsets[index + 1] - offset);
+                        break;
+                    case I2CRD:
+                        data = new byte[Math.max(p2, 0)];
+                        result = piGpio.i2cReadDevice(p1, data, 0, data.length);
+                        break;
+                    default:
+                        result = PiGpioError.PI_UNKNOWN_COMMAND.value();
+                        break;
+                }
+            } catch (PiGpioException e) {
+                if (e.error() == PiGpioError.UNKNOWN) throw e;
+                result = e.error().value();
+            }
+            int offset = replyOffsets[index];
+            int extended = (data != null && result > 0) ? Math.min(result, data.length) : 0;
+            ensureReplyCapacity(offset + HEADER_SIZE + extended);
+            reply.putInt(offset, commands[index].value()).putInt(offset + 4, p1).putInt(offset + 8, p2)
+                .putInt(offset + 12, result);
+            if (extended > 0) System.arraycopy(data, 0, reply.array(), offset + HEADER_SIZE, extended);
+            results[index] = result;
+            replyOffsets[index + 1] = offset + HEADER_SIZE + extended;
+            received = index + 1;
+        }
+    }
+
+    private void read(InputStream in, int offset, int length) throws IOException {
+        ensureReplyCapacity(offset + length);
+        if (in.readNBytes(reply.array(), offset, length) < length)
+            throw new EOFException("connection closed while reading PIGPIO replies");
+    }
+
+    private void ensureReplyCapacity(int capacity) {
+        if (capacity > reply.capacity()) {
+            reply = ByteBuffer.wrap(Arrays.copyOf(reply.array(), Math.max(capacity, reply.capacity() * 2)))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    private void ensureCommandCapacity(int capacity) {
+        if (capacity <= commands.length) return;
+        int length = Math.max(capacity, commands.length * 2);
+        commands = Arrays.copyOf(commands, length);
+        requestOffsets = Arrays.copyOf(requestOffsets, length + 1);
+        results = Arrays.copyOf(results, length);
+        replyOffsets = Arrays.copyOf(replyOffsets, length + 1);
+    }
+
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int capacity) {
+        if (capacity <= buffer.capacity()) return buffer;
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(capacity, buffer.capacity() * 2)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.flip();
+        grown.put(buffer);
+        return grown;
+    }
+}
@@ -0,0 +1,536 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioChannel.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>PiGpioChannel class.</p>
+ *
+ * <p>A non-blocking connection to a PIGPIO daemon served by a {@link PiGpioSelector}.  The daemon
+ * answers the commands of a connection strictly in order, so any number of requests may be in flight:
+ * requests are queued in send order and each response completes the oldest outstanding request.
+ * Requests sent while the connection is still being established are transmitted once it is.</p>
+ *
+ * <p>Futures are completed on the selector I/O thread; dependent actions that block or take long
+ * should use the <code>*Async</code> completion stages.</p>
+ *
+ * <p>A connection may instead be turned into a notification stream with {@link #openNotifications(ReportListener)};
+ * the daemon then sends the GPIO level reports on it, which are decoded on the I/O thread as well.</p>
+ */
+public class PiGpioChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioChannel.class);
+
+    /** Initial receive buffer size; grown as needed for larger extended replies. */
+    protected static final int BUFFER_SIZE = 64 * 1024;
+
+    // notification report: seqno (16 bits), flags (16 bits), tick (32 bits), levels (32 bits)
+    private static final int REPORT_SIZE = 12;
+
+    /**
+     * Receives the GPIO level reports of a notification stream; called on the selector I/O thread.
+     */
+    @FunctionalInterface
+    public interface ReportListener {
+        /**
+         * <p>report.</p>
+         *
+         * @param sequence report sequence number (16 bits)
+         * @param flags report flags
+         * @param tick report tick (microseconds)
+         * @param levels levels of pins 0-31
+         */
+        void report(int sequence, int flags, long tick, int levels);
+    }
+
+    private final PiGpioSelector selector;
+    private final InetSocketAddress address;
+    private final SocketChannel channel;
+    private final PiGpioMetrics metrics;
+    private final CompletableFuture<Void> connected = new CompletableFuture<>();
+    private final CompletableFuture<Void> terminated = new CompletableFuture<>();
+    private final Queue<Request> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ByteBuffer[] gather = new ByteBuffer[64];
+    private ByteBuffer inbound = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private volatile SelectionKey key = null;
+    private volatile boolean closed = false;
+    private ReportListener reports = null;
+
+    /**
+     * Open a connection to a PIGPIO daemon; the connection is established asynchronously,
+     * see {@link #connected()}.
+     *
+     * @param selector the selector serving this connection
+     * @param host hostname or IP address of the RaspberryPi to connect to
+     * @param port TCP port number of the PIGPIO daemon
+     * @return a {@link com.pi4j.library.pigpio.PiGpioChannel} object.
+     */
+    public static PiGpioChannel open(PiGpioSelector selector, String host, int port) {
+        return open(selector, host, port, new PiGpioMetrics());
+    }
+
+    /**
+     * Open a connection to a PIGPIO daemon recording its replies and failures in the given metrics;
+     * the connection is established asynchronously, see {@link #connected()}.
+     *
+     * @param selector the selector serving this connection
+     * @param host hostname or IP address of the RaspberryPi to connect to
+     * @param port TCP port number of the PIGPIO daemon
+     * @param metrics a {@link com.pi4j.library.pigpio.PiGpioMetrics} object.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioChannel} object.
+     */
+    public static PiGpioChannel open(PiGpioSelector selector, String host, int port, PiGpioMetrics metrics) {
+        return new PiGpioChannel(selector, new InetSocketAddress(host, port), metrics);
+    }
+
+    private PiGpioChannel(PiGpioSelector selector, InetSocketAddress address, PiGpioMetrics metrics) {
+        this.selector = selector;
+        this.address = address;
+        this.metrics = metrics;
+        try {
+            this.channel = SocketChannel.open();
+            this.channel.configureBlocking(false);
+            this.channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        } catch (IOException e) {
+            throw new PiGpioException(e);
+        }
+        try {
+            selector.execute(this::register);
+        } catch (PiGpioException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * <p>address.</p>
+     *
+     * @return the address of the PIGPIO daemon
+     */
+    public InetSocketAddress address() {
+        return address;
+    }
+
+    /**
+     * <p>connected.</p>
+     *
+     * @return a future completed once the connection is established, or exceptionally if it fails
+     */
+    public CompletableFuture<Void> connected() {
+        return connected;
+    }
+
+    /**
+     * <p>closed.</p>
+     *
+     * @return a future completed once the connection is closed or has failed
+     */
+    public CompletableFuture<Void> closed() {
+        return terminated;
+    }
+
+    /**
+     * <p>metrics.</p>
+     *
+     * @return the metrics recording the replies and failures of this connection
+     */
+    public PiGpioMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * <p>isClosed.</p>
+     *
+     * @return true once the connection is closed or has failed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * <p>inFlight.</p>
+     *
+     * @return number of requests sent that are still waiting for their responses
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Send a single command.
+     *
+     * @param packet a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @return a future completed with the response packet
+     */
+    public CompletableFuture<PiGpioPacket> send(PiGpioPacket packet) {
+        PacketRequest request = new PacketRequest();
+        if(logger.isTraceEnabled()) logger.trace("[TX] -> {}", packet.toString());
+        enqueue(request, ByteBuffer.wrap(PiGpioPacket.encode(packet)));
+        return request.future;
+    }
+
+    /**
+     * Send all commands of a batch in a single write; the batch is completed once all
+     * of its replies have been received.
+     *
+     * @param batch a {@link com.pi4j.library.pigpio.PiGpioBatch} object.
+     * @return a future completed with the batch holding the replies
+     */
+    public CompletableFuture<PiGpioBatch> send(PiGpioBatch batch) {
+        BatchRequest request = new BatchRequest(batch);
+        if(batch.isEmpty()) {
+            request.future.complete(batch);
+            return request.future;
+        }
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream(batch.size() * PiGpioBatch.HEADER_SIZE);
+        try {
+            batch.send(0, batch.size(), encoded);
+        } catch (IOException e) {
+            request.future.completeExceptionally(new PiGpioException(e));
+            return request.future;
+        }
+        if(logger.isTraceEnabled()) logger.trace("[TX] -> BATCH; COMMANDS={}", batch.size());
+        enqueue(request, ByteBuffer.wrap(encoded.toByteArray()));
+        return request.future;
+    }
+
+    /**
+     * Turn this connection into a notification stream (NOIB).  Once the daemon has replied, every
+     * following byte received is a GPIO level report passed to the listener; no further commands
+     * may be sent on this connection.  Use the returned handle to select the pins (NB) and to close
+     * the notifications (NC) on another connection.
+     *
+     * @param listener receives the reports on the selector I/O thread
+     * @return a future completed with the notification handle
+     */
+    public CompletableFuture<Integer> openNotifications(ReportListener listener) {
+        NotifyRequest request = new NotifyRequest(listener);
+        if(logger.isTraceEnabled()) logger.trace("[TX] -> NOIB");
+        enqueue(request, ByteBuffer.wrap(PiGpioPacket.encode(new PiGpioPacket(PiGpioCmd.NOIB))));
+        return request.future;
+    }
+
+    /**
+     * Close the connection; requests still in flight complete exceptionally.
+     */
+    public void close() {
+        PiGpioException cause = new PiGpioException("PIGPIO connection to " + address + " closed");
+        synchronized (this) {
+            closed = true;
+        }
+        if(selector.inSelectorThread() || !selector.isRunning()) {
+            fail(cause);
+            return;
+        }
+        try {
+            selector.execute(() -> fail(cause));
+        } catch (PiGpioException e) {
+            fail(cause);
+        }
+    }
+
+    private void enqueue(Request request, ByteBuffer data) {
+        // the response order is the send order, so both queues must be appended together
+        synchronized (this) {
+            if(closed) {
+                request.fail(new PiGpioException("PIGPIO connection to " + address + " is closed"));
+                return;
+            }
+            inFlight.incrementAndGet();
+            pending.add(request);
+            outbound.add(data);
+        }
+        if(flushScheduled.compareAndSet(false, true)) {
+            try {
+                selector.execute(this::flush);
+            } catch (PiGpioException e) {
+                fail(e);
+            }
+        }
+    }
+
+    /**
+     * Handle the readiness of this connection; called on the selector I/O thread.
+     *
+     * @param key the selection key of this connection
+     */
+    void handle(SelectionKey key) {
+        try {
+            if(key.isValid() && key.isConnectable() && channel.finishConnect()) {
+                key.interestOps(SelectionKey.OP_READ);
+                onConnected();
+            }
+            if(key.isValid() && key.isReadable()) read();
+            if(key.isValid() && key.isWritable()) write();
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Close this connection and fail all outstanding requests; called on the selector I/O thread.
+     *
+     * @param cause the reason of the failure
+     */
+    void fail(Throwable cause) {
+        boolean failed;
+        synchronized (this) {
+            // a connection closed on purpose is not counted as failed
+            failed = !closed;
+            closed = true;
+        }
+        if(failed) metrics.failed(cause);
+        PiGpioException exception = (cause instanceof PiGpioException) ? (PiGpioException) cause : new PiGpioException(cause);
+        if(!connected.isDone()) logger.warn("[CONNECT] {} failed: {}", address, cause.getMessage());
+        SelectionKey key = this.key;
+        if(key != null) key.cancel();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("[CLOSE] {} failed: {}", address, e.getMessage());
+        }
+        connected.completeExceptionally(exception);
+        Request request;
+        while ((request = pending.poll()) != null) {
+            inFlight.decrementAndGet();
+            request.fail(exception);
+        }
+        outbound.clear();
+        terminated.complete(null);
+    }
+
+    private void register() {
+        try {
+            boolean established = channel.connect(address);
+            key = channel.register(selector.selector(), established ? SelectionKey.OP_READ : SelectionKey.OP_CONNECT, this);
+            if(established) onConnected();
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    private void onConnected() {
+        logger.trace("[CONNECT] <- CONNECTED TO {}", address);
+        metrics.connected();
+        connected.complete(null);
+        flush();
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        if(closed || !connected.isDone()) return;
+        try {
+            write();
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    private void write() throws IOException {
+        for (;;) {
+            int count = 0;
+            for (ByteBuffer buffer : outbound) {
+                gather[count++] = buffer;
+                if(count == gather.length) break;
+            }
+            if(count == 0) {
+                key.interestOps(SelectionKey.OP_READ);
+                return;
+            }
+            channel.write(gather, 0, count);
+            boolean partial = gather[count - 1].hasRemaining();
+            for (int index = 0; index < count && !gather[index].hasRemaining(); index++) {
+                outbound.poll();
+            }
+            Arrays.fill(gather, 0, count, null);
+            if(partial) {
+                // socket buffer is full; continue when the channel is writable again
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                return;
+            }
+        }
+    }
+
+    private void read() throws IOException {
+        if(channel.read(inbound) < 0)
+            throw new EOFException("connection closed by PIGPIO daemon at " + address);
+        inbound.flip();
+        for (;;) {
+            if(reports != null) {
+                readReports();
+                break;
+            }
+            if(inbound.remaining() < PiGpioBatch.HEADER_SIZE) break;
+            int start = inbound.position();
+            PiGpioCmd cmd = PiGpioCmd.from(inbound.getInt(start));
+            int result = inbound.getInt(start + 12);
+            int length = PiGpioBatch.HEADER_SIZE + ((cmd.extendedReply() && result > 0) ? result : 0);
+            if(inbound.remaining() < length) {
+                if(length > inbound.capacity()) {
+                    // the extended reply does not fit; keep the partial reply in a larger buffer
+                    ByteBuffer grown = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+                    grown.put(inbound);
+                    inbound = grown;
+                    return;
+                }
+                break;
+            }
+            Request request = pending.peek();
+            if(request == null)
+                throw new IOException("unexpected PIGPIO response without a pending request: " + cmd.name());
+            ByteBuffer frame = inbound.slice().order(ByteOrder.LITTLE_ENDIAN);
+            frame.limit(length);
+            inbound.position(start + length);
+            if(request.reply(frame)) {
+                pending.poll();
+                inFlight.decrementAndGet();
+                metrics.replied(System.nanoTime() - request.queued);
+            }
+        }
+        inbound.compact();
+    }
+
+    private void readReports() {
+        while (inbound.remaining() >= REPORT_SIZE) {
+            int sequence = Short.toUnsignedInt(inbound.getShort());
+            int flags = Short.toUnsignedInt(inbound.getShort());
+            long tick = Integer.toUnsignedLong(inbound.getInt());
+            int levels = inbound.getInt();
+            try {
+                reports.report(sequence, flags, tick, levels);
+            } catch (RuntimeException e) {
+                logger.error("[NOTIFY] report listener failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private static abstract class Request {
+        final long queued = System.nanoTime();
+
+        /** @return true once the request received all of its responses */
+        abstract boolean reply(ByteBuffer frame);
+        abstract void fail(PiGpioException cause);
+    }
+
+    private static final class PacketRequest extends Request {
+        private final CompletableFuture<PiGpioPacket> future = new CompletableFuture<>();
+
+        @Override
+        boolean reply(ByteBuffer frame) {
+            PiGpioPacket rx = PiGpioPacket.decode(frame);
+            if(logger.isTraceEnabled()) logger.trace("[RX] <- {}", rx.toString());
+            future.complete(rx);
+            return true;
+        }
+
+        @Override
+        void fail(PiGpioException cause) {
+            future.completeExceptionally(cause);
+        }
+    }
+
+    private final class NotifyRequest extends Request {
+        private final ReportListener listener;
+        private final CompletableFuture<Integer> future = new CompletableFuture<>();
+
+        private NotifyRequest(ReportListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        boolean reply(ByteBuffer frame) {
+            PiGpioPacket rx = PiGpioPacket.decode(frame);
+            if(logger.isTraceEnabled()) logger.trace("[RX] <- {}", rx.toString());
+            if(rx.result() < 0) {
+                future.completeExceptionally(new PiGpioException("NOIB failed: " + PiGpioError.from(rx.result())));
+            } else {
+                // everything following this reply is a notification report
+                reports = listener;
+                future.complete(rx.result());
+            }
+            return true;
+        }
+
+        @Override
+        void fail(PiGpioException cause) {
+            future.completeExceptionally(cause);
+        }
+    }
+
+    private static final class BatchRequest extends Request {
+        private final PiGpioBatch batch;
+        private final CompletableFuture<PiGpioBatch> future = new CompletableFuture<>();
+        private final ByteArrayOutputStream replies;
+        private int received = 0;
+
+        private BatchRequest(PiGpioBatch batch) {
+            this.batch = batch;
+            this.replies = new ByteArrayOutputStream(Math.max(1, batch.size()) * PiGpioBatch.HEADER_SIZE);
+        }
+
+        @Override
+        boolean reply(ByteBuffer frame) {
+            replies.write(frame.array(), frame.arrayOffset() + frame.position(), frame.remaining());
+            if(++received < batch.size()) return false;
+            try {
+                batch.receive(0, batch.size(), new ByteArrayInputStream(replies.toByteArray()));
+                if(logger.isTraceEnabled()) logger.trace("[RX] <- BATCH; COMMANDS={}; FAILURES={}", batch.size(), batch.failures());
+                future.complete(batch);
+            } catch (IOException e) {
+                future.completeExceptionally(new PiGpioException(e));
+            }
+            return true;
+        }
+
+        @Override
+        void fail(PiGpioException cause) {
+            future.completeExceptionally(cause);
+        }
+    }
+}
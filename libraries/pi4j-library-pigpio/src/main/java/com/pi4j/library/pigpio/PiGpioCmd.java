@@ -183,6 +183,33 @@ public enum PiGpioCmd {
         return UNKNOWN;
     }
 
-
-
+    /**
+     * Commands whose (non-negative) result is the length of extended data
+     * following the response header.
+     *
+     * @return true if the response to this command carries extended data.
+     */
+    public boolean extendedReply(){
+        switch (this) {
+            case BI2CZ:
+            case BSCX:
+            case BSPIX:
+            case CF2:
+            case FL:
+            case FR:
+            case I2CPK:
+            case I2CRD:
+            case I2CRI:
+            case I2CRK:
+            case I2CZ:
+            case PROCP:
+            case SERR:
+            case SLR:
+            case SPIR:
+            case SPIX:
+                return true;
+            default:
+                return false;
+        }
+    }
 }
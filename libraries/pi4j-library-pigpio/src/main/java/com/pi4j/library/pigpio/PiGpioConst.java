@@ -390,6 +390,42 @@ public interface PiGpioConst {
     /** Constant <code>PI_HW_PWM_RANGE=1000000</code> */
     int PI_HW_PWM_RANGE             = 1000000;
 
+    // ----------------------------------
+    // SCRIPTS
+    // ----------------------------------
+    /** Constant <code>PI_MAX_SCRIPTS=32</code> */
+    int PI_MAX_SCRIPTS              = 32;
+    /** Constant <code>PI_MAX_SCRIPT_PARAMS=10</code> */
+    int PI_MAX_SCRIPT_PARAMS        = 10;
+    /** Constant <code>PI_SCRIPT_INITING=0</code> */
+    int PI_SCRIPT_INITING           = 0;
+    /** Constant <code>PI_SCRIPT_HALTED=1</code> */
+    int PI_SCRIPT_HALTED            = 1;
+    /** Constant <code>PI_SCRIPT_RUNNING=2</code> */
+    int PI_SCRIPT_RUNNING           = 2;
+    /** Constant <code>PI_SCRIPT_WAITING=3</code> */
+    int PI_SCRIPT_WAITING           = 3;
+    /** Constant <code>PI_SCRIPT_FAILED=4</code> */
+    int PI_SCRIPT_FAILED            = 4;
+
+    // ----------------------------------
+    // WAVES
+    // ----------------------------------
+    /** Constant <code>PI_WAVE_MODE_ONE_SHOT=0</code> */
+    int PI_WAVE_MODE_ONE_SHOT       = 0;
+    /** Constant <code>PI_WAVE_MODE_REPEAT=1</code> */
+    int PI_WAVE_MODE_REPEAT         = 1;
+    /** Constant <code>PI_WAVE_MODE_ONE_SHOT_SYNC=2</code> */
+    int PI_WAVE_MODE_ONE_SHOT_SYNC  = 2;
+    /** Constant <code>PI_WAVE_MODE_REPEAT_SYNC=3</code> */
+    int PI_WAVE_MODE_REPEAT_SYNC    = 3;
+    /** Constant <code>PI_WAVE_MAX_PULSES=12000</code> */
+    int PI_WAVE_MAX_PULSES          = 12000;
+    /** Constant <code>PI_WAVE_NOT_FOUND=9998</code>; transmitted wave not found */
+    int PI_WAVE_NOT_FOUND           = 9998;
+    /** Constant <code>PI_NO_TX_WAVE=9999</code>; no wave being transmitted */
+    int PI_NO_TX_WAVE               = 9999;
+
     // ----------------------------------
     // DELAYS
     // ----------------------------------
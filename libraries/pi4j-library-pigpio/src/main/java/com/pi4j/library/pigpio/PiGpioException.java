@@ -53,15 +53,31 @@ package com.pi4j.library.pigpio;
  * @version $Id: $Id
  */
 public class PiGpioException extends RuntimeException {
+    private final PiGpioError error;
+
     public PiGpioException(String message) {
+        this(message, PiGpioError.UNKNOWN);
+    }
+
+    public PiGpioException(String message, PiGpioError error) {
         super(message);
+        this.error = error;
     }
 
     public PiGpioException(Throwable cause) {
         super(cause);
+        this.error = PiGpioError.UNKNOWN;
     }
 
     public PiGpioException(String message, Throwable cause) {
         super(message, cause);
+        this.error = PiGpioError.UNKNOWN;
+    }
+
+    /**
+     * @return the PIGPIO error code that caused this exception, {@link PiGpioError#UNKNOWN} if there is none
+     */
+    public PiGpioError error() {
+        return error;
     }
 }
@@ -0,0 +1,347 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioI2CTransaction.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>A sequence of I2C operations executed by pigpio in a single call (<code>i2cZip</code>).</p>
+ *
+ * <p>Operations are encoded as they are added; reads are numbered in the order they were added,
+ * starting from 0, and their data can be retrieved once the transaction has been executed with
+ * {@link PiGpio_I2C#i2cZip(int, PiGpioI2CTransaction)}.  Through the socket interface the whole
+ * transaction costs one round trip, however many devices and registers it touches.  A transaction
+ * can be executed repeatedly; {@link #clear()} discards its operations.</p>
+ *
+ * <p>Example: read two registers from each of two sensors.</p>
+ * <pre>
+ * PiGpioI2CTransaction sweep = new PiGpioI2CTransaction()
+ *     .address(0x40).readRegister(0x01, 2).readRegister(0x02, 2)
+ *     .address(0x41).readRegister(0x01, 2).readRegister(0x02, 2);
+ * piGpio.i2cZip(handle, sweep);
+ * int humidity = sweep.resultWord(3);
+ * </pre>
+ *
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+ */
+public class PiGpioI2CTransaction {
+
+    private static final int CMD_END = 0;
+    private static final int CMD_ESCAPE = 1;
+    private static final int CMD_ON = 2;
+    private static final int CMD_OFF = 3;
+    private static final int CMD_ADDRESS = 4;
+    private static final int CMD_FLAGS = 5;
+    private static final int CMD_READ = 6;
+    private static final int CMD_WRITE = 7;
+
+    private byte[] commands = new byte[64];
+    private int commandLength = 0;
+    private int[] readOffsets = new int[8];
+    private int[] readLengths = new int[8];
+    private int reads = 0;
+    private int readLength = 0;
+    private byte[] result = new byte[0];
+    private int resultLength = -1;
+
+    /**
+     * Switch to another device address; the initial address is the device of the I2C handle.
+     *
+     * @param address 7 bit I2C device address
+     * @return this transaction
+     */
+    public PiGpioI2CTransaction address(int address) {
+        if (address < 0 || address > 0x7F)
+            throw new IllegalArgumentException("Invalid I2C device address: " + address);
+        return command(CMD_ADDRESS).parameter(address);
+    }
+
+    /**
+     * Set the I2C message flags of the following operations.
+     *
+     * @param flags 16 bit I2C message flags
+     * @return this transaction
+     */
+    public PiGpioI2CTransaction flags(int flags) {
+        ensureCapacity(3);
+        commands[commandLength++] = (byte) CMD_FLAGS;
+        commands[commandLength++] = (byte) flags;
+        commands[commandLength++] = (byte) (flags >> 8);
+        return this;
+    }
+
+    /**
+     * Switch combined mode on or off; in combined mode consecutive operations are joined by a
+     * repeated start instead of a stop and start.
+     *
+     * @param combined true to switch combined mode on
+     * @return this transaction
+     */
+    public PiGpioI2CTransaction combined(boolean combined) {
+        return command(combined ? CMD_ON : CMD_OFF);
+    }
+
+    /**
+     * Write bytes to the current device.
+     *
+     * @param data the bytes to write
+     * @param offset offset of the first byte in {@code data}
+     * @param length number of bytes to write
+     * @return this transaction
+     */
+    public PiGpioI2CTransaction write(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        command(CMD_WRITE).parameter(length);
+        ensureCapacity(length);
+        System.arraycopy(data, offset, commands, commandLength, length);
+        commandLength += length;
+        return this;
+    }
+
+    /**
+     * Write bytes to the current device.
+     *
+     * @param data the bytes to write
+     * @return this transaction
+     */
+    public PiGpioI2CTransaction write(byte ... data) {
+        return write(data, 0, data.length);
+    }
+
+    /**
+     * Read bytes from the current device.
+     *
+     * @param length number of bytes to read
+     * @return this transaction
+     */
+    public PiGpioI2CTransaction read(int length) {
+        if (length < 1)
+            throw new IllegalArgumentException("Invalid I2C read length: " + length);
+        command(CMD_READ).parameter(length);
+        if (reads == readOffsets.length) {
+            readOffsets = Arrays.copyOf(readOffsets, reads * 2);
+            readLengths = Arrays.copyOf(readLengths, reads * 2);
+        }
+        readOffsets[reads] = readLength;
+        readLengths[reads] = length;
+        reads++;
+        readLength += length;
+        return this;
+    }
+
+    /**
+     * Read a register of the current device: write the register address, then read with a
+     * repeated start.
+     *
+     * @param register the register address (0-255)
+     * @param length number of bytes to read
+     * @return this transaction
+     */
+    public PiGpioI2CTransaction readRegister(int register, int length) {
+        return combined(true).write((byte) register).read(length).combined(false);
+    }
+
+    /**
+     * Write a register of the current device.
+     *
+     * @param register the register address (0-255)
+     * @param data the bytes to write
+     * @return this transaction
+     */
+    public PiGpioI2CTransaction writeRegister(int register, byte ... data) {
+        byte[] message = new byte[data.length + 1];
+        message[0] = (byte) register;
+        System.arraycopy(data, 0, message, 1, data.length);
+        return write(message);
+    }
+
+    /**
+     * Discard all operations and results.
+     *
+     * @return this transaction
+     */
+    public PiGpioI2CTransaction clear() {
+        commandLength = 0;
+        reads = 0;
+        readLength = 0;
+        resultLength = -1;
+        return this;
+    }
+
+    /**
+     * <p>reads.</p>
+     *
+     * @return number of read operations in this transaction
+     */
+    public int reads() {
+        return reads;
+    }
+
+    /**
+     * <p>readLength.</p>
+     *
+     * @return total number of bytes read by this transaction
+     */
+    public int readLength() {
+        return readLength;
+    }
+
+    /**
+     * <p>commandLength.</p>
+     *
+     * @return number of bytes of the encoded command sequence
+     */
+    public int commandLength() {
+        return commandLength + 1;
+    }
+
+    /**
+     * <p>commands.</p>
+     *
+     * @return the encoded command sequence; only the first {@link #commandLength()} bytes are valid
+     */
+    public byte[] commands() {
+        ensureCapacity(1);
+        commands[commandLength] = (byte) CMD_END;
+        return commands;
+    }
+
+    /**
+     * <p>resultLength.</p>
+     *
+     * @return number of bytes read by the last execution, or -1 if not executed
+     */
+    public int resultLength() {
+        return resultLength;
+    }
+
+    /**
+     * Copy the data of a read operation.
+     *
+     * @param read read index (0 based, in the order the reads were added)
+     * @param buffer the destination
+     * @param offset offset in the destination
+     * @return number of bytes copied
+     */
+    public int result(int read, byte[] buffer, int offset) {
+        int length = readLengths[validateRead(read)];
+        System.arraycopy(result, readOffsets[read], buffer, offset, length);
+        return length;
+    }
+
+    /**
+     * <p>result.</p>
+     *
+     * @param read read index (0 based, in the order the reads were added)
+     * @return a copy of the data of the read operation
+     */
+    public byte[] result(int read) {
+        byte[] data = new byte[readLengths[validateRead(read)]];
+        result(read, data, 0);
+        return data;
+    }
+
+    /**
+     * <p>resultByte.</p>
+     *
+     * @param read read index (0 based, in the order the reads were added)
+     * @return the first byte of the read operation as an unsigned value
+     */
+    public int resultByte(int read) {
+        return result[readOffsets[validateRead(read)]] & 0xFF;
+    }
+
+    /**
+     * <p>resultWord.</p>
+     *
+     * @param read read index (0 based, in the order the reads were added)
+     * @return the first two bytes of the read operation as an unsigned big endian value
+     */
+    public int resultWord(int read) {
+        int offset = readOffsets[validateRead(read)];
+        if (readLengths[read] < 2)
+            throw new IllegalArgumentException("read " + read + " is a single byte");
+        return ((result[offset] & 0xFF) << 8) | (result[offset + 1] & 0xFF);
+    }
+
+    /**
+     * Buffer receiving the data of all reads; sized to {@link #readLength()}.
+     */
+    byte[] resultBuffer() {
+        if (result.length < readLength) result = new byte[readLength];
+        resultLength = -1;
+        return result;
+    }
+
+    /**
+     * Record the number of bytes read by an execution.
+     */
+    void completed(int length) {
+        resultLength = length;
+    }
+
+    private int validateRead(int read) {
+        Objects.checkIndex(read, reads);
+        if (resultLength < readOffsets[read] + readLengths[read])
+            throw new IllegalStateException("no data for read " + read + "; transaction returned "
+                    + resultLength + " of " + readLength + " bytes");
+        return read;
+    }
+
+    private PiGpioI2CTransaction command(int command) {
+        ensureCapacity(1);
+        commands[commandLength++] = (byte) command;
+        return this;
+    }
+
+    private PiGpioI2CTransaction parameter(int value) {
+        if (value < 0 || value > 0xFFFF)
+            throw new IllegalArgumentException("Invalid I2C transaction parameter: " + value);
+        if (value > 0xFF) {
+            // the escape command makes the following parameter a 16 bit value; it must precede the command
+            ensureCapacity(3);
+            commands[commandLength] = commands[commandLength - 1];
+            commands[commandLength - 1] = (byte) CMD_ESCAPE;
+            commandLength++;
+            commands[commandLength++] = (byte) value;
+            commands[commandLength++] = (byte) (value >> 8);
+        } else {
+            ensureCapacity(1);
+            commands[commandLength++] = (byte) value;
+        }
+        return this;
+    }
+
+    private void ensureCapacity(int additional) {
+        // keep room for the terminating END command
+        int required = commandLength + additional + 1;
+        if (required > commands.length)
+            commands = Arrays.copyOf(commands, Math.max(required, commands.length * 2));
+    }
+}
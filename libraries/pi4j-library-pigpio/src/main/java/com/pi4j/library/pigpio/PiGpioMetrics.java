@@ -0,0 +1,181 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioMetrics.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>PiGpioMetrics class.</p>
+ *
+ * <p>Health and latency counters of the connection to a single PIGPIO daemon.  The latency of a
+ * request is the time from queueing the command until its reply is received, so it includes the
+ * time spent waiting behind other outstanding requests.  All counters may be read from any thread
+ * while the I/O thread updates them.</p>
+ */
+public class PiGpioMetrics {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder connects = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+    private final AtomicLong lastLatency = new AtomicLong();
+    private volatile long lastReply = 0;
+    private volatile Throwable lastFailure = null;
+
+    /**
+     * Record a reply received from the daemon.
+     *
+     * @param latencyNanos time from queueing the request until its reply was received
+     */
+    public void replied(long latencyNanos) {
+        requests.increment();
+        totalLatency.add(latencyNanos);
+        maxLatency.accumulate(latencyNanos);
+        lastLatency.set(latencyNanos);
+        lastReply = System.nanoTime();
+    }
+
+    /**
+     * Record a connection established to the daemon.
+     */
+    public void connected() {
+        connects.increment();
+    }
+
+    /**
+     * Record a failed connection or connection attempt.
+     *
+     * @param cause the reason of the failure
+     */
+    public void failed(Throwable cause) {
+        failures.increment();
+        lastFailure = cause;
+    }
+
+    /**
+     * <p>getRequestCount.</p>
+     *
+     * @return number of replies received
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * <p>getFailureCount.</p>
+     *
+     * @return number of failed connections or connection attempts
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * <p>getConnectCount.</p>
+     *
+     * @return number of connections established; more than one means the connection was re-established
+     */
+    public long getConnectCount() {
+        return connects.sum();
+    }
+
+    /**
+     * <p>getLastFailure.</p>
+     *
+     * @return the reason of the last failure, or null if the connection never failed
+     */
+    public Throwable getLastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * <p>getAverageLatency.</p>
+     *
+     * @param unit the time unit of the result
+     * @return average request latency, or 0 if no reply was received yet
+     */
+    public long getAverageLatency(TimeUnit unit) {
+        long count = requests.sum();
+        return count == 0 ? 0 : unit.convert(totalLatency.sum() / count, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * <p>getMaxLatency.</p>
+     *
+     * @param unit the time unit of the result
+     * @return highest request latency
+     */
+    public long getMaxLatency(TimeUnit unit) {
+        return unit.convert(maxLatency.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * <p>getLastLatency.</p>
+     *
+     * @param unit the time unit of the result
+     * @return latency of the most recent request
+     */
+    public long getLastLatency(TimeUnit unit) {
+        return unit.convert(lastLatency.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * <p>getIdleTime.</p>
+     *
+     * @param unit the time unit of the result
+     * @return time since the last reply was received, or -1 if no reply was received yet
+     */
+    public long getIdleTime(TimeUnit unit) {
+        long last = lastReply;
+        return last == 0 ? -1 : unit.convert(System.nanoTime() - last, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Reset the request and latency counters; connection and failure counters are kept.
+     */
+    public void reset() {
+        requests.reset();
+        totalLatency.reset();
+        maxLatency.reset();
+        lastLatency.set(0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "requests=" + getRequestCount() +
+                "; failures=" + getFailureCount() +
+                "; connects=" + getConnectCount() +
+                "; latency(avg/max/last)=" + getAverageLatency(TimeUnit.MICROSECONDS) + "/" +
+                getMaxLatency(TimeUnit.MICROSECONDS) + "/" + getLastLatency(TimeUnit.MICROSECONDS) + " us";
+    }
+}
@@ -375,6 +375,32 @@ public class PiGpioPacket {
         return packet;
     }
 
+    /**
+     * <p>decode.</p>
+     *
+     * Decodes a single complete response (header and any extended data) from a buffer
+     * already ordered LITTLE_ENDIAN; the buffer position is advanced past the response.
+     *
+     * @param buffer a {@link java.nio.ByteBuffer} object.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     */
+    public static PiGpioPacket decode(ByteBuffer buffer) {
+        PiGpioCmd cmd = PiGpioCmd.from(buffer.getInt()); // CMD <4 bytes :: 0-3>
+        int p1 = buffer.getInt();                        // P1  <4 bytes :: 4-7>
+        int p2 = buffer.getInt();                        // P2  <4 bytes :: 8-11>
+        int p3 = buffer.getInt();                        // P3  <4 bytes :: 12-15>
+
+        PiGpioPacket packet = new PiGpioPacket(cmd, p1, p2)
+            .p3(p3); // set RAW P3 value
+
+        if(cmd.extendedReply() && p3 > 0) {
+            byte[] temp = new byte[p3];
+            buffer.get(temp);
+            packet.data(temp);
+        }
+        return packet;
+    }
+
     /**
      * The packet may indicate the number of bytes to expect from the stream.
      *
@@ -386,13 +412,9 @@ public class PiGpioPacket {
      * @throws IOException
      */
     static int bytesToRead(PiGpioPacket packet, InputStream stream) throws IOException {
-        switch (packet.cmd) {
-            case I2CRI:
-            case I2CRD:
-                return packet.p3;
-            default:
-                return stream.available();
-        }
+        if (packet.cmd.extendedReply())
+            return packet.p3;
+        return stream.available();
     }
 
     /**
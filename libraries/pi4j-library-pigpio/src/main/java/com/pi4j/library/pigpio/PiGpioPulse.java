@@ -0,0 +1,97 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioPulse.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>A single waveform step (pigpio <code>gpioPulse_t</code>): the GPIOs in <code>gpioOn</code>
+ * are switched on and the GPIOs in <code>gpioOff</code> are switched off at the start of the
+ * step, then the wave waits <code>usDelay</code> microseconds before the next step.</p>
+ *
+ * <p>GPIOs are given as bitmasks where bit <code>n</code> is user GPIO <code>n</code> (0-31).</p>
+ */
+public class PiGpioPulse {
+
+    /** Number of bytes a pulse occupies in a WVAG command extension. */
+    public static final int SIZE = 12;
+
+    /**
+     * Maximum number of pulses that fit in a single WVAG command extension; pigpiod limits
+     * a command extension to 64KB. Larger waveforms must be added in several calls.
+     */
+    public static final int MAX_PULSES_PER_ADD = 65536 / SIZE;
+
+    private final int gpioOn;
+    private final int gpioOff;
+    private final int usDelay;
+
+    /**
+     * <p>Constructor for PiGpioPulse.</p>
+     *
+     * @param gpioOn bitmask of the GPIOs to switch on
+     * @param gpioOff bitmask of the GPIOs to switch off
+     * @param usDelay delay in microseconds before the next pulse
+     */
+    public PiGpioPulse(int gpioOn, int gpioOff, int usDelay) {
+        this.gpioOn = gpioOn;
+        this.gpioOff = gpioOff;
+        this.usDelay = usDelay;
+    }
+
+    /**
+     * <p>gpioOn.</p>
+     *
+     * @return bitmask of the GPIOs switched on by this pulse
+     */
+    public int gpioOn() {
+        return gpioOn;
+    }
+
+    /**
+     * <p>gpioOff.</p>
+     *
+     * @return bitmask of the GPIOs switched off by this pulse
+     */
+    public int gpioOff() {
+        return gpioOff;
+    }
+
+    /**
+     * <p>usDelay.</p>
+     *
+     * @return delay in microseconds before the next pulse
+     */
+    public int usDelay() {
+        return usDelay;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format("ON=0x%08X; OFF=0x%08X; DELAY=%dus", gpioOn, gpioOff, usDelay);
+    }
+}
@@ -0,0 +1,433 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioScript.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Objects;
+
+/**
+ * <p>Builder for pigpio script text.</p>
+ *
+ * <p>Each method appends one script command; operands are either immediate values or
+ * references to a script variable ({@link #var(int)}) or parameter ({@link #param(int)}).
+ * Commands without a dedicated method can be added with {@link #command(String, Object...)}.
+ * The resulting text is stored with {@link PiGpio_Script#gpioStoreScript(PiGpioScript)}.</p>
+ *
+ * <p>Example: pulse GPIO 27 HIGH for 20 microseconds each time GPIO 17 rises.</p>
+ * <pre>
+ * PiGpioScript script = new PiGpioScript()
+ *     .tag(0)
+ *     .waitForChange(1 &lt;&lt; 17)
+ *     .read(17)
+ *     .jumpIfZero(0)
+ *     .trigger(27, 20, 1)
+ *     .jump(0);
+ * </pre>
+ *
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/pigs.html#Scripts">PIGPIO::Scripts</a>
+ */
+public class PiGpioScript {
+
+    /** Number of script variables (v0 - v149). */
+    public static final int MAX_VARIABLES = 150;
+
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * Reference to a script variable.
+     *
+     * @param index variable index (0-149)
+     * @return the operand text
+     */
+    public static String var(int index) {
+        if (index < 0 || index >= MAX_VARIABLES)
+            throw new IllegalArgumentException("script variable out of range (0-" + (MAX_VARIABLES - 1) + "): " + index);
+        return "v" + index;
+    }
+
+    /**
+     * Reference to a script parameter.
+     *
+     * @param index parameter index (0-9)
+     * @return the operand text
+     */
+    public static String param(int index) {
+        if (index < 0 || index >= PiGpioConst.PI_MAX_SCRIPT_PARAMS)
+            throw new IllegalArgumentException("script parameter out of range (0-"
+                    + (PiGpioConst.PI_MAX_SCRIPT_PARAMS - 1) + "): " + index);
+        return "p" + index;
+    }
+
+    /**
+     * Append a script command.
+     *
+     * @param command the command mnemonic (e.g. "W", "MICS", "JNZ")
+     * @param operands immediate values, variables or parameters
+     * @return this script
+     */
+    public PiGpioScript command(String command, Object ... operands) {
+        Objects.requireNonNull(command, "command");
+        if (text.length() > 0) text.append('\n');
+        text.append(command);
+        for (Object operand : operands) {
+            text.append(' ').append(Objects.requireNonNull(operand, "operand"));
+        }
+        return this;
+    }
+
+    // GPIO
+
+    /**
+     * Set the mode of a GPIO (M).
+     *
+     * @param gpio GPIO number, variable or parameter
+     * @param mode the GPIO mode
+     * @return this script
+     */
+    public PiGpioScript mode(Object gpio, PiGpioMode mode) {
+        switch (mode) {
+            case INPUT:  return command("M", gpio, "R");
+            case OUTPUT: return command("M", gpio, "W");
+            case UNKNOWN: throw new IllegalArgumentException("unsupported mode: " + mode);
+            default:     return command("M", gpio, mode.name().substring(3));
+        }
+    }
+
+    /**
+     * Set the pull up/down resistor of a GPIO (PUD).
+     *
+     * @param gpio GPIO number, variable or parameter
+     * @param pud the resistor setting
+     * @return this script
+     */
+    public PiGpioScript pull(Object gpio, PiGpioPud pud) {
+        switch (pud) {
+            case UP:   return command("PUD", gpio, "U");
+            case DOWN: return command("PUD", gpio, "D");
+            case OFF:  return command("PUD", gpio, "O");
+            default:   throw new IllegalArgumentException("unsupported pull resistance: " + pud);
+        }
+    }
+
+    /**
+     * Read a GPIO level into the accumulator (R).
+     *
+     * @param gpio GPIO number, variable or parameter
+     * @return this script
+     */
+    public PiGpioScript read(Object gpio) {
+        return command("R", gpio);
+    }
+
+    /**
+     * Write a GPIO level (W).
+     *
+     * @param gpio GPIO number, variable or parameter
+     * @param level 0, 1, variable or parameter
+     * @return this script
+     */
+    public PiGpioScript write(Object gpio, Object level) {
+        return command("W", gpio, level);
+    }
+
+    /**
+     * Read GPIO 0-31 into the accumulator (BR1).
+     *
+     * @return this script
+     */
+    public PiGpioScript readBank1() {
+        return command("BR1");
+    }
+
+    /**
+     * Send a trigger pulse of the given level and length on a GPIO (TRIG).
+     *
+     * @param gpio GPIO number, variable or parameter
+     * @param micros pulse length in microseconds (1-100)
+     * @param level pulse level
+     * @return this script
+     */
+    public PiGpioScript trigger(Object gpio, Object micros, Object level) {
+        return command("TRIG", gpio, micros, level);
+    }
+
+    /**
+     * Start PWM on a GPIO (PWM).
+     *
+     * @param gpio GPIO number, variable or parameter
+     * @param dutyCycle duty cycle (0 - range)
+     * @return this script
+     */
+    public PiGpioScript pwm(Object gpio, Object dutyCycle) {
+        return command("PWM", gpio, dutyCycle);
+    }
+
+    /**
+     * Start servo pulses on a GPIO (SERVO).
+     *
+     * @param gpio GPIO number, variable or parameter
+     * @param pulseWidth 0, 500-2500
+     * @return this script
+     */
+    public PiGpioScript servo(Object gpio, Object pulseWidth) {
+        return command("SERVO", gpio, pulseWidth);
+    }
+
+    /**
+     * Wait for a level change on any of the GPIO in {@code bits} (WAIT).
+     *
+     * @param bits bitmask of GPIO 0-31, variable or parameter
+     * @return this script
+     */
+    public PiGpioScript waitForChange(Object bits) {
+        return command("WAIT", bits);
+    }
+
+    // TIMING
+
+    /**
+     * Delay for a number of microseconds (MICS).
+     *
+     * @param micros microseconds (1-1000000), variable or parameter
+     * @return this script
+     */
+    public PiGpioScript delayMicroseconds(Object micros) {
+        return command("MICS", micros);
+    }
+
+    /**
+     * Delay for a number of milliseconds (MILS).
+     *
+     * @param millis milliseconds (1-60000), variable or parameter
+     * @return this script
+     */
+    public PiGpioScript delayMilliseconds(Object millis) {
+        return command("MILS", millis);
+    }
+
+    // FLOW CONTROL
+
+    /**
+     * Label the following command as a jump target (TAG).
+     *
+     * @param tag tag number
+     * @return this script
+     */
+    public PiGpioScript tag(int tag) {
+        return command("TAG", tag);
+    }
+
+    /**
+     * Jump to a tag (JMP).
+     *
+     * @param tag tag number
+     * @return this script
+     */
+    public PiGpioScript jump(int tag) {
+        return command("JMP", tag);
+    }
+
+    /**
+     * Jump to a tag if the accumulator is zero (JZ).
+     *
+     * @param tag tag number
+     * @return this script
+     */
+    public PiGpioScript jumpIfZero(int tag) {
+        return command("JZ", tag);
+    }
+
+    /**
+     * Jump to a tag if the accumulator is not zero (JNZ).
+     *
+     * @param tag tag number
+     * @return this script
+     */
+    public PiGpioScript jumpIfNotZero(int tag) {
+        return command("JNZ", tag);
+    }
+
+    /**
+     * Jump to a tag if the accumulator is greater than or equal to zero (JP).
+     *
+     * @param tag tag number
+     * @return this script
+     */
+    public PiGpioScript jumpIfPositive(int tag) {
+        return command("JP", tag);
+    }
+
+    /**
+     * Jump to a tag if the accumulator is negative (JM).
+     *
+     * @param tag tag number
+     * @return this script
+     */
+    public PiGpioScript jumpIfNegative(int tag) {
+        return command("JM", tag);
+    }
+
+    /**
+     * Call the subroutine at a tag (CALL).
+     *
+     * @param tag tag number
+     * @return this script
+     */
+    public PiGpioScript call(int tag) {
+        return command("CALL", tag);
+    }
+
+    /**
+     * Return from a subroutine (RET).
+     *
+     * @return this script
+     */
+    public PiGpioScript ret() {
+        return command("RET");
+    }
+
+    /**
+     * Halt the script (HALT).
+     *
+     * @return this script
+     */
+    public PiGpioScript halt() {
+        return command("HALT");
+    }
+
+    // ACCUMULATOR AND VARIABLES
+
+    /**
+     * Load a value into a variable or parameter (LD).
+     *
+     * @param target variable or parameter
+     * @param value value, variable or parameter
+     * @return this script
+     */
+    public PiGpioScript load(String target, Object value) {
+        return command("LD", target, value);
+    }
+
+    /**
+     * Load a value into the accumulator (LDA).
+     *
+     * @param value value, variable or parameter
+     * @return this script
+     */
+    public PiGpioScript loadAccumulator(Object value) {
+        return command("LDA", value);
+    }
+
+    /**
+     * Store the accumulator in a variable or parameter (STA).
+     *
+     * @param target variable or parameter
+     * @return this script
+     */
+    public PiGpioScript storeAccumulator(String target) {
+        return command("STA", target);
+    }
+
+    /**
+     * Compare the accumulator with a value; the accumulator becomes {@code A - value} (CMP).
+     *
+     * @param value value, variable or parameter
+     * @return this script
+     */
+    public PiGpioScript compare(Object value) {
+        return command("CMP", value);
+    }
+
+    /**
+     * Add a value to the accumulator (ADD).
+     *
+     * @param value value, variable or parameter
+     * @return this script
+     */
+    public PiGpioScript add(Object value) {
+        return command("ADD", value);
+    }
+
+    /**
+     * Subtract a value from the accumulator (SUB).
+     *
+     * @param value value, variable or parameter
+     * @return this script
+     */
+    public PiGpioScript subtract(Object value) {
+        return command("SUB", value);
+    }
+
+    /**
+     * Bitwise AND the accumulator with a value (AND).
+     *
+     * @param value value, variable or parameter
+     * @return this script
+     */
+    public PiGpioScript and(Object value) {
+        return command("AND", value);
+    }
+
+    /**
+     * Decrement a variable or parameter (DCR).
+     *
+     * @param target variable or parameter
+     * @return this script
+     */
+    public PiGpioScript decrement(String target) {
+        return command("DCR", target);
+    }
+
+    /**
+     * Increment a variable or parameter (INR).
+     *
+     * @param target variable or parameter
+     * @return this script
+     */
+    public PiGpioScript increment(String target) {
+        return command("INR", target);
+    }
+
+    /**
+     * <p>isEmpty.</p>
+     *
+     * @return true if no commands have been added
+     */
+    public boolean isEmpty() {
+        return text.length() == 0;
+    }
+
+    /**
+     * The pigpio script text, one command per line.
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+}
@@ -0,0 +1,181 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSelector.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>PiGpioSelector class.</p>
+ *
+ * <p>A single I/O thread multiplexing any number of non-blocking {@link PiGpioChannel} daemon
+ * connections over one {@link java.nio.channels.Selector}.  All channel registration and socket
+ * I/O happens on this thread; other threads hand work to it with {@link #execute(Runnable)}.</p>
+ */
+public class PiGpioSelector implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioSelector.class);
+
+    private static PiGpioSelector shared = null;
+
+    private final Selector selector;
+    private final Thread thread;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+
+    /**
+     * Get the selector shared by all asynchronous PIGPIO instances that do not provide their own;
+     * its I/O thread is a daemon thread that lives as long as the JVM.
+     *
+     * @return a {@link com.pi4j.library.pigpio.PiGpioSelector} object.
+     */
+    public static synchronized PiGpioSelector shared() {
+        if (shared == null || !shared.isRunning())
+            shared = new PiGpioSelector("pigpio-selector");
+        return shared;
+    }
+
+    /**
+     * <p>Constructor for PiGpioSelector.</p>
+     *
+     * @param name name of the I/O thread
+     */
+    public PiGpioSelector(String name) {
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new PiGpioException(e);
+        }
+        this.thread = new Thread(this::run, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * <p>isRunning.</p>
+     *
+     * @return true until this selector is closed
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * <p>inSelectorThread.</p>
+     *
+     * @return true if called from the I/O thread of this selector
+     */
+    public boolean inSelectorThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Run a task on the I/O thread.
+     *
+     * @param task a {@link java.lang.Runnable} object.
+     */
+    public void execute(Runnable task) {
+        if (!running)
+            throw new PiGpioException("PIGPIO selector [" + thread.getName() + "] is closed");
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    /**
+     * Get the selector; only to be used from the I/O thread.
+     *
+     * @return a {@link java.nio.channels.Selector} object.
+     */
+    Selector selector() {
+        return selector;
+    }
+
+    /**
+     * Stop the I/O thread and close every channel still registered with this selector.
+     */
+    @Override
+    public void close() {
+        if (!running) return;
+        running = false;
+        selector.wakeup();
+        if (!inSelectorThread()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        logger.trace("[SELECTOR] -> STARTED [{}]", thread.getName());
+        while (running) {
+            try {
+                selector.select();
+            } catch (IOException e) {
+                logger.error("[SELECTOR] select failed: {}", e.getMessage(), e);
+                break;
+            }
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.error("[SELECTOR] task failed: {}", e.getMessage(), e);
+                }
+            }
+            Iterator<SelectionKey> selected = selector.selectedKeys().iterator();
+            while (selected.hasNext()) {
+                SelectionKey key = selected.next();
+                selected.remove();
+                ((PiGpioChannel) key.attachment()).handle(key);
+            }
+        }
+        running = false;
+
+        // fail everything still in flight
+        for (SelectionKey key : selector.keys()) {
+            ((PiGpioChannel) key.attachment()).fail(new PiGpioException("PIGPIO selector [" + thread.getName() + "] closed"));
+        }
+        tasks.clear();
+        try {
+            selector.close();
+        } catch (IOException e) {
+            logger.warn("[SELECTOR] close failed: {}", e.getMessage());
+        }
+        logger.trace("[SELECTOR] <- STOPPED [{}]", thread.getName());
+    }
+}
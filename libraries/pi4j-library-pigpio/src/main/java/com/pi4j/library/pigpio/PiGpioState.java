@@ -66,6 +66,20 @@ public enum PiGpioState {
         return UNKNOWN;
     }
 
+    /**
+     * <p>from.</p>
+     *
+     * @param value a int.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioState} object.
+     */
+    public static PiGpioState from(int value){
+        switch (value) {
+            case 0: return LOW;
+            case 1: return HIGH;
+            default: return UNKNOWN;
+        }
+    }
+
     /**
      * <p>from.</p>
      *
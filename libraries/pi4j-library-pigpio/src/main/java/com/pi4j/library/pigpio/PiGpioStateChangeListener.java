@@ -40,4 +40,19 @@ public interface PiGpioStateChangeListener {
      * @param event a {@link com.pi4j.library.pigpio.PiGpioStateChangeEvent} object.
      */
     void onChange(PiGpioStateChangeEvent event);
+
+    /**
+     * <p>onChange.</p>
+     *
+     * Invoked for natively buffered GPIO alerts; override to receive pin changes without
+     * an event object being allocated.  The default implementation forwards a new
+     * {@link com.pi4j.library.pigpio.PiGpioStateChangeEvent} to {@link #onChange(PiGpioStateChangeEvent)}.
+     *
+     * @param pin the GPIO pin number
+     * @param state a {@link com.pi4j.library.pigpio.PiGpioState} object.
+     * @param tick the PIGPIO tick (microseconds) at which the change was sampled
+     */
+    default void onChange(int pin, PiGpioState state, long tick) {
+        onChange(new PiGpioStateChangeEvent(pin, state, tick));
+    }
 }
@@ -0,0 +1,76 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioWaveMode.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static com.pi4j.library.pigpio.PiGpioConst.*;
+
+/**
+ * <p>PiGpioWaveMode class.</p>
+ *
+ * <ul>
+ *     <li>ONE_SHOT - transmit the wave once</li>
+ *     <li>REPEAT - transmit the wave repeatedly until stopped</li>
+ *     <li>ONE_SHOT_SYNC - transmit once, starting when the current wave reaches its end</li>
+ *     <li>REPEAT_SYNC - transmit repeatedly, starting when the current wave reaches its end</li>
+ * </ul>
+ */
+public enum PiGpioWaveMode {
+    UNKNOWN(-1),
+    ONE_SHOT      (PI_WAVE_MODE_ONE_SHOT),
+    REPEAT        (PI_WAVE_MODE_REPEAT),
+    ONE_SHOT_SYNC (PI_WAVE_MODE_ONE_SHOT_SYNC),
+    REPEAT_SYNC   (PI_WAVE_MODE_REPEAT_SYNC);
+
+    private int value;
+
+    PiGpioWaveMode(int value){
+        this.value  =value;
+    }
+
+    /**
+     * <p>value.</p>
+     *
+     * @return a int.
+     */
+    public int value(){
+        return this.value;
+    }
+
+    /**
+     * <p>from.</p>
+     *
+     * @param value a {@link java.lang.Number} object.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioWaveMode} object.
+     */
+    public static PiGpioWaveMode from(Number value){
+        for(PiGpioWaveMode c : PiGpioWaveMode.values()){
+            if(c.value() == value.intValue()) return c;
+        }
+        return UNKNOWN;
+    }
+}
@@ -102,6 +102,54 @@ public interface PiGpio_GPIO {
         gpioWrite(pin, PiGpioState.from(state));
     }
 
+    /**
+     * Returns the current level of GPIO 0-31 as a bitmask; bit n is the level of GPIO n.
+     *
+     * @return levels of GPIO 0-31
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    int gpioRead_Bits_0_31();
+
+    /**
+     * Returns the current level of GPIO 32-53 as a bitmask; bit n is the level of GPIO 32+n.
+     *
+     * @return levels of GPIO 32-53
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_32_53">PIGPIO::gpioRead_Bits_32_53</a>
+     */
+    int gpioRead_Bits_32_53();
+
+    /**
+     * Clears (sets LOW) the GPIO 0-31 whose bits are set in the bitmask; all in a single operation.
+     *
+     * @param bits bitmask of GPIO 0-31 to clear
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    void gpioWrite_Bits_0_31_Clear(int bits);
+
+    /**
+     * Clears (sets LOW) the GPIO 32-53 whose bits are set in the bitmask; all in a single operation.
+     *
+     * @param bits bitmask of GPIO 32-53 to clear; bit n is GPIO 32+n
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Clear">PIGPIO::gpioWrite_Bits_32_53_Clear</a>
+     */
+    void gpioWrite_Bits_32_53_Clear(int bits);
+
+    /**
+     * Sets (HIGH) the GPIO 0-31 whose bits are set in the bitmask; all in a single operation.
+     *
+     * @param bits bitmask of GPIO 0-31 to set
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    void gpioWrite_Bits_0_31_Set(int bits);
+
+    /**
+     * Sets (HIGH) the GPIO 32-53 whose bits are set in the bitmask; all in a single operation.
+     *
+     * @param bits bitmask of GPIO 32-53 to set; bit n is GPIO 32+n
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Set">PIGPIO::gpioWrite_Bits_32_53_Set</a>
+     */
+    void gpioWrite_Bits_32_53_Set(int bits);
+
     /**
      * Sets a glitch filter on a GPIO.  (AKA Debounce)
      *
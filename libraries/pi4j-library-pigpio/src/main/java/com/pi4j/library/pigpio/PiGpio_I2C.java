@@ -1554,4 +1554,39 @@ public interface PiGpio_I2C {
     default int i2cWriteDevice(int handle, CharSequence data){
         return i2cWriteDevice(handle, data, data.length());
     }
+
+    /**
+     * This function executes a sequence of I2C operations.  The operations to be performed
+     * are specified by the contents of the command buffer; the returned data are written to
+     * the output buffer.  The sequence runs in a single call, i.e. a single round trip when
+     * using the socket interface.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param commands the encoded command sequence, terminated by an END (0) command
+     * @param commandLength the number of bytes of the command sequence
+     * @param buffer the buffer receiving the data read by the sequence
+     * @param offset the offset in the buffer at which to start storing data
+     * @param length the maximum number of bytes to read
+     * @return Returns the number of bytes read if OK, otherwise PI_BAD_HANDLE, PI_BAD_POINTER,
+     *         PI_BAD_I2C_CMD, PI_BAD_I2C_RLEN, PI_BAD_I2C_WLEN, or PI_BAD_I2C_SEG.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    int i2cZip(int handle, byte[] commands, int commandLength, byte[] buffer, int offset, int length);
+
+    /**
+     * This function executes an I2C transaction; the data read are stored in the transaction.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param transaction the I2C operations to perform
+     * @return Returns the number of bytes read if OK, otherwise PI_BAD_HANDLE, PI_BAD_POINTER,
+     *         PI_BAD_I2C_CMD, PI_BAD_I2C_RLEN, PI_BAD_I2C_WLEN, or PI_BAD_I2C_SEG.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    default int i2cZip(int handle, PiGpioI2CTransaction transaction){
+        byte[] buffer = transaction.resultBuffer();
+        int result = i2cZip(handle, transaction.commands(), transaction.commandLength(),
+                buffer, 0, transaction.readLength());
+        transaction.completed(result);
+        return result;
+    }
 }
@@ -0,0 +1,117 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpio_Script.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>PiGpio_Script interface.</p>
+ *
+ * <p>Scripts are stored in and executed by pigpio itself, so a control loop running as a script
+ * reacts to GPIO changes without a round trip to the JVM (or across the network when using the
+ * socket interface).  Script text can be written by hand or built with {@link PiGpioScript}.</p>
+ */
+public interface PiGpio_Script {
+
+    /**
+     * This function stores a null terminated script for later execution.
+     *
+     * @param script the text of a script
+     * @return a script id (&gt;= 0)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStoreScript">PIGPIO::gpioStoreScript</a>
+     */
+    int gpioStoreScript(String script);
+
+    /**
+     * This function stores a script for later execution.
+     *
+     * @param script a script built with {@link PiGpioScript}
+     * @return a script id (&gt;= 0)
+     * @see #gpioStoreScript(String)
+     */
+    default int gpioStoreScript(PiGpioScript script){
+        return gpioStoreScript(script.toString());
+    }
+
+    /**
+     * This function runs a stored script.
+     *
+     * The script parameters p0 to p9 are set to the given values; parameters that are
+     * not supplied keep their previous values.
+     *
+     * @param scriptId script id (&gt;= 0) as returned by {@link #gpioStoreScript(String)}
+     * @param params 0 to 10 parameters
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRunScript">PIGPIO::gpioRunScript</a>
+     */
+    void gpioRunScript(int scriptId, int ... params);
+
+    /**
+     * This function sets the parameters of a script.  The script may or may not be running.
+     *
+     * @param scriptId script id (&gt;= 0) as returned by {@link #gpioStoreScript(String)}
+     * @param params 0 to 10 parameters
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioUpdateScript">PIGPIO::gpioUpdateScript</a>
+     */
+    void gpioUpdateScript(int scriptId, int ... params);
+
+    /**
+     * This function returns the run status of a script as well as the current values of
+     * parameters 0 to 9.
+     *
+     * @param scriptId script id (&gt;= 0) as returned by {@link #gpioStoreScript(String)}
+     * @param params array to receive the current script parameters (may be null); up to 10 values are copied
+     * @return the script status
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    PiGpioScriptStatus gpioScriptStatus(int scriptId, int[] params);
+
+    /**
+     * This function returns the run status of a script.
+     *
+     * @param scriptId script id (&gt;= 0) as returned by {@link #gpioStoreScript(String)}
+     * @return the script status
+     * @see #gpioScriptStatus(int, int[])
+     */
+    default PiGpioScriptStatus gpioScriptStatus(int scriptId){
+        return gpioScriptStatus(scriptId, null);
+    }
+
+    /**
+     * This function stops a running script.
+     *
+     * @param scriptId script id (&gt;= 0) as returned by {@link #gpioStoreScript(String)}
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStopScript">PIGPIO::gpioStopScript</a>
+     */
+    void gpioStopScript(int scriptId);
+
+    /**
+     * This function deletes a stored script.
+     *
+     * @param scriptId script id (&gt;= 0) as returned by {@link #gpioStoreScript(String)}
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioDeleteScript">PIGPIO::gpioDeleteScript</a>
+     */
+    void gpioDeleteScript(int scriptId);
+}
@@ -507,4 +507,67 @@ public interface PiGpio_Serial {
      * @return Returns the number of bytes of data drained (&gt;=0) if OK, otherwise PI_BAD_HANDLE.
      */
     int serDrain(int handle);
+
+    // ------------------------------------------------------------------------------------
+    // BIT-BANG SERIAL READ :: ANY GPIO
+    // ------------------------------------------------------------------------------------
+
+    /**
+     * This function opens a GPIO for bit bang reading of serial data.  The GPIO is sampled by
+     * DMA and the received characters are buffered by the PIGPIO library (8192 bytes cyclic
+     * buffer) until read with gpioSerialRead.
+     *
+     * @param pin the GPIO to read from (0-31)
+     * @param baud the baud rate in bits per second (50-250000)
+     * @param dataBits the number of data bits per character (1-32)
+     * @return Returns 0 if OK, otherwise PI_BAD_USER_GPIO, PI_BAD_WAVE_BAUD, PI_BAD_DATABITS, or PI_GPIO_IN_USE.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadOpen">PIGPIO::gpioSerialReadOpen</a>
+     */
+    int gpioSerialReadOpen(int pin, int baud, int dataBits);
+
+    /**
+     * This function configures the level logic for bit bang serial reads; inverted serial
+     * logic reads a start bit as high and a stop bit as low.
+     *
+     * @param pin the GPIO opened with gpioSerialReadOpen (0-31)
+     * @param invert true to invert the serial logic
+     * @return Returns 0 if OK, otherwise PI_NOT_SERIAL_GPIO or PI_BAD_SER_INVERT.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadInvert">PIGPIO::gpioSerialReadInvert</a>
+     */
+    int gpioSerialReadInvert(int pin, boolean invert);
+
+    /**
+     * This function copies up to 'length' bytes of data read from the bit bang serial GPIO into the
+     * buffer.  For 1-8 data bits each character occupies one byte, for 9-16 data bits two bytes and
+     * for 17-32 data bits four bytes (little endian), so 'length' should be a multiple of that size.
+     *
+     * @param pin the GPIO opened with gpioSerialReadOpen (0-31)
+     * @param buffer the array to receive the data
+     * @param offset the starting position in the array
+     * @param length the maximum number of bytes to read
+     * @return Returns the number of bytes copied if OK, otherwise PI_BAD_USER_GPIO or PI_NOT_SERIAL_GPIO.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialRead">PIGPIO::gpioSerialRead</a>
+     */
+    int gpioSerialRead(int pin, byte[] buffer, int offset, int length);
+
+    /**
+     * This function copies the data read from the bit bang serial GPIO into the buffer.
+     *
+     * @param pin the GPIO opened with gpioSerialReadOpen (0-31)
+     * @param buffer the array to receive the data
+     * @return Returns the number of bytes copied if OK, otherwise PI_BAD_USER_GPIO or PI_NOT_SERIAL_GPIO.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialRead">PIGPIO::gpioSerialRead</a>
+     */
+    default int gpioSerialRead(int pin, byte[] buffer){
+        return gpioSerialRead(pin, buffer, 0, buffer.length);
+    }
+
+    /**
+     * This function closes a GPIO for bit bang reading of serial data.
+     *
+     * @param pin the GPIO opened with gpioSerialReadOpen (0-31)
+     * @return Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_NOT_SERIAL_GPIO.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadClose">PIGPIO::gpioSerialReadClose</a>
+     */
+    int gpioSerialReadClose(int pin);
 }
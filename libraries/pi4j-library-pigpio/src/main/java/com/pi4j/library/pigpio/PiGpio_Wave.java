@@ -0,0 +1,227 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpio_Wave.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>PiGpio_Wave interface.</p>
+ *
+ * <p>Waveforms are built from {@link PiGpioPulse} steps, uploaded to the daemon once with
+ * {@link #gpioWaveCreate()} and transmitted with DMA timing, so the edges are placed with
+ * microsecond accuracy regardless of the load on the host or the latency of the connection.</p>
+ */
+public interface PiGpio_Wave {
+
+    /**
+     * This function clears all waveforms and any data added by calls to the
+     * gpioWaveAdd* functions.
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveClear">PIGPIO::gpioWaveClear</a>
+     */
+    void gpioWaveClear();
+
+    /**
+     * This function starts a new empty waveform.
+     *
+     * You wouldn't normally need to call this function as it is automatically called
+     * after a waveform is created with {@link #gpioWaveCreate()}.
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddNew">PIGPIO::gpioWaveAddNew</a>
+     */
+    void gpioWaveAddNew();
+
+    /**
+     * This function adds a number of pulses to the current waveform.
+     *
+     * The pulses are interleaved in terms of time with any existing pulses in the
+     * current waveform; both the existing data and the new pulses are timed from
+     * the start of the waveform.
+     *
+     * @param pulses the pulses to add
+     * @return the new total number of pulses in the current waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    int gpioWaveAddGeneric(PiGpioPulse... pulses);
+
+    /**
+     * This function creates a waveform from the data provided by the prior calls to the
+     * gpioWaveAdd* functions. Upon success a wave id greater than or equal to 0 is returned.
+     *
+     * The data provided by the gpioWaveAdd* functions is consumed by this function.
+     *
+     * @return the new wave id
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+     */
+    int gpioWaveCreate();
+
+    /**
+     * This function deletes the waveform with id wave_id.
+     *
+     * Wave ids are allocated in order, 0, 1, 2, etc.
+     *
+     * @param waveId wave id (&gt;= 0) as returned by {@link #gpioWaveCreate()}
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveDelete">PIGPIO::gpioWaveDelete</a>
+     */
+    void gpioWaveDelete(int waveId);
+
+    /**
+     * This function transmits the waveform with id wave_id. The mode determines whether
+     * the waveform is sent once or cycles endlessly. The SYNC variants wait for the
+     * current waveform to reach the end of a cycle or finish before starting the new waveform.
+     *
+     * @param waveId wave id (&gt;= 0) as returned by {@link #gpioWaveCreate()}
+     * @param mode wave transmit mode
+     * @return the number of DMA control blocks in the waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    int gpioWaveTxSend(int waveId, PiGpioWaveMode mode);
+
+    /**
+     * This function transmits a chain of waveforms.
+     *
+     * The waves to be transmitted are specified by the contents of buf which contains an
+     * ordered list of wave ids and optional command codes and related data. Each wave is
+     * transmitted in the order specified; the command code 255 followed by 0 (loop start),
+     * 1 (loop repeat x + 256 * y times), 2 (delay x + 256 * y microseconds) or 3 (loop forever)
+     * allows waves to be repeated and delays to be inserted.
+     *
+     * @param buf the chain definition
+     * @param bufSize number of bytes of buf to use (0-600)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    void gpioWaveChain(byte[] buf, int bufSize);
+
+    /**
+     * This function transmits a chain of waveforms.
+     *
+     * @param buf the chain definition
+     * @see #gpioWaveChain(byte[], int)
+     */
+    default void gpioWaveChain(byte[] buf){
+        gpioWaveChain(buf, buf.length);
+    }
+
+    /**
+     * This function returns the id of the waveform currently being transmitted.
+     *
+     * @return the wave id, or {@link PiGpioConst#PI_WAVE_NOT_FOUND} or {@link PiGpioConst#PI_NO_TX_WAVE}
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxAt">PIGPIO::gpioWaveTxAt</a>
+     */
+    int gpioWaveTxAt();
+
+    /**
+     * This function checks to see if a waveform is currently being transmitted.
+     *
+     * @return true if a waveform is currently being transmitted
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxBusy">PIGPIO::gpioWaveTxBusy</a>
+     */
+    boolean gpioWaveTxBusy();
+
+    /**
+     * This function aborts the transmission of the current waveform.
+     *
+     * This function is intended to stop a waveform started in repeat mode.
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxStop">PIGPIO::gpioWaveTxStop</a>
+     */
+    void gpioWaveTxStop();
+
+    /**
+     * This function returns the length in microseconds of the current waveform.
+     *
+     * @return microseconds
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMicros">PIGPIO::gpioWaveGetMicros</a>
+     */
+    int gpioWaveGetMicros();
+
+    /**
+     * This function returns the length in microseconds of the longest waveform created
+     * since {@link #gpioWaveClear()} was called.
+     *
+     * @return microseconds
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighMicros">PIGPIO::gpioWaveGetHighMicros</a>
+     */
+    int gpioWaveGetHighMicros();
+
+    /**
+     * This function returns the maximum possible size of a waveform in microseconds.
+     *
+     * @return microseconds
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxMicros">PIGPIO::gpioWaveGetMaxMicros</a>
+     */
+    int gpioWaveGetMaxMicros();
+
+    /**
+     * This function returns the length in pulses of the current waveform.
+     *
+     * @return number of pulses
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetPulses">PIGPIO::gpioWaveGetPulses</a>
+     */
+    int gpioWaveGetPulses();
+
+    /**
+     * This function returns the length in pulses of the longest waveform created
+     * since {@link #gpioWaveClear()} was called.
+     *
+     * @return number of pulses
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighPulses">PIGPIO::gpioWaveGetHighPulses</a>
+     */
+    int gpioWaveGetHighPulses();
+
+    /**
+     * This function returns the maximum possible size of a waveform in pulses.
+     *
+     * @return number of pulses
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxPulses">PIGPIO::gpioWaveGetMaxPulses</a>
+     */
+    int gpioWaveGetMaxPulses();
+
+    /**
+     * This function returns the length in DMA control blocks of the current waveform.
+     *
+     * @return number of control blocks
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetCbs">PIGPIO::gpioWaveGetCbs</a>
+     */
+    int gpioWaveGetCbs();
+
+    /**
+     * This function returns the length in DMA control blocks of the longest waveform
+     * created since {@link #gpioWaveClear()} was called.
+     *
+     * @return number of control blocks
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighCbs">PIGPIO::gpioWaveGetHighCbs</a>
+     */
+    int gpioWaveGetHighCbs();
+
+    /**
+     * This function returns the maximum possible size of a waveform in DMA control blocks.
+     *
+     * @return number of control blocks
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxCbs">PIGPIO::gpioWaveGetMaxCbs</a>
+     */
+    int gpioWaveGetMaxCbs();
+}
@@ -0,0 +1,313 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioAsyncSocketImpl.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.pi4j.library.pigpio.*;
+
+import static com.pi4j.library.pigpio.PiGpioCmd.*;
+import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_HOST;
+import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_PORT;
+
+/**
+ * <p>PiGpioAsyncSocketImpl class.</p>
+ *
+ * <p>Socket implementation using a non-blocking {@link PiGpioChannel} instead of a blocking socket.
+ * All commands of the socket implementation are routed through the channel; the blocking methods
+ * wait for their own response only, so concurrent callers pipeline their requests over the single
+ * connection instead of serializing whole round trips.  GPIO notifications are received by a
+ * {@link PiGpioChannelMonitor} on the same selector, so instances sharing a selector share one I/O
+ * thread for both commands and notifications.  The blocking methods fail immediately when called on
+ * that I/O thread, as their response could never be read.</p>
+ */
+public class PiGpioAsyncSocketImpl extends PiGpioSocketImpl implements PiGpioAsync {
+
+    /** Time a blocking method waits for its response, in milliseconds. */
+    protected static final long DEFAULT_TIMEOUT = 500;
+
+    private final PiGpioSelector selector;
+    private final PiGpioMetrics metrics = new PiGpioMetrics();
+    private final Object channelLock = new Object();
+    private PiGpioChannel channel = null;
+
+    /**
+     * Creates an asynchronous PiGpio instance served by the shared selector.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioAsync} object.
+     */
+    public static PiGpioAsync newInstance(String host, int port) {
+        return new PiGpioAsyncSocketImpl(host, port, PiGpioSelector.shared());
+    }
+
+    /**
+     * Creates an asynchronous PiGpio instance served by the given selector.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param selector the selector serving the daemon connection
+     * @return a {@link com.pi4j.library.pigpio.PiGpioAsync} object.
+     */
+    public static PiGpioAsync newInstance(String host, int port, PiGpioSelector selector) {
+        return new PiGpioAsyncSocketImpl(host, port, selector);
+    }
+
+    /**
+     * Creates an asynchronous PiGpio instance connecting to the local system (127.0.0.1)
+     * using the default port (8888), served by the shared selector.
+     *
+     * @return a {@link com.pi4j.library.pigpio.PiGpioAsync} object.
+     */
+    public static PiGpioAsync newInstance() {
+        return newInstance(DEFAULT_HOST, DEFAULT_PORT);
+    }
+
+    /**
+     * DEFAULT CONSTRUCTOR
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param selector the selector serving the daemon connection
+     */
+    protected PiGpioAsyncSocketImpl(String host, int port, PiGpioSelector selector) {
+        super(host, port);
+        this.selector = selector;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Closes the daemon connection; the selector is left running.
+     */
+    @Override
+    public void gpioTerminate() {
+        super.gpioTerminate();
+        synchronized (channelLock) {
+            if(channel != null) channel.close();
+            channel = null;
+            connected = false;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected PiGpioSocketMonitor newMonitor() {
+        return new PiGpioChannelMonitor(this);
+    }
+
+    /**
+     * <p>selector.</p>
+     *
+     * @return the selector serving the daemon connections of this instance
+     */
+    protected PiGpioSelector selector() {
+        return selector;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PiGpioMetrics metrics() {
+        return metrics;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConnected() {
+        synchronized (channelLock) {
+            return channel != null && !channel.isClosed() && channel.connected().isDone();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void validateConnection() {
+        channel();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int sendCommandResult(PiGpioCmd cmd, int p1, int p2) {
+        return sendPacket(new PiGpioPacket(cmd, p1, p2)).result();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected PiGpioPacket sendPacket(PiGpioPacket tx) {
+        validateReady();
+        return await(channel().send(tx));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PiGpioBatch execute(PiGpioBatch batch) {
+        logger.trace("[BATCH] -> COMMANDS={}", batch.size());
+        if(batch.isEmpty()) return batch;
+        validateReady();
+        await(channel().send(batch));
+        logger.trace("[BATCH] <- COMMANDS={}; FAILURES={}", batch.size(), batch.failures());
+        return batch;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> connectAsync() {
+        return channel().connected();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<PiGpioPacket> sendAsync(PiGpioPacket packet) {
+        validateReady();
+        return channel().send(packet);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> commandAsync(PiGpioCmd cmd, int p1, int p2) {
+        return sendAsync(new PiGpioPacket(cmd, p1, p2)).thenApply(this::validated);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<PiGpioBatch> executeAsync(PiGpioBatch batch) {
+        if(batch.isEmpty()) return CompletableFuture.completedFuture(batch);
+        validateReady();
+        return channel().send(batch);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<PiGpioState> gpioReadAsync(int pin) {
+        validatePin(pin);
+        return commandAsync(READ, pin, 0).thenApply(PiGpioState::from);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioWriteAsync(int pin, PiGpioState state) {
+        validatePin(pin);
+        return commandAsync(WRITE, pin, state.value()).thenApply(result -> null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioRead_Bits_0_31Async() {
+        return sendAsync(new PiGpioPacket(BR1)).thenApply(PiGpioPacket::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> gpioRead_Bits_32_53Async() {
+        return sendAsync(new PiGpioPacket(BR2)).thenApply(PiGpioPacket::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioPWMAsync(int pin, int dutyCycle) {
+        validateUserPin(pin);
+        validateDutyCycle(dutyCycle);
+        return commandAsync(PWM, pin, dutyCycle).thenApply(result -> null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioServoAsync(int pin, int pulseWidth) {
+        validateUserPin(pin);
+        validatePulseWidth(pulseWidth);
+        return commandAsync(SERVO, pin, pulseWidth).thenApply(result -> null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadByteDataAsync(int handle, int register) {
+        validateHandle(handle);
+        validateI2cRegister(register);
+        return commandAsync(I2CRB, handle, register);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> i2cWriteByteDataAsync(int handle, int register, byte value) {
+        validateHandle(handle);
+        validateI2cRegister(register);
+        PiGpioPacket tx = new PiGpioPacket(I2CWB, handle, register).data(Byte.toUnsignedInt(value));
+        return sendAsync(tx).thenApply(rx -> {
+            validated(rx);
+            return null;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<byte[]> i2cReadDeviceAsync(int handle, int length) {
+        validateHandle(handle);
+        return sendAsync(new PiGpioPacket(I2CRD, handle, length)).thenApply(rx -> {
+            validated(rx);
+            return rx.data();
+        });
+    }
+
+    private int validated(PiGpioPacket rx) {
+        validateResult(rx.result());
+        return rx.result();
+    }
+
+    private PiGpioChannel channel() {
+        synchronized (channelLock) {
+            // (re)connect if never connected or the previous connection failed
+            if(channel == null || channel.isClosed()) {
+                channel = PiGpioChannel.open(selector, host, port, metrics);
+                connected = true;
+            }
+            return channel;
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        // the reply can only be read by the selector thread, waiting for it there always times out
+        if(selector.inSelectorThread() && !future.isDone())
+            throw new PiGpioException("blocking PIGPIO call to " + host + ":" + port + " on the selector I/O thread; use the asynchronous API");
+        try {
+            return future.get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | CompletionException e) {
+            if(e.getCause() instanceof PiGpioException) throw (PiGpioException) e.getCause();
+            throw new PiGpioException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new PiGpioException("no response from PIGPIO daemon at " + host + ":" + port + " within " + DEFAULT_TIMEOUT + " ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PiGpioException(e);
+        }
+    }
+}
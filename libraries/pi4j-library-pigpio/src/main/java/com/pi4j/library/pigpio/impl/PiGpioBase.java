@@ -223,6 +223,17 @@ public abstract class PiGpioBase implements PiGpio {
                     "; (supported range: " + min + " - " + max + ")");
     }
 
+    /**
+     * <p>validateScriptParams.</p>
+     *
+     * @param params an array of script parameters.
+     */
+    protected void validateScriptParams(int[] params) {
+        if(params.length > PI_MAX_SCRIPT_PARAMS)
+            throw new IllegalArgumentException("Too many script parameters [" + params.length +
+                    "]; max " + PI_MAX_SCRIPT_PARAMS + ".");
+    }
+
     /**
      * <p>validateResult.</p>
      *
@@ -262,7 +273,7 @@ public abstract class PiGpioBase implements PiGpio {
             PiGpioError err = PiGpioError.from(value);
             logger.warn("PIGPIO ERROR: {}; {}", err.name(), err.message());
             if(throwException) {
-                throw new PiGpioException("PIGPIO ERROR: " + err.name() + "; " + err.message());
+                throw new PiGpioException("PIGPIO ERROR: " + err.name() + "; " + err.message(), err);
             }
         }
     }
@@ -502,6 +513,40 @@ public abstract class PiGpioBase implements PiGpio {
         }
     }
 
+    /**
+     * <p>dispatchEvent.</p>
+     *
+     * Dispatches a pin change to the registered listeners without allocating an event object;
+     * listeners that do not override {@link PiGpioStateChangeListener#onChange(int, PiGpioState, long)}
+     * receive a {@link com.pi4j.library.pigpio.PiGpioStateChangeEvent} as before.
+     *
+     * @param pin the GPIO pin number
+     * @param state a {@link com.pi4j.library.pigpio.PiGpioState} object.
+     * @param tick the PIGPIO tick (microseconds) at which the change was sampled
+     */
+    protected void dispatchEvent(int pin, PiGpioState state, long tick) {
+        // dispatch event to each registered listener
+        for (PiGpioStateChangeListener listener : stateChangeListeners) {
+            try {
+                listener.onChange(pin, state, tick);
+            } catch (Exception e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+
+        // dispatch event to each registered pin listener
+        List<PiGpioStateChangeListener> listeners = pinChangeListeners.get(pin);
+        if (listeners != null) {
+            for (PiGpioStateChangeListener listener : listeners) {
+                try {
+                    listener.onChange(pin, state, tick);
+                } catch (Exception e) {
+                    logger.error(e.getMessage(), e);
+                }
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -0,0 +1,207 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioChannelMonitor.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.pi4j.library.pigpio.PiGpioChannel;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>PiGpioChannelMonitor class.</p>
+ *
+ * <p>Notification monitor of {@link PiGpioAsyncSocketImpl}.  Instead of a dedicated thread and blocking
+ * socket per daemon, the notification stream is a {@link PiGpioChannel} on the selector of the instance,
+ * so the reports of every daemon sharing a selector are decoded by its single I/O thread.  The pin changes
+ * are dispatched in report order by a dispatch thread of this monitor, so pin change listeners may block and
+ * issue commands to any daemon without stalling the I/O of the others.  The dispatch thread ends when idle.
+ * The pin set (NB) and the notification handle (NC) are managed over the command connection of the
+ * instance.</p>
+ */
+public class PiGpioChannelMonitor extends PiGpioSocketMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioChannelMonitor.class);
+
+    /** Delay before a lost notification stream is re-opened, in milliseconds. */
+    protected static final long RECONNECT_DELAY = 5000;
+
+    /** Time the idle dispatch thread is kept, in milliseconds. */
+    protected static final long DISPATCH_KEEP_ALIVE = 5000;
+
+    protected final PiGpioAsyncSocketImpl async;
+    private final ThreadPoolExecutor dispatcher;
+    private PiGpioChannel stream = null;
+    private boolean first = true;
+
+    /**
+     * <p>Constructor for PiGpioChannelMonitor.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.impl.PiGpioAsyncSocketImpl} object.
+     */
+    public PiGpioChannelMonitor(PiGpioAsyncSocketImpl piGpio) {
+        super(piGpio);
+        this.async = piGpio;
+        String name = "pigpio-notify-" + piGpio.host + ":" + piGpio.port;
+        this.dispatcher = new ThreadPoolExecutor(1, 1, DISPATCH_KEEP_ALIVE, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, name);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.dispatcher.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * <p>dispatcher.</p>
+     *
+     * @return the executor calling the pin change listeners of this monitor, in report order
+     */
+    protected ExecutorService dispatcher() {
+        return dispatcher;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        dispatcher.shutdown();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConnected() {
+        PiGpioChannel stream = this.stream;
+        return stream != null && !stream.isClosed();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void enable(int pin, boolean enabled) {
+
+        // update pin monitor
+        if(enabled) {
+            pinMonitor |= 1 << pin;
+        } else {
+            pinMonitor &= ~(1 << pin);
+        }
+
+        if(!isConnected()) {
+            if(pinMonitor != 0) open();
+        } else if(handle != null) {
+            // if the stream is still opening it sends the current pin set once the handle is known
+            selectPins(handle, pinMonitor);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected synchronized void disable() {
+        // reset pin monitoring flags
+        pinMonitor = 0b00000000000000000000000000000000;
+
+        PiGpioChannel stream = this.stream;
+        Integer handle = this.handle;
+        this.stream = null;
+        this.handle = null;
+        if(handle != null) {
+            logger.trace("[NOTIFY] disable pin notifications [NB] <ALL PINS 0-31>; [NC] HANDLE={}", handle);
+            selectPins(handle, 0);
+            async.sendAsync(new PiGpioPacket(PiGpioCmd.NC, handle));
+        }
+        if(stream != null) stream.close();
+    }
+
+    private void open() {
+        logger.debug("[NOTIFY] opening notification stream to: {}:{}", async.host, async.port);
+        PiGpioChannel stream = PiGpioChannel.open(async.selector(), async.host, async.port);
+        this.stream = stream;
+        this.first = true;
+
+        // the current pin states for pins 0-31 are received before the first report
+        stream.send(new PiGpioPacket(PiGpioCmd.BR1)).thenAcceptAsync(rx -> {
+            pinState = rx.p3();
+            logger.trace("[GPIO] current pin states [BR1] <{}>", Integer.toBinaryString(pinState));
+        }, dispatcher);
+        stream.openNotifications(this::report).thenAccept(handle -> {
+            logger.trace("[NOTIFY] enable socket notifications [NOIB]; HANDLE={}", handle);
+            synchronized (this) {
+                if(this.stream != stream) return;
+                this.handle = handle;
+                selectPins(handle, pinMonitor);
+            }
+        });
+        stream.closed().thenRun(() -> reopen(stream));
+    }
+
+    private synchronized void reopen(PiGpioChannel lost) {
+        if(this.stream != lost) return;
+        this.handle = null;
+        if(shutdown || pinMonitor == 0) return;
+        logger.debug("[NOTIFY] notification stream lost; will attempt to reconnect in {} ms", RECONNECT_DELAY);
+        CompletableFuture.delayedExecutor(RECONNECT_DELAY, TimeUnit.MILLISECONDS).execute(() -> {
+            synchronized (this) {
+                if(this.stream == lost && !shutdown && pinMonitor != 0) open();
+            }
+        });
+    }
+
+    private void selectPins(int handle, int pins) {
+        logger.trace("[NOTIFY] enable pin notifications [NB] <{}>", Integer.toBinaryString(pins));
+        async.sendAsync(new PiGpioPacket(PiGpioCmd.NB, handle, pins)).whenComplete((rx, e) -> {
+            if(e != null) logger.warn("[NOTIFY] failed to select notification pins: {}", e.getMessage());
+        });
+    }
+
+    private void report(int sequence, int flags, long tick, int levels) {
+        // count reports the daemon dropped (its sequence number is 16 bits)
+        if(!first) {
+            int lost = (sequence - lastSequence - 1) & 0xFFFF;
+            if(lost != 0) {
+                sequenceGaps += lost;
+                logger.warn("[NOTIFY] {} notification report(s) lost; SEQ={}; LAST={}", lost, sequence, lastSequence);
+            }
+        }
+        first = false;
+        lastSequence = sequence;
+
+        // never call the listeners on the selector thread; they may wait for replies only it can read
+        try {
+            dispatcher.execute(() -> process(flags, tick, levels));
+        } catch (RejectedExecutionException e) {
+            logger.trace("[NOTIFY] report discarded after shutdown; SEQ={}", sequence);
+        }
+    }
+}
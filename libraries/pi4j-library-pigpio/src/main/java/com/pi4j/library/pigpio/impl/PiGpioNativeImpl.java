@@ -29,16 +29,18 @@ package com.pi4j.library.pigpio.impl;
 
 import com.pi4j.library.pigpio.*;
 import com.pi4j.library.pigpio.internal.PIGPIO;
-import com.pi4j.library.pigpio.internal.PiGpioAlertCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Scanner;
 
 import static com.pi4j.library.pigpio.PiGpioConst.PI_IF_DISABLE_FIFO;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_MAX_SCRIPT_PARAMS;
 import static com.pi4j.library.pigpio.PiGpioConst.PI_IF_DISABLE_SOCK;
 import static com.pi4j.library.pigpio.PiGpioConst.PI_TIME_RELATIVE;
 
@@ -53,6 +55,14 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
 
     private int SPI_BUFFSIZ = 4096;
 
+    private static final int ALERT_BATCH_SIZE = 512;       // records drained per native call
+    private static final int ALERT_RECORD_SIZE = 12;       // gpio, level, tick as native order 32-bit words
+    private static final int ALERT_WAIT_MILLISECONDS = 1000;
+
+    private final Object alertDrainLock = new Object();
+    private Thread alertDrainThread = null;
+    private volatile boolean alertDrainRunning = false;
+
     private static final PiGpioNativeImpl instance;
     static {
         instance = new PiGpioNativeImpl();
@@ -147,6 +157,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
             closeAllOpenHandles();
         }
 
+        // stop draining GPIO alerts
+        stopAlertDrain();
+
         // terminate PiGPio library
         PIGPIO.gpioTerminate();
 
@@ -292,6 +305,92 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_LEVEL.
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    @Override
+    public int gpioRead_Bits_0_31() {
+        logger.trace("[GPIO::GET-BANK1] -> ");
+        validateReady();
+        // the levels are returned as an unsigned 32 bit value; a set bit 31 is not an error code
+        int result = PIGPIO.gpioRead_Bits_0_31();
+        logger.trace("[GPIO::GET-BANK1] <- LEVELS: 0x{}", Integer.toHexString(result));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_32_53">PIGPIO::gpioRead_Bits_32_53</a>
+     */
+    @Override
+    public int gpioRead_Bits_32_53() {
+        logger.trace("[GPIO::GET-BANK2] -> ");
+        validateReady();
+        // the levels are returned as an unsigned 32 bit value; a set bit 31 is not an error code
+        int result = PIGPIO.gpioRead_Bits_32_53();
+        logger.trace("[GPIO::GET-BANK2] <- LEVELS: 0x{}", Integer.toHexString(result));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    @Override
+    public void gpioWrite_Bits_0_31_Clear(int bits) {
+        logger.trace("[GPIO::CLEAR-BANK1] -> BITS: 0x{}", Integer.toHexString(bits));
+        validateReady();
+        int result = PIGPIO.gpioWrite_Bits_0_31_Clear(bits);
+        logger.trace("[GPIO::CLEAR-BANK1] <- BITS: 0x{}; SUCCESS={}", Integer.toHexString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Clear">PIGPIO::gpioWrite_Bits_32_53_Clear</a>
+     */
+    @Override
+    public void gpioWrite_Bits_32_53_Clear(int bits) {
+        logger.trace("[GPIO::CLEAR-BANK2] -> BITS: 0x{}", Integer.toHexString(bits));
+        validateReady();
+        int result = PIGPIO.gpioWrite_Bits_32_53_Clear(bits);
+        logger.trace("[GPIO::CLEAR-BANK2] <- BITS: 0x{}; SUCCESS={}", Integer.toHexString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    @Override
+    public void gpioWrite_Bits_0_31_Set(int bits) {
+        logger.trace("[GPIO::SET-BANK1] -> BITS: 0x{}", Integer.toHexString(bits));
+        validateReady();
+        int result = PIGPIO.gpioWrite_Bits_0_31_Set(bits);
+        logger.trace("[GPIO::SET-BANK1] <- BITS: 0x{}; SUCCESS={}", Integer.toHexString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Set">PIGPIO::gpioWrite_Bits_32_53_Set</a>
+     */
+    @Override
+    public void gpioWrite_Bits_32_53_Set(int bits) {
+        logger.trace("[GPIO::SET-BANK2] -> BITS: 0x{}", Integer.toHexString(bits));
+        validateReady();
+        int result = PIGPIO.gpioWrite_Bits_32_53_Set(bits);
+        logger.trace("[GPIO::SET-BANK2] <- BITS: 0x{}; SUCCESS={}", Integer.toHexString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -602,27 +701,87 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
 
     @Override
     public void gpioNotifications(int pin, boolean enabled) {
-        if(enabled)
-            PIGPIO.gpioSetAlertFunc(pin, gpioAlertCallbackHandler);
-        else
+        if(enabled) {
+            startAlertDrain();
+            PIGPIO.gpioSetAlertFuncBuffered(pin);
+        }
+        else {
             PIGPIO.gpioDisableAlertFunc(pin);
+        }
     }
 
     /**
-     * This handler is used internally to dispatch GPI state change events to Java consumers
-     * (*this method is only invoked from native JNI code*)
+     * <p>getAlertOverflowCount.</p>
+     *
+     * @return number of GPIO alerts discarded because the native alert buffer was full.
      */
-    private PiGpioAlertCallback gpioAlertCallbackHandler = new PiGpioAlertCallback() {
-        @Override
-        public void call(int pin, int state, long tick) {
-            try {
-                dispatchEvent(new PiGpioStateChangeEvent(pin, PiGpioState.from(state), tick));
+    public long getAlertOverflowCount() {
+        return PIGPIO.gpioAlertBufferOverflows();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Lost notifications are GPIO alerts discarded because the native alert buffer was full.
+     */
+    @Override
+    public long gpioNotificationsLost() {
+        return getAlertOverflowCount();
+    }
+
+    /**
+     * GPIO alerts are written by the native PIGPIO alert thread into a native ring buffer
+     * and drained here in batches by a single Java thread; this avoids attaching the PIGPIO
+     * thread to the JVM and allocating an event object for every edge.
+     */
+    private void startAlertDrain() {
+        synchronized (alertDrainLock) {
+            if (alertDrainThread != null) return;
+            alertDrainRunning = true;
+            alertDrainThread = new Thread(this::drainAlerts, "Pi4J.PIGPIO.ALERTS");
+            alertDrainThread.setDaemon(true);
+            alertDrainThread.start();
+        }
+    }
+
+    private void stopAlertDrain() {
+        Thread thread;
+        synchronized (alertDrainLock) {
+            thread = alertDrainThread;
+            if (thread == null) return;
+            alertDrainRunning = false;
+            alertDrainThread = null;
+        }
+        PIGPIO.gpioAlertBufferWakeup();
+        try {
+            thread.join(ALERT_WAIT_MILLISECONDS * 2L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainAlerts() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(ALERT_BATCH_SIZE * ALERT_RECORD_SIZE).order(ByteOrder.nativeOrder());
+        long overflows = 0;
+        while (alertDrainRunning) {
+            int count = PIGPIO.gpioAlertBufferRead(buffer, ALERT_WAIT_MILLISECONDS);
+            if (count < 0) {
+                logger.error("[ALERTS] <- unable to read native alert buffer; {}", PiGpioError.from(count));
+                return;
             }
-            catch (Exception e){
-                logger.error(e.getMessage(), e);
+            for (int offset = 0; offset < count * ALERT_RECORD_SIZE; offset += ALERT_RECORD_SIZE) {
+                int pin = buffer.getInt(offset);
+                int level = buffer.getInt(offset + 4);
+                long tick = buffer.getInt(offset + 8) & 0xFFFFFFFFL;
+                dispatchEvent(pin, PiGpioState.from(level), tick);
+            }
+            long dropped = PIGPIO.gpioAlertBufferOverflows();
+            if (dropped != overflows) {
+                logger.warn("[ALERTS] -- {} GPIO alert(s) discarded; native alert buffer full", dropped - overflows);
+                overflows = dropped;
             }
         }
-    };
+    }
 
     // *****************************************************************************************************
     // *****************************************************************************************************
@@ -696,6 +855,419 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
     }
 
 
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // WAVES IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveClear">PIGPIO::gpioWaveClear</a>
+     */
+    @Override
+    public void gpioWaveClear() {
+        logger.trace("[WAVE::CLEAR] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveClear();
+        logger.trace("[WAVE::CLEAR] <- SUCCESS={}", result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_NO_MEMORY.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddNew">PIGPIO::gpioWaveAddNew</a>
+     */
+    @Override
+    public void gpioWaveAddNew() {
+        logger.trace("[WAVE::NEW] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveAddNew();
+        logger.trace("[WAVE::NEW] <- SUCCESS={}", result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_NO_MEMORY.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    @Override
+    public int gpioWaveAddGeneric(PiGpioPulse... pulses) {
+        logger.trace("[WAVE::ADD] -> PULSES: {}", pulses.length);
+        validateReady();
+        int[] triplets = new int[pulses.length * 3];
+        for(int i = 0; i < pulses.length; i++){
+            triplets[i*3]   = pulses[i].gpioOn();
+            triplets[i*3+1] = pulses[i].gpioOff();
+            triplets[i*3+2] = pulses[i].usDelay();
+        }
+        int result = PIGPIO.gpioWaveAddGeneric(pulses.length, triplets);
+        logger.trace("[WAVE::ADD] <- PULSES: {}; SUCCESS={}", result, result >= 0);
+
+        // Returns the new total number of pulses in the current waveform if OK,
+        // otherwise PI_TOO_MANY_PULSES.
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+     */
+    @Override
+    public int gpioWaveCreate() {
+        logger.trace("[WAVE::CREATE] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveCreate();
+        logger.trace("[WAVE::CREATE] <- WAVE: {}; SUCCESS={}", result, result >= 0);
+
+        // Returns the new waveform id if OK, otherwise PI_EMPTY_WAVEFORM,
+        // PI_NO_WAVEFORM_ID, PI_TOO_MANY_CBS or PI_TOO_MANY_OOL.
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveDelete">PIGPIO::gpioWaveDelete</a>
+     */
+    @Override
+    public void gpioWaveDelete(int waveId) {
+        logger.trace("[WAVE::DELETE] -> WAVE: {}", waveId);
+        validateReady();
+        int result = PIGPIO.gpioWaveDelete(waveId);
+        logger.trace("[WAVE::DELETE] <- WAVE: {}; SUCCESS={}", waveId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_WAVE_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    @Override
+    public int gpioWaveTxSend(int waveId, PiGpioWaveMode mode) {
+        logger.trace("[WAVE::SEND] -> WAVE: {}; MODE: {}", waveId, mode);
+        validateReady();
+        Objects.requireNonNull(mode, "mode");
+        int result = PIGPIO.gpioWaveTxSend(waveId, mode.value());
+        logger.trace("[WAVE::SEND] <- WAVE: {}; CBS: {}; SUCCESS={}", waveId, result, result >= 0);
+
+        // Returns the number of DMA control blocks in the waveform if OK,
+        // otherwise PI_BAD_WAVE_ID, or PI_BAD_WAVE_MODE.
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    @Override
+    public void gpioWaveChain(byte[] buf, int bufSize) {
+        logger.trace("[WAVE::CHAIN] -> LENGTH: {}", bufSize);
+        validateReady();
+        Objects.checkFromIndexSize(0, bufSize, buf.length);
+        int result = PIGPIO.gpioWaveChain(buf, bufSize);
+        logger.trace("[WAVE::CHAIN] <- LENGTH: {}; SUCCESS={}", bufSize, result >= 0);
+
+        // Returns 0 if OK, otherwise PI_CHAIN_NESTING, PI_CHAIN_LOOP_CNT, PI_BAD_CHAIN_LOOP,
+        // PI_BAD_CHAIN_CMD, PI_CHAIN_COUNTER, PI_BAD_CHAIN_DELAY, PI_CHAIN_TOO_BIG, or PI_BAD_WAVE_ID.
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxAt">PIGPIO::gpioWaveTxAt</a>
+     */
+    @Override
+    public int gpioWaveTxAt() {
+        logger.trace("[WAVE::AT] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveTxAt();
+        logger.trace("[WAVE::AT] <- WAVE: {}", result);
+
+        // Returns the current transmitting wave id, PI_WAVE_NOT_FOUND (9998)
+        // or PI_NO_TX_WAVE (9999).
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxBusy">PIGPIO::gpioWaveTxBusy</a>
+     */
+    @Override
+    public boolean gpioWaveTxBusy() {
+        logger.trace("[WAVE::BUSY] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveTxBusy();
+        logger.trace("[WAVE::BUSY] <- BUSY: {}", result);
+        validateResult(result);  // Returns 1 if a waveform is currently being transmitted, otherwise 0.
+        return result > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxStop">PIGPIO::gpioWaveTxStop</a>
+     */
+    @Override
+    public void gpioWaveTxStop() {
+        logger.trace("[WAVE::STOP] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveTxStop();
+        logger.trace("[WAVE::STOP] <- SUCCESS={}", result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMicros">PIGPIO::gpioWaveGetMicros</a>
+     */
+    @Override
+    public int gpioWaveGetMicros() {
+        logger.trace("[WAVE::MICROS] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveGetMicros();
+        logger.trace("[WAVE::MICROS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighMicros">PIGPIO::gpioWaveGetHighMicros</a>
+     */
+    @Override
+    public int gpioWaveGetHighMicros() {
+        logger.trace("[WAVE::HIGH-MICROS] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveGetHighMicros();
+        logger.trace("[WAVE::HIGH-MICROS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxMicros">PIGPIO::gpioWaveGetMaxMicros</a>
+     */
+    @Override
+    public int gpioWaveGetMaxMicros() {
+        logger.trace("[WAVE::MAX-MICROS] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveGetMaxMicros();
+        logger.trace("[WAVE::MAX-MICROS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetPulses">PIGPIO::gpioWaveGetPulses</a>
+     */
+    @Override
+    public int gpioWaveGetPulses() {
+        logger.trace("[WAVE::PULSES] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveGetPulses();
+        logger.trace("[WAVE::PULSES] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighPulses">PIGPIO::gpioWaveGetHighPulses</a>
+     */
+    @Override
+    public int gpioWaveGetHighPulses() {
+        logger.trace("[WAVE::HIGH-PULSES] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveGetHighPulses();
+        logger.trace("[WAVE::HIGH-PULSES] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxPulses">PIGPIO::gpioWaveGetMaxPulses</a>
+     */
+    @Override
+    public int gpioWaveGetMaxPulses() {
+        logger.trace("[WAVE::MAX-PULSES] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveGetMaxPulses();
+        logger.trace("[WAVE::MAX-PULSES] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetCbs">PIGPIO::gpioWaveGetCbs</a>
+     */
+    @Override
+    public int gpioWaveGetCbs() {
+        logger.trace("[WAVE::CBS] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveGetCbs();
+        logger.trace("[WAVE::CBS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighCbs">PIGPIO::gpioWaveGetHighCbs</a>
+     */
+    @Override
+    public int gpioWaveGetHighCbs() {
+        logger.trace("[WAVE::HIGH-CBS] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveGetHighCbs();
+        logger.trace("[WAVE::HIGH-CBS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxCbs">PIGPIO::gpioWaveGetMaxCbs</a>
+     */
+    @Override
+    public int gpioWaveGetMaxCbs() {
+        logger.trace("[WAVE::MAX-CBS] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveGetMaxCbs();
+        logger.trace("[WAVE::MAX-CBS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // SCRIPTS IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStoreScript">PIGPIO::gpioStoreScript</a>
+     */
+    @Override
+    public int gpioStoreScript(String script) {
+        logger.trace("[SCRIPT::STORE] -> LENGTH: {}", script.length());
+        validateReady();
+        int result = PIGPIO.gpioStoreScript(script);
+        logger.trace("[SCRIPT::STORE] <- ID: {}; SUCCESS={}", result, result >= 0);
+
+        // Returns a script id if the script is valid, otherwise PI_BAD_SCRIPT.
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRunScript">PIGPIO::gpioRunScript</a>
+     */
+    @Override
+    public void gpioRunScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::RUN] -> ID: {}; PARAMS: {}", scriptId, params.length);
+        validateReady();
+        validateScriptParams(params);
+        int result = PIGPIO.gpioRunScript(scriptId, params.length, params);
+        logger.trace("[SCRIPT::RUN] <- ID: {}; SUCCESS={}", scriptId, result >= 0);
+
+        // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID, or PI_TOO_MANY_PARAM.
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioUpdateScript">PIGPIO::gpioUpdateScript</a>
+     */
+    @Override
+    public void gpioUpdateScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::UPDATE] -> ID: {}; PARAMS: {}", scriptId, params.length);
+        validateReady();
+        validateScriptParams(params);
+        int result = PIGPIO.gpioUpdateScript(scriptId, params.length, params);
+        logger.trace("[SCRIPT::UPDATE] <- ID: {}; SUCCESS={}", scriptId, result >= 0);
+
+        // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID, or PI_TOO_MANY_PARAM.
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    @Override
+    public PiGpioScriptStatus gpioScriptStatus(int scriptId, int[] params) {
+        logger.trace("[SCRIPT::STATUS] -> ID: {}", scriptId);
+        validateReady();
+        int[] current = new int[PI_MAX_SCRIPT_PARAMS];
+        int result = PIGPIO.gpioScriptStatus(scriptId, current);
+        logger.trace("[SCRIPT::STATUS] <- ID: {}; STATUS: {}", scriptId, result);
+        validateResult(result);  // Returns the script status if OK, otherwise PI_BAD_SCRIPT_ID.
+        if(params != null)
+            System.arraycopy(current, 0, params, 0, Math.min(params.length, current.length));
+        return PiGpioScriptStatus.from(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStopScript">PIGPIO::gpioStopScript</a>
+     */
+    @Override
+    public void gpioStopScript(int scriptId) {
+        logger.trace("[SCRIPT::STOP] -> ID: {}", scriptId);
+        validateReady();
+        int result = PIGPIO.gpioStopScript(scriptId);
+        logger.trace("[SCRIPT::STOP] <- ID: {}; SUCCESS={}", scriptId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioDeleteScript">PIGPIO::gpioDeleteScript</a>
+     */
+    @Override
+    public void gpioDeleteScript(int scriptId) {
+        logger.trace("[SCRIPT::DELETE] -> ID: {}", scriptId);
+        validateReady();
+        int result = PIGPIO.gpioDeleteScript(scriptId);
+        logger.trace("[SCRIPT::DELETE] <- ID: {}; SUCCESS={}", scriptId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID.
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // DELAY/SLEEP/TIMER IMPLEMENTATION
@@ -1181,6 +1753,32 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Executes a sequence of I2C operations in a single call.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    @Override
+    public int i2cZip(int handle, byte[] commands, int commandLength, byte[] buffer, int offset, int length) {
+        logger.trace("[I2C::ZIP] -> [{}]; I2C Transaction [{} command bytes; {} read bytes]", handle, commandLength, length);
+        validateReady();
+        validateHandle(handle);
+        Objects.checkFromIndexSize(0, commandLength, commands.length);
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        int result;
+        if(offset == 0) {
+            result = PIGPIO.i2cZip(handle, commands, commandLength, buffer, length);
+        } else {
+            byte[] temp = new byte[length];
+            result = PIGPIO.i2cZip(handle, commands, commandLength, temp, length);
+            if(result > 0) System.arraycopy(temp, 0, buffer, offset, Math.min(result, length));
+        }
+        logger.trace("[I2C::ZIP] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, (result>=0), result);
+        validateResult(result, false);
+        return result;
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // SERIAL IMPLEMENTATION
@@ -1349,6 +1947,75 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * This function opens a GPIO for bit bang reading of serial data.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadOpen">PIGPIO::gpioSerialReadOpen</a>
+     */
+    @Override
+    public int gpioSerialReadOpen(int pin, int baud, int dataBits) {
+        logger.trace("[SERIAL::BB-OPEN] -> PIN={}; BAUD={}; DATA-BITS={}", pin, baud, dataBits);
+        validateReady();
+        validateUserPin(pin);
+        int result = PIGPIO.gpioSerialReadOpen(pin, baud, dataBits);
+        logger.trace("[SERIAL::BB-OPEN] <- PIN={}; SUCCESS={}", pin, (result>=0));
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function configures the level logic for bit bang serial reads.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadInvert">PIGPIO::gpioSerialReadInvert</a>
+     */
+    @Override
+    public int gpioSerialReadInvert(int pin, boolean invert) {
+        logger.trace("[SERIAL::BB-INVERT] -> PIN={}; INVERT={}", pin, invert);
+        validateReady();
+        validateUserPin(pin);
+        int result = PIGPIO.gpioSerialReadInvert(pin, invert ? 1 : 0);
+        logger.trace("[SERIAL::BB-INVERT] <- PIN={}; SUCCESS={}", pin, (result>=0));
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function copies up to 'length' bytes of data read from the bit bang serial GPIO into the buffer.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialRead">PIGPIO::gpioSerialRead</a>
+     */
+    @Override
+    public int gpioSerialRead(int pin, byte[] buffer, int offset, int length) {
+        logger.trace("[SERIAL::BB-READ] -> PIN={}; Serial Read [{} bytes]", pin, length);
+        validateReady();
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        validateUserPin(pin);
+        int result = PIGPIO.gpioSerialRead(pin, buffer, offset, length);
+        logger.trace("[SERIAL::BB-READ] <- PIN={}; SUCCESS={}; BYTES-READ={}", pin, (result>=0), result);
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function closes a GPIO for bit bang reading of serial data.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadClose">PIGPIO::gpioSerialReadClose</a>
+     */
+    @Override
+    public int gpioSerialReadClose(int pin) {
+        logger.trace("[SERIAL::BB-CLOSE] -> PIN={}", pin);
+        validateReady();
+        validateUserPin(pin);
+        int result = PIGPIO.gpioSerialReadClose(pin);
+        logger.trace("[SERIAL::BB-CLOSE] <- PIN={}; SUCCESS={}", pin, (result>=0));
+        validateResult(result);
+        return result;
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // SPI IMPLEMENTATION
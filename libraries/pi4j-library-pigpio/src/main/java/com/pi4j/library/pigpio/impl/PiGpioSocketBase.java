@@ -30,11 +30,18 @@ package com.pi4j.library.pigpio.impl;
 import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_HOST;
 import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_PORT;
 
+import java.io.BufferedInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioBatch;
 import com.pi4j.library.pigpio.PiGpioCmd;
 import com.pi4j.library.pigpio.PiGpioException;
 import com.pi4j.library.pigpio.PiGpioPacket;
@@ -58,6 +65,16 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
     protected boolean connected = false;
     protected Socket socket = null;
 
+    /** Maximum number of batched commands sent before their replies are read. */
+    protected static final int PIPELINE_DEPTH = 128;
+
+    // guards the command socket, its streams and the reusable request/response buffers
+    private final Object lock = new Object();
+    private InputStream input = null;
+    private OutputStream output = null;
+    private final ByteBuffer tx = ByteBuffer.allocate(PiGpioBatch.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteBuffer rx = ByteBuffer.allocate(PiGpioBatch.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
     // TODO :: IMPLEMENT CONNECTION MONITOR TO PROACTIVELY DETECT SOCKET DISCONNECTS AND AUTO-RETRY TO CONNECT IN BACKGROUND THREAD
 
     /**
@@ -73,7 +90,16 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
         this.port = port;
         this.connected = false;
         this.initialized = false;
-        this.monitor = new PiGpioSocketMonitor(this);
+        this.monitor = newMonitor();
+    }
+
+    /**
+     * Create the monitor receiving the GPIO notifications of this instance; called from the constructor.
+     *
+     * @return a {@link com.pi4j.library.pigpio.impl.PiGpioSocketMonitor} object.
+     */
+    protected PiGpioSocketMonitor newMonitor() {
+        return new PiGpioSocketMonitor(this);
     }
 
     /**
@@ -138,13 +164,17 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
         }
 
         // shutdown connected socket
-        if(socket != null && socket.isConnected())
-            try {
-                socket.close();
-            }
-            catch (IOException e) {
-                throw new PiGpioException(e);
-            }
+        synchronized (lock) {
+            if(socket != null && socket.isConnected())
+                try {
+                    socket.close();
+                }
+                catch (IOException e) {
+                    throw new PiGpioException(e);
+                }
+            input = null;
+            output = null;
+        }
 
         // clear initialized flag
         this.initialized = false;
@@ -182,6 +212,69 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
     protected PiGpioPacket sendCommand(PiGpioCmd cmd, int p1, int p2) {
         return sendPacket(new PiGpioPacket(cmd, p1, p2));
     }
+    /**
+     * <p>sendCommandResult.</p>
+     *
+     * Sends a command and returns its result (P3) without allocating a packet for the
+     * request or the response.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @return the result (P3) returned by the daemon
+     */
+    protected int sendCommandResult(PiGpioCmd cmd, int p1, int p2) {
+        // commands with extended replies need the packet based decoder
+        if(cmd.extendedReply()) return sendCommand(cmd, p1, p2).result();
+
+        validateReady();
+        synchronized (lock) {
+            try {
+                tx.clear();
+                tx.putInt(cmd.value()).putInt(p1).putInt(p2).putInt(0);
+                if(logger.isTraceEnabled()) logger.trace("[TX] -> CMD={}({}); P1={}; P2={}", cmd.name(), cmd.value(), p1, p2);
+                output.write(tx.array(), 0, PiGpioBatch.HEADER_SIZE);
+                output.flush();
+
+                if(input.readNBytes(rx.array(), 0, PiGpioBatch.HEADER_SIZE) < PiGpioBatch.HEADER_SIZE)
+                    throw new EOFException("connection closed while reading PIGPIO response");
+                int result = rx.getInt(12);
+                if(logger.isTraceEnabled()) logger.trace("[RX] <- CMD={}({}); P1={}; P2={}; P3={}", cmd.name(), cmd.value(), p1, p2, result);
+                return result;
+            } catch (IOException e) {
+                throw disconnected(e);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The batch is pipelined: up to PIPELINE_DEPTH commands are sent in a single write
+     * before their replies are read, so the batch costs one network round trip per
+     * PIPELINE_DEPTH commands instead of one per command.
+     */
+    @Override
+    public PiGpioBatch execute(PiGpioBatch batch) {
+        logger.trace("[BATCH] -> COMMANDS={}", batch.size());
+        if(batch.isEmpty()) return batch;
+        validateReady();
+        synchronized (lock) {
+            try {
+                for(int from = 0; from < batch.size(); from += PIPELINE_DEPTH) {
+                    int to = Math.min(from + PIPELINE_DEPTH, batch.size());
+                    batch.send(from, to, output);
+                    output.flush();
+                    batch.receive(from, to, input);
+                }
+            } catch (IOException e) {
+                throw disconnected(e);
+            }
+        }
+        logger.trace("[BATCH] <- COMMANDS={}; FAILURES={}", batch.size(), batch.failures());
+        return batch;
+    }
+
     /**
      * <p>sendPacket.</p>
      *
@@ -200,33 +293,59 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
      * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
      */
     protected PiGpioPacket sendPacket(PiGpioPacket tx, Socket sck) {
+        // the command socket uses the shared buffered streams; other sockets
+        // (e.g. the notification monitor) are used unbuffered
+        if(sck == this.socket) {
+            synchronized (lock) {
+                try {
+                    return transmit(tx, input, output);
+                } catch (IOException e) {
+                    throw disconnected(e);
+                }
+            }
+        }
         try {
             try {
-                // get socket streams
-                var in = sck.getInputStream();
-                var out = sck.getOutputStream();
-
-                // transmit packet
-                logger.trace("[TX] -> {}", tx.toString());
-                out.write(PiGpioPacket.encode(tx));
-                out.flush();
-
-                // read receive packet
-                PiGpioPacket rx = PiGpioPacket.decode(in);
-                logger.trace("[RX] <- {}", rx.toString());
-                return rx;
+                return transmit(tx, sck.getInputStream(), sck.getOutputStream());
             } catch (SocketException se) {
-                // socket is no longer connected
-                this.connected = false;
-                socket.close();
-                socket = null;
-                throw new PiGpioException(se);
+                throw disconnected(se);
             }
         } catch (IOException e) {
             throw new PiGpioException(e);
         }
     }
 
+    private PiGpioPacket transmit(PiGpioPacket packet, InputStream in, OutputStream out) throws IOException {
+        // transmit packet
+        if(logger.isTraceEnabled()) logger.trace("[TX] -> {}", packet.toString());
+        out.write(PiGpioPacket.encode(packet));
+        out.flush();
+
+        // read receive packet
+        PiGpioPacket rx = PiGpioPacket.decode(in);
+        if(logger.isTraceEnabled()) logger.trace("[RX] <- {}", rx.toString());
+        return rx;
+    }
+
+    private PiGpioException disconnected(IOException cause) {
+        // the socket is no longer connected, or a failed exchange left its replies out of step with the
+        // commands (e.g. after a read timeout); drop it so the next command reconnects
+        synchronized (lock) {
+            this.connected = false;
+            if(socket != null) {
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    cause.addSuppressed(e);
+                }
+            }
+            socket = null;
+            input = null;
+            output = null;
+        }
+        return new PiGpioException(cause);
+    }
+
     /** {@inheritDoc} */
     public void gpioNotifications(int pin, boolean enabled){
         logger.trace("[GPIO] -> {} Pin [{}] Notifications", (enabled ? "ENABLE" : "DISABLE"), pin);
@@ -235,6 +354,17 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
         logger.trace("[GPIO] <- Pin [PIN {}] Notifications [{}]", pin, (enabled ? "ENABLED" : "DISABLED"));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Lost notifications are detected by gaps in the sequence numbers of the
+     * notification reports sent by the daemon.
+     */
+    @Override
+    public long gpioNotificationsLost() {
+        return this.monitor.getSequenceGapCount();
+    }
+
     /**
      * <p>disableNotifications.</p>
      */
@@ -258,18 +388,23 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
      * <p>validateConnection.</p>
      */
     protected void validateConnection() {
-        // if not connected, attempt to reconnect
-        if(socket == null || !this.connected){
-            // attempt to connect to PiGpio Daemon on remote Raspberry Pi
-            try {
-                this.socket = new Socket(host, port);
-                this.socket.setSoTimeout(500);
-            } catch (IOException e) {
-                throw new PiGpioException(e);
-            }
+        synchronized (lock) {
+            // if not connected, attempt to reconnect
+            if(socket == null || !this.connected){
+                // attempt to connect to PiGpio Daemon on remote Raspberry Pi
+                try {
+                    this.socket = new Socket(host, port);
+                    this.socket.setSoTimeout(500);
+                    this.socket.setTcpNoDelay(true);
+                    this.input = new BufferedInputStream(this.socket.getInputStream());
+                    this.output = this.socket.getOutputStream();
+                } catch (IOException e) {
+                    throw new PiGpioException(e);
+                }
 
-            // update connection status flag
-            this.connected = this.socket.isConnected();
+                // update connection status flag
+                this.connected = this.socket.isConnected();
+            }
         }
 //            throw new IOException("PIGPIO NOT CONNECTED TO REMOTE HOST [" + this.host + ":" + this.port +
 //                    "]; make sure the PiGpio Daemon is running on the remote Raspberry Pi and the host is accessible.");
@@ -31,6 +31,8 @@ import com.pi4j.library.pigpio.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Objects;
 
 import static com.pi4j.library.pigpio.PiGpioCmd.*;
@@ -93,14 +95,14 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
     }
 
     /**
-     * DEFAULT PRIVATE CONSTRUCTOR
+     * DEFAULT CONSTRUCTOR
      *
      * Connects to a user specified socket hostname/ip address and port.
      *
      * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
      * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
      */
-    private PiGpioSocketImpl(String host, int port) {
+    protected PiGpioSocketImpl(String host, int port) {
         super(host, port);
     }
 
@@ -220,9 +222,9 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[GPIO::GET] -> PIN: {}", pin);
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(READ, pin);
+        int result = sendCommandResult(READ, pin, 0);
         validateResult(result); // Returns the GPIO level if OK, otherwise PI_BAD_GPIO.
-        PiGpioState state = PiGpioState.from(result.p3()); // result value stored in P3
+        PiGpioState state = PiGpioState.from(result); // result value stored in P3
         logger.trace("[GPIO::GET] <- PIN: {} is {}({})", pin, state.name(), state.value());
         return state;
     }
@@ -238,11 +240,97 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[GPIO::SET] -> PIN: {}; {}({});", pin, state.name(), state.value());
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(WRITE, pin, state.value());
-        logger.trace("[GPIO::SET] <- PIN: {}; {}({}); SUCCESS={}",  pin, state.name(), state.value(), result.success());
+        int result = sendCommandResult(WRITE, pin, state.value());
+        logger.trace("[GPIO::SET] <- PIN: {}; {}({}); SUCCESS={}",  pin, state.name(), state.value(), result >= 0);
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_LEVEL.
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    @Override
+    public int gpioRead_Bits_0_31() {
+        logger.trace("[GPIO::GET-BANK1] -> ");
+        validateReady();
+        // the levels are returned as an unsigned 32 bit value; a set bit 31 is not an error code
+        int result = sendCommandResult(BR1, 0, 0);
+        logger.trace("[GPIO::GET-BANK1] <- LEVELS: 0x{}", Integer.toHexString(result));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_32_53">PIGPIO::gpioRead_Bits_32_53</a>
+     */
+    @Override
+    public int gpioRead_Bits_32_53() {
+        logger.trace("[GPIO::GET-BANK2] -> ");
+        validateReady();
+        // the levels are returned as an unsigned 32 bit value; a set bit 31 is not an error code
+        int result = sendCommandResult(BR2, 0, 0);
+        logger.trace("[GPIO::GET-BANK2] <- LEVELS: 0x{}", Integer.toHexString(result));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    @Override
+    public void gpioWrite_Bits_0_31_Clear(int bits) {
+        logger.trace("[GPIO::CLEAR-BANK1] -> BITS: 0x{}", Integer.toHexString(bits));
+        validateReady();
+        int result = sendCommandResult(BC1, bits, 0);
+        logger.trace("[GPIO::CLEAR-BANK1] <- BITS: 0x{}; SUCCESS={}", Integer.toHexString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Clear">PIGPIO::gpioWrite_Bits_32_53_Clear</a>
+     */
+    @Override
+    public void gpioWrite_Bits_32_53_Clear(int bits) {
+        logger.trace("[GPIO::CLEAR-BANK2] -> BITS: 0x{}", Integer.toHexString(bits));
+        validateReady();
+        int result = sendCommandResult(BC2, bits, 0);
+        logger.trace("[GPIO::CLEAR-BANK2] <- BITS: 0x{}; SUCCESS={}", Integer.toHexString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    @Override
+    public void gpioWrite_Bits_0_31_Set(int bits) {
+        logger.trace("[GPIO::SET-BANK1] -> BITS: 0x{}", Integer.toHexString(bits));
+        validateReady();
+        int result = sendCommandResult(BS1, bits, 0);
+        logger.trace("[GPIO::SET-BANK1] <- BITS: 0x{}; SUCCESS={}", Integer.toHexString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Set">PIGPIO::gpioWrite_Bits_32_53_Set</a>
+     */
+    @Override
+    public void gpioWrite_Bits_32_53_Set(int bits) {
+        logger.trace("[GPIO::SET-BANK2] -> BITS: 0x{}", Integer.toHexString(bits));
+        validateReady();
+        int result = sendCommandResult(BS2, bits, 0);
+        logger.trace("[GPIO::SET-BANK2] <- BITS: 0x{}; SUCCESS={}", Integer.toHexString(bits), result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -326,8 +414,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         validateDutyCycle(dutyCycle);
-        PiGpioPacket result = sendCommand(PWM, pin, dutyCycle);
-        logger.trace("[PWM::SET] <- PIN: {}; DUTY-CYCLE={}; SUCCESS={}",  pin, dutyCycle, result.success());
+        int result = sendCommandResult(PWM, pin, dutyCycle);
+        logger.trace("[PWM::SET] <- PIN: {}; DUTY-CYCLE={}; SUCCESS={}",  pin, dutyCycle, result >= 0);
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_LEVEL.
     }
 
@@ -605,8 +693,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         validatePulseWidth(pulseWidth);
-        PiGpioPacket result = sendCommand(SERVO, pin, pulseWidth);
-        logger.trace("[SERVO::SET] <- PIN: {}; PULSE-WIDTH={}; SUCCESS={}",  pin, pulseWidth, result.success());
+        int result = sendCommandResult(SERVO, pin, pulseWidth);
+        logger.trace("[SERVO::SET] <- PIN: {}; PULSE-WIDTH={}; SUCCESS={}",  pin, pulseWidth, result >= 0);
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_PULSEWIDTH.
     }
 
@@ -631,6 +719,432 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
     }
 
 
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // WAVES IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveClear">PIGPIO::gpioWaveClear</a>
+     */
+    @Override
+    public void gpioWaveClear() {
+        logger.trace("[WAVE::CLEAR] -> ");
+        validateReady();
+        int result = sendCommandResult(WVCLR, 0, 0);
+        logger.trace("[WAVE::CLEAR] <- SUCCESS={}", result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_NO_MEMORY.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddNew">PIGPIO::gpioWaveAddNew</a>
+     */
+    @Override
+    public void gpioWaveAddNew() {
+        logger.trace("[WAVE::NEW] -> ");
+        validateReady();
+        int result = sendCommandResult(WVNEW, 0, 0);
+        logger.trace("[WAVE::NEW] <- SUCCESS={}", result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_NO_MEMORY.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    @Override
+    public int gpioWaveAddGeneric(PiGpioPulse... pulses) {
+        logger.trace("[WAVE::ADD] -> PULSES: {}", pulses.length);
+        validateReady();
+        if(pulses.length > PiGpioPulse.MAX_PULSES_PER_ADD)
+            throw new IllegalArgumentException("Too many pulses for a single wave add command [" + pulses.length +
+                    "]; max " + PiGpioPulse.MAX_PULSES_PER_ADD + ".");
+        ByteBuffer data = ByteBuffer.allocate(pulses.length * PiGpioPulse.SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        for(PiGpioPulse pulse : pulses){
+            data.putInt(pulse.gpioOn()).putInt(pulse.gpioOff()).putInt(pulse.usDelay());
+        }
+        PiGpioPacket tx = new PiGpioPacket(WVAG).data(data.array());
+        int result = sendPacket(tx).result();
+        logger.trace("[WAVE::ADD] <- PULSES: {}; SUCCESS={}", result, result >= 0);
+
+        // Returns the new total number of pulses in the current waveform if OK,
+        // otherwise PI_TOO_MANY_PULSES.
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+     */
+    @Override
+    public int gpioWaveCreate() {
+        logger.trace("[WAVE::CREATE] -> ");
+        validateReady();
+        int result = sendCommandResult(WVCRE, 0, 0);
+        logger.trace("[WAVE::CREATE] <- WAVE: {}; SUCCESS={}", result, result >= 0);
+
+        // Returns the new waveform id if OK, otherwise PI_EMPTY_WAVEFORM,
+        // PI_NO_WAVEFORM_ID, PI_TOO_MANY_CBS or PI_TOO_MANY_OOL.
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveDelete">PIGPIO::gpioWaveDelete</a>
+     */
+    @Override
+    public void gpioWaveDelete(int waveId) {
+        logger.trace("[WAVE::DELETE] -> WAVE: {}", waveId);
+        validateReady();
+        int result = sendCommandResult(WVDEL, waveId, 0);
+        logger.trace("[WAVE::DELETE] <- WAVE: {}; SUCCESS={}", waveId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_WAVE_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    @Override
+    public int gpioWaveTxSend(int waveId, PiGpioWaveMode mode) {
+        logger.trace("[WAVE::SEND] -> WAVE: {}; MODE: {}", waveId, mode);
+        validateReady();
+        Objects.requireNonNull(mode, "mode");
+        int result = sendCommandResult(WVTXM, waveId, mode.value());
+        logger.trace("[WAVE::SEND] <- WAVE: {}; CBS: {}; SUCCESS={}", waveId, result, result >= 0);
+
+        // Returns the number of DMA control blocks in the waveform if OK,
+        // otherwise PI_BAD_WAVE_ID, or PI_BAD_WAVE_MODE.
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    @Override
+    public void gpioWaveChain(byte[] buf, int bufSize) {
+        logger.trace("[WAVE::CHAIN] -> LENGTH: {}", bufSize);
+        validateReady();
+        Objects.checkFromIndexSize(0, bufSize, buf.length);
+        int result = sendPacket(new PiGpioPacket(WVCHA).data(buf, 0, bufSize)).result();
+        logger.trace("[WAVE::CHAIN] <- LENGTH: {}; SUCCESS={}", bufSize, result >= 0);
+
+        // Returns 0 if OK, otherwise PI_CHAIN_NESTING, PI_CHAIN_LOOP_CNT, PI_BAD_CHAIN_LOOP,
+        // PI_BAD_CHAIN_CMD, PI_CHAIN_COUNTER, PI_BAD_CHAIN_DELAY, PI_CHAIN_TOO_BIG, or PI_BAD_WAVE_ID.
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxAt">PIGPIO::gpioWaveTxAt</a>
+     */
+    @Override
+    public int gpioWaveTxAt() {
+        logger.trace("[WAVE::AT] -> ");
+        validateReady();
+        int result = sendCommandResult(WVTAT, 0, 0);
+        logger.trace("[WAVE::AT] <- WAVE: {}", result);
+
+        // Returns the current transmitting wave id, PI_WAVE_NOT_FOUND (9998)
+        // or PI_NO_TX_WAVE (9999).
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxBusy">PIGPIO::gpioWaveTxBusy</a>
+     */
+    @Override
+    public boolean gpioWaveTxBusy() {
+        logger.trace("[WAVE::BUSY] -> ");
+        validateReady();
+        int result = sendCommandResult(WVBSY, 0, 0);
+        logger.trace("[WAVE::BUSY] <- BUSY: {}", result);
+        validateResult(result);  // Returns 1 if a waveform is currently being transmitted, otherwise 0.
+        return result > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxStop">PIGPIO::gpioWaveTxStop</a>
+     */
+    @Override
+    public void gpioWaveTxStop() {
+        logger.trace("[WAVE::STOP] -> ");
+        validateReady();
+        int result = sendCommandResult(WVHLT, 0, 0);
+        logger.trace("[WAVE::STOP] <- SUCCESS={}", result >= 0);
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMicros">PIGPIO::gpioWaveGetMicros</a>
+     */
+    @Override
+    public int gpioWaveGetMicros() {
+        logger.trace("[WAVE::MICROS] -> ");
+        validateReady();
+        int result = sendCommandResult(WVSM, 0, 0);
+        logger.trace("[WAVE::MICROS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighMicros">PIGPIO::gpioWaveGetHighMicros</a>
+     */
+    @Override
+    public int gpioWaveGetHighMicros() {
+        logger.trace("[WAVE::HIGH-MICROS] -> ");
+        validateReady();
+        int result = sendCommandResult(WVSM, 1, 0);
+        logger.trace("[WAVE::HIGH-MICROS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxMicros">PIGPIO::gpioWaveGetMaxMicros</a>
+     */
+    @Override
+    public int gpioWaveGetMaxMicros() {
+        logger.trace("[WAVE::MAX-MICROS] -> ");
+        validateReady();
+        int result = sendCommandResult(WVSM, 2, 0);
+        logger.trace("[WAVE::MAX-MICROS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetPulses">PIGPIO::gpioWaveGetPulses</a>
+     */
+    @Override
+    public int gpioWaveGetPulses() {
+        logger.trace("[WAVE::PULSES] -> ");
+        validateReady();
+        int result = sendCommandResult(WVSP, 0, 0);
+        logger.trace("[WAVE::PULSES] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighPulses">PIGPIO::gpioWaveGetHighPulses</a>
+     */
+    @Override
+    public int gpioWaveGetHighPulses() {
+        logger.trace("[WAVE::HIGH-PULSES] -> ");
+        validateReady();
+        int result = sendCommandResult(WVSP, 1, 0);
+        logger.trace("[WAVE::HIGH-PULSES] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxPulses">PIGPIO::gpioWaveGetMaxPulses</a>
+     */
+    @Override
+    public int gpioWaveGetMaxPulses() {
+        logger.trace("[WAVE::MAX-PULSES] -> ");
+        validateReady();
+        int result = sendCommandResult(WVSP, 2, 0);
+        logger.trace("[WAVE::MAX-PULSES] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetCbs">PIGPIO::gpioWaveGetCbs</a>
+     */
+    @Override
+    public int gpioWaveGetCbs() {
+        logger.trace("[WAVE::CBS] -> ");
+        validateReady();
+        int result = sendCommandResult(WVSC, 0, 0);
+        logger.trace("[WAVE::CBS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighCbs">PIGPIO::gpioWaveGetHighCbs</a>
+     */
+    @Override
+    public int gpioWaveGetHighCbs() {
+        logger.trace("[WAVE::HIGH-CBS] -> ");
+        validateReady();
+        int result = sendCommandResult(WVSC, 1, 0);
+        logger.trace("[WAVE::HIGH-CBS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxCbs">PIGPIO::gpioWaveGetMaxCbs</a>
+     */
+    @Override
+    public int gpioWaveGetMaxCbs() {
+        logger.trace("[WAVE::MAX-CBS] -> ");
+        validateReady();
+        int result = sendCommandResult(WVSC, 2, 0);
+        logger.trace("[WAVE::MAX-CBS] <- {}", result);
+        validateResult(result);
+        return result;
+    }
+
+
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // SCRIPTS IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStoreScript">PIGPIO::gpioStoreScript</a>
+     */
+    @Override
+    public int gpioStoreScript(String script) {
+        logger.trace("[SCRIPT::STORE] -> LENGTH: {}", script.length());
+        validateReady();
+        int result = sendPacket(new PiGpioPacket(PROC).data(script)).result();
+        logger.trace("[SCRIPT::STORE] <- ID: {}; SUCCESS={}", result, result >= 0);
+
+        // Returns a script id if the script is valid, otherwise PI_BAD_SCRIPT.
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRunScript">PIGPIO::gpioRunScript</a>
+     */
+    @Override
+    public void gpioRunScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::RUN] -> ID: {}; PARAMS: {}", scriptId, params.length);
+        validateReady();
+        validateScriptParams(params);
+        int result = sendPacket(new PiGpioPacket(PROCR, scriptId).data(scriptParams(params))).result();
+        logger.trace("[SCRIPT::RUN] <- ID: {}; SUCCESS={}", scriptId, result >= 0);
+
+        // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID, or PI_TOO_MANY_PARAM.
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioUpdateScript">PIGPIO::gpioUpdateScript</a>
+     */
+    @Override
+    public void gpioUpdateScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::UPDATE] -> ID: {}; PARAMS: {}", scriptId, params.length);
+        validateReady();
+        validateScriptParams(params);
+        int result = sendPacket(new PiGpioPacket(PROCU, scriptId).data(scriptParams(params))).result();
+        logger.trace("[SCRIPT::UPDATE] <- ID: {}; SUCCESS={}", scriptId, result >= 0);
+
+        // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID, or PI_TOO_MANY_PARAM.
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    @Override
+    public PiGpioScriptStatus gpioScriptStatus(int scriptId, int[] params) {
+        logger.trace("[SCRIPT::STATUS] -> ID: {}", scriptId);
+        validateReady();
+        PiGpioPacket result = sendCommand(PROCP, scriptId);
+        logger.trace("[SCRIPT::STATUS] <- ID: {}; BYTES: {}", scriptId, result.result());
+
+        // Returns the script status followed by the current parameters if OK,
+        // otherwise PI_BAD_SCRIPT_ID.
+        validateResult(result);
+        ByteBuffer reply = ByteBuffer.wrap(result.data()).order(ByteOrder.LITTLE_ENDIAN);
+        PiGpioScriptStatus status = PiGpioScriptStatus.from(reply.getInt());
+        for(int i = 0; params != null && i < params.length && reply.remaining() >= 4; i++){
+            params[i] = reply.getInt();
+        }
+        return status;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStopScript">PIGPIO::gpioStopScript</a>
+     */
+    @Override
+    public void gpioStopScript(int scriptId) {
+        logger.trace("[SCRIPT::STOP] -> ID: {}", scriptId);
+        validateReady();
+        int result = sendCommandResult(PROCS, scriptId, 0);
+        logger.trace("[SCRIPT::STOP] <- ID: {}; SUCCESS={}", scriptId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioDeleteScript">PIGPIO::gpioDeleteScript</a>
+     */
+    @Override
+    public void gpioDeleteScript(int scriptId) {
+        logger.trace("[SCRIPT::DELETE] -> ID: {}", scriptId);
+        validateReady();
+        int result = sendCommandResult(PROCD, scriptId, 0);
+        logger.trace("[SCRIPT::DELETE] <- ID: {}; SUCCESS={}", scriptId, result >= 0);
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID.
+    }
+
+    private static byte[] scriptParams(int[] params) {
+        ByteBuffer data = ByteBuffer.allocate(params.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        for(int param : params) data.putInt(param);
+        return data.array();
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // DELAY/SLEEP/TIMER IMPLEMENTATION
@@ -1118,6 +1632,30 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         return rx.result();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Executes a sequence of I2C operations in a single call.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    @Override
+    public int i2cZip(int handle, byte[] commands, int commandLength, byte[] buffer, int offset, int length) {
+        logger.trace("[I2C::ZIP] -> [{}]; I2C Transaction [{} command bytes; {} read bytes]", handle, commandLength, length);
+        validateReady();
+        validateHandle(handle);
+        Objects.checkFromIndexSize(0, commandLength, commands.length);
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        PiGpioPacket tx = new PiGpioPacket(I2CZ, handle).data(commands, 0, commandLength);
+        PiGpioPacket rx = sendPacket(tx);
+        logger.trace("[I2C::ZIP] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
+        validateResult(rx, false);
+        if(rx.success()) {
+            int actual = Math.min(Math.min(rx.result(), rx.dataLength()), length);
+            System.arraycopy(rx.data(), 0, buffer, offset, actual);
+        }
+        return rx.result();
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // SERIAL IMPLEMENTATION
@@ -1297,6 +1835,84 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         return available;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * This function opens a GPIO for bit bang reading of serial data.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadOpen">PIGPIO::gpioSerialReadOpen</a>
+     */
+    @Override
+    public int gpioSerialReadOpen(int pin, int baud, int dataBits) {
+        logger.trace("[SERIAL::BB-OPEN] -> PIN={}; BAUD={}; DATA-BITS={}", pin, baud, dataBits);
+        validateReady();
+        validateUserPin(pin);
+        PiGpioPacket tx = new PiGpioPacket(SLRO, pin, baud).data(dataBits);
+        PiGpioPacket rx = sendPacket(tx);
+        logger.trace("[SERIAL::BB-OPEN] <- PIN={}; SUCCESS={}", pin, rx.success());
+        validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function configures the level logic for bit bang serial reads.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadInvert">PIGPIO::gpioSerialReadInvert</a>
+     */
+    @Override
+    public int gpioSerialReadInvert(int pin, boolean invert) {
+        logger.trace("[SERIAL::BB-INVERT] -> PIN={}; INVERT={}", pin, invert);
+        validateReady();
+        validateUserPin(pin);
+        PiGpioPacket tx = new PiGpioPacket(SLRI, pin, invert ? 1 : 0);
+        PiGpioPacket rx = sendPacket(tx);
+        logger.trace("[SERIAL::BB-INVERT] <- PIN={}; SUCCESS={}", pin, rx.success());
+        validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function copies up to 'length' bytes of data read from the bit bang serial GPIO into the buffer.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialRead">PIGPIO::gpioSerialRead</a>
+     */
+    @Override
+    public int gpioSerialRead(int pin, byte[] buffer, int offset, int length) {
+        logger.trace("[SERIAL::BB-READ] -> PIN={}; Serial Read [{} bytes]", pin, length);
+        validateReady();
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        validateUserPin(pin);
+        PiGpioPacket tx = new PiGpioPacket(SLR, pin, length);
+        PiGpioPacket rx = sendPacket(tx);
+        logger.trace("[SERIAL::BB-READ] <- PIN={}; SUCCESS={}; BYTES-READ={}", pin, rx.success(), rx.dataLength());
+        validateResult(rx, false);
+        if(rx.success()) {
+            int actual = Math.min(rx.result(), rx.dataLength());
+            System.arraycopy(rx.data(), 0, buffer, offset, actual);
+            return actual;
+        }
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function closes a GPIO for bit bang reading of serial data.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSerialReadClose">PIGPIO::gpioSerialReadClose</a>
+     */
+    @Override
+    public int gpioSerialReadClose(int pin) {
+        logger.trace("[SERIAL::BB-CLOSE] -> PIN={}", pin);
+        validateReady();
+        validateUserPin(pin);
+        PiGpioPacket tx = new PiGpioPacket(SLRC, pin);
+        PiGpioPacket rx = sendPacket(tx);
+        logger.trace("[SERIAL::BB-CLOSE] <- PIN={}; SUCCESS={}", pin, rx.success());
+        validateResult(rx);
+        return rx.result();
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // SPI IMPLEMENTATION
@@ -37,7 +37,6 @@ import java.nio.ByteOrder;
 import com.pi4j.library.pigpio.PiGpioCmd;
 import com.pi4j.library.pigpio.PiGpioPacket;
 import com.pi4j.library.pigpio.PiGpioState;
-import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,9 +59,18 @@ public class PiGpioSocketMonitor  {
     protected Integer handle = null;
     protected Thread monitoringThread = null;
 
+    // notification report: seqno (16 bits), flags (16 bits), tick (32 bits), levels (32 bits)
+    private static final int REPORT_SIZE = 12;
+    private static final int PI_NTFY_FLAGS_WDOG = 1 << 5;
+    private static final int PI_NTFY_FLAGS_BIT = 0x1F;
+
     // 32 bits are used to store the last known states of pins 0-31
     protected int pinState = 0b00000000000000000000000000000000;
-    protected int pinMonitor = 0b00000000000000000000000000000000;
+    protected volatile int pinMonitor = 0b00000000000000000000000000000000;
+
+    // last report sequence number and the number of reports lost
+    protected int lastSequence = 0;
+    protected volatile long sequenceGaps = 0;
 
 
     /**
@@ -115,8 +123,9 @@ public class PiGpioSocketMonitor  {
         if(pinMonitor != 0){
             if(monitoringThread == null || !monitoringThread.isAlive()){
                 startMonitoringThread();
-            } else {
-                // update specific pin set to monitor
+            } else if(this.handle != null) {
+                // update specific pin set to monitor; if the listener is still connecting
+                // it sends the current pin set once the notification handle is open
                 PiGpioPacket tx = new PiGpioPacket(PiGpioCmd.NB, this.handle, pinMonitor);
                 piGpio.sendPacket(tx);
             }
@@ -130,6 +139,9 @@ public class PiGpioSocketMonitor  {
         // reset pin monitoring flags
         pinMonitor = 0b00000000000000000000000000000000;
 
+        // nothing more to do if the notification handle was never opened
+        if(this.handle == null) return;
+
         // update specific pin set to monitor
         logger.trace("[NOTIFY] disable pin notifications [NB] <ALL PINS 0-31>");
         PiGpioPacket tx = new PiGpioPacket(PiGpioCmd.NB, this.handle, pinMonitor);
@@ -141,6 +153,59 @@ public class PiGpioSocketMonitor  {
         piGpio.sendPacket(tx);
     }
 
+    /**
+     * <p>getSequenceGapCount.</p>
+     *
+     * @return number of notification reports lost, as detected by gaps in the report sequence numbers.
+     */
+    public long getSequenceGapCount() {
+        return sequenceGaps;
+    }
+
+    /**
+     * Dispatch the pin changes described by a single notification report.
+     *
+     * @param flags report flags
+     * @param tick report tick (microseconds)
+     * @param newPinState levels of pins 0-31
+     */
+    protected void process(int flags, long tick, int newPinState) {
+        logger.trace("[NOTIFY] FLAGS={}; TICK={}; STATES=[{}]", flags, tick, Integer.toBinaryString(newPinState));
+
+        // a watchdog report signals that the pin did not change within its timeout
+        if ((flags & PI_NTFY_FLAGS_WDOG) != 0) {
+            int pin = flags & PI_NTFY_FLAGS_BIT;
+            if ((pinMonitor & (1 << pin)) != 0) {
+                dispatch(pin, PiGpioState.UNKNOWN, tick);
+            }
+            return;
+        }
+
+        // keep-alive and event reports carry no level change
+        if (flags != 0) return;
+
+        // visit only the monitored pins whose level changed
+        int changed = (newPinState ^ pinState) & pinMonitor;
+        while (changed != 0) {
+            int pin = Integer.numberOfTrailingZeros(changed);
+            changed &= changed - 1;
+            dispatch(pin, PiGpioState.from((newPinState >>> pin) & 1), tick);
+        }
+
+        // cache the newly read pins states for future comparisons
+        pinState = newPinState;
+    }
+
+    private void dispatch(int pin, PiGpioState state, long tick) {
+        logger.trace("[DISPATCH] PIN={}; TICK={}; STATE={}", pin, tick, state);
+        try {
+            piGpio.dispatchEvent(pin, state, tick);
+        }
+        catch (Exception e){
+            logger.error(e.getMessage(), e);
+        }
+    }
+
     private void startMonitoringThread(){
         // create monitoring thread
         monitoringThread = new Thread(NAME) {
@@ -148,8 +213,12 @@ public class PiGpioSocketMonitor  {
             public void run() {
                 logger.trace("[THREAD] STARTED");
 
+                // reports are read in bulk; a read may end in the middle of a report
+                final byte[] raw = new byte[REPORT_SIZE * 256];
+                final ByteBuffer buffer = ByteBuffer.wrap(raw).order(ByteOrder.LITTLE_ENDIAN);
+
                 // continue running this thread until this monitor is 'shutdown'
-                while (!shutdown && pinMonitor > 0){
+                while (!shutdown && pinMonitor != 0){
 
                     // create new listener socket instance
                     try {
@@ -188,14 +257,15 @@ public class PiGpioSocketMonitor  {
                             var in = listener.getInputStream();
 
                             boolean disconnected = false;
-                            byte[] raw = new byte[12];
+                            boolean first = true;
+                            int filled = 0;
 
                             // continue reading from the socket until the socket has become disconnected,
                             // this monitor is being shutdown or until no pins are actively being monitored
                             while (!disconnected && !shutdown && pinMonitor != 0) {
 
                                 try {
-                                    int result = in.read(raw, 0, raw.length);
+                                    int result = in.read(raw, filled, raw.length - filled);
 
                                     // check for end of stream error code
                                     if(result == -1){
@@ -204,60 +274,32 @@ public class PiGpioSocketMonitor  {
                                         if(!listener.isClosed()) listener.close();  // close listener socket
                                         break;
                                     }
-
-                                    // process the data read buffer if we have a sufficient number of bytes
-                                    if (result >= 12) {
-                                        // wrap the raw data in a byte buffer to process/decode the results (Little Endian)
-                                        ByteBuffer buffer = ByteBuffer.wrap(raw);
-                                        buffer.order(ByteOrder.LITTLE_ENDIAN);
-
-                                        // decode each event data element from the buffer
-                                        final long sequence = Integer.toUnsignedLong(buffer.getShort());
-                                        final long flags = Integer.toUnsignedLong(buffer.getShort());
-                                        final long tick = Integer.toUnsignedLong(buffer.getInt());
-                                        final int newPinState = buffer.getInt();
-
-//                        final BitSet levels = BitSet.valueOf(buffer.array());
-//                        logger.info("[BYTES] [0x" + StringUtil.toHexString(buffer) + "]");
-//                        logger.info("[SEQUE] " + sequence);
-//                        logger.info("[FLAGS] " + flags);
-//                        logger.info("[TICK ] " + tick);
-//                        logger.info("[LEVEL] " + Integer.toBinaryString(level));
-//                        logger.info("[STATE] " + BitSet.valueOf(raw).get(0));
-//                        logger.info("--------------------------------------------------------");
-                                        logger.trace("[NOTIFY] SEQ={}; FLAGS={}; TICK={}; STATES=[{}]",
-                                                sequence, flags, tick, Integer.toBinaryString(newPinState));
-
-                                        // iterate over the 32 bits in the level value
-                                        for (int i = 0; i < 32; i++) {
-                                            // determine if this pin is enabled for events
-                                            // if it is, then process the event; else ignore it
-                                            int pinNotify = (pinMonitor >> i) & 1;
-                                            if(pinNotify > 0) {
-                                                // get the states for this pin from the 32-bit value
-                                                int oldState = (pinState >> i) & 1;
-                                                int newState = (newPinState >> i) & 1;
-
-                                                // compare the old state value with the new state value to determine if there is a change
-                                                if (oldState != newState) {
-                                                    // if there is a change detected, then create a new change event and dispatch it
-                                                    final PiGpioState state = PiGpioState.from(newState);
-                                                    final PiGpioStateChangeEvent event = new PiGpioStateChangeEvent(i, state, tick);
-                                                    logger.trace("[DISPATCH] PiGpioStateChangeEvent(PIN={}; FLAGS={}; TICK={}; STATE=[{}]",
-                                                            i, flags, tick, Integer.toBinaryString(newPinState));
-                                                    try {
-                                                        piGpio.dispatchEvent(event);
-                                                    }
-                                                    catch (Exception e){
-                                                        logger.error(e.getMessage(), e);
-                                                    }
-                                                }
+                                    filled += result;
+
+                                    // decode every complete report in the buffer
+                                    int offset = 0;
+                                    for (; offset + REPORT_SIZE <= filled; offset += REPORT_SIZE) {
+                                        final int sequence = Short.toUnsignedInt(buffer.getShort(offset));
+                                        final int flags = Short.toUnsignedInt(buffer.getShort(offset + 2));
+                                        final long tick = Integer.toUnsignedLong(buffer.getInt(offset + 4));
+                                        final int newPinState = buffer.getInt(offset + 8);
+
+                                        // count reports the daemon dropped (its sequence number is 16 bits)
+                                        if (!first) {
+                                            int lost = (sequence - lastSequence - 1) & 0xFFFF;
+                                            if (lost != 0) {
+                                                sequenceGaps += lost;
+                                                logger.warn("[NOTIFY] {} notification report(s) lost; SEQ={}; LAST={}", lost, sequence, lastSequence);
                                             }
                                         }
-
-                                        // cache the new;y read pins states for future comparisons
-                                        pinState = newPinState;
+                                        first = false;
+                                        lastSequence = sequence;
+                                        process(flags, tick, newPinState);
                                     }
+
+                                    // keep the partial tail of a report for the next read
+                                    filled -= offset;
+                                    if (filled > 0) System.arraycopy(raw, offset, raw, 0, filled);
                                 }
                                 catch (SocketTimeoutException ste){
                                     // ignore this timeout and continue reading
@@ -302,7 +344,7 @@ public class PiGpioSocketMonitor  {
                     }
 
                     // attempt to reconnect if we are not shutting down
-                    if(!shutdown && pinMonitor > 0) {
+                    if(!shutdown && pinMonitor != 0) {
                         // sleep for 5 seconds
                         try {
                             logger.debug("[SOCKET] will attempt to reconnect in 5 seconds");
@@ -31,6 +31,7 @@ package com.pi4j.library.pigpio.internal;
 import com.pi4j.library.pigpio.PiGpioConst;
 import com.pi4j.library.pigpio.util.NativeLibraryLoader;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.Callable;
 
 /**
@@ -335,26 +336,128 @@ public class PIGPIO {
      * @return a int.
      */
     public static native int gpioNotifyClose(int handle);
-//    public static native int gpioWaveClear();
-//    public static native int gpioWaveAddNew();
-//    public static native int gpioWaveAddGeneric(int numPulses, gpioPulse_t *pulses)
+    /**
+     * <p>gpioWaveClear.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveClear();
+    /**
+     * <p>gpioWaveAddNew.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveAddNew();
+    /**
+     * <p>gpioWaveAddGeneric.</p>
+     *
+     * @param numPulses a int.
+     * @param pulses an array of (gpioOn, gpioOff, usDelay) triplets.
+     * @return a int.
+     */
+    public static native int gpioWaveAddGeneric(int numPulses, int[] pulses);
 //    public static native int gpioWaveAddSerial(int user_gpio, int baud, int data_bits, int stop_bits, int offset, int numBytes, char *str);
-//    public static native int gpioWaveCreate();
-//    public static native int gpioWaveDelete(int wave_id);
-//    public static native int gpioWaveTxSend(int wave_id, int wave_mode);
-//    public static native int gpioWaveChain(byte[] buf, int bufSize);
-//    public static native int gpioWaveTxAt();
-//    public static native int gpioWaveTxBusy();
-//    public static native int gpioWaveTxStop();
-//    public static native int gpioWaveGetMicros();
-//    public static native int gpioWaveGetHighMicros();
-//    public static native int gpioWaveGetMaxMicros();
-//    public static native int gpioWaveGetPulses();
-//    public static native int gpioWaveGetHighPulses();
-//    public static native int gpioWaveGetMaxPulses();
-//    public static native int gpioWaveGetCbs();
-//    public static native int gpioWaveGetHighCbs();
-//    public static native int gpioWaveGetMaxCbs();
+    /**
+     * <p>gpioWaveCreate.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveCreate();
+    /**
+     * <p>gpioWaveDelete.</p>
+     *
+     * @param wave_id a int.
+     * @return a int.
+     */
+    public static native int gpioWaveDelete(int wave_id);
+    /**
+     * <p>gpioWaveTxSend.</p>
+     *
+     * @param wave_id a int.
+     * @param wave_mode a int.
+     * @return a int.
+     */
+    public static native int gpioWaveTxSend(int wave_id, int wave_mode);
+    /**
+     * <p>gpioWaveChain.</p>
+     *
+     * @param buf an array of {@link byte} objects.
+     * @param bufSize a int.
+     * @return a int.
+     */
+    public static native int gpioWaveChain(byte[] buf, int bufSize);
+    /**
+     * <p>gpioWaveTxAt.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveTxAt();
+    /**
+     * <p>gpioWaveTxBusy.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveTxBusy();
+    /**
+     * <p>gpioWaveTxStop.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveTxStop();
+    /**
+     * <p>gpioWaveGetMicros.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetMicros();
+    /**
+     * <p>gpioWaveGetHighMicros.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetHighMicros();
+    /**
+     * <p>gpioWaveGetMaxMicros.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetMaxMicros();
+    /**
+     * <p>gpioWaveGetPulses.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetPulses();
+    /**
+     * <p>gpioWaveGetHighPulses.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetHighPulses();
+    /**
+     * <p>gpioWaveGetMaxPulses.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetMaxPulses();
+    /**
+     * <p>gpioWaveGetCbs.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetCbs();
+    /**
+     * <p>gpioWaveGetHighCbs.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetHighCbs();
+    /**
+     * <p>gpioWaveGetMaxCbs.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetMaxCbs();
     /**
      * <p>gpioSerialReadOpen.</p>
      *
@@ -377,10 +480,11 @@ public class PIGPIO {
      *
      * @param user_gpio a int.
      * @param buffer an array of {@link byte} objects.
+     * @param offset a int.
      * @param bufSize a int.
      * @return a int.
      */
-    public static native int gpioSerialRead(int user_gpio, byte[] buffer, int bufSize);
+    public static native int gpioSerialRead(int user_gpio, byte[] buffer, int offset, int bufSize);
     /**
      * <p>gpioSerialReadClose.</p>
      *
@@ -1416,4 +1520,40 @@ public class PIGPIO {
      * @param script_id a int.
      */
     public static native void rawDumpScript(int script_id);
+    /**
+     * <p>gpioSetAlertFuncBuffered.</p>
+     *
+     * Registers an alert function for the GPIO which writes (gpio, level, tick) records into a
+     * native ring buffer instead of calling back into the JVM; drain the records with
+     * {@link #gpioAlertBufferRead(ByteBuffer, int)}.  Use {@link #gpioDisableAlertFunc(int)}
+     * to cancel the alert.
+     *
+     * @param user_gpio a int.
+     * @return a int.
+     */
+    public static native int gpioSetAlertFuncBuffered(int user_gpio);
+    /**
+     * <p>gpioAlertBufferRead.</p>
+     *
+     * Copies pending buffered alert records into the direct buffer as native order 32-bit
+     * (gpio, level, tick) triples, starting at offset zero.  Waits up to the timeout when
+     * no records are pending; the buffer position and limit are not modified.
+     *
+     * @param buffer a direct {@link ByteBuffer} object.
+     * @param timeout maximum time in milliseconds to wait for records; zero does not wait.
+     * @return number of records copied, or a negative error code.
+     */
+    public static native int gpioAlertBufferRead(ByteBuffer buffer, int timeout);
+    /**
+     * <p>gpioAlertBufferWakeup.</p>
+     *
+     * Releases a thread waiting in {@link #gpioAlertBufferRead(ByteBuffer, int)}.
+     */
+    public static native void gpioAlertBufferWakeup();
+    /**
+     * <p>gpioAlertBufferOverflows.</p>
+     *
+     * @return number of buffered alert records discarded because the native ring buffer was full.
+     */
+    public static native long gpioAlertBufferOverflows();
 }
@@ -27,6 +27,9 @@
 #include <jni.h>
 #include <stdio.h>
 #include <stdlib.h>
+#include <string.h>
+#include <time.h>
+#include <pthread.h>
 #include <pigpio.h>
 #include "com_pi4j_library_pigpio_internal_PIGPIO.h"
 
@@ -520,6 +523,72 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite
     return gpioWrite((unsigned)gpio, (unsigned)level);
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRead_Bits_0_31
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_10_131
+  (JNIEnv *env, jclass class)
+{
+    return (jint)gpioRead_Bits_0_31();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRead_Bits_32_53
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_132_153
+  (JNIEnv *env, jclass class)
+{
+    return (jint)gpioRead_Bits_32_53();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_0_31_Clear
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_10_131_1Clear
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_0_31_Clear((uint32_t)bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_32_53_Clear
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_132_153_1Clear
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_32_53_Clear((uint32_t)bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_0_31_Set
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_10_131_1Set
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_0_31_Set((uint32_t)bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_32_53_Set
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_132_153_1Set
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_32_53_Set((uint32_t)bits);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    gpioTrigger
@@ -648,6 +717,317 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioNotifyCl
     return gpioNotifyClose((unsigned)handle);
 }
 
+// *****************************************************************************************************
+// *****************************************************************************************************
+// WAVES IMPLEMENTATION
+// *****************************************************************************************************
+// *****************************************************************************************************
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveClear
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveClear
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveClear();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveAddNew
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveAddNew
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveAddNew();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveAddGeneric
+ * Signature: (I[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveAddGeneric
+  (JNIEnv *env, jclass class, jint numPulses, jintArray pulses)
+{
+    // each pulse is passed as a (gpioOn, gpioOff, usDelay) triplet of integers
+    jsize max_pulses = (*env)->GetArrayLength(env, pulses) / 3;
+    int count = (numPulses > max_pulses) ? max_pulses : numPulses;
+    if(count <= 0) return gpioWaveAddGeneric(0, NULL);
+
+    // copy the triplets into a native pulse array
+    gpioPulse_t *wave = (gpioPulse_t *)malloc(sizeof(gpioPulse_t) * count);
+    if(wave == NULL) return PI_BAD_POINTER;
+
+    // obtain a pointer to the elements of the array and pin the memory
+    jint *buffer = (*env)->GetIntArrayElements(env, pulses, 0);
+    for(int i = 0; i < count; i++){
+        wave[i].gpioOn  = (uint32_t)buffer[i*3];
+        wave[i].gpioOff = (uint32_t)buffer[i*3+1];
+        wave[i].usDelay = (uint32_t)buffer[i*3+2];
+    }
+
+    // unpin the reserved memory for 'pulses'; no changes to copy back to the Java array
+    (*env)->ReleaseIntArrayElements(env, pulses, buffer, JNI_ABORT);
+
+    // append the pulses to the current waveform
+    jint result = gpioWaveAddGeneric((unsigned)count, wave);
+    free(wave);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveCreate
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveCreate
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveCreate();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveDelete
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveDelete
+  (JNIEnv *env, jclass class, jint wave_id)
+{
+    return gpioWaveDelete((unsigned)wave_id);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxSend
+ * Signature: (II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxSend
+  (JNIEnv *env, jclass class, jint wave_id, jint wave_mode)
+{
+    return gpioWaveTxSend((unsigned)wave_id, (unsigned)wave_mode);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveChain
+ * Signature: ([BI)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveChain
+  (JNIEnv *env, jclass class, jbyteArray buf, jint bufSize)
+{
+    // obtain a pointer to the elements of the array and pin the memory
+    jbyte *buffer = (*env)->GetByteArrayElements(env, buf, 0);
+
+    // bounds check to make sure byte count does not exceed max array length
+    jsize max_length = (*env)->GetArrayLength(env, buf);
+    int length = (bufSize > max_length) ? max_length : bufSize;
+
+    // start transmitting the chain
+    jint result = gpioWaveChain((char *)buffer, (unsigned)length);
+
+    // unpin the reserved memory for 'buf'; abort preserving any changes back to the Java array
+    (*env)->ReleaseByteArrayElements(env, buf, buffer, JNI_ABORT);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxAt
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxAt
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveTxAt();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxBusy
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxBusy
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveTxBusy();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxStop
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxStop
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveTxStop();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMicros
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMicros
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMicros();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetHighMicros
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetHighMicros
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetHighMicros();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMaxMicros
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMaxMicros
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMaxMicros();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetPulses
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetPulses
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetPulses();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetHighPulses
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetHighPulses
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetHighPulses();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMaxPulses
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMaxPulses
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMaxPulses();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetCbs
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetCbs
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetCbs();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetHighCbs
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetHighCbs
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetHighCbs();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMaxCbs
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMaxCbs
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMaxCbs();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioSerialReadOpen
+ * Signature: (III)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSerialReadOpen
+  (JNIEnv *env, jclass class, jint user_gpio, jint baud, jint data_bits)
+{
+    return gpioSerialReadOpen((unsigned)user_gpio, (unsigned)baud, (unsigned)data_bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioSerialReadInvert
+ * Signature: (II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSerialReadInvert
+  (JNIEnv *env, jclass class, jint user_gpio, jint invert)
+{
+    return gpioSerialReadInvert((unsigned)user_gpio, (unsigned)invert);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioSerialRead
+ * Signature: (I[BII)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSerialRead
+  (JNIEnv *env, jclass class, jint user_gpio, jbyteArray data, jint offset, jint count)
+{
+    // get the maximum size of the Java data array; subtract any offset value
+    jsize max_length = (*env)->GetArrayLength(env, data) - offset;
+
+    // bounds check to make sure byte count does not exceed max array length (minus offset)
+    int length = (count > max_length) ? max_length : count;
+    if(length <= 0) return 0;
+
+    // obtain a pointer to the elements of the array and pin the memory
+    jbyte *buffer = (*env)->GetByteArrayElements(env, data, 0);
+
+    // copy the bytes received by the bit-banged serial receiver into the native buffer array
+    jint result = gpioSerialRead((unsigned)user_gpio, buffer + offset, (size_t)length);
+
+    // unpin the reserved memory for 'data'; persist change to the Java array and free the native array
+    (*env)->ReleaseByteArrayElements(env, data, buffer, 0);
+
+    // return the number of bytes copied, or an error code
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioSerialReadClose
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSerialReadClose
+  (JNIEnv *env, jclass class, jint user_gpio)
+{
+    return gpioSerialReadClose((unsigned)user_gpio);
+}
+
 // *****************************************************************************************************
 // *****************************************************************************************************
 // GPIO ALERTS (and callbacks) IMPLEMENTATION
@@ -827,6 +1207,183 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSetAlert
     return result;
 }
 
+// *****************************************************************************************************
+// *****************************************************************************************************
+// BUFFERED GPIO ALERTS IMPLEMENTATION
+// *****************************************************************************************************
+// *****************************************************************************************************
+
+/*
+ * Buffered alert records are written by the PIGPIO alert thread into a single-producer/single-consumer
+ * ring without ever touching the JVM; a single permanently attached Java thread drains them in batches
+ * (see 'gpioAlertBufferRead').  Each record is delivered to Java as three native order 32-bit words:
+ * (gpio, level, tick).
+ */
+#define ALERT_BUFFER_SIZE 8192   /* number of records; must be a power of two */
+#define ALERT_BUFFER_MASK (ALERT_BUFFER_SIZE - 1)
+
+struct _PiGpioAlertRecord
+{
+    uint32_t gpio;
+    uint32_t level;
+    uint32_t tick;
+};
+
+struct _PiGpioAlertRecord alertBuffer[ALERT_BUFFER_SIZE];
+uint32_t alertBufferHead = 0;       /* next slot written by the PIGPIO alert thread */
+uint32_t alertBufferTail = 0;       /* next slot read by the Java drain thread */
+uint64_t alertBufferOverflows = 0;  /* records discarded because the ring was full */
+int alertBufferWaiting = 0;         /* set while the drain thread is parked on the condition */
+int alertBufferWakeup = 0;          /* set to release a parked drain thread without any records */
+pthread_mutex_t alertBufferLock = PTHREAD_MUTEX_INITIALIZER;
+pthread_cond_t alertBufferCondition = PTHREAD_COND_INITIALIZER;
+
+void gpioAlertBufferDelegate(int gpio, int level, uint32_t tick)
+{
+    uint32_t head = __atomic_load_n(&alertBufferHead, __ATOMIC_RELAXED);
+    uint32_t tail = __atomic_load_n(&alertBufferTail, __ATOMIC_ACQUIRE);
+
+    // never block the PIGPIO alert thread; count and discard the record if the ring is full
+    if(head - tail >= ALERT_BUFFER_SIZE){
+        __atomic_add_fetch(&alertBufferOverflows, 1, __ATOMIC_RELAXED);
+        return;
+    }
+
+    struct _PiGpioAlertRecord *record = &alertBuffer[head & ALERT_BUFFER_MASK];
+    record->gpio = (uint32_t)gpio;
+    record->level = (uint32_t)level;
+    record->tick = tick;
+    __atomic_store_n(&alertBufferHead, head + 1, __ATOMIC_SEQ_CST);
+
+    // only pay for the lock when the drain thread is actually parked
+    if(__atomic_load_n(&alertBufferWaiting, __ATOMIC_SEQ_CST)){
+        pthread_mutex_lock(&alertBufferLock);
+        pthread_cond_signal(&alertBufferCondition);
+        pthread_mutex_unlock(&alertBufferLock);
+    }
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioSetAlertFuncBuffered
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioSetAlertFuncBuffered
+  (JNIEnv *env, jclass class, jint user_gpio)
+{
+    // validate the user requested GPIO pin
+    if(user_gpio < 0 || user_gpio > PI_MAX_USER_GPIO){
+        printf("NATIVE (PIGPIO::gpioSetAlertFuncBuffered) ERROR; INVALID GPIO PIN; SUPPORTED PINS: <0-31>;\n");
+        return PI_BAD_USER_GPIO;
+    }
+
+    // replace any Java callback previously registered for this gpio pin
+    jint result = gpioSetAlertFunc((unsigned)user_gpio, gpioAlertBufferDelegate);
+
+    // destroy any global references to the callback object instance
+    if(gpioAlertCallbacks[user_gpio].callback != NULL){
+        (*env)->DeleteGlobalRef(env, gpioAlertCallbacks[user_gpio].callback);
+    }
+
+    // destroy any global references to the callback userdata instance
+    if(gpioAlertCallbacks[user_gpio].userdata != NULL){
+        (*env)->DeleteGlobalRef(env, gpioAlertCallbacks[user_gpio].userdata);
+    }
+
+    // clear the cached callback references for this gpio pin
+    gpioAlertCallbacks[user_gpio].callback = NULL;
+    gpioAlertCallbacks[user_gpio].class = NULL;
+    gpioAlertCallbacks[user_gpio].method = 0;
+    gpioAlertCallbacks[user_gpio].userdata = NULL;
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioAlertBufferRead
+ * Signature: (Ljava/nio/ByteBuffer;I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioAlertBufferRead
+  (JNIEnv *env, jclass class, jobject buffer, jint timeout)
+{
+    struct _PiGpioAlertRecord *target = (*env)->GetDirectBufferAddress(env, buffer);
+    jlong capacity = (*env)->GetDirectBufferCapacity(env, buffer);
+
+    // the buffer must be a direct buffer able to hold at least one record
+    if(target == NULL || capacity < (jlong)sizeof(struct _PiGpioAlertRecord)){
+        printf("NATIVE (PIGPIO::gpioAlertBufferRead) ERROR; INVALID DIRECT BUFFER.\n");
+        return PI_BAD_POINTER;
+    }
+
+    uint32_t tail = alertBufferTail;
+    uint32_t head = __atomic_load_n(&alertBufferHead, __ATOMIC_ACQUIRE);
+
+    // park until records arrive, the timeout elapses or a wakeup is requested
+    if(head == tail && timeout > 0){
+        struct timespec deadline;
+        clock_gettime(CLOCK_REALTIME, &deadline);
+        deadline.tv_sec += timeout / 1000;
+        deadline.tv_nsec += (long)(timeout % 1000) * 1000000L;
+        if(deadline.tv_nsec >= 1000000000L){
+            deadline.tv_sec++;
+            deadline.tv_nsec -= 1000000000L;
+        }
+
+        pthread_mutex_lock(&alertBufferLock);
+        __atomic_store_n(&alertBufferWaiting, 1, __ATOMIC_SEQ_CST);
+        while(!alertBufferWakeup && (head = __atomic_load_n(&alertBufferHead, __ATOMIC_SEQ_CST)) == tail){
+            if(pthread_cond_timedwait(&alertBufferCondition, &alertBufferLock, &deadline) != 0) break;
+        }
+        __atomic_store_n(&alertBufferWaiting, 0, __ATOMIC_SEQ_CST);
+        alertBufferWakeup = 0;
+        pthread_mutex_unlock(&alertBufferLock);
+        head = __atomic_load_n(&alertBufferHead, __ATOMIC_ACQUIRE);
+    }
+
+    // copy as many pending records as fit; at most two spans if the ring wrapped
+    uint32_t count = head - tail;
+    uint32_t limit = (uint32_t)(capacity / sizeof(struct _PiGpioAlertRecord));
+    if(count > limit) count = limit;
+    if(count == 0) return 0;
+
+    uint32_t start = tail & ALERT_BUFFER_MASK;
+    uint32_t first = ALERT_BUFFER_SIZE - start;
+    if(first > count) first = count;
+    memcpy(target, &alertBuffer[start], first * sizeof(struct _PiGpioAlertRecord));
+    if(count > first){
+        memcpy(target + first, &alertBuffer[0], (count - first) * sizeof(struct _PiGpioAlertRecord));
+    }
+
+    // release the copied slots back to the PIGPIO alert thread
+    __atomic_store_n(&alertBufferTail, tail + count, __ATOMIC_RELEASE);
+    return (jint)count;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioAlertBufferWakeup
+ * Signature: ()V
+ */
+JNIEXPORT void JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioAlertBufferWakeup
+  (JNIEnv *env, jclass class)
+{
+    pthread_mutex_lock(&alertBufferLock);
+    alertBufferWakeup = 1;
+    pthread_cond_signal(&alertBufferCondition);
+    pthread_mutex_unlock(&alertBufferLock);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioAlertBufferOverflows
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioAlertBufferOverflows
+  (JNIEnv *env, jclass class)
+{
+    return (jlong)__atomic_load_n(&alertBufferOverflows, __ATOMIC_RELAXED);
+}
+
 // *****************************************************************************************************
 // *****************************************************************************************************
 // GPIO INTERRUPTS (and callbacks) IMPLEMENTATION
@@ -1667,6 +2224,35 @@ JNIEXPORT void JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cSwitchCom
     i2cSwitchCombined(setting);
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cZip
+ * Signature: (I[BI[BI)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cZip
+  (JNIEnv *env, jclass class, jint handle, jbyteArray inBuf, jint inLen, jbyteArray outBuf, jint outLen)
+{
+	// obtain a pointer to the elements of both arrays and pin the memory
+    jbyte *in = (*env)->GetByteArrayElements(env, inBuf, 0);
+    jbyte *out = (*env)->GetByteArrayElements(env, outBuf, 0);
+
+    // bounds check to make sure the byte counts do not exceed the array lengths
+    jsize max_in = (*env)->GetArrayLength(env, inBuf);
+    jsize max_out = (*env)->GetArrayLength(env, outBuf);
+    int in_length = (inLen > max_in) ? max_in : inLen;
+    int out_length = (outLen > max_out) ? max_out : outLen;
+
+    // run the complete command sequence in a single call
+    jint result = i2cZip((unsigned)handle, (char *)in, (unsigned)in_length, (char *)out, (unsigned)out_length);
+
+	// unpin the reserved memory; copy the read data back to the Java 'outBuf' array
+	(*env)->ReleaseByteArrayElements(env, inBuf, in, JNI_ABORT);
+	(*env)->ReleaseByteArrayElements(env, outBuf, out, 0);
+
+    // return the result
+	return result;
+}
+
 // *****************************************************************************************************
 // *****************************************************************************************************
 // SPI IMPLEMENTATION
@@ -1960,6 +2546,108 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serDrain
 }
 
 
+// *****************************************************************************************************
+// *****************************************************************************************************
+// SCRIPTS IMPLEMENTATION
+// *****************************************************************************************************
+// *****************************************************************************************************
+
+/*
+ * Copy up to PI_MAX_SCRIPT_PARAMS script parameters from a Java int array; returns the number copied.
+ */
+static int copyScriptParams(JNIEnv *env, jint numPar, jintArray param, uint32_t *params)
+{
+    if(param == NULL || numPar <= 0) return 0;
+    jsize length = (*env)->GetArrayLength(env, param);
+    int count = (numPar > length) ? length : numPar;
+    if(count > PI_MAX_SCRIPT_PARAMS) count = PI_MAX_SCRIPT_PARAMS;
+    (*env)->GetIntArrayRegion(env, param, 0, count, (jint *)params);
+    return count;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioStoreScript
+ * Signature: (Ljava/lang/String;)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioStoreScript
+  (JNIEnv *env, jclass class, jstring script)
+{
+    // pigpio parses the script text into its own storage, so the string can be released afterwards
+    const char *script_ptr = (*env)->GetStringUTFChars(env, script, NULL);
+    jint result = gpioStoreScript((char *)script_ptr);
+    (*env)->ReleaseStringUTFChars(env, script, script_ptr);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRunScript
+ * Signature: (II[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRunScript
+  (JNIEnv *env, jclass class, jint script_id, jint numPar, jintArray param)
+{
+    uint32_t params[PI_MAX_SCRIPT_PARAMS];
+    int count = copyScriptParams(env, numPar, param, params);
+    return gpioRunScript((unsigned)script_id, (unsigned)count, params);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioUpdateScript
+ * Signature: (II[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioUpdateScript
+  (JNIEnv *env, jclass class, jint script_id, jint numPar, jintArray param)
+{
+    uint32_t params[PI_MAX_SCRIPT_PARAMS];
+    int count = copyScriptParams(env, numPar, param, params);
+    return gpioUpdateScript((unsigned)script_id, (unsigned)count, params);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioScriptStatus
+ * Signature: (I[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioScriptStatus
+  (JNIEnv *env, jclass class, jint script_id, jintArray param)
+{
+    uint32_t params[PI_MAX_SCRIPT_PARAMS];
+    jint result = gpioScriptStatus((unsigned)script_id, params);
+
+    // copy the current script parameters back into the Java array (if one was provided)
+    if(result >= 0 && param != NULL){
+        jsize length = (*env)->GetArrayLength(env, param);
+        if(length > PI_MAX_SCRIPT_PARAMS) length = PI_MAX_SCRIPT_PARAMS;
+        (*env)->SetIntArrayRegion(env, param, 0, length, (jint *)params);
+    }
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioStopScript
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioStopScript
+  (JNIEnv *env, jclass class, jint script_id)
+{
+    return gpioStopScript((unsigned)script_id);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioDeleteScript
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioDeleteScript
+  (JNIEnv *env, jclass class, jint script_id)
+{
+    return gpioDeleteScript((unsigned)script_id);
+}
+
 // *****************************************************************************************************
 // *****************************************************************************************************
 // DELAY/SLEEP/TIMER IMPLEMENTATION
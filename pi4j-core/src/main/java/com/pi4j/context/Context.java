@@ -33,6 +33,7 @@ import com.pi4j.common.Describable;
 import com.pi4j.common.Descriptor;
 import com.pi4j.config.Config;
 import com.pi4j.config.ConfigBuilder;
+import com.pi4j.event.DispatchLatency;
 import com.pi4j.event.InitializedEventProducer;
 import com.pi4j.event.ShutdownEventProducer;
 import com.pi4j.exception.ShutdownException;
@@ -321,6 +322,19 @@ public interface Context extends Describable, IOCreator, ProviderProvider, Initi
      */
     BoardInfo boardInfo();
 
+    // ------------------------------------------------------------------------
+    // EVENT DISPATCH STATISTICS
+    // ------------------------------------------------------------------------
+
+    /**
+     * Return the dispatch latency statistic shared by all I/O instances in this context;
+     * the time elapsed between an input event's source timestamp and the invocation of
+     * its listeners.
+     *
+     * @return {@link DispatchLatency}
+     */
+    DispatchLatency dispatchLatency();
+
     // ------------------------------------------------------------------------
     // I/O INSTANCE ACCESSOR/CREATOR METHODS
     // ------------------------------------------------------------------------
@@ -30,6 +30,7 @@ import com.pi4j.boardinfo.util.BoardInfoHelper;
 import com.pi4j.context.Context;
 import com.pi4j.context.ContextConfig;
 import com.pi4j.context.ContextProperties;
+import com.pi4j.event.DispatchLatency;
 import com.pi4j.event.InitializedListener;
 import com.pi4j.event.ShutdownListener;
 import com.pi4j.exception.LifecycleException;
@@ -65,6 +66,7 @@ public class DefaultContext implements Context {
     private Platforms platforms = null;
     private Registry registry = null;
     private BoardInfo boardInfo = null;
+    private final DispatchLatency dispatchLatency = new DispatchLatency();
 
     /**
      * <p>newInstance.</p>
@@ -141,6 +143,10 @@ public class DefaultContext implements Context {
     @Override
     public BoardInfo boardInfo() { return this.boardInfo; }
 
+    /** {@inheritDoc} */
+    @Override
+    public DispatchLatency dispatchLatency() { return this.dispatchLatency; }
+
     /** {@inheritDoc} */
     @Override
     public Future<?> submitTask(Runnable task) {
@@ -0,0 +1,87 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DispatchConfig.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Event dispatch configuration shared by I/O types that produce listener events.</p>
+ */
+public interface DispatchConfig {
+
+    /** Constant <code>DISPATCH_MODE_KEY="dispatch"</code> */
+    String DISPATCH_MODE_KEY = "dispatch";
+    /** Constant <code>DISPATCH_CAPACITY_KEY="dispatch-capacity"</code> */
+    String DISPATCH_CAPACITY_KEY = "dispatch-capacity";
+    /** Constant <code>DISPATCH_OVERFLOW_KEY="dispatch-overflow"</code> */
+    String DISPATCH_OVERFLOW_KEY = "dispatch-overflow";
+
+    /** Constant <code>DEFAULT_DISPATCH_CAPACITY=1024</code> */
+    int DEFAULT_DISPATCH_CAPACITY = 1024;
+
+    /**
+     * <p>dispatchMode.</p>
+     *
+     * @return a {@link com.pi4j.event.DispatchMode} object.
+     */
+    DispatchMode dispatchMode();
+    /**
+     * <p>getDispatchMode.</p>
+     *
+     * @return a {@link com.pi4j.event.DispatchMode} object.
+     */
+    default DispatchMode getDispatchMode(){
+        return dispatchMode();
+    }
+
+    /**
+     * <p>dispatchCapacity.</p>
+     *
+     * @return maximum number of pending events when dispatching asynchronously
+     */
+    Integer dispatchCapacity();
+    /**
+     * <p>getDispatchCapacity.</p>
+     *
+     * @return maximum number of pending events when dispatching asynchronously
+     */
+    default Integer getDispatchCapacity(){
+        return dispatchCapacity();
+    }
+
+    /**
+     * <p>dispatchOverflow.</p>
+     *
+     * @return a {@link com.pi4j.event.OverflowPolicy} object.
+     */
+    OverflowPolicy dispatchOverflow();
+    /**
+     * <p>getDispatchOverflow.</p>
+     *
+     * @return a {@link com.pi4j.event.OverflowPolicy} object.
+     */
+    default OverflowPolicy getDispatchOverflow(){
+        return dispatchOverflow();
+    }
+}
@@ -0,0 +1,71 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DispatchConfigBuilder.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Builder methods for {@link com.pi4j.event.DispatchConfig} properties.</p>
+ *
+ * @param <BUILDER_TYPE> the concrete builder type
+ */
+public interface DispatchConfigBuilder<BUILDER_TYPE> {
+
+    /**
+     * <p>dispatch.</p>
+     *
+     * @param mode a {@link com.pi4j.event.DispatchMode} object.
+     * @return a BUILDER_TYPE object.
+     */
+    BUILDER_TYPE dispatch(DispatchMode mode);
+
+    /**
+     * <p>dispatchCapacity.</p>
+     *
+     * @param capacity maximum number of pending events when dispatching asynchronously
+     * @return a BUILDER_TYPE object.
+     */
+    BUILDER_TYPE dispatchCapacity(Integer capacity);
+
+    /**
+     * <p>dispatchOverflow.</p>
+     *
+     * @param policy a {@link com.pi4j.event.OverflowPolicy} object.
+     * @return a BUILDER_TYPE object.
+     */
+    BUILDER_TYPE dispatchOverflow(OverflowPolicy policy);
+
+    /**
+     * Dispatch events to listeners asynchronously on a context managed executor.
+     *
+     * @param capacity maximum number of pending events
+     * @param policy behavior when the pending event buffer is full
+     * @return a BUILDER_TYPE object.
+     */
+    default BUILDER_TYPE asyncDispatch(Integer capacity, OverflowPolicy policy){
+        dispatch(DispatchMode.ASYNC);
+        dispatchCapacity(capacity);
+        return dispatchOverflow(policy);
+    }
+}
@@ -0,0 +1,128 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DispatchLatency.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Thread-safe statistic of event dispatch latency; the time elapsed between the moment
+ * an event occurred at its source (its timestamp) and the moment its listeners are invoked.</p>
+ *
+ * <p>Timestamps and latencies are expressed in nanoseconds on the {@link System#nanoTime()}
+ * time line.  Recording does not allocate and never blocks.</p>
+ */
+public class DispatchLatency {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    private volatile long last = 0;
+
+    /**
+     * Record the latency of an event dispatched now.
+     *
+     * @param timestampNanos event source timestamp in nanoseconds ({@link System#nanoTime()} time line)
+     */
+    public void record(long timestampNanos) {
+        long latency = System.nanoTime() - timestampNanos;
+        if (latency < 0) latency = 0;
+        count.increment();
+        total.add(latency);
+        min.accumulate(latency);
+        max.accumulate(latency);
+        last = latency;
+    }
+
+    /**
+     * <p>count.</p>
+     *
+     * @return number of dispatched events recorded
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * <p>min.</p>
+     *
+     * @return minimum dispatch latency in nanoseconds, or zero if nothing has been recorded
+     */
+    public long min() {
+        return (count() == 0) ? 0 : min.get();
+    }
+
+    /**
+     * <p>max.</p>
+     *
+     * @return maximum dispatch latency in nanoseconds, or zero if nothing has been recorded
+     */
+    public long max() {
+        return (count() == 0) ? 0 : max.get();
+    }
+
+    /**
+     * <p>average.</p>
+     *
+     * @return average dispatch latency in nanoseconds, or zero if nothing has been recorded
+     */
+    public long average() {
+        long n = count();
+        return (n == 0) ? 0 : total.sum() / n;
+    }
+
+    /**
+     * <p>last.</p>
+     *
+     * @return most recently recorded dispatch latency in nanoseconds
+     */
+    public long last() {
+        return last;
+    }
+
+    /**
+     * Clear all recorded values.
+     */
+    public void reset() {
+        count.reset();
+        total.reset();
+        min.reset();
+        max.reset();
+        last = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format("count=%d, min=%dus, avg=%dus, max=%dus",
+            count(),
+            TimeUnit.NANOSECONDS.toMicros(min()),
+            TimeUnit.NANOSECONDS.toMicros(average()),
+            TimeUnit.NANOSECONDS.toMicros(max()));
+    }
+}
@@ -0,0 +1,91 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DispatchMode.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.EnumSet;
+
+/**
+ * Event dispatch mode enumerations; determines if event listeners are invoked
+ * on the thread producing the event or handed off to a context managed executor.
+ */
+public enum DispatchMode {
+    SYNC(0, "sync"),
+    ASYNC(1, "async");
+
+    private final int value;
+    private final String name;
+
+    private DispatchMode(int value, String name) {
+        this.value = value;
+        this.name = name;
+    }
+
+    /**
+     * <p>Getter for the field <code>value</code>.</p>
+     *
+     * @return a int.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * <p>Getter for the field <code>name</code>.</p>
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return name.toUpperCase();
+    }
+
+    /**
+     * <p>all.</p>
+     *
+     * @return a {@link java.util.EnumSet} object.
+     */
+    public static EnumSet<DispatchMode> all() {
+        return EnumSet.allOf(DispatchMode.class);
+    }
+
+    /**
+     * <p>parse.</p>
+     *
+     * @param mode a {@link java.lang.String} object.
+     * @return a {@link com.pi4j.event.DispatchMode} object.
+     */
+    public static DispatchMode parse(String mode) {
+        if(mode.equalsIgnoreCase("0")) return DispatchMode.SYNC;
+        if(mode.equalsIgnoreCase("1")) return DispatchMode.ASYNC;
+        if(mode.toLowerCase().startsWith("a")) return DispatchMode.ASYNC;
+        return DispatchMode.SYNC;
+    }
+}
@@ -31,6 +31,13 @@ import org.slf4j.LoggerFactory;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.ToLongFunction;
 
 public class EventManager<SOURCE_TYPE, LISTENER_TYPE extends Listener, EVENT_TYPE> {
     private Logger logger = LoggerFactory.getLogger(this.getClass());
@@ -38,6 +45,19 @@ public class EventManager<SOURCE_TYPE, LISTENER_TYPE extends Listener, EVENT_TYP
     private final Set<LISTENER_TYPE> listeners = new CopyOnWriteArraySet<>();
     private final EventDelegate<LISTENER_TYPE,EVENT_TYPE> delegate;
 
+    // asynchronous dispatch state (a null buffer means listeners are invoked synchronously)
+    private volatile EventRingBuffer<EVENT_TYPE> buffer = null;
+    private Executor executor = null;
+    private OverflowPolicy overflow = OverflowPolicy.BLOCK;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private volatile Thread drainer = null;
+    private final LongAdder dropped = new LongAdder();
+    private final Runnable drainTask = this::drain;
+
+    // optional dispatch latency statistic (event timestamp -> listener invocation)
+    private volatile DispatchLatency latency = null;
+    private ToLongFunction<EVENT_TYPE> timestamp = null;
+
     public EventManager(SOURCE_TYPE source, EventDelegate<LISTENER_TYPE,EVENT_TYPE> delegate){
         this.source = source;
         this.delegate = delegate;
@@ -58,10 +78,122 @@ public class EventManager<SOURCE_TYPE, LISTENER_TYPE extends Listener, EVENT_TYP
         return this.source;
     }
 
+    /**
+     * <p>hasListeners.</p>
+     *
+     * @return true if at least one listener is registered
+     */
+    public boolean hasListeners(){
+        return !this.listeners.isEmpty();
+    }
+
+    /**
+     * Record the dispatch latency of each event delivered to listeners; the latency is the
+     * time elapsed between the event timestamp and the listener invocation.
+     *
+     * @param latency statistic to record into (typically the context's {@code dispatchLatency()})
+     * @param timestamp function returning the event timestamp in nanoseconds ({@link System#nanoTime()} time line)
+     * @return the event source
+     */
+    public SOURCE_TYPE latency(DispatchLatency latency, ToLongFunction<EVENT_TYPE> timestamp){
+        this.timestamp = timestamp;
+        this.latency = (timestamp == null) ? null : latency;
+        return this.source;
+    }
+
+    /**
+     * Switch this event manager to asynchronous dispatch; events are queued in a bounded
+     * lock-free ring buffer and listeners are invoked on the given executor, one event at
+     * a time and in the order the events were queued.
+     *
+     * @param executor executor used to drain queued events (typically context managed)
+     * @param capacity maximum number of pending events
+     * @param overflow behavior when the buffer of pending events is full
+     * @return the event source
+     */
+    public SOURCE_TYPE async(Executor executor, int capacity, OverflowPolicy overflow){
+        if(executor == null) throw new IllegalArgumentException("An executor is required for asynchronous dispatch.");
+        this.executor = executor;
+        this.overflow = (overflow == null) ? OverflowPolicy.BLOCK : overflow;
+        this.buffer = new EventRingBuffer<>(capacity);
+        return this.source;
+    }
+
+    /**
+     * Switch this event manager back to synchronous dispatch; any pending events are discarded.
+     *
+     * @return the event source
+     */
+    public SOURCE_TYPE sync(){
+        EventRingBuffer<EVENT_TYPE> pending = this.buffer;
+        this.buffer = null;
+        if(pending != null) dropped.add(pending.clear());
+        return this.source;
+    }
+
+    /**
+     * <p>isAsync.</p>
+     *
+     * @return true if listeners are invoked asynchronously
+     */
+    public boolean isAsync(){
+        return this.buffer != null;
+    }
+
+    /**
+     * <p>pending.</p>
+     *
+     * @return number of events queued but not yet delivered to listeners
+     */
+    public int pending(){
+        EventRingBuffer<EVENT_TYPE> pending = this.buffer;
+        return (pending == null) ? 0 : pending.size();
+    }
+
+    /**
+     * <p>dropped.</p>
+     *
+     * @return number of events discarded by the overflow policy since creation
+     */
+    public long dropped(){
+        return this.dropped.sum();
+    }
+
     public SOURCE_TYPE dispatch(EVENT_TYPE event){
+        EventRingBuffer<EVENT_TYPE> pending = this.buffer;
+        if(pending == null) {
+            deliver(event);
+            return this.source;
+        }
+
+        // queue the event according to the configured overflow policy
+        while(!pending.offer(event)){
+            switch(overflow){
+                case DROP_OLDEST:
+                    if(pending.poll() != null) dropped.increment();
+                    break;
+                case CONFLATE:
+                    dropped.add(pending.clear());
+                    break;
+                default:
+                    // a listener dispatching on its own (full) event manager would wait forever
+                    if(Thread.currentThread() == drainer) {
+                        deliver(event);
+                        return this.source;
+                    }
+                    schedule(pending);
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+                    break;
+            }
+        }
+        schedule(pending);
+        return this.source;
+    }
+
+    public SOURCE_TYPE dispatch(EVENT_TYPE event, EventDelegate<LISTENER_TYPE,EVENT_TYPE> delegate){
         listeners.forEach(listener->{
             try {
-                this.delegate.dispatch(listener, event);
+                delegate.dispatch(listener, event);
             }
             catch (Exception e){
                 logger.error(e.getMessage(), e);
@@ -70,16 +202,51 @@ public class EventManager<SOURCE_TYPE, LISTENER_TYPE extends Listener, EVENT_TYP
         return this.source;
     }
 
-    public SOURCE_TYPE dispatch(EVENT_TYPE event, EventDelegate<LISTENER_TYPE,EVENT_TYPE> delegate){
+    private void deliver(EVENT_TYPE event){
+        DispatchLatency statistic = this.latency;
+        if(statistic != null && !listeners.isEmpty()) statistic.record(timestamp.applyAsLong(event));
         listeners.forEach(listener->{
             try {
-                delegate.dispatch(listener, event);
+                this.delegate.dispatch(listener, event);
             }
             catch (Exception e){
                 logger.error(e.getMessage(), e);
             }
         });
-        return this.source;
     }
 
+    private void schedule(EventRingBuffer<EVENT_TYPE> pending){
+        if(!pending.isEmpty() && draining.compareAndSet(false, true)){
+            try {
+                executor.execute(drainTask);
+            }
+            catch (RejectedExecutionException e){
+                // the executor is no longer accepting work (context shutdown); discard pending events
+                draining.set(false);
+                dropped.add(pending.clear());
+                logger.warn("Unable to schedule asynchronous event dispatch; {}", e.getMessage());
+            }
+        }
+    }
+
+    private void drain(){
+        EventRingBuffer<EVENT_TYPE> pending = this.buffer;
+        if(pending == null) {
+            draining.set(false);
+            return;
+        }
+        drainer = Thread.currentThread();
+        try {
+            do {
+                EVENT_TYPE event;
+                while((event = pending.poll()) != null){
+                    deliver(event);
+                }
+                draining.set(false);
+            } while(!pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+        finally {
+            if(drainer == Thread.currentThread()) drainer = null;
+        }
+    }
 }
@@ -0,0 +1,156 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  EventRingBuffer.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>Bounded, lock-free, multi-producer/multi-consumer ring buffer used to hand events
+ * from the thread producing them to an asynchronous dispatcher.</p>
+ *
+ * <p>Each slot carries a sequence number; producers claim a slot by advancing the tail
+ * and consumers claim one by advancing the head, so neither side ever takes a lock.
+ * The capacity is rounded up to the next power of two.</p>
+ *
+ * @param <E> the element type
+ */
+public class EventRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * <p>Constructor for EventRingBuffer.</p>
+     *
+     * @param capacity minimum number of elements this buffer can hold
+     */
+    public EventRingBuffer(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("capacity must be greater than zero: " + capacity);
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            this.sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Enqueue an element if space is available.
+     *
+     * @param element the element to add; must not be null
+     * @return true if added, false if the buffer is full
+     */
+    public boolean offer(E element) {
+        if (element == null)
+            throw new NullPointerException("element");
+        long position = tail.get();
+        for (;;) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+            position = tail.get();
+        }
+    }
+
+    /**
+     * Dequeue the oldest element.
+     *
+     * @return the oldest element or null if the buffer is empty
+     */
+    public E poll() {
+        long position = head.get();
+        for (;;) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = elements.get(index);
+                    elements.lazySet(index, null);
+                    sequences.lazySet(index, position + mask + 1);
+                    return element;
+                }
+            } else if (difference < 0) {
+                return null;
+            }
+            position = head.get();
+        }
+    }
+
+    /**
+     * Discard all pending elements.
+     *
+     * @return number of elements discarded
+     */
+    public int clear() {
+        int count = 0;
+        while (poll() != null) count++;
+        return count;
+    }
+
+    /**
+     * <p>size.</p>
+     *
+     * @return approximate number of pending elements
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    /**
+     * <p>isEmpty.</p>
+     *
+     * @return true if no elements are pending
+     */
+    public boolean isEmpty() {
+        return tail.get() == head.get();
+    }
+
+    /**
+     * <p>capacity.</p>
+     *
+     * @return the maximum number of elements this buffer can hold
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,101 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  OverflowPolicy.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.EnumSet;
+
+/**
+ * Overflow policy enumerations; determines how an asynchronous event dispatcher
+ * behaves when its bounded event buffer is full.
+ *
+ * <ul>
+ *     <li>BLOCK - the producing thread waits until buffer space is available</li>
+ *     <li>DROP_OLDEST - the oldest pending event is discarded to make room for the new event</li>
+ *     <li>CONFLATE - all pending events are discarded; only the latest event is retained</li>
+ * </ul>
+ */
+public enum OverflowPolicy {
+    BLOCK(0, "block"),
+    DROP_OLDEST(1, "drop-oldest"),
+    CONFLATE(2, "conflate");
+
+    private final int value;
+    private final String name;
+
+    private OverflowPolicy(int value, String name) {
+        this.value = value;
+        this.name = name;
+    }
+
+    /**
+     * <p>Getter for the field <code>value</code>.</p>
+     *
+     * @return a int.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * <p>Getter for the field <code>name</code>.</p>
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return name.toUpperCase();
+    }
+
+    /**
+     * <p>all.</p>
+     *
+     * @return a {@link java.util.EnumSet} object.
+     */
+    public static EnumSet<OverflowPolicy> all() {
+        return EnumSet.allOf(OverflowPolicy.class);
+    }
+
+    /**
+     * <p>parse.</p>
+     *
+     * @param policy a {@link java.lang.String} object.
+     * @return a {@link com.pi4j.event.OverflowPolicy} object.
+     */
+    public static OverflowPolicy parse(String policy) {
+        if(policy.equalsIgnoreCase("0")) return OverflowPolicy.BLOCK;
+        if(policy.equalsIgnoreCase("1")) return OverflowPolicy.DROP_OLDEST;
+        if(policy.equalsIgnoreCase("2")) return OverflowPolicy.CONFLATE;
+        if(policy.toLowerCase().startsWith("d")) return OverflowPolicy.DROP_OLDEST;
+        if(policy.toLowerCase().startsWith("c")) return OverflowPolicy.CONFLATE;
+        if(policy.toLowerCase().contains("latest")) return OverflowPolicy.CONFLATE;
+        return OverflowPolicy.BLOCK;
+    }
+}
@@ -49,6 +49,18 @@ public interface PluginService {
      * @return a {@link com.pi4j.extension.PluginService} object.
      */
     PluginService register(Provider ... provider);
+    /**
+     * Register providers that are only used when requested by their ID; unlike the providers
+     * passed to {@link #register(Provider...)} they never compete for (or replace) the default
+     * provider of their I/O type, so a plugin may register several providers of the same type.
+     * Services that do not keep additional providers apart register them like any other provider.
+     *
+     * @param provider a {@link com.pi4j.provider.Provider} object.
+     * @return a {@link com.pi4j.extension.PluginService} object.
+     */
+    default PluginService registerAdditional(Provider ... provider) {
+        return register(provider);
+    }
     /**
      * <p>register.</p>
      *
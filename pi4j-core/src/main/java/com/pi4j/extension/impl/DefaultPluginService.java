@@ -76,6 +76,17 @@ public class DefaultPluginService implements PluginService {
         return this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public PluginService registerAdditional(Provider... provider) {
+        if(provider != null) {
+            for (Provider p : provider){
+                store.additionalProviders.add(p);
+            }
+        }
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public PluginService register(Platform... platform) {
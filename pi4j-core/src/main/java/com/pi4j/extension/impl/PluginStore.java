@@ -40,5 +40,6 @@ import java.util.Set;
  */
 public class PluginStore {
     public Set<Provider> providers = Collections.synchronizedSet(new HashSet<>());
+    public Set<Provider> additionalProviders = Collections.synchronizedSet(new HashSet<>());
     public Set<Platform> platforms = Collections.synchronizedSet(new HashSet<>());
 }
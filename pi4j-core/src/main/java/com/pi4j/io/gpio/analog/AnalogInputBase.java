@@ -25,6 +25,10 @@ package com.pi4j.io.gpio.analog;
  * #L%
  */
 
+import com.pi4j.context.Context;
+import com.pi4j.event.DispatchMode;
+import com.pi4j.exception.InitializeException;
+
 /**
  * <p>Abstract AnalogInputBase class.</p>
  *
@@ -43,5 +47,16 @@ public abstract class AnalogInputBase extends AnalogBase<AnalogInput, AnalogInpu
         if(this.id == null) this.id = "AIN-" + config.address();
         if(this.name == null) this.name = "AIN-" + config.address();
     }
-}
 
+    /** {@inheritDoc} */
+    @Override
+    public AnalogInput initialize(Context context) throws InitializeException {
+        super.initialize(context);
+
+        // if configured, hand listener events off to a context managed executor
+        if(config().dispatchMode() == DispatchMode.ASYNC) {
+            valueChangeEventManager.async(context::submitTask, config().dispatchCapacity(), config().dispatchOverflow());
+        }
+        return this;
+    }
+}
@@ -26,6 +26,7 @@ package com.pi4j.io.gpio.analog;
  */
 
 import com.pi4j.context.Context;
+import com.pi4j.event.DispatchConfig;
 
 /**
  * <p>AnalogInputConfig interface.</p>
@@ -34,7 +35,7 @@ import com.pi4j.context.Context;
  * @version $Id: $Id
  */
 public interface AnalogInputConfig
-        extends AnalogConfig<AnalogInputConfig> {
+        extends AnalogConfig<AnalogInputConfig>, DispatchConfig {
 
     /**
      * <p>newBuilder.</p>
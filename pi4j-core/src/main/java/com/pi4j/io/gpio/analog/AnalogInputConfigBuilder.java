@@ -26,6 +26,7 @@ package com.pi4j.io.gpio.analog;
  */
 
 import com.pi4j.context.Context;
+import com.pi4j.event.DispatchConfigBuilder;
 import com.pi4j.io.gpio.analog.impl.DefaultAnalogInputConfigBuilder;
 
 /**
@@ -34,7 +35,8 @@ import com.pi4j.io.gpio.analog.impl.DefaultAnalogInputConfigBuilder;
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
-public interface AnalogInputConfigBuilder extends AnalogConfigBuilder<AnalogInputConfigBuilder, AnalogInputConfig> {
+public interface AnalogInputConfigBuilder extends AnalogConfigBuilder<AnalogInputConfigBuilder, AnalogInputConfig>,
+        DispatchConfigBuilder<AnalogInputConfigBuilder> {
     /**
      * <p>newInstance.</p>
      *
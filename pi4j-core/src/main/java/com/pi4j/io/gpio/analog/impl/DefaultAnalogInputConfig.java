@@ -25,6 +25,8 @@ package com.pi4j.io.gpio.analog.impl;
  * #L%
  */
 
+import com.pi4j.event.DispatchMode;
+import com.pi4j.event.OverflowPolicy;
 import com.pi4j.io.gpio.analog.AnalogInputConfig;
 import com.pi4j.util.StringUtil;
 
@@ -40,6 +42,11 @@ public class DefaultAnalogInputConfig
         extends AnalogConfigBase<AnalogInputConfig>
         implements AnalogInputConfig {
 
+    // private configuration properties
+    protected DispatchMode dispatchMode = DispatchMode.SYNC;
+    protected Integer dispatchCapacity = DEFAULT_DISPATCH_CAPACITY;
+    protected OverflowPolicy dispatchOverflow = OverflowPolicy.BLOCK;
+
     /**
      * PRIVATE CONSTRUCTOR
      */
@@ -59,5 +66,34 @@ public class DefaultAnalogInputConfig
         this.id = StringUtil.setIfNullOrEmpty(this.id, "AIN-" + this.address, true);
         this.name = StringUtil.setIfNullOrEmpty(this.name, "AIN-" + this.address, true);
         this.description = StringUtil.setIfNullOrEmpty(this.description, "AIN-" + this.address, true);
+
+        // load optional event dispatch mode properties
+        if(properties.containsKey(DISPATCH_MODE_KEY)){
+            this.dispatchMode = DispatchMode.parse(properties.get(DISPATCH_MODE_KEY));
+        }
+        if(properties.containsKey(DISPATCH_CAPACITY_KEY)){
+            this.dispatchCapacity = Integer.parseInt(properties.get(DISPATCH_CAPACITY_KEY));
+        }
+        if(properties.containsKey(DISPATCH_OVERFLOW_KEY)){
+            this.dispatchOverflow = OverflowPolicy.parse(properties.get(DISPATCH_OVERFLOW_KEY));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DispatchMode dispatchMode() {
+        return this.dispatchMode;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Integer dispatchCapacity() {
+        return this.dispatchCapacity;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public OverflowPolicy dispatchOverflow() {
+        return this.dispatchOverflow;
     }
 }
@@ -26,6 +26,9 @@ package com.pi4j.io.gpio.analog.impl;
  */
 
 import com.pi4j.context.Context;
+import com.pi4j.event.DispatchConfig;
+import com.pi4j.event.DispatchMode;
+import com.pi4j.event.OverflowPolicy;
 import com.pi4j.io.gpio.analog.AnalogInputConfig;
 import com.pi4j.io.gpio.analog.AnalogInputConfigBuilder;
 
@@ -61,4 +64,31 @@ public class DefaultAnalogInputConfigBuilder
         AnalogInputConfig config = new DefaultAnalogInputConfig(getResolvedProperties());
         return config;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public AnalogInputConfigBuilder dispatch(DispatchMode mode) {
+        if(mode != null) {
+            this.properties.put(DispatchConfig.DISPATCH_MODE_KEY, mode.toString());
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AnalogInputConfigBuilder dispatchCapacity(Integer capacity) {
+        if(capacity != null) {
+            this.properties.put(DispatchConfig.DISPATCH_CAPACITY_KEY, capacity.toString());
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AnalogInputConfigBuilder dispatchOverflow(OverflowPolicy policy) {
+        if(policy != null) {
+            this.properties.put(DispatchConfig.DISPATCH_OVERFLOW_KEY, policy.getName());
+        }
+        return this;
+    }
 }
@@ -0,0 +1,119 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalBank.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+
+/**
+ * <p>A bank of up to 64 digital lines read or written together.</p>
+ *
+ * <p>Values are passed as a {@code long} bitmask where bit {@code i} is the state of the line at
+ * {@code addresses()[i]} (1 = HIGH).  Providers implement bank reads and writes with a single
+ * driver call where possible so all lines change (or are sampled) at the same time.</p>
+ */
+public interface DigitalBank extends AutoCloseable {
+
+    /** Maximum number of lines in a bank. */
+    int MAX_LINES = 64;
+
+    /**
+     * <p>id.</p>
+     *
+     * @return the bank identifier
+     */
+    String id();
+
+    /**
+     * <p>addresses.</p>
+     *
+     * @return the line addresses; index {@code i} maps to bit {@code i} of the bank values
+     */
+    int[] addresses();
+
+    /**
+     * <p>size.</p>
+     *
+     * @return number of lines in this bank
+     */
+    default int size() {
+        return addresses().length;
+    }
+
+    /**
+     * Read the state of all lines.
+     *
+     * @return bitmask of line states
+     * @throws IOException if the lines could not be read
+     */
+    long read() throws IOException;
+
+    /**
+     * Write the state of all lines.
+     *
+     * @param values bitmask of line states
+     * @return this bank
+     * @throws IOException if the lines could not be written
+     */
+    DigitalBank write(long values) throws IOException;
+
+    /**
+     * Write the state of the lines selected by {@code mask}; all other lines keep their state.
+     *
+     * @param values bitmask of line states
+     * @param mask bitmask of lines to write
+     * @return this bank
+     * @throws IOException if the lines could not be written
+     */
+    DigitalBank write(long values, long mask) throws IOException;
+
+    /**
+     * Set (HIGH) the lines selected by {@code mask}.
+     *
+     * @param mask bitmask of lines to set
+     * @return this bank
+     * @throws IOException if the lines could not be written
+     */
+    default DigitalBank set(long mask) throws IOException {
+        return write(mask, mask);
+    }
+
+    /**
+     * Clear (LOW) the lines selected by {@code mask}.
+     *
+     * @param mask bitmask of lines to clear
+     * @return this bank
+     * @throws IOException if the lines could not be written
+     */
+    default DigitalBank clear(long mask) throws IOException {
+        return write(0, mask);
+    }
+
+    /**
+     * Release the lines of this bank.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,52 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalEdgeListener.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.event.Listener;
+
+/**
+ * <p>Primitive digital edge listener.</p>
+ *
+ * <p>Unlike {@link com.pi4j.io.gpio.digital.DigitalStateChangeListener}, edges are delivered as
+ * primitive arguments so that providers can notify these listeners without allocating an
+ * event object per edge.  If an input only has edge listeners registered, no
+ * {@link com.pi4j.io.gpio.digital.DigitalStateChangeEvent} is created at all.</p>
+ *
+ * <p>Edge listeners are always invoked on the thread that detected the edge (regardless
+ * of the configured dispatch mode) and should return quickly.</p>
+ */
+@FunctionalInterface
+public interface DigitalEdgeListener extends Listener {
+
+    /**
+     * Invoked for every state change (edge) detected on a digital input.
+     *
+     * @param pin the address of the digital input
+     * @param high true if the new state is HIGH, false if LOW
+     * @param timestampNanos timestamp of the edge in nanoseconds (comparable with {@link System#nanoTime()})
+     */
+    void onEdge(int pin, boolean high, long timestampNanos);
+}
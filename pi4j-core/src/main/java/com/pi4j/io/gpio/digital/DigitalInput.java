@@ -55,4 +55,21 @@ public interface DigitalInput extends Digital<DigitalInput, DigitalInputConfig,
      * @return a {@link com.pi4j.io.gpio.digital.PullResistance} object.
      */
     default PullResistance pull() { return config().pull(); }
+
+    /**
+     * Add one or more primitive edge listeners; these are invoked without allocating
+     * an event object for each edge.
+     *
+     * @param listener a {@link com.pi4j.io.gpio.digital.DigitalEdgeListener} object.
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalInput} object.
+     */
+    DigitalInput addEdgeListener(DigitalEdgeListener... listener);
+
+    /**
+     * <p>removeEdgeListener.</p>
+     *
+     * @param listener a {@link com.pi4j.io.gpio.digital.DigitalEdgeListener} object.
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalInput} object.
+     */
+    DigitalInput removeEdgeListener(DigitalEdgeListener... listener);
 }
@@ -25,6 +25,14 @@ package com.pi4j.io.gpio.digital;
  * #L%
  */
 
+import com.pi4j.context.Context;
+import com.pi4j.event.DispatchLatency;
+import com.pi4j.event.DispatchMode;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.ShutdownException;
+
+import java.util.Arrays;
+
 /**
  * <p>Abstract DigitalInputBase class.</p>
  *
@@ -32,6 +40,16 @@ package com.pi4j.io.gpio.digital;
  * @version $Id: $Id
  */
 public abstract class DigitalInputBase extends DigitalBase<DigitalInput, DigitalInputConfig, DigitalInputProvider> implements DigitalInput {
+
+    // primitive edge listeners; the array is replaced (never modified) so dispatching does not allocate
+    private volatile DigitalEdgeListener[] edgeListeners = new DigitalEdgeListener[0];
+
+    // cached pin address passed to edge listeners
+    private final int pin;
+
+    // context dispatch latency statistic
+    private DispatchLatency latency = null;
+
     /**
      * <p>Constructor for DigitalInputBase.</p>
      *
@@ -40,5 +58,87 @@ public abstract class DigitalInputBase extends DigitalBase<DigitalInput, Digital
      */
     public DigitalInputBase(DigitalInputProvider provider, DigitalInputConfig config){
         super(provider, config);
+        this.pin = (config.address() == null) ? -1 : config.address();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInput initialize(Context context) throws InitializeException {
+        super.initialize(context);
+
+        // record the latency between edge timestamps and listener invocation
+        this.latency = context.dispatchLatency();
+        stateChangeEventManager.latency(latency, event -> ((DigitalStateChangeEvent) event).timestamp());
+
+        // if configured, hand listener events off to a context managed executor
+        if(config().dispatchMode() == DispatchMode.ASYNC) {
+            stateChangeEventManager.async(context::submitTask, config().dispatchCapacity(), config().dispatchOverflow());
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInput shutdown(Context context) throws ShutdownException {
+        // remove all edge listeners
+        synchronized (this) {
+            edgeListeners = new DigitalEdgeListener[0];
+        }
+        return super.shutdown(context);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized DigitalInput addEdgeListener(DigitalEdgeListener... listener) {
+        DigitalEdgeListener[] updated = edgeListeners;
+        for (DigitalEdgeListener l : listener) {
+            if (l == null || Arrays.asList(updated).contains(l)) continue;
+            updated = Arrays.copyOf(updated, updated.length + 1);
+            updated[updated.length - 1] = l;
+        }
+        edgeListeners = updated;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized DigitalInput removeEdgeListener(DigitalEdgeListener... listener) {
+        DigitalEdgeListener[] updated = edgeListeners;
+        for (DigitalEdgeListener l : listener) {
+            int index = Arrays.asList(updated).indexOf(l);
+            if (index < 0) continue;
+            DigitalEdgeListener[] copy = new DigitalEdgeListener[updated.length - 1];
+            System.arraycopy(updated, 0, copy, 0, index);
+            System.arraycopy(updated, index + 1, copy, index, updated.length - index - 1);
+            updated = copy;
+        }
+        edgeListeners = updated;
+        return this;
+    }
+
+    /**
+     * Dispatch a digital input edge; primitive edge listeners are notified directly and a
+     * {@link DigitalStateChangeEvent} is only created when state change listeners or bindings
+     * are registered.  Providers should prefer this method over {@link #dispatch(DigitalStateChangeEvent)}.
+     *
+     * @param high true if the new state is HIGH, false if LOW
+     * @param timestampNanos timestamp of the edge in nanoseconds ({@link System#nanoTime()} time line)
+     */
+    protected void dispatch(boolean high, long timestampNanos){
+        DigitalEdgeListener[] listeners = edgeListeners;
+        boolean listened = stateChangeEventManager.hasListeners();
+        // the event manager records the edge when it dispatches to state change listeners
+        if (listeners.length > 0 && !listened && latency != null) latency.record(timestampNanos);
+        for (int i = 0; i < listeners.length; i++) {
+            try {
+                listeners[i].onEdge(pin, high, timestampNanos);
+            }
+            catch (Exception e){
+                logger.error(e.getMessage(), e);
+            }
+        }
+        if (listened || bindings.hasBindings()) {
+            dispatch(new DigitalStateChangeEvent<>(this, DigitalState.getState(high), timestampNanos));
+        }
     }
 }
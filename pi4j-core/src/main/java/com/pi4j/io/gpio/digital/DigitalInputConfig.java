@@ -27,6 +27,7 @@ package com.pi4j.io.gpio.digital;
 
 
 import com.pi4j.context.Context;
+import com.pi4j.event.DispatchConfig;
 
 /**
  * <p>DigitalInputConfig interface.</p>
@@ -34,7 +35,7 @@ import com.pi4j.context.Context;
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
-public interface DigitalInputConfig extends DigitalConfig<DigitalInputConfig> {
+public interface DigitalInputConfig extends DigitalConfig<DigitalInputConfig>, DispatchConfig {
 
     /** Constant <code>PULL_RESISTANCE_KEY="pull"</code> */
     String PULL_RESISTANCE_KEY = "pull";
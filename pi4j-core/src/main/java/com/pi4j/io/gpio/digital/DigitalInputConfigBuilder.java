@@ -26,6 +26,7 @@ package com.pi4j.io.gpio.digital;
  */
 
 import com.pi4j.context.Context;
+import com.pi4j.event.DispatchConfigBuilder;
 import com.pi4j.io.gpio.digital.impl.DefaultDigitalInputConfigBuilder;
 
 import java.util.concurrent.TimeUnit;
@@ -36,7 +37,8 @@ import java.util.concurrent.TimeUnit;
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
-public interface DigitalInputConfigBuilder extends DigitalConfigBuilder<DigitalInputConfigBuilder, DigitalInputConfig> {
+public interface DigitalInputConfigBuilder extends DigitalConfigBuilder<DigitalInputConfigBuilder, DigitalInputConfig>,
+        DispatchConfigBuilder<DigitalInputConfigBuilder> {
     /**
      * <p>pull.</p>
      *
@@ -40,15 +40,30 @@ public class DigitalStateChangeEvent<DIGITAL_TYPE extends Digital> implements Di
 
     protected DIGITAL_TYPE source;
 
+    // monotonic source timestamp in nanoseconds (System.nanoTime() time line)
+    protected long timestamp;
+
     /**
-     * Default constructor
+     * Default constructor; the event is timestamped with the current time.
      *
      * @param state the value changed for this event instance
      * @param source a DIGITAL_TYPE object.
      */
     public DigitalStateChangeEvent(DIGITAL_TYPE source, DigitalState state){
+        this(source, state, System.nanoTime());
+    }
+
+    /**
+     * Constructor with a source timestamp
+     *
+     * @param source a DIGITAL_TYPE object.
+     * @param state the value changed for this event instance
+     * @param timestamp time the state change occurred, in nanoseconds on the {@link System#nanoTime()} time line
+     */
+    public DigitalStateChangeEvent(DIGITAL_TYPE source, DigitalState state, long timestamp){
         this.state = state; // cache a copy of the event instance state
         this.source = source; // cache digital I/O source
+        this.timestamp = timestamp; // cache source timestamp
     }
 
     /**
@@ -60,6 +75,18 @@ public class DigitalStateChangeEvent<DIGITAL_TYPE extends Digital> implements Di
         return this.state;
     }
 
+    /**
+     * The time this state change occurred; when supported by the provider this is the
+     * hardware (kernel or daemon) timestamp of the edge, otherwise the time the change
+     * was detected.  The value is monotonic, in nanoseconds, and comparable with
+     * {@link System#nanoTime()} so edge-to-handler latency and pulse widths can be computed.
+     *
+     * @return timestamp in nanoseconds
+     */
+    public long timestamp() {
+        return this.timestamp;
+    }
+
     /** {@inheritDoc} */
     @Override
     public DIGITAL_TYPE source() {
@@ -0,0 +1,242 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  PulseTrain.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+
+/**
+ * <p>An immutable, precisely timed sequence of digital output changes.</p>
+ *
+ * <p>A pulse train is a list of steps; each step drives the lines in its set mask HIGH and the
+ * lines in its clear mask LOW, then holds for a delay in microseconds before the next step.
+ * Masks are {@code long} bitmasks where bit {@code n} is the line with address {@code n}.
+ * Pulse trains are uploaded to a {@link PulseTrainOutput} once and replayed by hardware
+ * timing, so the edges do not depend on the scheduling of the Java thread.</p>
+ */
+public final class PulseTrain {
+
+    private final long[] setMasks;
+    private final long[] clearMasks;
+    private final int[] delays;
+
+    private PulseTrain(long[] setMasks, long[] clearMasks, int[] delays) {
+        this.setMasks = setMasks;
+        this.clearMasks = clearMasks;
+        this.delays = delays;
+    }
+
+    /**
+     * <p>builder.</p>
+     *
+     * @return a new {@link PulseTrain.Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * <p>size.</p>
+     *
+     * @return number of steps in this pulse train
+     */
+    public int size() {
+        return delays.length;
+    }
+
+    /**
+     * <p>setMask.</p>
+     *
+     * @param step step index
+     * @return bitmask of the lines driven HIGH at the start of the step
+     */
+    public long setMask(int step) {
+        return setMasks[step];
+    }
+
+    /**
+     * <p>clearMask.</p>
+     *
+     * @param step step index
+     * @return bitmask of the lines driven LOW at the start of the step
+     */
+    public long clearMask(int step) {
+        return clearMasks[step];
+    }
+
+    /**
+     * <p>delayMicros.</p>
+     *
+     * @param step step index
+     * @return microseconds to hold the step before the next one
+     */
+    public int delayMicros(int step) {
+        return delays[step];
+    }
+
+    /**
+     * <p>durationMicros.</p>
+     *
+     * @return total duration of this pulse train in microseconds
+     */
+    public long durationMicros() {
+        long total = 0;
+        for (int delay : delays) total += delay;
+        return total;
+    }
+
+    /**
+     * <p>addressMask.</p>
+     *
+     * @return bitmask of all line addresses driven by this pulse train
+     */
+    public long addressMask() {
+        long mask = 0;
+        for (int i = 0; i < delays.length; i++) mask |= setMasks[i] | clearMasks[i];
+        return mask;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "PulseTrain{steps=" + size() + ", durationMicros=" + durationMicros() + "}";
+    }
+
+    /**
+     * <p>Builder for {@link PulseTrain} instances.</p>
+     */
+    public static class Builder {
+
+        private long[] setMasks = new long[16];
+        private long[] clearMasks = new long[16];
+        private int[] delays = new int[16];
+        private int size = 0;
+
+        private Builder() {
+        }
+
+        /**
+         * Append a step.
+         *
+         * @param setMask bitmask of the lines to drive HIGH
+         * @param clearMask bitmask of the lines to drive LOW
+         * @param delayMicros microseconds to hold the step
+         * @return this builder
+         */
+        public Builder step(long setMask, long clearMask, int delayMicros) {
+            if ((setMask & clearMask) != 0)
+                throw new IllegalArgumentException("lines cannot be set and cleared in the same step: 0x"
+                        + Long.toHexString(setMask & clearMask));
+            if (delayMicros < 0)
+                throw new IllegalArgumentException("delay must not be negative: " + delayMicros);
+            if (size == delays.length) {
+                setMasks = Arrays.copyOf(setMasks, size * 2);
+                clearMasks = Arrays.copyOf(clearMasks, size * 2);
+                delays = Arrays.copyOf(delays, size * 2);
+            }
+            setMasks[size] = setMask;
+            clearMasks[size] = clearMask;
+            delays[size] = delayMicros;
+            size++;
+            return this;
+        }
+
+        /**
+         * Drive a line HIGH and hold.
+         *
+         * @param address line address (0-63)
+         * @param micros microseconds to hold
+         * @return this builder
+         */
+        public Builder high(int address, int micros) {
+            return step(bit(address), 0, micros);
+        }
+
+        /**
+         * Drive a line LOW and hold.
+         *
+         * @param address line address (0-63)
+         * @param micros microseconds to hold
+         * @return this builder
+         */
+        public Builder low(int address, int micros) {
+            return step(0, bit(address), micros);
+        }
+
+        /**
+         * Append a single HIGH pulse followed by a LOW period on a line.
+         *
+         * @param address line address (0-63)
+         * @param highMicros microseconds HIGH
+         * @param lowMicros microseconds LOW
+         * @return this builder
+         */
+        public Builder pulse(int address, int highMicros, int lowMicros) {
+            return high(address, highMicros).low(address, lowMicros);
+        }
+
+        /**
+         * Append a number of identical pulses on a line.
+         *
+         * @param address line address (0-63)
+         * @param highMicros microseconds HIGH
+         * @param lowMicros microseconds LOW
+         * @param count number of pulses
+         * @return this builder
+         */
+        public Builder pulses(int address, int highMicros, int lowMicros, int count) {
+            for (int i = 0; i < count; i++) pulse(address, highMicros, lowMicros);
+            return this;
+        }
+
+        /**
+         * Hold all lines in their current state.
+         *
+         * @param micros microseconds to wait
+         * @return this builder
+         */
+        public Builder delay(int micros) {
+            return step(0, 0, micros);
+        }
+
+        /**
+         * <p>build.</p>
+         *
+         * @return a new {@link PulseTrain}
+         */
+        public PulseTrain build() {
+            if (size == 0)
+                throw new IllegalStateException("a pulse train requires at least one step");
+            return new PulseTrain(Arrays.copyOf(setMasks, size), Arrays.copyOf(clearMasks, size),
+                    Arrays.copyOf(delays, size));
+        }
+
+        private static long bit(int address) {
+            if (address < 0 || address > 63)
+                throw new IllegalArgumentException("line address out of range (0-63): " + address);
+            return 1L << address;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  PulseTrainOutput.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+
+/**
+ * <p>A hardware timed output for {@link PulseTrain}s.</p>
+ *
+ * <p>Pulse trains are loaded once and referenced by the handle returned from
+ * {@link #load(PulseTrain)}; they can then be sent, repeated or chained without
+ * transferring them again.  Only one pulse train (or chain) is transmitted at a time.</p>
+ */
+public interface PulseTrainOutput extends AutoCloseable {
+
+    /** Maximum loop count accepted by {@link #chain(int, int...)}. */
+    int MAX_LOOPS = 65535;
+
+    /**
+     * <p>id.</p>
+     *
+     * @return the output identifier
+     */
+    String id();
+
+    /**
+     * Upload a pulse train.
+     *
+     * @param train the pulse train
+     * @return handle of the loaded pulse train
+     * @throws IOException if the pulse train could not be loaded
+     */
+    int load(PulseTrain train) throws IOException;
+
+    /**
+     * Transmit a loaded pulse train once.
+     *
+     * @param handle handle returned by {@link #load(PulseTrain)}
+     * @throws IOException if the pulse train could not be started
+     */
+    void send(int handle) throws IOException;
+
+    /**
+     * Transmit a loaded pulse train repeatedly until {@link #stop()} is called.
+     *
+     * @param handle handle returned by {@link #load(PulseTrain)}
+     * @throws IOException if the pulse train could not be started
+     */
+    void repeat(int handle) throws IOException;
+
+    /**
+     * Transmit loaded pulse trains back to back, once each.
+     *
+     * @param handles handles returned by {@link #load(PulseTrain)}
+     * @throws IOException if the chain could not be started
+     */
+    default void chain(int... handles) throws IOException {
+        chain(1, handles);
+    }
+
+    /**
+     * Transmit a sequence of loaded pulse trains back to back, repeating the whole sequence.
+     *
+     * @param loops number of times to transmit the sequence (1-{@value #MAX_LOOPS})
+     * @param handles handles returned by {@link #load(PulseTrain)}
+     * @throws IOException if the chain could not be started
+     */
+    void chain(int loops, int... handles) throws IOException;
+
+    /**
+     * <p>busy.</p>
+     *
+     * @return true while a pulse train or chain is being transmitted
+     * @throws IOException if the state could not be read
+     */
+    boolean busy() throws IOException;
+
+    /**
+     * Abort the pulse train or chain currently being transmitted.
+     *
+     * @throws IOException if the transmission could not be stopped
+     */
+    void stop() throws IOException;
+
+    /**
+     * Release a loaded pulse train.
+     *
+     * @param handle handle returned by {@link #load(PulseTrain)}
+     * @throws IOException if the pulse train could not be released
+     */
+    void unload(int handle) throws IOException;
+
+    /**
+     * Stop any transmission and release all loaded pulse trains.
+     */
+    @Override
+    void close();
+}
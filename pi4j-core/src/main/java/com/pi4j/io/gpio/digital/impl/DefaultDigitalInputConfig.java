@@ -25,6 +25,8 @@ package com.pi4j.io.gpio.digital.impl;
  * #L%
  */
 
+import com.pi4j.event.DispatchMode;
+import com.pi4j.event.OverflowPolicy;
 import com.pi4j.io.gpio.digital.DigitalInput;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
 import com.pi4j.io.gpio.digital.DigitalState;
@@ -55,6 +57,9 @@ public class DefaultDigitalInputConfig
     protected PullResistance pullResistance = PullResistance.OFF;
     protected Long debounce = DigitalInput.DEFAULT_DEBOUNCE;
     protected DigitalState onState = DigitalState.HIGH;
+    protected DispatchMode dispatchMode = DispatchMode.SYNC;
+    protected Integer dispatchCapacity = DEFAULT_DISPATCH_CAPACITY;
+    protected OverflowPolicy dispatchOverflow = OverflowPolicy.BLOCK;
 
     /**
      * PRIVATE CONSTRUCTOR
@@ -83,6 +88,17 @@ public class DefaultDigitalInputConfig
         if(properties.containsKey(ON_STATE_KEY)){
             this.onState = DigitalState.parse(properties.get(ON_STATE_KEY));
         }
+
+        // load optional event dispatch mode properties
+        if(properties.containsKey(DISPATCH_MODE_KEY)){
+            this.dispatchMode = DispatchMode.parse(properties.get(DISPATCH_MODE_KEY));
+        }
+        if(properties.containsKey(DISPATCH_CAPACITY_KEY)){
+            this.dispatchCapacity = Integer.parseInt(properties.get(DISPATCH_CAPACITY_KEY));
+        }
+        if(properties.containsKey(DISPATCH_OVERFLOW_KEY)){
+            this.dispatchOverflow = OverflowPolicy.parse(properties.get(DISPATCH_OVERFLOW_KEY));
+        }
     }
 
     /** {@inheritDoc} */
@@ -99,4 +115,22 @@ public class DefaultDigitalInputConfig
     public DigitalState onState() {
         return this.onState;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public DispatchMode dispatchMode() {
+        return this.dispatchMode;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Integer dispatchCapacity() {
+        return this.dispatchCapacity;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public OverflowPolicy dispatchOverflow() {
+        return this.dispatchOverflow;
+    }
 }
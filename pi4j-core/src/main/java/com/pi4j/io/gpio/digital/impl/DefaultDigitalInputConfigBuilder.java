@@ -26,6 +26,9 @@ package com.pi4j.io.gpio.digital.impl;
  */
 
 import com.pi4j.context.Context;
+import com.pi4j.event.DispatchConfig;
+import com.pi4j.event.DispatchMode;
+import com.pi4j.event.OverflowPolicy;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
 import com.pi4j.io.gpio.digital.DigitalInputConfigBuilder;
 import com.pi4j.io.gpio.digital.PullResistance;
@@ -86,4 +89,31 @@ public class DefaultDigitalInputConfigBuilder
     public DigitalInputConfigBuilder debounce(Long interval, TimeUnit units) {
         return debounce(units.toMicros(interval));
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputConfigBuilder dispatch(DispatchMode mode) {
+        if(mode != null) {
+            this.properties.put(DispatchConfig.DISPATCH_MODE_KEY, mode.toString());
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputConfigBuilder dispatchCapacity(Integer capacity) {
+        if(capacity != null) {
+            this.properties.put(DispatchConfig.DISPATCH_CAPACITY_KEY, capacity.toString());
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputConfigBuilder dispatchOverflow(OverflowPolicy policy) {
+        if(policy != null) {
+            this.properties.put(DispatchConfig.DISPATCH_OVERFLOW_KEY, policy.getName());
+        }
+        return this;
+    }
 }
@@ -31,6 +31,7 @@ import com.pi4j.io.IODataReader;
 import com.pi4j.io.IODataWriter;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * I2C I/O Interface for Pi4J I2C Bus/Device Communications
@@ -188,4 +189,32 @@ public interface I2C
      * @param action the action to perform, returning a value
      */
     <T> T execute(Callable<T> action);
+
+    /**
+     * Submits the given action for asynchronous execution on the I2C bus with the default priority
+     *
+     * @param action the action to perform, returning a value
+     * @return a future completed with the result of the action
+     */
+    default <T> CompletableFuture<T> submit(Callable<T> action) {
+        return submit(I2CBusScheduler.DEFAULT_PRIORITY, action);
+    }
+
+    /**
+     * Submits the given action for asynchronous execution on the I2C bus. The actions submitted for the devices
+     * on a bus are run one at a time in priority order, and consecutive actions for this device are run
+     * without releasing the bus in between. By default the action is executed immediately as with
+     * {@link #execute(Callable)}.
+     *
+     * @param priority the priority of the action; higher values run first
+     * @param action   the action to perform, returning a value
+     * @return a future completed with the result of the action, or exceptionally with its failure
+     */
+    default <T> CompletableFuture<T> submit(int priority, Callable<T> action) {
+        try {
+            return CompletableFuture.completedFuture(execute(action));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -31,6 +31,7 @@ import com.pi4j.io.IOBase;
 import com.pi4j.io.i2c.impl.DefaultI2CRegister;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <p>Abstract I2CBase class.</p>
@@ -88,6 +89,13 @@ public abstract class I2CBase<T extends I2CBus> extends IOBase<I2C, I2CConfig, I
         return this.i2CBus.execute(this, action);
     }
 
+    @Override
+    public <V> CompletableFuture<V> submit(int priority, Callable<V> action) {
+        if (action == null)
+            throw new NullPointerException("Parameter 'action' is mandatory!");
+        return this.i2CBus.submit(this, priority, action);
+    }
+
     /**
      * {@inheritDoc}
      */
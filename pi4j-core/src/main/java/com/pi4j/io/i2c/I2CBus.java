@@ -1,6 +1,7 @@
 package com.pi4j.io.i2c;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface defines method to be performed on an I2C bus. Most importantly the {@link #execute(I2C, Callable)}
@@ -19,4 +20,24 @@ public interface I2CBus {
      * @return the result of the action
      */
     <R> R execute(I2C i2c, Callable<R> action);
+
+    /**
+     * Submits the given action for asynchronous execution on the I2C bus. Buses with a scheduler queue the action
+     * and run it in priority order; by default the action is executed immediately as with
+     * {@link #execute(I2C, Callable)}.
+     *
+     * @param i2c      the device for which to perform the action
+     * @param priority the priority of the action; higher values run first
+     * @param action   the action to perform
+     * @param <R>      the result type of the action, if any
+     *
+     * @return a future completed with the result of the action, or exceptionally with its failure
+     */
+    default <R> CompletableFuture<R> submit(I2C i2c, int priority, Callable<R> action) {
+        try {
+            return CompletableFuture.completedFuture(execute(i2c, action));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -5,6 +5,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -22,6 +23,7 @@ public abstract class I2CBusBase implements I2CBus {
     protected final long lockAquireTimeout;
     protected final TimeUnit lockAquireTimeoutUnit;
     private final ReentrantLock lock = new ReentrantLock(true);
+    private I2CBusScheduler scheduler;
 
     public I2CBusBase(I2CConfig config) {
         if (config.bus() == null)
@@ -33,6 +35,32 @@ public abstract class I2CBusBase implements I2CBus {
         this.lockAquireTimeoutUnit = DEFAULT_LOCK_ACQUIRE_TIMEOUT_UNITS;
     }
 
+    /**
+     * Gets the scheduler running the transactions submitted for this bus, creating it on first use.
+     *
+     * @return the scheduler of this bus
+     */
+    public synchronized I2CBusScheduler scheduler() {
+        if (this.scheduler == null)
+            this.scheduler = new I2CBusScheduler(this, "pi4j-i2c-bus-" + this.bus);
+        return this.scheduler;
+    }
+
+    @Override
+    public <R> CompletableFuture<R> submit(I2C i2c, int priority, Callable<R> action) {
+        return scheduler().submit(i2c, priority, action);
+    }
+
+    /**
+     * Closes the scheduler of this bus, if any, cancelling the transactions still queued.
+     */
+    public synchronized void close() {
+        if (this.scheduler != null) {
+            this.scheduler.close();
+            this.scheduler = null;
+        }
+    }
+
     protected <R> R _execute(I2C i2c, Callable<R> action) {
         if (i2c == null)
             throw new NullPointerException("Parameter 'i2c' is mandatory!");
@@ -0,0 +1,291 @@
+package com.pi4j.io.i2c;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  I2CBusScheduler.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import com.pi4j.event.DispatchLatency;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Asynchronous, prioritized scheduler of the transactions on one I2C bus.</p>
+ *
+ * <p>Callers submit transactions and receive a {@link CompletableFuture} of the result; a single worker
+ * thread per bus runs them in priority order (higher values first, in submission order for equal
+ * priorities) instead of letting the callers convoy on the bus lock.  Pending transactions of the same
+ * priority for the device of the transaction about to run are merged into one batch, which holds the bus
+ * for the whole batch so the device is selected only once.  The worker is started on demand and stops
+ * after being idle for the keep-alive time.</p>
+ */
+public class I2CBusScheduler implements AutoCloseable {
+
+    /** Priority of transactions submitted without an explicit priority */
+    public static final int DEFAULT_PRIORITY = 0;
+    /** Default maximum number of transactions run in one batch */
+    public static final int DEFAULT_MAX_BATCH = 16;
+    /** Default time an idle worker thread waits for new transactions */
+    public static final long DEFAULT_KEEP_ALIVE_MILLIS = 1000;
+
+    private static final Comparator<Transaction<?>> ORDER = Comparator
+        .comparingInt((Transaction<?> t) -> -t.priority)
+        .thenComparingLong(t -> t.sequence);
+
+    private final I2CBus bus;
+    private final String name;
+    private final int maxBatch;
+    private final long keepAliveMillis;
+    private final PriorityBlockingQueue<Transaction<?>> queue = new PriorityBlockingQueue<>(16, ORDER);
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder merged = new LongAdder();
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+    private final DispatchLatency waitTime = new DispatchLatency();
+    private final Object lock = new Object();
+    private Thread worker;
+    private boolean closed;
+
+    /**
+     * <p>Constructor for I2CBusScheduler.</p>
+     *
+     * @param bus  the bus the transactions are executed on
+     * @param name name of the worker thread
+     */
+    public I2CBusScheduler(I2CBus bus, String name) {
+        this(bus, name, DEFAULT_MAX_BATCH, DEFAULT_KEEP_ALIVE_MILLIS);
+    }
+
+    /**
+     * <p>Constructor for I2CBusScheduler.</p>
+     *
+     * @param bus             the bus the transactions are executed on
+     * @param name            name of the worker thread
+     * @param maxBatch        maximum number of transactions run in one batch; 1 disables merging
+     * @param keepAliveMillis time an idle worker thread waits for new transactions
+     */
+    public I2CBusScheduler(I2CBus bus, String name, int maxBatch, long keepAliveMillis) {
+        if (bus == null)
+            throw new NullPointerException("Parameter 'bus' is mandatory!");
+        if (maxBatch < 1)
+            throw new IllegalArgumentException("maxBatch must be greater than zero: " + maxBatch);
+        this.bus = bus;
+        this.name = name;
+        this.maxBatch = maxBatch;
+        this.keepAliveMillis = keepAliveMillis;
+    }
+
+    /**
+     * Queue a transaction for execution on the bus.
+     *
+     * @param i2c      the device the transaction is performed for
+     * @param priority priority of the transaction; higher values run first
+     * @param action   the transaction, typically performing several reads and/or writes on the device
+     * @param <R>      the result type of the transaction
+     * @return future completed with the result of the transaction, or exceptionally with its failure
+     */
+    public <R> CompletableFuture<R> submit(I2C i2c, int priority, Callable<R> action) {
+        if (i2c == null)
+            throw new NullPointerException("Parameter 'i2c' is mandatory!");
+        if (action == null)
+            throw new NullPointerException("Parameter 'action' is mandatory!");
+        Transaction<R> transaction = new Transaction<>(i2c, priority, sequence.getAndIncrement(), action);
+        synchronized (lock) {
+            if (closed) {
+                transaction.future.completeExceptionally(new CancellationException("I2C bus scheduler " + name + " is closed"));
+                return transaction.future;
+            }
+            queue.add(transaction);
+            if (worker == null) {
+                worker = new Thread(this::run, name);
+                worker.setDaemon(true);
+                worker.start();
+            }
+        }
+        submitted.increment();
+        maxQueueDepth.accumulate(queue.size());
+        return transaction.future;
+    }
+
+    private void run() {
+        try {
+            for (;;) {
+                Transaction<?> next = queue.poll(keepAliveMillis, TimeUnit.MILLISECONDS);
+                if (next == null) {
+                    synchronized (lock) {
+                        if (queue.isEmpty()) {
+                            worker = null;
+                            return;
+                        }
+                    }
+                    continue;
+                }
+                execute(batch(next));
+            }
+        } catch (InterruptedException e) {
+            synchronized (lock) {
+                worker = null;
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<Transaction<?>> batch(Transaction<?> first) {
+        List<Transaction<?>> batch = new ArrayList<>();
+        batch.add(first);
+        if (maxBatch > 1) {
+            for (Transaction<?> t : queue) {
+                if (t.priority == first.priority && t.i2c.device() == first.i2c.device()) batch.add(t);
+            }
+            if (batch.size() > 1) {
+                batch.sort(ORDER);
+                if (batch.size() > maxBatch) batch.subList(maxBatch, batch.size()).clear();
+                for (int i = 1; i < batch.size(); i++) queue.remove(batch.get(i));
+                merged.add(batch.size() - 1);
+            }
+        }
+        return batch;
+    }
+
+    private void execute(List<Transaction<?>> batch) {
+        batches.increment();
+        for (Transaction<?> t : batch) waitTime.record(t.queued);
+        try {
+            bus.execute(batch.get(0).i2c, () -> {
+                for (Transaction<?> t : batch) t.run();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // the bus could not be acquired; fail whatever did not run
+            for (Transaction<?> t : batch) t.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Stop accepting transactions and cancel the pending ones; a batch already running completes.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+        }
+        Transaction<?> t;
+        while ((t = queue.poll()) != null) t.future.cancel(false);
+    }
+
+    /**
+     * <p>queueDepth.</p>
+     *
+     * @return number of transactions waiting to be run
+     */
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * <p>maxQueueDepth.</p>
+     *
+     * @return highest number of transactions waiting at the same time
+     */
+    public long maxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * <p>submitted.</p>
+     *
+     * @return number of transactions submitted
+     */
+    public long submitted() {
+        return submitted.sum();
+    }
+
+    /**
+     * <p>batches.</p>
+     *
+     * @return number of batches run; each batch acquires the bus once
+     */
+    public long batches() {
+        return batches.sum();
+    }
+
+    /**
+     * <p>merged.</p>
+     *
+     * @return number of transactions merged into the batch of a preceding transaction for the same device
+     */
+    public long merged() {
+        return merged.sum();
+    }
+
+    /**
+     * <p>waitTime.</p>
+     *
+     * @return statistic of the time transactions waited in the queue before being run
+     */
+    public DispatchLatency waitTime() {
+        return waitTime;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format("%s [queued=%d, max-queued=%d, submitted=%d, batches=%d, merged=%d, wait: %s]",
+            name, queueDepth(), maxQueueDepth(), submitted(), batches(), merged(), waitTime);
+    }
+
+    private static final class Transaction<R> {
+        private final I2C i2c;
+        private final int priority;
+        private final long sequence;
+        private final Callable<R> action;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+        private final long queued = System.nanoTime();
+
+        private Transaction(I2C i2c, int priority, long sequence, Callable<R> action) {
+            this.i2c = i2c;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.action = action;
+        }
+
+        private void run() {
+            if (future.isDone()) return;
+            try {
+                future.complete(action.call());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -146,4 +146,16 @@ public class DefaultProviders implements Providers {
     public <T extends Provider> T get(String providerId) throws ProviderNotFoundException {
         return providers.get(providerId);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Provider> T get(Class<T> providerClass) throws ProviderNotFoundException {
+        return providers.get(providerClass);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Provider> T get(IOType ioType) throws ProviderNotFoundException {
+        return providers.get(ioType);
+    }
 }
@@ -51,6 +51,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -71,6 +72,9 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
     // all detected/available providers
     private Map<String, Provider> providers = new ConcurrentHashMap<>();
 
+    // IDs of the providers only used when requested by ID
+    private Set<String> additional = ConcurrentHashMap.newKeySet();
+
     private ProviderGroup<AnalogInputProvider> _analogInput = new ProviderGroup<>(this, IOType.ANALOG_INPUT);
     private ProviderGroup<AnalogOutputProvider> _analogOutput = new ProviderGroup<>(this, IOType.ANALOG_OUTPUT);
     private ProviderGroup<DigitalInputProvider> _digitalInput = new ProviderGroup<>(this, IOType.DIGITAL_INPUT);
@@ -179,6 +183,41 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
         return Collections.unmodifiableMap(result);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Additional providers are only returned if no default provider is an instance of the given class.
+     */
+    @Override
+    public <T extends Provider> T get(Class<T> providerClass) throws ProviderNotFoundException {
+        var subset = all(providerClass);
+        if(subset.isEmpty()){
+            throw new ProviderNotFoundException(providerClass);
+        }
+        return preferDefault(subset);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Additional providers are only returned if there is no default provider of the given type.
+     */
+    @Override
+    public <T extends Provider> T get(IOType ioType) throws ProviderNotFoundException {
+        Map<String, T> subset = all(ioType);
+        if(subset.isEmpty()){
+            throw new ProviderNotFoundException(ioType);
+        }
+        return preferDefault(subset);
+    }
+
+    private <T extends Provider> T preferDefault(Map<String, T> subset) {
+        for(T provider : subset.values()){
+            if(!additional.contains(provider.id())) return provider;
+        }
+        return subset.values().iterator().next();
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean exists(String providerId) {
@@ -311,6 +350,7 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
 
         // remove from managed set
         var removedProvider = providers.remove(providerId);
+        additional.remove(providerId);
         if(removedProvider != null) {
             logger.debug("removed provider from managed provider map [id={}; name={}; class={}]",
                     removedProvider.id(), removedProvider.name(), removedProvider.getClass().getName());
@@ -344,6 +384,12 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
     /** {@inheritDoc} */
     @Override
     public RuntimeProviders initialize(Collection<Provider> providers) throws InitializeException {
+        return initialize(providers, Collections.emptyList());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RuntimeProviders initialize(Collection<Provider> providers, Collection<Provider> additional) throws InitializeException {
 
         // iterate over all defined platforms and initialize each
         if(providers != null && !providers.isEmpty()) {
@@ -365,6 +411,21 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
             }
         }
 
+        // additional providers never replace a default provider; they are addressed by ID only
+        if(additional != null && !additional.isEmpty()) {
+            logger.trace("adding additional providers: [count={}]", additional.size());
+            for (Provider provider : additional) {
+                if (provider == null) continue;
+                try {
+                    add(provider);
+                    this.additional.add(provider.id());
+                } catch (Exception ex) {
+                    logger.error("unable to 'initialize()' provider: [id={}; name={}]; {}",
+                            provider.id(), provider.name(), ex.getMessage());
+                }
+            }
+        }
+
         logger.debug("providers loaded [{}]", this.providers.size());
         return this;
     }
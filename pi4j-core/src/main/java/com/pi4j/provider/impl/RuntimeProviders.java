@@ -59,4 +59,17 @@ public interface RuntimeProviders extends Providers {
      * @throws com.pi4j.exception.InitializeException if any.
      */
     RuntimeProviders initialize(Collection<Provider> providers) throws InitializeException;
+    /**
+     * <p>initialize.</p>
+     *
+     * Implementations that do not support additional providers only initialize the default providers.
+     *
+     * @param providers the default providers; at most one per I/O type
+     * @param additional providers only used when requested by their ID
+     * @return a {@link com.pi4j.provider.impl.RuntimeProviders} object.
+     * @throws com.pi4j.exception.InitializeException if any.
+     */
+    default RuntimeProviders initialize(Collection<Provider> providers, Collection<Provider> additional) throws InitializeException {
+        return initialize(providers);
+    }
 }
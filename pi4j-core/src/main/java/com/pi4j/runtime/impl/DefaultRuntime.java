@@ -256,6 +256,7 @@ public class DefaultRuntime implements Runtime {
             // container sets for providers and platforms to load
             Set<Platform> platforms = new HashSet<>();
             Map<IOType, Provider> providers = new HashMap<>();
+            List<Provider> additionalProviders = new ArrayList<>();
 
             // only attempt to load platforms and providers from the classpath if an auto detect option is enabled
             ContextConfig config = context.config();
@@ -285,6 +286,7 @@ public class DefaultRuntime implements Runtime {
                         // then add any detected providers to the collection to load
                         if (config.autoDetectProviders()) {
                             store.providers.forEach(provider -> addProvider(provider, providers));
+                            additionalProviders.addAll(store.additionalProviders);
                         }
 
                         // if auto-detect platforms is enabled,
@@ -315,7 +317,7 @@ public class DefaultRuntime implements Runtime {
             this.registry.initialize();
 
             // initialize all providers
-            this.providers.initialize(providers.values());
+            this.providers.initialize(providers.values(), additionalProviders);
 
             // initialize all platforms
             this.platforms.initialize(platforms);
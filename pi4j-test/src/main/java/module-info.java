@@ -39,14 +39,20 @@ module com.pi4j.test {
 
     // TEST
     requires com.pi4j.plugin.gpiod;
+    requires com.pi4j.library.gpiod;
     uses com.pi4j.plugin.gpiod.GpioDPlugin;
     uses com.pi4j.plugin.gpiod.provider.gpio.digital.GpioDDigitalOutput;
     uses com.pi4j.plugin.gpiod.provider.gpio.digital.GpioDDigitalOutputProvider;
 
+    requires com.pi4j.library.pigpio;
+    requires com.pi4j.library.linuxfs;
+
     requires com.pi4j.plugin.linuxfs;
     uses com.pi4j.plugin.linuxfs.LinuxFsPlugin;
     uses com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalOutput;
     uses com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalOutputProvider;
+
+    requires com.pi4j.plugin.pigpio;
     // TEST END
 
     uses com.pi4j.plugin.mock.platform.MockPlatform;
@@ -0,0 +1,105 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalEdgeListenerBenchmark.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-edge cost of the primitive {@link com.pi4j.io.gpio.digital.DigitalEdgeListener}
+ * path versus the object based {@link com.pi4j.io.gpio.digital.DigitalStateChangeListener} path.
+ *
+ * Run with the GC profiler to see allocations per edge ("gc.alloc.rate.norm"); the
+ * edge listener path reports 0 B/op once warmed up:
+ * <pre>
+ *     mvn -pl pi4j-test test-compile exec:java -Dexec.classpathScope=test \
+ *         -Dexec.mainClass=com.pi4j.test.io.gpio.digital.DigitalEdgeListenerBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DigitalEdgeListenerBenchmark {
+
+    private Context pi4j;
+    private MockDigitalInput edgeInput;
+    private MockDigitalInput eventInput;
+    private boolean high;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        pi4j = Pi4J.newContextBuilder().add(MockDigitalInputProvider.newInstance()).build();
+
+        edgeInput = (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("edge-input").address(1).build());
+        edgeInput.addEdgeListener((pin, high, timestampNanos) -> blackhole.consume(timestampNanos));
+
+        eventInput = (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("event-input").address(2).build());
+        eventInput.addListener(event -> blackhole.consume(event.state()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        pi4j.shutdown();
+    }
+
+    @Benchmark
+    public void edgeListener() {
+        high = !high;
+        edgeInput.mockState(high ? DigitalState.HIGH : DigitalState.LOW);
+    }
+
+    @Benchmark
+    public void stateChangeListener() {
+        high = !high;
+        eventInput.mockState(high ? DigitalState.HIGH : DigitalState.LOW);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(DigitalEdgeListenerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
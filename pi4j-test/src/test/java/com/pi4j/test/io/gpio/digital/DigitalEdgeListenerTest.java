@@ -0,0 +1,126 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalEdgeListenerTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalEdgeListener;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class DigitalEdgeListenerTest {
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK digital input provider
+        pi4j = Pi4J.newContextBuilder().add(MockDigitalInputProvider.newInstance()).build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    @Test
+    public void testEdgeListener() {
+        var input = (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("test-input").address(7).build());
+
+        int[] pin = new int[1];
+        boolean[] high = new boolean[1];
+        AtomicInteger edges = new AtomicInteger();
+        AtomicInteger events = new AtomicInteger();
+        DigitalEdgeListener listener = (p, h, timestampNanos) -> {
+            pin[0] = p;
+            high[0] = h;
+            edges.incrementAndGet();
+        };
+        input.addEdgeListener(listener);
+        input.addListener(event -> events.incrementAndGet());
+
+        input.mockState(DigitalState.HIGH);
+        assertEquals(7, pin[0]);
+        assertTrue(high[0]);
+        input.mockState(DigitalState.LOW);
+        assertFalse(high[0]);
+
+        // both the primitive and the object listeners are notified
+        assertEquals(2, edges.get());
+        assertEquals(2, events.get());
+
+        input.removeEdgeListener(listener);
+        input.mockState(DigitalState.HIGH);
+        assertEquals(2, edges.get());
+        assertEquals(3, events.get());
+    }
+
+    @Test
+    public void testEdgeListenerDoesNotAllocate() {
+        var input = (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("test-input").address(1).build());
+
+        long[] count = new long[1];
+        input.addEdgeListener((pin, high, timestampNanos) -> count[0]++);
+
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int edges = 100_000;
+
+        // warm up
+        toggle(input, edges);
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        toggle(input, edges);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(2L * edges, count[0]);
+        assertTrue(allocated < edges, "expected no per-edge allocation, but " + allocated + " bytes were allocated for " + edges + " edges");
+    }
+
+    private static void toggle(MockDigitalInput input, int edges) {
+        for (int i = 0; i < edges; i++) {
+            input.mockState((i % 2 == 0) ? DigitalState.HIGH : DigitalState.LOW);
+        }
+    }
+}
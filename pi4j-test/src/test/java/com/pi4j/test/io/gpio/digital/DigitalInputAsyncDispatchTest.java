@@ -0,0 +1,203 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalInputAsyncDispatchTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.event.DispatchMode;
+import com.pi4j.event.OverflowPolicy;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.DigitalStateChangeEvent;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class DigitalInputAsyncDispatchTest {
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK digital input provider
+        pi4j = Pi4J.newContextBuilder().add(MockDigitalInputProvider.newInstance()).build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    @Test
+    public void testConfigDefaults() {
+        var config = DigitalInput.newConfigBuilder(pi4j)
+            .id("test-input")
+            .address(1)
+            .build();
+
+        assertEquals(DispatchMode.SYNC, config.dispatchMode());
+        assertEquals(OverflowPolicy.BLOCK, config.dispatchOverflow());
+    }
+
+    @Test
+    public void testAsyncDispatchInOrder() throws InterruptedException {
+        var config = DigitalInput.newConfigBuilder(pi4j)
+            .id("test-input")
+            .address(1)
+            .asyncDispatch(64, OverflowPolicy.BLOCK)
+            .build();
+        assertEquals(DispatchMode.ASYNC, config.dispatchMode());
+        assertEquals(64, config.dispatchCapacity());
+
+        var input = (MockDigitalInput) pi4j.din().create(config);
+
+        Thread producer = Thread.currentThread();
+        AtomicReference<Thread> dispatcher = new AtomicReference<>();
+        List<DigitalState> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(10);
+        input.addListener(event -> {
+            dispatcher.set(Thread.currentThread());
+            received.add(event.state());
+            latch.countDown();
+        });
+
+        for (int i = 0; i < 10; i++) {
+            input.mockState((i % 2 == 0) ? DigitalState.HIGH : DigitalState.LOW);
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        // listeners run on the dispatch thread, never on the thread that changed the state
+        assertNotNull(dispatcher.get());
+        assertNotSame(producer, dispatcher.get());
+        for (int i = 0; i < 10; i++) {
+            assertEquals((i % 2 == 0) ? DigitalState.HIGH : DigitalState.LOW, received.get(i));
+        }
+    }
+
+    @Test
+    public void testAsyncDispatchConflate() throws InterruptedException {
+        var config = DigitalInput.newConfigBuilder(pi4j)
+            .id("test-input")
+            .address(1)
+            .asyncDispatch(2, OverflowPolicy.CONFLATE)
+            .build();
+        var input = (MockDigitalInput) pi4j.din().create(config);
+
+        // hold the first event in the listener so that further events pile up in the buffer
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch first = new CountDownLatch(1);
+        List<DigitalState> received = new CopyOnWriteArrayList<>();
+        input.addListener(event -> {
+            first.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) { /* do nothing */ }
+            received.add(event.state());
+        });
+
+        input.mockState(DigitalState.HIGH);
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+
+        // the producer must never wait for the blocked listener
+        for (int i = 0; i < 101; i++) {
+            input.mockState((i % 2 == 0) ? DigitalState.LOW : DigitalState.HIGH);
+        }
+        release.countDown();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (received.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+
+        // only a handful of events survive and the latest state is always delivered last
+        assertTrue(received.size() <= 3);
+        assertEquals(DigitalState.LOW, received.get(received.size() - 1));
+    }
+
+    @Test
+    public void testAsyncDispatchDropOldest() throws InterruptedException {
+        var config = DigitalInput.newConfigBuilder(pi4j)
+            .id("test-input")
+            .address(1)
+            .asyncDispatch(2, OverflowPolicy.DROP_OLDEST)
+            .build();
+        var input = (MockDigitalInput) pi4j.din().create(config);
+
+        // hold the first event in the listener so that further events pile up in the buffer
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch first = new CountDownLatch(1);
+        List<DigitalStateChangeEvent> received = new CopyOnWriteArrayList<>();
+        input.addListener(event -> {
+            first.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) { /* do nothing */ }
+            received.add(event);
+        });
+
+        input.mockState(DigitalState.HIGH);
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+
+        // the producer must never wait for the blocked listener; only the last two events fit the buffer
+        long newest = 0;
+        for (int i = 0; i < 10; i++) {
+            if (i == 8) newest = System.nanoTime();
+            input.mockState((i % 2 == 0) ? DigitalState.LOW : DigitalState.HIGH);
+        }
+        release.countDown();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (received.size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+
+        // the first event and the two newest ones are delivered in order, the seven oldest are dropped
+        assertEquals(3, received.size());
+        assertTrue(received.get(0).timestamp() < newest);
+        assertEquals(DigitalState.LOW, received.get(1).state());
+        assertTrue(received.get(1).timestamp() >= newest);
+        assertEquals(DigitalState.HIGH, received.get(2).state());
+        assertTrue(received.get(2).timestamp() >= received.get(1).timestamp());
+    }
+}
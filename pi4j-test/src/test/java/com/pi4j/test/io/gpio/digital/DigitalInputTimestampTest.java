@@ -0,0 +1,134 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalInputTimestampTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.DigitalStateChangeEvent;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class DigitalInputTimestampTest {
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK digital input provider
+        pi4j = Pi4J.newContextBuilder().add(MockDigitalInputProvider.newInstance()).build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    @Test
+    public void testEventTimestamp() {
+        var input = (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("test-input").address(1).build());
+
+        List<DigitalStateChangeEvent> events = new ArrayList<>();
+        long[] edge = new long[1];
+        input.addListener(events::add);
+        input.addEdgeListener((pin, high, timestampNanos) -> edge[0] = timestampNanos);
+
+        long before = System.nanoTime();
+        input.mockState(DigitalState.HIGH);
+        long after = System.nanoTime();
+
+        assertEquals(1, events.size());
+        long timestamp = events.get(0).timestamp();
+        assertTrue(timestamp >= before && timestamp <= after);
+
+        // edge listeners and state change listeners observe the same timestamp
+        assertEquals(timestamp, edge[0]);
+
+        input.mockState(DigitalState.LOW);
+        assertTrue(events.get(1).timestamp() >= timestamp);
+    }
+
+    @Test
+    public void testDispatchLatency() {
+        var input = (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("test-input").address(1).build());
+
+        var latency = pi4j.dispatchLatency();
+        latency.reset();
+
+        // no listeners; nothing is recorded
+        input.mockState(DigitalState.HIGH);
+        assertEquals(0, latency.count());
+
+        input.addListener(event -> { });
+        input.mockState(DigitalState.LOW);
+        input.mockState(DigitalState.HIGH);
+        assertEquals(2, latency.count());
+        assertTrue(latency.min() >= 0);
+        assertTrue(latency.max() >= latency.min());
+        assertTrue(latency.average() <= latency.max());
+
+        // each edge is recorded once, whichever kinds of listeners it is dispatched to
+        input.addEdgeListener((pin, high, timestampNanos) -> { });
+        input.mockState(DigitalState.LOW);
+        assertEquals(3, latency.count());
+
+        latency.reset();
+        assertEquals(0, latency.count());
+        assertEquals(0, latency.max());
+    }
+
+    @Test
+    public void testEdgeListenerDispatchLatency() {
+        var input = (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("test-input").address(1).build());
+
+        var latency = pi4j.dispatchLatency();
+        latency.reset();
+
+        // edges delivered to edge listeners only are recorded as well
+        input.addEdgeListener((pin, high, timestampNanos) -> { });
+        input.mockState(DigitalState.HIGH);
+        input.mockState(DigitalState.LOW);
+        assertEquals(2, latency.count());
+    }
+}
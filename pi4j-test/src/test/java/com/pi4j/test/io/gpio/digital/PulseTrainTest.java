@@ -0,0 +1,60 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PulseTrainTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.PulseTrain;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PulseTrainTest {
+
+    @Test
+    public void testBuilder() {
+        PulseTrain train = PulseTrain.builder()
+                .pulses(4, 10, 20, 100)
+                .delay(500)
+                .step(1L << 17 | 1L << 18, 1L << 4, 7)
+                .build();
+
+        assertEquals(202, train.size());
+        assertEquals(1L << 4, train.setMask(0));
+        assertEquals(0, train.clearMask(0));
+        assertEquals(10, train.delayMicros(0));
+        assertEquals(1L << 4, train.clearMask(1));
+        assertEquals(20, train.delayMicros(1));
+        assertEquals(3000 + 500 + 7, train.durationMicros());
+        assertEquals(1L << 4 | 1L << 17 | 1L << 18, train.addressMask());
+    }
+
+    @Test
+    public void testInvalidSteps() {
+        assertThrows(IllegalArgumentException.class, () -> PulseTrain.builder().step(1, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> PulseTrain.builder().high(64, 10));
+        assertThrows(IllegalArgumentException.class, () -> PulseTrain.builder().delay(-1));
+        assertThrows(IllegalStateException.class, () -> PulseTrain.builder().build());
+    }
+}
@@ -0,0 +1,147 @@
+package com.pi4j.test.io.i2c;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  I2CBusSchedulerTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.i2c.I2C;
+import com.pi4j.io.i2c.I2CBus;
+import com.pi4j.io.i2c.I2CBusScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class I2CBusSchedulerTest {
+
+    private Context pi4j;
+    private I2C a;
+    private I2C b;
+    private final AtomicInteger acquired = new AtomicInteger();
+    private final I2CBus bus = new I2CBus() {
+        @Override
+        public synchronized <R> R execute(I2C i2c, Callable<R> action) {
+            acquired.incrementAndGet();
+            try {
+                return action.call();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    };
+
+    @BeforeEach
+    public void beforeTest() {
+        pi4j = Pi4J.newAutoContext();
+        a = pi4j.i2c().create(1, 0x10);
+        b = pi4j.i2c().create(1, 0x20);
+    }
+
+    @AfterEach
+    public void afterTest() {
+        pi4j.shutdown();
+    }
+
+    @Test
+    public void testPriorityAndMerging() throws Exception {
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (I2CBusScheduler scheduler = new I2CBusScheduler(bus, "test-bus")) {
+            scheduler.submit(a, 0, () -> {
+                started.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            scheduler.submit(a, 0, () -> order.add("a1"));
+            scheduler.submit(b, 10, () -> order.add("b1"));
+            scheduler.submit(a, 0, () -> order.add("a2"));
+            scheduler.submit(b, 0, () -> order.add("b2"));
+            scheduler.submit(b, 10, () -> order.add("b3"));
+            assertEquals(5, scheduler.queueDepth());
+            assertEquals(5, scheduler.maxQueueDepth());
+            release.countDown();
+            // runs after everything queued before
+            assertTrue(scheduler.submit(a, -1, () -> true).get(5, TimeUnit.SECONDS));
+
+            assertEquals(List.of("b1", "b3", "a1", "a2", "b2"), order);
+            assertEquals(7, scheduler.submitted());
+            assertEquals(2, scheduler.merged());
+            assertEquals(5, scheduler.batches());
+            assertEquals(5, acquired.get());
+            assertEquals(7, scheduler.waitTime().count());
+        }
+    }
+
+    @Test
+    public void testFailureAndClose() throws Exception {
+        I2CBusScheduler scheduler = new I2CBusScheduler(bus, "test-bus", 1, 100);
+        CompletableFuture<Integer> failed = scheduler.submit(a, 0, () -> {
+            throw new IllegalStateException("nack");
+        });
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertEquals(42, scheduler.submit(a, 0, () -> 42).get(5, TimeUnit.SECONDS));
+
+        scheduler.close();
+        assertTrue(scheduler.submit(a, 0, () -> 1).isCompletedExceptionally());
+    }
+
+    @Test
+    public void testDeviceSubmit() throws Exception {
+        a.writeRegister(3, new byte[]{ 0x55, 0x55 });
+        assertEquals(0x55, a.submit(() -> a.readRegister(3)).get(5, TimeUnit.SECONDS));
+        assertEquals(0x55, a.submit(10, () -> a.readRegister(3)).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testProviderShutdownClosesBus() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = a.submit(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Integer> queued = b.submit(() -> 1);
+
+        // shutting down the provider closes the scheduler of the bus shared by both devices
+        pi4j.shutdown();
+        assertTrue(queued.isCancelled());
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,150 @@
+package com.pi4j.test.library.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  MappedRegionTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import com.pi4j.library.linuxfs.LinuxFile;
+import com.pi4j.library.linuxfs.MappedRegion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class MappedRegionTest {
+
+    private Path file;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        file = Files.createTempFile("pi4j-mapped", ".bin");
+        Files.write(file, new byte[8192]);
+    }
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testRegisterAccess() throws Exception {
+        try (MappedRegion region = MappedRegion.map(file, 4096, 64)) {
+            assertEquals(64, region.length());
+            region.writeInt(0, 0x12345678);
+            region.writeInt(60, -1);
+            assertEquals(0x12345678, region.readInt(0));
+            assertEquals(0x12345FF8, region.updateInt(0, 0x0FF0, 0xFFFF));
+            assertEquals(0x12345FF8, region.readInt(0));
+            assertEquals(-1, region.readInt(60));
+        }
+
+        // the writes reached the file, in native byte order
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.nativeOrder());
+        assertEquals(0x12345FF8, content.getInt(4096));
+        assertEquals(-1, content.getInt(4096 + 60));
+        assertEquals(0, content.getInt(0));
+    }
+
+    @Test
+    public void testMapLinuxFile() throws Exception {
+        // the mmap(2) path used for /dev/gpiomem needs the linuxfs native library
+        LinuxFile linuxFile;
+        try {
+            linuxFile = new LinuxFile(file.toString(), "rw");
+        } catch (LinkageError e) {
+            assumeTrue(false, "linuxfs native library not available: " + e);
+            return;
+        }
+        MappedRegion region;
+        try (linuxFile) {
+            assertThrows(IllegalArgumentException.class, () -> MappedRegion.map(linuxFile, 4096, 0));
+            region = MappedRegion.map(linuxFile, 4096, 64);
+        }
+
+        // the mapping outlives the file it was created from
+        assertEquals(4096, region.offset());
+        region.writeInt(0, 0x12345678);
+        assertEquals(0x12345FF8, region.updateInt(0, 0x0FF0, 0xFFFF));
+        assertEquals(0x12345FF8, region.readInt(0));
+        region.close();
+        assertFalse(region.isOpen());
+        assertThrows(IllegalStateException.class, () -> region.readInt(0));
+
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.nativeOrder());
+        assertEquals(0x12345FF8, content.getInt(4096));
+        assertEquals(0, content.getInt(0));
+    }
+
+    @Test
+    public void testBoundsAndUnmap() throws Exception {
+        MappedRegion region = MappedRegion.map(file, 0, 16);
+        assertThrows(IndexOutOfBoundsException.class, () -> region.readInt(16));
+        assertThrows(IndexOutOfBoundsException.class, () -> region.writeInt(-4, 0));
+        assertThrows(IllegalArgumentException.class, () -> region.readInt(2));
+        assertThrows(IllegalArgumentException.class, () -> MappedRegion.map(file, 0, 0));
+
+        region.close();
+        assertFalse(region.isOpen());
+        assertThrows(IllegalStateException.class, () -> region.readInt(0));
+        region.close();
+    }
+
+    @Test
+    public void testConcurrentClose() throws Exception {
+        MappedRegion region = MappedRegion.map(file, 0, 16);
+        CountDownLatch running = new CountDownLatch(4);
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                running.countDown();
+                try {
+                    for (int i = 0; ; i++) region.updateInt(4, 0xFF, region.readInt(0) + i);
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // every access either completes before the region is unmapped or fails cleanly afterwards
+        region.close();
+        for (Thread thread : threads) thread.join(5000);
+        assertEquals(4, failures.size());
+        for (Throwable failure : failures) assertEquals(IllegalStateException.class, failure.getClass());
+    }
+}
@@ -0,0 +1,255 @@
+package com.pi4j.test.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioAsyncTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioAsync;
+import com.pi4j.library.pigpio.PiGpioBatch;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioMetrics;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
+import com.pi4j.library.pigpio.PiGpioSelector;
+import com.pi4j.library.pigpio.emulator.PiGpioEmulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiGpioAsyncTest {
+
+    private PiGpioSelector selector;
+    private PiGpioEmulator daemon;
+    private PiGpioAsync piGpio;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        selector = new PiGpioSelector("pigpio-selector-test");
+        daemon = new PiGpioEmulator();
+        piGpio = PiGpio.newAsyncSocketInstance("127.0.0.1", daemon.port(), selector);
+        piGpio.initialize();
+    }
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        piGpio.shutdown();
+        daemon.close();
+        selector.close();
+    }
+
+    @Test
+    public void testBlockingCommands() {
+        assertEquals(PiGpioEmulator.VERSION, piGpio.gpioVersion());
+        piGpio.gpioWrite(17, PiGpioState.HIGH);
+        assertEquals(PiGpioState.HIGH, piGpio.gpioRead(17));
+        assertEquals(1 << 17, piGpio.gpioRead_Bits_0_31());
+    }
+
+    @Test
+    public void testPipelinedRequests() {
+        List<CompletableFuture<PiGpioState>> reads = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int pin = i % 54;
+            piGpio.gpioWriteAsync(pin, PiGpioState.from(i & 1));
+            reads.add(piGpio.gpioReadAsync(pin));
+        }
+        // each read is answered after the write queued just before it on the same connection
+        for (int i = 0; i < reads.size(); i++) {
+            assertEquals(PiGpioState.from(i & 1), reads.get(i).join());
+        }
+    }
+
+    @Test
+    public void testBatch() {
+        PiGpioBatch batch = new PiGpioBatch().gpioWrite(4, PiGpioState.HIGH).gpioRead(4).gpioRead(5);
+        assertSame(batch, piGpio.executeAsync(batch).join());
+        assertEquals(1, batch.result(1));
+        assertEquals(0, batch.result(2));
+    }
+
+    @Test
+    public void testSharedSelector() throws Exception {
+        try (PiGpioEmulator other = new PiGpioEmulator()) {
+            PiGpioAsync second = PiGpio.newAsyncSocketInstance("127.0.0.1", other.port(), selector);
+            second.connectAsync().join();
+            second.initialize();
+            CompletableFuture<Void> a = piGpio.gpioWriteAsync(22, PiGpioState.HIGH);
+            CompletableFuture<Void> b = second.gpioWriteAsync(23, PiGpioState.HIGH);
+            CompletableFuture.allOf(a, b).join();
+            assertEquals(1, daemon.level(22));
+            assertEquals(0, daemon.level(23));
+            assertEquals(0, other.level(22));
+            assertEquals(1, other.level(23));
+            second.shutdown();
+        }
+    }
+
+    @Test
+    public void testNotificationsOnSharedSelector() throws Exception {
+        try (PiGpioEmulator other = new PiGpioEmulator()) {
+            PiGpioAsync second = PiGpio.newAsyncSocketInstance("127.0.0.1", other.port(), selector);
+            second.initialize();
+            BlockingQueue<PiGpioStateChangeEvent> events = new LinkedBlockingQueue<>();
+            BlockingQueue<String> threads = new LinkedBlockingQueue<>();
+            piGpio.addPinListener(4, event -> {
+                threads.add(Thread.currentThread().getName());
+                events.add(event);
+            });
+            second.addPinListener(5, event -> {
+                threads.add(Thread.currentThread().getName());
+                events.add(event);
+            });
+            awaitNotifyBits(daemon, 1 << 4);
+            awaitNotifyBits(other, 1 << 5);
+
+            daemon.level(4, 1);
+            PiGpioStateChangeEvent event = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event);
+            assertEquals(4, event.pin());
+            assertEquals(PiGpioState.HIGH, event.state());
+
+            other.level(5, 1);
+            event = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event);
+            assertEquals(5, event.pin());
+            assertEquals(PiGpioState.HIGH, event.state());
+
+            // the reports of both daemons are decoded by the one selector thread, but each daemon
+            // calls its listeners on its own dispatch thread
+            assertEquals("pigpio-notify-127.0.0.1:" + daemon.port(), threads.poll());
+            assertEquals("pigpio-notify-127.0.0.1:" + other.port(), threads.poll());
+
+            // a lost report is detected from the sequence numbers; the emulator sent sequence 0 above
+            byte[] reports = new byte[24];
+            System.arraycopy(PiGpioEmulator.report(1, 0, 1000, 0), 0, reports, 0, 12);
+            System.arraycopy(PiGpioEmulator.report(3, 0, 2000, 1 << 5), 0, reports, 12, 12);
+            other.sendNotification(reports, 0, reports.length);
+            assertEquals(PiGpioState.LOW, events.poll(5, TimeUnit.SECONDS).state());
+            assertEquals(PiGpioState.HIGH, events.poll(5, TimeUnit.SECONDS).state());
+            assertEquals(1, second.gpioNotificationsLost());
+            second.shutdown();
+        }
+    }
+
+    @Test
+    public void testBlockingListener() throws Exception {
+        try (PiGpioEmulator other = new PiGpioEmulator()) {
+            PiGpioAsync second = PiGpio.newAsyncSocketInstance("127.0.0.1", other.port(), selector);
+            second.initialize();
+            BlockingQueue<Object> results = new LinkedBlockingQueue<>();
+
+            // a listener driving an output of another daemon sharing the selector with blocking calls
+            piGpio.addPinListener(4, event -> {
+                try {
+                    second.gpioWrite(17, event.state());
+                    results.add(second.gpioRead(17));
+                } catch (RuntimeException e) {
+                    results.add(e);
+                }
+            });
+            awaitNotifyBits(daemon, 1 << 4);
+
+            daemon.level(4, 1);
+            assertEquals(PiGpioState.HIGH, results.poll(5, TimeUnit.SECONDS));
+            assertEquals(1, other.level(17));
+            daemon.level(4, 0);
+            assertEquals(PiGpioState.LOW, results.poll(5, TimeUnit.SECONDS));
+            second.shutdown();
+        }
+    }
+
+    @Test
+    public void testBlockingCallOnSelectorThread() throws Exception {
+        BlockingQueue<Object> results = new LinkedBlockingQueue<>();
+        long start = System.nanoTime();
+        selector.execute(() -> {
+            try {
+                results.add(piGpio.gpioRead(4));
+            } catch (RuntimeException e) {
+                results.add(e);
+            }
+        });
+
+        // fails at once instead of waiting for a reply only the selector thread could read
+        Object result = results.poll(5, TimeUnit.SECONDS);
+        assertTrue(result instanceof PiGpioException, String.valueOf(result));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 400);
+        assertEquals(PiGpioState.LOW, piGpio.gpioRead(4));
+    }
+
+    @Test
+    public void testMetrics() {
+        for (int i = 0; i < 10; i++) {
+            piGpio.gpioRead(4);
+        }
+        PiGpioMetrics metrics = piGpio.metrics();
+        assertTrue(piGpio.isConnected());
+        assertEquals(1, metrics.getConnectCount());
+        assertEquals(0, metrics.getFailureCount());
+        assertTrue(metrics.getRequestCount() >= 10);
+        assertTrue(metrics.getMaxLatency(TimeUnit.NANOSECONDS) >= metrics.getAverageLatency(TimeUnit.NANOSECONDS));
+        assertTrue(metrics.getAverageLatency(TimeUnit.NANOSECONDS) > 0);
+        assertTrue(metrics.getIdleTime(TimeUnit.NANOSECONDS) >= 0);
+
+        // a deliberate shutdown is not a failure
+        piGpio.shutdown();
+        assertFalse(piGpio.isConnected());
+        assertEquals(0, metrics.getFailureCount());
+    }
+
+    @Test
+    public void testConnectionRefused() throws Exception {
+        int port;
+        try (ServerSocket closed = new ServerSocket(0)) {
+            port = closed.getLocalPort();
+        }
+        PiGpioAsync unreachable = PiGpio.newAsyncSocketInstance("127.0.0.1", port, selector);
+        CompletionException e = assertThrows(CompletionException.class, () -> unreachable.connectAsync().join());
+        assertTrue(e.getCause() instanceof PiGpioException);
+        assertThrows(PiGpioException.class, unreachable::initialize);
+        assertFalse(unreachable.isConnected());
+        assertTrue(unreachable.metrics().getFailureCount() >= 1);
+        assertNotNull(unreachable.metrics().getLastFailure());
+    }
+
+    private static void awaitNotifyBits(PiGpioEmulator daemon, int bits) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (daemon.notifyBits() != bits) {
+            assertTrue(System.currentTimeMillis() < deadline, "notifications were not enabled");
+            Thread.sleep(10);
+        }
+    }
+}
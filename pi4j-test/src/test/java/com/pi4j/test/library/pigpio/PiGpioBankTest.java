@@ -0,0 +1,90 @@
+package com.pi4j.test.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioBankTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.DigitalBank;
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.emulator.PiGpioEmulator;
+import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalBank;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiGpioBankTest {
+
+    private PiGpioEmulator daemon;
+    private PiGpio piGpio;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        daemon = new PiGpioEmulator();
+        piGpio = PiGpio.newSocketInstance("127.0.0.1", daemon.port());
+        piGpio.initialize();
+    }
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        piGpio.shutdown();
+        daemon.close();
+    }
+
+    @Test
+    public void testSetClearRead() {
+        piGpio.gpioWrite_Bits_0_31_Set((1 << 4) | (1 << 17) | (1 << 31));
+        piGpio.gpioWrite_Bits_32_53_Set((1 << 1) | (1 << 21));
+        assertEquals((1 << 4) | (1 << 17) | (1 << 31), piGpio.gpioRead_Bits_0_31());
+        assertEquals((1 << 1) | (1 << 21), piGpio.gpioRead_Bits_32_53());
+        assertEquals(1, daemon.level(31));
+        assertEquals(1, daemon.level(53));
+
+        piGpio.gpioWrite_Bits_0_31_Clear((1 << 17) | (1 << 31));
+        piGpio.gpioWrite_Bits_32_53_Clear(1 << 21);
+        assertEquals(1 << 4, piGpio.gpioRead_Bits_0_31());
+        assertEquals(1 << 1, piGpio.gpioRead_Bits_32_53());
+        assertEquals(1, piGpio.gpioRead(4).value());
+        assertEquals(0, piGpio.gpioRead(17).value());
+    }
+
+    @Test
+    public void testBankWriteInOneRoundTrip() throws Exception {
+        // lines in both 32 line banks, so the write needs BC1, BS1, BC2 and BS2
+        DigitalBank bank = PiGpioDigitalBank.newOutputBank(piGpio, "bank", 0b0101, 4, 17, 40, 53);
+
+        long commands = daemon.commands();
+        long roundTrips = daemon.roundTrips();
+        bank.write(0b1010);
+        assertEquals(4, daemon.commands() - commands);
+        assertEquals(1, daemon.roundTrips() - roundTrips);
+
+        assertEquals(0, daemon.level(4));
+        assertEquals(1, daemon.level(17));
+        assertEquals(0, daemon.level(40));
+        assertEquals(1, daemon.level(53));
+        assertEquals(0b1010, bank.read());
+    }
+}
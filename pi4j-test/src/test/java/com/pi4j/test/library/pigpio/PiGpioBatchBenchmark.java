@@ -0,0 +1,102 @@
+package com.pi4j.test.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioBatchBenchmark.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioBatch;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.emulator.PiGpioEmulator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sending {@link #COMMANDS} GPIO writes one round trip at a time with sending
+ * them as a single pipelined {@link PiGpioBatch}, against a {@link PiGpioEmulator}
+ * listening on the loopback interface:
+ * <pre>
+ *     mvn -pl pi4j-test test-compile exec:java -Dexec.classpathScope=test \
+ *         -Dexec.mainClass=com.pi4j.test.library.pigpio.PiGpioBatchBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(PiGpioBatchBenchmark.COMMANDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PiGpioBatchBenchmark {
+
+    static final int COMMANDS = 64;
+
+    private PiGpioEmulator daemon;
+    private PiGpio piGpio;
+    private PiGpioBatch batch;
+
+    @Setup
+    public void setup() throws Exception {
+        daemon = new PiGpioEmulator();
+        piGpio = PiGpio.newSocketInstance("127.0.0.1", daemon.port());
+        piGpio.initialize();
+        batch = new PiGpioBatch(COMMANDS);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        piGpio.shutdown();
+        daemon.close();
+    }
+
+    @Benchmark
+    public void sequential() {
+        for (int i = 0; i < COMMANDS; i++) {
+            piGpio.gpioWrite(i & 31, PiGpioState.from((i & 1) == 0));
+        }
+    }
+
+    @Benchmark
+    public PiGpioBatch pipelined() {
+        batch.clear();
+        for (int i = 0; i < COMMANDS; i++) {
+            batch.gpioWrite(i & 31, PiGpioState.from((i & 1) == 0));
+        }
+        return piGpio.execute(batch);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(PiGpioBatchBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
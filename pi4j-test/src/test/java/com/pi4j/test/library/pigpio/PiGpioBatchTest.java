@@ -0,0 +1,100 @@
+package com.pi4j.test.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioBatchTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioBatch;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.emulator.PiGpioEmulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiGpioBatchTest {
+
+    private PiGpioEmulator daemon;
+    private PiGpio piGpio;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        daemon = new PiGpioEmulator();
+        piGpio = PiGpio.newSocketInstance("127.0.0.1", daemon.port());
+        piGpio.initialize();
+    }
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        piGpio.shutdown();
+        daemon.close();
+    }
+
+    @Test
+    public void testRepliesMatchedInOrder() {
+        PiGpioBatch batch = new PiGpioBatch(4);
+        for (int pin = 0; pin < 20; pin++) {
+            batch.gpioWrite(pin, PiGpioState.from(pin % 2 == 0));
+        }
+        for (int pin = 0; pin < 20; pin++) {
+            batch.gpioRead(pin);
+        }
+        batch.i2cReadDevice(1, 5).gpioPWM(18, 128).i2cWriteDevice(1, new byte[]{ 1, 2, 3 });
+
+        piGpio.execute(batch);
+
+        assertEquals(43, batch.size());
+        assertTrue(batch.success());
+        for (int pin = 0; pin < 20; pin++) {
+            assertEquals(PiGpioCmd.READ, batch.cmd(20 + pin));
+            assertEquals(pin % 2 == 0 ? 1 : 0, batch.result(20 + pin), "pin " + pin);
+        }
+        assertEquals(5, batch.result(40));
+        byte[] data = new byte[8];
+        assertEquals(5, batch.data(40, data, 0));
+        assertArrayEquals(new byte[]{ 0, 1, 2, 3, 4, 0, 0, 0 }, data);
+        assertEquals(0, batch.dataLength(41));
+    }
+
+    @Test
+    public void testBatchLargerThanPipeline() {
+        PiGpioBatch batch = new PiGpioBatch();
+        for (int i = 0; i < 1000; i++) {
+            batch.gpioWrite(i % 32, PiGpioState.from(i % 3 == 0));
+        }
+        long before = daemon.commands();
+        piGpio.execute(batch);
+        assertEquals(1000, daemon.commands() - before);
+        assertTrue(batch.success());
+
+        // a batch is reusable and the single command path still works after it
+        batch.clear().gpioRead(999 % 32);
+        piGpio.execute(batch);
+        assertEquals(1, batch.result(0));
+        assertEquals(PiGpioState.HIGH, piGpio.gpioRead(999 % 32));
+    }
+}
@@ -0,0 +1,89 @@
+package com.pi4j.test.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioBitBangSerialTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioError;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.emulator.PiGpioEmulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiGpioBitBangSerialTest {
+
+    private static final int PIN = 17;
+
+    private PiGpioEmulator daemon;
+    private PiGpio piGpio;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        daemon = new PiGpioEmulator();
+        piGpio = PiGpio.newSocketInstance("127.0.0.1", daemon.port());
+        piGpio.initialize();
+    }
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        piGpio.shutdown();
+        daemon.close();
+    }
+
+    @Test
+    public void testBulkRead() {
+        piGpio.gpioSerialReadOpen(PIN, 9600, 8);
+        byte[] sent = new byte[10000];
+        for (int i = 0; i < sent.length; i++) sent[i] = (byte) i;
+        daemon.bitBangInput(PIN, sent);
+
+        byte[] received = new byte[sent.length + 16];
+        int count = piGpio.gpioSerialRead(PIN, received, 0, 8192);
+        assertEquals(8192, count);
+        count += piGpio.gpioSerialRead(PIN, received, count, received.length - count);
+        assertEquals(sent.length, count);
+        assertArrayEquals(sent, Arrays.copyOf(received, count));
+        assertEquals(0, piGpio.gpioSerialRead(PIN, received));
+    }
+
+    @Test
+    public void testInvertAndClose() {
+        piGpio.gpioSerialReadOpen(PIN, 9600, 8);
+        assertThrows(PiGpioException.class, () -> piGpio.gpioSerialReadOpen(PIN, 9600, 8));
+
+        piGpio.gpioSerialReadInvert(PIN, true);
+        assertTrue(daemon.bitBangInverted(PIN));
+        piGpio.gpioSerialReadInvert(PIN, false);
+        assertFalse(daemon.bitBangInverted(PIN));
+
+        piGpio.gpioSerialReadClose(PIN);
+        assertEquals(PiGpioError.PI_NOT_SERIAL_GPIO.value(), piGpio.gpioSerialRead(PIN, new byte[16]));
+        assertThrows(PiGpioException.class, () -> piGpio.gpioSerialReadClose(PIN));
+    }
+}
@@ -0,0 +1,148 @@
+package com.pi4j.test.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioEmulatorTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioBatch;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioPud;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
+import com.pi4j.library.pigpio.emulator.PiGpioEmulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiGpioEmulatorTest {
+
+    private PiGpioEmulator emulator;
+    private PiGpio piGpio;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        emulator = new PiGpioEmulator();
+        piGpio = PiGpio.newSocketInstance("127.0.0.1", emulator.port());
+        piGpio.initialize();
+    }
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        piGpio.shutdown();
+        emulator.close();
+    }
+
+    @Test
+    public void testGpio() {
+        piGpio.gpioSetMode(5, PiGpioMode.INPUT);
+        piGpio.gpioSetPullUpDown(5, PiGpioPud.UP);
+        assertEquals(PiGpioState.HIGH, piGpio.gpioRead(5));
+        piGpio.gpioSetMode(18, PiGpioMode.OUTPUT);
+        assertEquals(PiGpioMode.OUTPUT, piGpio.gpioGetMode(18));
+        piGpio.gpioPWM(18, 100);
+        assertEquals(100, piGpio.gpioGetPWMdutycycle(18));
+    }
+
+    @Test
+    public void testI2C() {
+        int handle = piGpio.i2cOpen(1, 0x20);
+        assertEquals(0x20 + 5, piGpio.i2cReadByteData(handle, 5));
+        piGpio.i2cWriteByteData(handle, 5, (byte) 0xA5);
+        assertEquals(0xA5, piGpio.i2cReadByteData(handle, 5));
+        assertEquals(0xA5, emulator.i2cRegister(1, 0x20, 5));
+
+        // a second handle to the same device shares its registers
+        int other = piGpio.i2cOpen(1, 0x20);
+        assertEquals(0xA5, piGpio.i2cReadByteData(other, 5));
+        piGpio.i2cClose(other);
+        piGpio.i2cClose(handle);
+    }
+
+    @Test
+    public void testSpiAndSerialLoopback() {
+        int spi = piGpio.spiOpen(0, 1_000_000);
+        byte[] read = new byte[3];
+        assertEquals(3, piGpio.spiXfer(spi, new byte[]{ 1, 2, 3 }, 0, read, 0, 3));
+        assertArrayEquals(new byte[]{ 1, 2, 3 }, read);
+        piGpio.spiClose(spi);
+
+        int serial = piGpio.serOpen("/dev/ttyS0", 115200, 0);
+        byte[] hello = "hello".getBytes(StandardCharsets.US_ASCII);
+        piGpio.serWrite(serial, hello, 0, hello.length);
+        emulator.serialInput(serial, new byte[]{ '!' });
+        assertEquals(6, piGpio.serDataAvailable(serial));
+        byte[] received = new byte[6];
+        assertEquals(6, piGpio.serRead(serial, received, 0, 6));
+        assertEquals("hello!", new String(received, StandardCharsets.US_ASCII));
+        piGpio.serClose(serial);
+    }
+
+    @Test
+    public void testTimeoutResetsConnection() throws Exception {
+        emulator.level(4, 1);
+        emulator.level(17, 0);
+        assertEquals(PiGpioState.HIGH, piGpio.gpioRead(4));
+
+        // the reply arrives after the socket read timed out
+        emulator.latency(800, TimeUnit.MILLISECONDS);
+        assertThrows(PiGpioException.class, () -> piGpio.gpioRead(17));
+        PiGpioBatch batch = new PiGpioBatch().gpioRead(17);
+        assertThrows(PiGpioException.class, () -> piGpio.execute(batch));
+        emulator.latency(0, TimeUnit.MILLISECONDS);
+
+        // a fresh connection is used instead of reading the late replies of the failed commands
+        assertEquals(PiGpioState.HIGH, piGpio.gpioRead(4));
+        assertEquals(PiGpioState.HIGH, piGpio.gpioRead(4));
+        assertEquals(1, piGpio.execute(new PiGpioBatch().gpioRead(4)).result(0));
+    }
+
+    @Test
+    public void testLatencyAndEventRate() throws Exception {
+        emulator.latency(20, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        piGpio.gpioRead(4);
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+        emulator.latency(0, TimeUnit.MILLISECONDS);
+
+        BlockingQueue<PiGpioStateChangeEvent> events = new LinkedBlockingQueue<>();
+        piGpio.addPinListener(4, events::add);
+        emulator.eventRate(1000);
+        for (int i = 0; i < 10; i++) {
+            PiGpioStateChangeEvent event = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "missing generated event " + i);
+            assertEquals(4, event.pin());
+        }
+        emulator.eventRate(0);
+        assertEquals(0, piGpio.gpioNotificationsLost());
+    }
+}
@@ -0,0 +1,96 @@
+package com.pi4j.test.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioI2CTransactionTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioI2CTransaction;
+import com.pi4j.library.pigpio.emulator.PiGpioEmulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiGpioI2CTransactionTest {
+
+    private PiGpioEmulator daemon;
+    private PiGpio piGpio;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        daemon = new PiGpioEmulator();
+        piGpio = PiGpio.newSocketInstance("127.0.0.1", daemon.port());
+        piGpio.initialize();
+    }
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        piGpio.shutdown();
+        daemon.close();
+    }
+
+    @Test
+    public void testEncoding() {
+        PiGpioI2CTransaction transaction = new PiGpioI2CTransaction()
+                .address(0x53).readRegister(0x32, 6)
+                .read(300);
+        byte[] expected = { 4, 0x53, 2, 7, 1, 0x32, 6, 6, 3, 1, 6, 0x2C, 0x01, 0 };
+        assertArrayEquals(expected, Arrays.copyOf(transaction.commands(), transaction.commandLength()));
+        assertEquals(2, transaction.reads());
+        assertEquals(306, transaction.readLength());
+        assertThrows(IllegalArgumentException.class, () -> transaction.address(0x80));
+        assertThrows(IllegalStateException.class, () -> transaction.resultByte(0));
+    }
+
+    @Test
+    public void testSweepInOneCommand() {
+        int handle = piGpio.i2cOpen(1, 0x40);
+        PiGpioI2CTransaction sweep = new PiGpioI2CTransaction();
+        for (int address = 0x40; address < 0x44; address++) {
+            sweep.address(address);
+            for (int register = 0; register < 3; register++) sweep.readRegister(register, 2);
+        }
+        long before = daemon.commands();
+
+        assertEquals(24, piGpio.i2cZip(handle, sweep));
+
+        assertEquals(1, daemon.commands() - before);
+        assertEquals(12, sweep.reads());
+        for (int read = 0; read < 12; read++) {
+            int address = 0x40 + read / 3, register = read % 3;
+            assertArrayEquals(new byte[]{ (byte) (address + register), (byte) (address + register + 1) }, sweep.result(read));
+        }
+        assertEquals((0x44 << 8) | 0x45, sweep.resultWord(10));
+
+        // transactions can be executed again
+        sweep.clear().readRegister(7, 1);
+        assertEquals(1, piGpio.i2cZip(handle, sweep));
+        // without an address command the transaction addresses the device of the handle
+        assertEquals(0x40 + 7, sweep.resultByte(0));
+    }
+}
@@ -0,0 +1,95 @@
+package com.pi4j.test.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioScriptTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioScript;
+import com.pi4j.library.pigpio.PiGpioScriptStatus;
+import com.pi4j.library.pigpio.emulator.PiGpioEmulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.pi4j.library.pigpio.PiGpioScript.param;
+import static com.pi4j.library.pigpio.PiGpioScript.var;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiGpioScriptTest {
+
+    private PiGpioEmulator daemon;
+    private PiGpio piGpio;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        daemon = new PiGpioEmulator();
+        piGpio = PiGpio.newSocketInstance("127.0.0.1", daemon.port());
+        piGpio.initialize();
+    }
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        piGpio.shutdown();
+        daemon.close();
+    }
+
+    @Test
+    public void testScriptText() {
+        PiGpioScript script = new PiGpioScript()
+                .mode(27, PiGpioMode.OUTPUT)
+                .load(var(0), param(0))
+                .tag(0)
+                .waitForChange(1 << 17)
+                .read(17)
+                .jumpIfZero(0)
+                .trigger(27, var(0), 1)
+                .jump(0);
+
+        assertEquals("M 27 W\nLD v0 p0\nTAG 0\nWAIT 131072\nR 17\nJZ 0\nTRIG 27 v0 1\nJMP 0", script.toString());
+        assertEquals("M 4 5", new PiGpioScript().mode(4, PiGpioMode.ALT5).toString());
+        assertThrows(IllegalArgumentException.class, () -> param(10));
+    }
+
+    @Test
+    public void testScriptLifecycle() {
+        PiGpioScript script = new PiGpioScript().write(param(0), 1).delayMicroseconds(param(1)).write(param(0), 0);
+        int id = piGpio.gpioStoreScript(script);
+        assertEquals(script.toString(), daemon.script(id));
+
+        piGpio.gpioRunScript(id, 27, 20);
+        piGpio.gpioUpdateScript(id, 22, 40, 7);
+
+        int[] params = new int[10];
+        assertEquals(PiGpioScriptStatus.HALTED, piGpio.gpioScriptStatus(id, params));
+        assertArrayEquals(new int[]{22, 40, 7, 0, 0, 0, 0, 0, 0, 0}, params);
+
+        piGpio.gpioDeleteScript(id);
+        assertNull(daemon.script(id));
+        assertThrows(PiGpioException.class, () -> piGpio.gpioScriptStatus(id));
+        assertThrows(IllegalArgumentException.class, () -> piGpio.gpioRunScript(id, new int[11]));
+    }
+}
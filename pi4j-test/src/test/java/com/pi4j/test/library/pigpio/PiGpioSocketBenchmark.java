@@ -0,0 +1,139 @@
+package com.pi4j.test.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioSocketBenchmark.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioAsync;
+import com.pi4j.library.pigpio.PiGpioSelector;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.emulator.PiGpioEmulator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Measures the pigpio socket stack against a {@link PiGpioEmulator} listening on the loopback
+ * interface: commands per second (throughput mode) and the latency distribution including
+ * p50/p99 (sample time mode) of single round trips through the blocking and the non-blocking
+ * client, of {@link #OUTSTANDING} pipelined asynchronous requests, and of notification delivery
+ * through the socket monitor.  Throughput is reported in operations per microsecond (one million
+ * times the commands per second).  The emulator latency adds a fixed daemon processing time:
+ * <pre>
+ *     mvn -pl pi4j-test test-compile exec:java -Dexec.classpathScope=test \
+ *         -Dexec.mainClass=com.pi4j.test.library.pigpio.PiGpioSocketBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PiGpioSocketBenchmark {
+
+    static final int OUTSTANDING = 64;
+    static final int EVENTS = 100;
+
+    @Param({"0", "100"})
+    public int latencyMicros;
+
+    private PiGpioEmulator emulator;
+    private PiGpioSelector selector;
+    private PiGpio blocking;
+    private PiGpioAsync async;
+    private final CompletableFuture<?>[] futures = new CompletableFuture<?>[OUTSTANDING];
+    private final AtomicReference<CountDownLatch> events = new AtomicReference<>(new CountDownLatch(0));
+
+    @Setup
+    public void setup() throws Exception {
+        emulator = new PiGpioEmulator().latency(latencyMicros, TimeUnit.MICROSECONDS);
+        blocking = PiGpio.newSocketInstance("127.0.0.1", emulator.port());
+        blocking.initialize();
+        selector = new PiGpioSelector("pigpio-benchmark");
+        async = PiGpio.newAsyncSocketInstance("127.0.0.1", emulator.port(), selector);
+        async.initialize();
+
+        blocking.addPinListener(4, event -> events.get().countDown());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        blocking.shutdown();
+        async.shutdown();
+        selector.close();
+        emulator.close();
+    }
+
+    @Benchmark
+    public PiGpioState blockingRead() {
+        return blocking.gpioRead(17);
+    }
+
+    @Benchmark
+    public int blockingI2CRead() {
+        return blocking.i2cReadByteData(0, 0x10);
+    }
+
+    @Benchmark
+    public PiGpioState asyncRead() {
+        return async.gpioRead(17);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OUTSTANDING)
+    public Object asyncPipelined() {
+        for (int i = 0; i < OUTSTANDING; i++) {
+            futures[i] = async.gpioWriteAsync(i & 31, PiGpioState.from((i & 1) == 0));
+        }
+        return CompletableFuture.allOf(futures).join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void notifications() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(EVENTS);
+        events.set(latch);
+
+        // events are generated only while measured so they do not disturb the command benchmarks
+        emulator.eventRate(1_000_000);
+        latch.await();
+        emulator.eventRate(0);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(PiGpioSocketBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,109 @@
+package com.pi4j.test.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioSocketMonitorTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
+import com.pi4j.library.pigpio.emulator.PiGpioEmulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiGpioSocketMonitorTest {
+
+    private static final int PIN_A = 4;
+    private static final int PIN_B = 31;
+
+    private PiGpioEmulator daemon;
+    private PiGpio piGpio;
+    private final BlockingQueue<PiGpioStateChangeEvent> events = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        daemon = new PiGpioEmulator();
+        piGpio = PiGpio.newSocketInstance("127.0.0.1", daemon.port());
+        piGpio.initialize();
+        piGpio.addPinListener(PIN_A, events::add);
+        piGpio.addPinListener(PIN_B, events::add);
+
+        // wait for the monitor to open its notification stream for both pins
+        long deadline = System.currentTimeMillis() + 5000;
+        while (daemon.notifyBits() != ((1 << PIN_A) | (1 << PIN_B))) {
+            assertTrue(System.currentTimeMillis() < deadline, "notifications were not enabled");
+            Thread.sleep(10);
+        }
+    }
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        piGpio.shutdown();
+        daemon.close();
+    }
+
+    @Test
+    public void testFragmentedReportsAndSequenceGaps() throws Exception {
+        ByteArrayOutputStream reports = new ByteArrayOutputStream();
+        reports.writeBytes(PiGpioEmulator.report(10, 0, 1000, 1 << PIN_A));                   // A high
+        reports.writeBytes(PiGpioEmulator.report(11, 0, 2000, (1 << PIN_A) | (1 << PIN_B)));  // B high
+        reports.writeBytes(PiGpioEmulator.report(12, 0, 2500, (1 << PIN_A) | (1 << PIN_B) | 1)); // unmonitored pin
+        reports.writeBytes(PiGpioEmulator.report(15, 0, 3000, 0));                            // both low; 2 lost
+        reports.writeBytes(PiGpioEmulator.report(16, (1 << 5) | PIN_A, 4000, 0));             // watchdog on A
+        byte[] raw = reports.toByteArray();
+
+        // deliver the reports in fragments that split reports across reads
+        int[] cuts = { 5, 7, 20, 21, raw.length };
+        int offset = 0;
+        for (int cut : cuts) {
+            daemon.sendNotification(raw, offset, cut - offset);
+            offset = cut;
+            Thread.sleep(20);
+        }
+
+        assertEvent(PIN_A, PiGpioState.HIGH, 1000);
+        assertEvent(PIN_B, PiGpioState.HIGH, 2000);
+        assertEvent(PIN_A, PiGpioState.LOW, 3000);
+        assertEvent(PIN_B, PiGpioState.LOW, 3000);
+        assertEvent(PIN_A, PiGpioState.UNKNOWN, 4000);
+        assertNull(events.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(2, piGpio.gpioNotificationsLost());
+    }
+
+    private void assertEvent(int pin, PiGpioState state, long tick) throws InterruptedException {
+        PiGpioStateChangeEvent event = events.poll(5, TimeUnit.SECONDS);
+        assertNotNull(event, "missing event for pin " + pin);
+        assertEquals(pin, event.pin());
+        assertEquals(state, event.state());
+        assertEquals(tick, event.tick());
+    }
+}
@@ -0,0 +1,90 @@
+package com.pi4j.test.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioWaveTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioPulse;
+import com.pi4j.library.pigpio.PiGpioWaveMode;
+import com.pi4j.library.pigpio.emulator.PiGpioEmulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiGpioWaveTest {
+
+    private PiGpioEmulator daemon;
+    private PiGpio piGpio;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        daemon = new PiGpioEmulator();
+        piGpio = PiGpio.newSocketInstance("127.0.0.1", daemon.port());
+        piGpio.initialize();
+    }
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        piGpio.shutdown();
+        daemon.close();
+    }
+
+    @Test
+    public void testWaveUploadedAndTransmitted() {
+        piGpio.gpioWaveAddNew();
+        assertEquals(2, piGpio.gpioWaveAddGeneric(
+                new PiGpioPulse(1 << 4, 0, 10),
+                new PiGpioPulse(0, 1 << 4, 20)));
+        // a second call is merged with the pending pulses, timed from the start of the wave
+        assertEquals(3, piGpio.gpioWaveAddGeneric(
+                new PiGpioPulse(0, 0, 5),
+                new PiGpioPulse(1 << 17, 0, 1)));
+
+        int wave = piGpio.gpioWaveCreate();
+        List<long[]> edges = daemon.wave(wave);
+        assertEquals(3, edges.size());
+        assertArrayEquals(new long[]{0, 1 << 4, 0}, edges.get(0));
+        assertArrayEquals(new long[]{5, 1 << 17, 0}, edges.get(1));
+        assertArrayEquals(new long[]{10, 0, 1 << 4}, edges.get(2));
+
+        assertEquals(3, piGpio.gpioWaveTxSend(wave, PiGpioWaveMode.REPEAT));
+        assertArrayEquals(new int[]{wave, PiGpioWaveMode.REPEAT.value()}, daemon.lastTransmit());
+
+        piGpio.gpioWaveChain(new byte[]{(byte) 255, 0, (byte) wave, (byte) 255, 1, 3, 0, 99}, 7);
+        assertArrayEquals(new byte[]{(byte) 255, 0, (byte) wave, (byte) 255, 1, 3, 0}, daemon.lastChain());
+
+        piGpio.gpioWaveDelete(wave);
+        assertNull(daemon.wave(wave));
+    }
+
+    @Test
+    public void testInvalidWaveRejected() {
+        assertThrows(RuntimeException.class, () -> piGpio.gpioWaveTxSend(42, PiGpioWaveMode.ONE_SHOT));
+    }
+}
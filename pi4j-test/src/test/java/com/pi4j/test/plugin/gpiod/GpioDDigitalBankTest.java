@@ -0,0 +1,133 @@
+package com.pi4j.test.plugin.gpiod;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  GpioDDigitalBankTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+import com.pi4j.library.gpiod.internal.GpioLineBulk;
+import com.pi4j.plugin.gpiod.provider.gpio.digital.GpioDDigitalBank;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GpioDDigitalBankTest {
+
+    // records the values written to the bulk instead of calling libgpiod
+    private static class FakeBulk extends GpioLineBulk {
+        final List<Long> written = new ArrayList<>();
+        long values;
+
+        FakeBulk() {
+            super(0, List.of());
+        }
+
+        @Override
+        public long getValues() {
+            return values;
+        }
+
+        @Override
+        public void setValues(long values) {
+            written.add(values);
+            this.values = values;
+        }
+    }
+
+    private static class FakeBank extends GpioDDigitalBank {
+        int released;
+
+        FakeBank(FakeBulk bulk, boolean output, long values, int... addresses) {
+            super("bank", addresses, bulk, output, values);
+        }
+
+        @Override
+        protected void release(GpioLineBulk bulk) {
+            released++;
+        }
+    }
+
+    @Test
+    public void testAddressToBitMapping() {
+        FakeBulk bulk = new FakeBulk();
+        FakeBank bank = new FakeBank(bulk, true, 0, 22, 5, 17);
+        assertArrayEquals(new int[] { 22, 5, 17 }, bank.addresses());
+        assertEquals(3, bank.size());
+
+        // bit i is the line at addresses[i], bits beyond the bank are dropped
+        bank.write(0b1111_0001);
+        assertEquals(List.of(0b001L), bulk.written);
+
+        // line 5 (bit 1) and line 17 (bit 2) high
+        bulk.values = 0b110;
+        assertEquals(0b110, bank.read());
+    }
+
+    @Test
+    public void testWriteMask() {
+        FakeBulk bulk = new FakeBulk();
+        FakeBank bank = new FakeBank(bulk, true, 0b101, 22, 5, 17);
+
+        // only the masked lines change, the others keep their last written state
+        bank.write(0b010, 0b011);
+        assertEquals(0b110, bulk.values);
+        bank.set(0b001);
+        assertEquals(0b111, bulk.values);
+        bank.clear(0b100);
+        assertEquals(0b011, bulk.values);
+        assertEquals(List.of(0b110L, 0b111L, 0b011L), bulk.written);
+    }
+
+    @Test
+    public void testInputBankNotWritable() {
+        FakeBulk bulk = new FakeBulk();
+        FakeBank bank = new FakeBank(bulk, false, 0, 22, 5);
+        assertThrows(IOException.class, () -> bank.write(1));
+        assertTrue(bulk.written.isEmpty());
+    }
+
+    @Test
+    public void testDuplicateAddress() {
+        assertThrows(IllegalArgumentException.class, () -> new FakeBank(new FakeBulk(), true, 0, 22, 5, 22));
+        assertThrows(IllegalArgumentException.class, () -> new FakeBank(new FakeBulk(), true, 0));
+    }
+
+    @Test
+    public void testClosed() {
+        FakeBulk bulk = new FakeBulk();
+        FakeBank bank = new FakeBank(bulk, true, 0, 22, 5);
+        bank.close();
+        bank.close();
+        assertEquals(1, bank.released);
+
+        // the bulk is freed, so it must not be used any more
+        assertThrows(IOException.class, bank::read);
+        assertThrows(IOException.class, () -> bank.write(1));
+        assertThrows(IOException.class, () -> bank.write(1, 1));
+        assertTrue(bulk.written.isEmpty());
+    }
+}
@@ -0,0 +1,86 @@
+package com.pi4j.test.plugin.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  FakeGpioTree.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Plain file stand-in for <code>/sys/class/gpio</code> with pre-exported pins; created on tmpfs
+ * (<code>/dev/shm</code>) when available so file access costs resemble sysfs rather than disk.
+ */
+class FakeGpioTree implements AutoCloseable {
+
+    private final Path root;
+
+    FakeGpioTree(int... pins) throws IOException {
+        Path shm = Paths.get("/dev/shm");
+        root = Files.isDirectory(shm) && Files.isWritable(shm)
+                ? Files.createTempDirectory(shm, "pi4j-gpio")
+                : Files.createTempDirectory("pi4j-gpio");
+        Files.writeString(root.resolve("export"), "");
+        Files.writeString(root.resolve("unexport"), "");
+        for (int pin : pins) {
+            Path dir = Files.createDirectory(pin(pin));
+            Files.writeString(dir.resolve("value"), "0\n");
+            Files.writeString(dir.resolve("direction"), "in\n");
+            Files.writeString(dir.resolve("edge"), "none\n");
+            Files.writeString(dir.resolve("active_low"), "0\n");
+        }
+    }
+
+    String path() {
+        return root.toString();
+    }
+
+    Path pin(int pin) {
+        return root.resolve("gpio" + pin);
+    }
+
+    String read(int pin, String attribute) throws IOException {
+        return Files.readString(pin(pin).resolve(attribute)).trim();
+    }
+
+    void write(int pin, String attribute, String value) throws IOException {
+        Files.writeString(pin(pin).resolve(attribute), value);
+    }
+
+    String unexported() throws IOException {
+        return Files.readString(root.resolve("unexport"));
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.pi4j.test.plugin.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  FakeI2CAdapter.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import com.pi4j.plugin.linuxfs.provider.i2c.I2CConstants;
+import com.pi4j.plugin.linuxfs.provider.i2c.LinuxFsI2CMessages;
+import com.pi4j.plugin.linuxfs.provider.i2c.LinuxFsI2CSmbus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * In-process stand-in for an I2C adapter with one register based device (256 byte registers with an
+ * auto-incrementing register pointer), emulating the <code>I2C_SMBUS</code>, <code>I2C_RDWR</code> and
+ * <code>I2C_FUNCS</code> ioctls from the native structures the linuxfs provider builds.
+ */
+class FakeI2CAdapter {
+
+    static final int WORD_SIZE = 8;
+
+    final int address;
+    final byte[] registers = new byte[256];
+    long functionality = I2CConstants.I2C_FUNC_I2C | I2CConstants.I2C_FUNC_SMBUS_EMUL;
+    int pointer;
+    int ioctls;
+
+    FakeI2CAdapter(int address) {
+        this.address = address;
+        for (int i = 0; i < registers.length; i++) registers[i] = (byte) i;
+    }
+
+    LinuxFsI2CSmbus smbus() {
+        return new LinuxFsI2CSmbus(null, WORD_SIZE) {
+            @Override
+            protected void ioctl(long command, ByteBuffer data, IntBuffer offsets) throws IOException {
+                ioctls++;
+                if (command == I2CConstants.I2C_FUNCS) {
+                    data.putLong(0, functionality);
+                } else if (command == I2CConstants.I2C_SMBUS) {
+                    smbus(data, offsets.get(offsets.position() + 1));
+                } else {
+                    throw new IOException("unsupported ioctl " + command);
+                }
+            }
+        };
+    }
+
+    LinuxFsI2CMessages messages() {
+        return new LinuxFsI2CMessages(null, WORD_SIZE, 64) {
+            @Override
+            protected void ioctl(long command, ByteBuffer data, IntBuffer offsets) throws IOException {
+                ioctls++;
+                if (command != I2CConstants.I2C_RDWR) throw new IOException("unsupported ioctl " + command);
+                int messageSize = offsets.get(0) + WORD_SIZE;
+                for (int i = 0; i < offsets.remaining() / 2; i++) {
+                    int base = i * messageSize;
+                    if (data.getShort(base) != address) throw new IOException("no device at " + data.getShort(base));
+                    boolean read = (data.getShort(base + 2) & I2CConstants.I2C_M_RD) != 0;
+                    int length = data.getShort(base + 4) & 0xFFFF;
+                    int position = offsets.get(2 * i + 1);
+                    for (int n = 0; n < length; n++) {
+                        if (read) {
+                            data.put(position + n, registers[pointer++ & 0xFF]);
+                        } else if (n == 0) {
+                            pointer = data.get(position) & 0xFF;
+                        } else {
+                            registers[pointer++ & 0xFF] = data.get(position + n);
+                        }
+                    }
+                }
+            }
+        };
+    }
+
+    private void smbus(ByteBuffer data, int union) {
+        boolean read = data.get(0) == I2CConstants.I2C_SMBUS_READ;
+        int command = data.get(1) & 0xFF;
+        int size = data.getInt(4);
+        if (size == I2CConstants.I2C_SMBUS_BYTE_DATA) {
+            if (read) data.put(union, registers[command]);
+            else registers[command] = data.get(union);
+        } else if (size == I2CConstants.I2C_SMBUS_WORD_DATA || size == I2CConstants.I2C_SMBUS_PROC_CALL) {
+            if (!read) {
+                registers[command] = data.get(union);
+                registers[(command + 1) & 0xFF] = data.get(union + 1);
+            }
+            if (read || size == I2CConstants.I2C_SMBUS_PROC_CALL) {
+                data.put(union, registers[command]);
+                data.put(union + 1, registers[(command + 1) & 0xFF]);
+            }
+        } else if (size == I2CConstants.I2C_SMBUS_I2C_BLOCK_DATA) {
+            int length = data.get(union) & 0xFF;
+            for (int n = 0; n < length; n++) {
+                if (read) data.put(union + 1 + n, registers[(command + n) & 0xFF]);
+                else registers[(command + n) & 0xFF] = data.get(union + 1 + n);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.pi4j.test.plugin.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  LinuxFsDigitalInputTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LinuxFsDigitalInputTest {
+
+    private FakeGpioTree sysfs;
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        sysfs = new FakeGpioTree(22, 23);
+        pi4j = Pi4J.newContextBuilder().add(LinuxFsDigitalInputProvider.newInstance(sysfs.path())).build();
+    }
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        pi4j.shutdown();
+        sysfs.close();
+    }
+
+    @Test
+    public void testInputsShareProvider() throws Exception {
+        // edge polling needs the native library of the target board; inputs still work without it
+        DigitalInput first = pi4j.din().create(DigitalInput.newConfigBuilder(pi4j).id("first").address(22).build());
+        DigitalInput second = pi4j.din().create(DigitalInput.newConfigBuilder(pi4j).id("second").address(23).build());
+        assertEquals("in", sysfs.read(22, "direction"));
+        assertEquals("both", sysfs.read(23, "edge"));
+
+        sysfs.write(22, "value", "1\n");
+        assertEquals(DigitalState.HIGH, first.state());
+        assertEquals(DigitalState.LOW, second.state());
+
+        pi4j.shutdown(first.id());
+        pi4j.shutdown(second.id());
+        assertEquals("23", sysfs.unexported());
+    }
+}
@@ -0,0 +1,80 @@
+package com.pi4j.test.plugin.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  LinuxFsDigitalOutputTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalOutputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LinuxFsDigitalOutputTest {
+
+    private FakeGpioTree sysfs;
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        sysfs = new FakeGpioTree(17);
+        pi4j = Pi4J.newContextBuilder().add(LinuxFsDigitalOutputProvider.newInstance(sysfs.path())).build();
+    }
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        pi4j.shutdown();
+        sysfs.close();
+    }
+
+    @Test
+    public void testStateThroughCachedChannels() throws Exception {
+        DigitalOutput output = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j).id("out").address(17).build());
+        assertEquals("out", sysfs.read(17, "direction"));
+        assertEquals("both", sysfs.read(17, "edge"));
+
+        for (int i = 0; i < 100; i++) {
+            output.state(DigitalState.getState(i % 2 == 0));
+            assertEquals(i % 2 == 0 ? "1" : "0", sysfs.read(17, "value"));
+        }
+
+        // the cached channel reads from the start of the attribute on every access
+        sysfs.write(17, "value", "1\n");
+        assertEquals(DigitalState.HIGH, output.state());
+        sysfs.write(17, "value", "0\n");
+        assertEquals(DigitalState.LOW, output.state());
+    }
+
+    @Test
+    public void testShutdownUnexports() throws Exception {
+        DigitalOutput output = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j).id("out").address(17).build());
+        output.high();
+        pi4j.shutdown(output.id());
+        assertEquals("17", sysfs.unexported());
+    }
+}
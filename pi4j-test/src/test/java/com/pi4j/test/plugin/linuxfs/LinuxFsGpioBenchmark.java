@@ -0,0 +1,111 @@
+package com.pi4j.test.plugin.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  LinuxFsGpioBenchmark.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalOutputProvider;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sysfs GPIO value access through the linuxfs digital output against a tmpfs backed
+ * fake <code>/sys/class/gpio</code> tree: toggles and reads through the cached attribute channels,
+ * compared with the previous per-call <code>Files.writeString</code>/<code>Files.readString</code>
+ * access to the same <code>value</code> file:
+ * <pre>
+ *     mvn -pl pi4j-test test-compile exec:java -Dexec.classpathScope=test \
+ *         -Dexec.mainClass=com.pi4j.test.plugin.linuxfs.LinuxFsGpioBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinuxFsGpioBenchmark {
+
+    private FakeGpioTree sysfs;
+    private Context pi4j;
+    private DigitalOutput output;
+    private String valuePath;
+    private boolean high;
+
+    @Setup
+    public void setup() throws IOException {
+        sysfs = new FakeGpioTree(17);
+        valuePath = sysfs.pin(17).toString();
+        pi4j = Pi4J.newContextBuilder().add(LinuxFsDigitalOutputProvider.newInstance(sysfs.path())).build();
+        output = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j).id("out").address(17).build());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pi4j.shutdown();
+        sysfs.close();
+    }
+
+    @Benchmark
+    public DigitalOutput toggle() {
+        high = !high;
+        return output.state(high ? DigitalState.HIGH : DigitalState.LOW);
+    }
+
+    @Benchmark
+    public DigitalState read() {
+        return output.state();
+    }
+
+    @Benchmark
+    public void toggleFiles() throws IOException {
+        high = !high;
+        Files.writeString(Paths.get(valuePath, "value"), high ? "1" : "0");
+    }
+
+    @Benchmark
+    public DigitalState readFiles() throws IOException {
+        return DigitalState.parse(Files.readString(Paths.get(valuePath, "value")).trim());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(LinuxFsGpioBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,113 @@
+package com.pi4j.test.plugin.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  LinuxFsGpioMemBenchmark.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalBank;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsGpioMem;
+import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsGpioMemDigitalOutputProvider;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures digital output toggling through the memory-mapped GPIO registers: a single output and an
+ * eight line bank.  By default the registers are a file-backed fake register block, which measures the
+ * Java side cost of the register path; pass <code>-Dgpiomem=/dev/gpiomem</code> on a BCM2835/BCM2711 board
+ * to drive the real pins (GPIO 17 and 5-12):
+ * <pre>
+ *     mvn -pl pi4j-test test-compile exec:java -Dexec.classpathScope=test \
+ *         -Dexec.mainClass=com.pi4j.test.plugin.linuxfs.LinuxFsGpioMemBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinuxFsGpioMemBenchmark {
+
+    private Path file;
+    private Context pi4j;
+    private DigitalOutput output;
+    private DigitalBank bank;
+    private boolean high;
+    private long values;
+
+    @Setup
+    public void setup() throws IOException {
+        String path = System.getProperty("gpiomem", "");
+        LinuxFsGpioMem.Chip chip = null;
+        if (path.isEmpty()) {
+            file = Files.createTempFile("pi4j-gpiomem", ".bin");
+            Files.write(file, new byte[LinuxFsGpioMem.BLOCK_SIZE]);
+            path = file.toString();
+            chip = LinuxFsGpioMem.Chip.BCM2711;
+        }
+        LinuxFsGpioMemDigitalOutputProvider provider = LinuxFsGpioMemDigitalOutputProvider.newInstance(path, chip);
+        pi4j = Pi4J.newContextBuilder().add(provider).build();
+        output = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j).id("out").address(17).build());
+        bank = provider.createBank("bank", 0, 5, 6, 7, 8, 9, 10, 11, 12);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pi4j.shutdown();
+        if (file != null) Files.delete(file);
+    }
+
+    @Benchmark
+    public DigitalOutput toggle() {
+        high = !high;
+        return output.state(high ? DigitalState.HIGH : DigitalState.LOW);
+    }
+
+    @Benchmark
+    public DigitalBank writeBank() {
+        return bank.write(++values);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(LinuxFsGpioMemBenchmark.class.getSimpleName())
+            .jvmArgsAppend("-Dgpiomem=" + System.getProperty("gpiomem", ""))
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,185 @@
+package com.pi4j.test.plugin.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  LinuxFsGpioMemTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.*;
+import com.pi4j.library.linuxfs.MappedRegion;
+import com.pi4j.plugin.linuxfs.LinuxFsPlugin;
+import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsGpioMem;
+import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsGpioMemDigitalInputProvider;
+import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsGpioMemDigitalOutputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LinuxFsGpioMemTest {
+
+    // register byte offsets of the BCM2835/BCM2711 GPIO block
+    private static final int GPFSEL1 = 0x04;
+    private static final int GPFSEL4 = 0x10;
+    private static final int GPSET0 = 0x1C;
+    private static final int GPSET1 = 0x20;
+    private static final int GPCLR0 = 0x28;
+    private static final int GPLEV0 = 0x34;
+    private static final int GPLEV1 = 0x38;
+    private static final int GPIO_PUP_PDN_CNTRL_REG1 = 0xE8;
+
+    private Path file;
+    private MappedRegion registers;
+    private Context pi4j;
+    private LinuxFsGpioMemDigitalOutputProvider outputs;
+    private LinuxFsGpioMemDigitalInputProvider inputs;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        // file-backed fake register block; GPLEV does not follow GPSET/GPCLR, the test drives it
+        file = Files.createTempFile("pi4j-gpiomem", ".bin");
+        Files.write(file, new byte[LinuxFsGpioMem.BLOCK_SIZE]);
+        registers = MappedRegion.map(file, 0, LinuxFsGpioMem.BLOCK_SIZE);
+        outputs = LinuxFsGpioMemDigitalOutputProvider.newInstance(file.toString(), LinuxFsGpioMem.Chip.BCM2711);
+        inputs = LinuxFsGpioMemDigitalInputProvider.newInstance(file.toString(), LinuxFsGpioMem.Chip.BCM2711);
+        pi4j = Pi4J.newContextBuilder().add(outputs, inputs).build();
+    }
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        pi4j.shutdown();
+        registers.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testOutput() {
+        DigitalOutput output = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j)
+            .id("out").address(17).initial(DigitalState.LOW).provider(LinuxFsGpioMemDigitalOutputProvider.ID).build());
+
+        assertEquals(1 << 17, registers.readInt(GPCLR0));
+        assertEquals(0b001 << 21, registers.readInt(GPFSEL1));
+
+        output.high();
+        assertEquals(1 << 17, registers.readInt(GPSET0));
+        assertEquals(DigitalState.HIGH, output.state());
+
+        DigitalOutput high = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j)
+            .id("out40").address(40).provider(LinuxFsGpioMemDigitalOutputProvider.ID).build());
+        high.high();
+        assertEquals(1 << 8, registers.readInt(GPSET1));
+        assertEquals(0b001, registers.readInt(GPFSEL4) & 0b111);
+    }
+
+    @Test
+    public void testInput() {
+        registers.writeInt(GPFSEL1, -1);
+        DigitalInput input = pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("in").address(18).pull(PullResistance.PULL_UP).provider(LinuxFsGpioMemDigitalInputProvider.ID).build());
+
+        assertEquals(0b000, (registers.readInt(GPFSEL1) >>> 24) & 0b111);
+        assertEquals(0b01 << 4, registers.readInt(GPIO_PUP_PDN_CNTRL_REG1));
+
+        assertEquals(DigitalState.LOW, input.state());
+        registers.writeInt(GPLEV0, 1 << 18);
+        assertEquals(DigitalState.HIGH, input.state());
+    }
+
+    @Test
+    public void testBanks() throws Exception {
+        DigitalBank out = outputs.createBank("out", 0b001, 5, 6, 40);
+        assertEquals(1 << 5, registers.readInt(GPSET0));
+        assertEquals(1 << 6, registers.readInt(GPCLR0));
+
+        out.write(0b110);
+        assertEquals(1 << 6, registers.readInt(GPSET0));
+        assertEquals(1 << 8, registers.readInt(GPSET1));
+        assertEquals(1 << 5, registers.readInt(GPCLR0));
+
+        DigitalBank in = inputs.createBank("in", PullResistance.OFF, 2, 3, 45);
+        registers.writeInt(GPLEV0, 1 << 3);
+        registers.writeInt(GPLEV1, 1 << 13);
+        assertEquals(0b110, in.read());
+        assertThrows(com.pi4j.io.exception.IOException.class, () -> in.write(0));
+    }
+
+    @Test
+    public void testMaskRange() throws Exception {
+        try (LinuxFsGpioMem gpioMem = LinuxFsGpioMem.open(file.toString(), LinuxFsGpioMem.Chip.BCM2711)) {
+            gpioMem.setMask(1L << LinuxFsGpioMem.MAX_GPIO);
+            assertEquals(1 << 21, registers.readInt(GPSET1));
+            assertThrows(IllegalArgumentException.class, () -> gpioMem.setMask(1L << 54));
+            assertThrows(IllegalArgumentException.class, () -> gpioMem.clearMask(-1L));
+            assertEquals(0, registers.readInt(GPCLR0));
+        }
+    }
+
+    @Test
+    public void testSharedRegisterBlock() throws Exception {
+        LinuxFsGpioMem first = LinuxFsGpioMem.acquire(file.toString(), LinuxFsGpioMem.Chip.BCM2711);
+        LinuxFsGpioMem second = LinuxFsGpioMem.acquire(file.toAbsolutePath().toString(), null);
+        assertSame(first, second);
+        assertThrows(java.io.IOException.class, () -> LinuxFsGpioMem.acquire(file.toString(), LinuxFsGpioMem.Chip.BCM2835));
+
+        // the register block stays mapped until its last user released it
+        first.release();
+        second.setMask(1L << 4);
+        assertEquals(1 << 4, registers.readInt(GPSET0));
+        second.release();
+
+        LinuxFsGpioMem third = LinuxFsGpioMem.acquire(file.toString(), LinuxFsGpioMem.Chip.BCM2711);
+        assertNotSame(first, third);
+        third.release();
+    }
+
+    @Test
+    public void testAutoDetectedProviders() {
+        Context context = Pi4J.newContextBuilder().autoDetect().properties(Map.of(
+            "linux.gpiomem.path", file.toString(),
+            "linux.gpiomem.chip", "bcm2711")).build();
+        try {
+            // the plugin registers the GPIO register providers as additional providers, addressed by ID
+            assertTrue(context.providers().exists(LinuxFsPlugin.GPIOMEM_DIGITAL_OUTPUT_PROVIDER_ID));
+            assertTrue(context.providers().exists(LinuxFsPlugin.GPIOMEM_DIGITAL_INPUT_PROVIDER_ID));
+
+            DigitalOutput output = context.create(DigitalOutput.newConfigBuilder(context)
+                .id("out").address(22).initial(DigitalState.LOW).provider(LinuxFsPlugin.GPIOMEM_DIGITAL_OUTPUT_PROVIDER_ID).build());
+            output.high();
+            assertEquals(1 << 22, registers.readInt(GPSET0));
+
+            DigitalInput input = context.create(DigitalInput.newConfigBuilder(context)
+                .id("in").address(23).pull(PullResistance.OFF).provider(LinuxFsPlugin.GPIOMEM_DIGITAL_INPUT_PROVIDER_ID).build());
+            registers.writeInt(GPLEV0, 1 << 23);
+            assertEquals(DigitalState.HIGH, input.state());
+        } finally {
+            context.shutdown();
+        }
+    }
+}
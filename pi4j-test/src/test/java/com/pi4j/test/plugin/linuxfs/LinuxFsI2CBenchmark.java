@@ -0,0 +1,151 @@
+package com.pi4j.test.plugin.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  LinuxFsI2CBenchmark.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import com.pi4j.library.linuxfs.LinuxFile;
+import com.pi4j.plugin.linuxfs.provider.i2c.I2CConstants;
+import com.pi4j.plugin.linuxfs.provider.i2c.LinuxFsI2CMessages;
+import com.pi4j.plugin.linuxfs.provider.i2c.LinuxFsI2CSmbus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the linuxfs I2C register access paths: <code>I2C_SMBUS</code> transfers against the combined
+ * <code>I2C_RDWR</code> messages used otherwise. By default both run against the in-process
+ * {@link FakeI2CAdapter} ioctl shim, which measures the Java side cost of building and decoding the
+ * native structures (run with the GC profiler to compare allocations):
+ * <pre>
+ *     mvn -pl pi4j-test test-compile exec:java -Dexec.classpathScope=test \
+ *         -Dexec.mainClass=com.pi4j.test.plugin.linuxfs.LinuxFsI2CBenchmark
+ * </pre>
+ * To include the kernel round trip, pass a bus device with <code>-Ddevice=/dev/i2c-N</code> on a host with
+ * the linuxfs native library, e.g. a Raspberry Pi with <code>modprobe i2c-stub chip_addr=0x50</code>.
+ * Note that i2c-stub only implements SMBus transfers, so the <code>rdwr*</code> benchmarks need a real
+ * adapter and device on that bus.
+ * <p>
+ * A short run on the shim (JDK 17, amd64, <code>-f 0 -wi 1 -i 1 -w 1 -r 1</code>) gave, in ops/ms:
+ * <pre>
+ *     operation               SMBus    I2C_RDWR
+ *     read byte               60280       14500
+ *     write byte              77376       25385
+ *     read block (32 bytes)   12530        7210
+ * </pre>
+ * These cover the Java side only; on a bus the transfer time of the device dominates both paths.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinuxFsI2CBenchmark {
+
+    private static final int ADDRESS = 0x50;
+
+    private LinuxFile file;
+    private LinuxFsI2CSmbus smbus;
+    private LinuxFsI2CMessages messages;
+    private final byte[] buffer = new byte[LinuxFsI2CSmbus.BLOCK_MAX];
+    private int register;
+
+    @Setup
+    public void setup() throws IOException {
+        String device = System.getProperty("device", "");
+        if (device.isEmpty()) {
+            FakeI2CAdapter adapter = new FakeI2CAdapter(ADDRESS);
+            smbus = adapter.smbus();
+            messages = adapter.messages();
+        } else {
+            file = new LinuxFile(device, "rw");
+            file.ioctl(I2CConstants.I2C_SLAVE, ADDRESS);
+            smbus = new LinuxFsI2CSmbus(file);
+            messages = new LinuxFsI2CMessages(file, 64);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (file != null) file.close();
+    }
+
+    @Benchmark
+    public int smbusReadByte() throws IOException {
+        return smbus.readByteData(register++ & 0xFF);
+    }
+
+    @Benchmark
+    public int rdwrReadByte() throws IOException {
+        messages.clear();
+        messages.write(ADDRESS, (byte) register++);
+        int index = messages.read(ADDRESS, 1);
+        messages.transfer();
+        return messages.resultByte(index, 0);
+    }
+
+    @Benchmark
+    public void smbusWriteByte() throws IOException {
+        smbus.writeByteData(0x10, register++);
+    }
+
+    @Benchmark
+    public void rdwrWriteByte() throws IOException {
+        messages.clear();
+        messages.write(ADDRESS, (byte) 0x10);
+        messages.append((byte) register++);
+        messages.transfer();
+    }
+
+    @Benchmark
+    public byte[] smbusReadBlock() throws IOException {
+        smbus.readI2CBlockData(0x20, buffer, 0, buffer.length);
+        return buffer;
+    }
+
+    @Benchmark
+    public byte[] rdwrReadBlock() throws IOException {
+        messages.clear();
+        messages.write(ADDRESS, (byte) 0x20);
+        int index = messages.read(ADDRESS, buffer.length);
+        messages.transfer();
+        messages.result(index, buffer, 0);
+        return buffer;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(LinuxFsI2CBenchmark.class.getSimpleName())
+            .jvmArgsAppend("-Ddevice=" + System.getProperty("device", ""))
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
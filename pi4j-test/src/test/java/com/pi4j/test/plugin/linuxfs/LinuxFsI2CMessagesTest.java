@@ -0,0 +1,101 @@
+package com.pi4j.test.plugin.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  LinuxFsI2CMessagesTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import com.pi4j.plugin.linuxfs.provider.i2c.LinuxFsI2CMessages;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LinuxFsI2CMessagesTest {
+
+    @Test
+    public void testMessageLayout() {
+        for (int wordSize : new int[]{ 4, 8 }) {
+            int messageSize = wordSize == 8 ? 16 : 12;
+            int header = LinuxFsI2CMessages.MAX_MESSAGES * messageSize;
+            LinuxFsI2CMessages messages = new LinuxFsI2CMessages(null, wordSize, 16);
+
+            assertEquals(0, messages.write(0x40, (byte) 0x10));
+            messages.append(new byte[]{ 1, 2, 3 }, 1, 2);
+            assertEquals(1, messages.read(0x40, 6));
+            assertEquals(2, messages.write(0x41, new byte[]{ 9 }, 0, 1));
+
+            ByteBuffer data = messages.data();
+            assertEquals(0, data.position());
+            assertEquals(header + 3 + 6 + 1, data.limit());
+            assertEquals(0x40, data.getShort(0));
+            assertEquals(0, data.getShort(2));
+            assertEquals(3, data.getShort(4));
+            assertEquals(0x40, data.getShort(messageSize));
+            assertEquals(1, data.getShort(messageSize + 2));   // I2C_M_RD
+            assertEquals(6, data.getShort(messageSize + 4));
+            assertEquals(0x41, data.getShort(2 * messageSize));
+            assertEquals(0x10, data.get(header));
+            assertEquals(2, data.get(header + 1));
+            assertEquals(3, data.get(header + 2));
+            assertEquals(9, data.get(header + 9));
+
+            IntBuffer offsets = messages.offsets();
+            assertEquals(6, offsets.remaining());
+            assertArrayEquals(new int[]{
+                    messageSize - wordSize, header,
+                    2 * messageSize - wordSize, header + 3,
+                    3 * messageSize - wordSize, header + 9 },
+                new int[]{ offsets.get(0), offsets.get(1), offsets.get(2), offsets.get(3), offsets.get(4), offsets.get(5) });
+
+            // the kernel stores read data at the message data offset
+            for (int i = 0; i < 6; i++) data.put(header + 3 + i, (byte) (0xA0 + i));
+            byte[] result = new byte[8];
+            assertEquals(6, messages.result(1, result, 2));
+            assertEquals((byte) 0xA0, result[2]);
+            assertEquals((byte) 0xA5, result[7]);
+            assertEquals(0xA1, messages.resultByte(1, 1));
+
+            assertEquals(0, messages.clear().size());
+            assertEquals(header, messages.data().limit());
+        }
+    }
+
+    @Test
+    public void testGrowthAndLimits() {
+        LinuxFsI2CMessages messages = new LinuxFsI2CMessages(null, 8, 4);
+        byte[] block = new byte[1000];
+        block[999] = 42;
+        int index = messages.write(0x50, block, 0, block.length);
+        messages.read(0x50, 0);
+        assertTrue(messages.data().capacity() > messages.data().limit());
+        assertEquals(42, messages.data().get(LinuxFsI2CMessages.MAX_MESSAGES * 16 + 999));
+        assertEquals(0, index);
+
+        assertThrows(IllegalStateException.class, () -> messages.append((byte) 1));
+        while (messages.size() < LinuxFsI2CMessages.MAX_MESSAGES) messages.read(0x50, 1);
+        assertThrows(IllegalStateException.class, () -> messages.read(0x50, 1));
+        assertThrows(IllegalArgumentException.class, () -> messages.clear().read(0x50, LinuxFsI2CMessages.MAX_LENGTH + 1));
+    }
+}
@@ -0,0 +1,85 @@
+package com.pi4j.test.plugin.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  LinuxFsI2CSmbusTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import com.pi4j.plugin.linuxfs.provider.i2c.I2CConstants;
+import com.pi4j.plugin.linuxfs.provider.i2c.LinuxFsI2CMessages;
+import com.pi4j.plugin.linuxfs.provider.i2c.LinuxFsI2CSmbus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LinuxFsI2CSmbusTest {
+
+    @Test
+    public void testSmbusTransfers() throws Exception {
+        FakeI2CAdapter adapter = new FakeI2CAdapter(0x40);
+        LinuxFsI2CSmbus smbus = adapter.smbus();
+
+        assertTrue((smbus.functionality() & I2CConstants.I2C_FUNC_SMBUS_READ_I2C_BLOCK) != 0);
+
+        assertEquals(0x21, smbus.readByteData(0x21));
+        smbus.writeByteData(0x21, 0xAB);
+        assertEquals(0xAB, smbus.readByteData(0x21));
+
+        // low byte first
+        assertEquals(0x3130, smbus.readWordData(0x30));
+        smbus.writeWordData(0x30, 0x1234);
+        assertEquals(0x34, adapter.registers[0x30]);
+        assertEquals(0x12, adapter.registers[0x31]);
+        assertEquals(0x5678, smbus.processCall(0x30, 0x5678));
+
+        byte[] block = new byte[LinuxFsI2CSmbus.BLOCK_MAX + 2];
+        assertEquals(LinuxFsI2CSmbus.BLOCK_MAX, smbus.readI2CBlockData(0x80, block, 2, LinuxFsI2CSmbus.BLOCK_MAX));
+        assertEquals((byte) 0x80, block[2]);
+        assertEquals((byte) 0x9F, block[33]);
+        smbus.writeI2CBlockData(0x90, new byte[]{ 7, 8, 9 }, 1, 2);
+        assertEquals(8, adapter.registers[0x90]);
+        assertEquals(9, adapter.registers[0x91]);
+
+        assertThrows(IllegalArgumentException.class, () -> smbus.readI2CBlockData(0, new byte[64], 0, 33));
+        assertEquals(9, adapter.ioctls);
+    }
+
+    @Test
+    public void testCombinedTransfers() throws Exception {
+        FakeI2CAdapter adapter = new FakeI2CAdapter(0x40);
+        LinuxFsI2CMessages messages = adapter.messages();
+
+        messages.write(0x40, (byte) 0x10);
+        int first = messages.read(0x40, 4);
+        messages.write(0x40, (byte) 0x80);
+        messages.append(new byte[]{ 1, 2 }, 0, 2);
+        messages.write(0x40, (byte) 0x80);
+        int second = messages.read(0x40, 2);
+        assertEquals(5, messages.transfer());
+
+        byte[] buffer = new byte[6];
+        messages.result(first, buffer, 0);
+        messages.result(second, buffer, 4);
+        assertArrayEquals(new byte[]{ 0x10, 0x11, 0x12, 0x13, 1, 2 }, buffer);
+        assertEquals(1, adapter.ioctls);
+    }
+}
@@ -0,0 +1,233 @@
+package com.pi4j.test.plugin.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  LinuxGpioPollerTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
+import com.pi4j.plugin.linuxfs.internal.LinuxGpioPoller;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LinuxGpioPollerTest {
+
+    private static final String THREAD = "pi4j-linuxfs-gpio-poll-test";
+
+    private FakePoller poller;
+
+    // polls in-memory pins instead of sysfs; the pin number doubles as file descriptor
+    private static class FakePoller extends LinuxGpioPoller {
+        final Map<Integer, FakeValue> values = new ConcurrentHashMap<>();
+        final Set<Integer> pending = new HashSet<>();
+        final AtomicInteger failures = new AtomicInteger();
+
+        FakePoller() {
+            super(THREAD);
+        }
+
+        class FakeValue implements Value {
+            final int pin;
+            volatile boolean high;
+            volatile boolean closed;
+
+            FakeValue(int pin) {
+                this.pin = pin;
+            }
+
+            @Override
+            public int fd() {
+                return pin;
+            }
+
+            @Override
+            public boolean read() {
+                return high;
+            }
+
+            @Override
+            public void close() {
+                closed = true;
+            }
+        }
+
+        @Override
+        protected Value open(LinuxGpio gpio) {
+            FakeValue value = new FakeValue(Integer.parseInt(gpio.getPinPath().replaceAll(".*gpio", "")));
+            values.put(value.pin, value);
+            return value;
+        }
+
+        @Override
+        protected int poll(int[] fds, int[] revents, int count, int events, int timeout) throws IOException {
+            if (failures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) throw new IOException("poll failed");
+            long deadline = System.currentTimeMillis() + timeout;
+            synchronized (pending) {
+                while (true) {
+                    int ready = 0;
+                    for (int i = 0; i < count; i++) {
+                        revents[i] = pending.remove(fds[i]) ? events : 0;
+                        if (revents[i] != 0) ready++;
+                    }
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (ready > 0 || remaining <= 0) return ready;
+                    try {
+                        pending.wait(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return 0;
+                    }
+                }
+            }
+        }
+
+        void edge(int pin, boolean high) {
+            values.get(pin).high = high;
+            synchronized (pending) {
+                pending.add(pin);
+                pending.notifyAll();
+            }
+        }
+    }
+
+    private static class Edges implements LinuxGpioPoller.Listener {
+        final BlockingQueue<Boolean> levels = new LinkedBlockingQueue<>();
+        final BlockingQueue<IOException> failures = new LinkedBlockingQueue<>();
+
+        @Override
+        public void edge(boolean high, long timestampNanos) {
+            levels.add(high);
+        }
+
+        @Override
+        public void failed(IOException cause) {
+            failures.add(cause);
+        }
+
+        Boolean next() throws InterruptedException {
+            return levels.poll(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @BeforeEach
+    public void beforeTest() {
+        poller = new FakePoller();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        poller.close();
+    }
+
+    private static boolean polling() {
+        return Thread.getAllStackTraces().keySet().stream().anyMatch(t -> THREAD.equals(t.getName()));
+    }
+
+    private static boolean awaitPollingEnded() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (polling()) {
+            if (System.currentTimeMillis() > deadline) return false;
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    @Test
+    public void testEdgeDelivery() throws Exception {
+        Edges first = new Edges();
+        Edges second = new Edges();
+        poller.register(new LinuxGpio("/sys/class/gpio", 22), first);
+        poller.register(new LinuxGpio("/sys/class/gpio", 23), second);
+
+        poller.edge(22, true);
+        assertEquals(Boolean.TRUE, first.next());
+        poller.edge(23, true);
+        assertEquals(Boolean.TRUE, second.next());
+        poller.edge(22, false);
+        assertEquals(Boolean.FALSE, first.next());
+
+        // each listener only receives the edges of its own pin
+        assertTrue(first.levels.isEmpty());
+        assertTrue(second.levels.isEmpty());
+    }
+
+    @Test
+    public void testRegisterUnregister() throws Exception {
+        LinuxGpio gpio22 = new LinuxGpio("/sys/class/gpio", 22);
+        LinuxGpio gpio23 = new LinuxGpio("/sys/class/gpio", 23);
+        Edges first = new Edges();
+        Edges second = new Edges();
+        poller.register(gpio22, first);
+        poller.register(gpio23, second);
+        assertEquals(2, poller.size());
+        assertTrue(polling());
+
+        assertTrue(poller.unregister(gpio22));
+        assertFalse(poller.unregister(gpio22));
+        assertEquals(1, poller.size());
+        assertTrue(poller.values.get(22).closed);
+        assertFalse(poller.values.get(23).closed);
+
+        poller.edge(22, true);
+        poller.edge(23, true);
+        assertEquals(Boolean.TRUE, second.next());
+        assertTrue(first.levels.isEmpty());
+
+        // the polling thread ends with the last registration and restarts with the next one
+        assertTrue(poller.unregister(gpio23));
+        assertEquals(0, poller.size());
+        assertTrue(awaitPollingEnded());
+
+        poller.register(gpio22, first);
+        poller.edge(22, true);
+        assertEquals(Boolean.TRUE, first.next());
+    }
+
+    @Test
+    public void testPollFailureRetried() throws Exception {
+        poller.failures.set(2);
+        Edges edges = new Edges();
+        poller.register(new LinuxGpio("/sys/class/gpio", 22), edges);
+
+        // failures are passed to the listener and do not end edge detection
+        assertEquals("poll failed", edges.failures.poll(5, TimeUnit.SECONDS).getMessage());
+        assertEquals("poll failed", edges.failures.poll(5, TimeUnit.SECONDS).getMessage());
+        poller.edge(22, true);
+        assertEquals(Boolean.TRUE, edges.next());
+        assertEquals(1, poller.size());
+        assertTrue(edges.failures.isEmpty());
+    }
+}
@@ -0,0 +1,204 @@
+package com.pi4j.test.plugin.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioHostsTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.extension.PluginService;
+import com.pi4j.io.IOType;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputProvider;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.platform.Platform;
+import com.pi4j.library.pigpio.emulator.PiGpioEmulator;
+import com.pi4j.plugin.pigpio.PiGpioHost;
+import com.pi4j.plugin.pigpio.PiGpioPlugin;
+import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalOutputProvider;
+import com.pi4j.plugin.pigpio.provider.serial.PiGpioSoftwareSerialProvider;
+import com.pi4j.provider.Provider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiGpioHostsTest {
+
+    private PiGpioEmulator local;
+    private PiGpioEmulator first;
+    private PiGpioEmulator second;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        local = new PiGpioEmulator();
+        first = new PiGpioEmulator();
+        second = new PiGpioEmulator();
+    }
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        local.close();
+        first.close();
+        second.close();
+    }
+
+    // collects the providers a plugin registers
+    private static class Registrations implements PluginService {
+        private final Context context;
+        private final List<Provider> providers = new ArrayList<>();
+        private final List<Provider> additional = new ArrayList<>();
+
+        private Registrations(Context context) {
+            this.context = context;
+        }
+
+        @Override
+        public Context context() {
+            return context;
+        }
+
+        @Override
+        public PluginService register(Provider... provider) {
+            providers.addAll(Arrays.asList(provider));
+            return this;
+        }
+
+        @Override
+        public PluginService registerAdditional(Provider... provider) {
+            additional.addAll(Arrays.asList(provider));
+            return this;
+        }
+
+        @Override
+        public PluginService register(Platform... platform) {
+            return this;
+        }
+    }
+
+    private Map<String, String> properties(String hosts) {
+        return Map.of(
+            "remote", "true",
+            "host", "127.0.0.1",
+            "port", Integer.toString(local.port()),
+            PiGpioPlugin.PIGPIO_HOSTS_PROPERTY, hosts,
+            PiGpioPlugin.PIGPIO_HOSTS_PROPERTY + ".pi1.host", "127.0.0.1",
+            PiGpioPlugin.PIGPIO_HOSTS_PROPERTY + ".pi1.port", Integer.toString(first.port()),
+            PiGpioPlugin.PIGPIO_HOSTS_PROPERTY + ".pi2.host", "127.0.0.1",
+            PiGpioPlugin.PIGPIO_HOSTS_PROPERTY + ".pi2.port", Integer.toString(second.port()));
+    }
+
+    @Test
+    public void testHostsProperty() throws Exception {
+        Context context = Pi4J.newContextBuilder().properties(properties(" pi1, pi2 ,")).build();
+        PiGpioPlugin plugin = new PiGpioPlugin();
+        Registrations registrations = new Registrations(context);
+        try {
+            plugin.initialize(registrations);
+
+            assertEquals(List.of("pi1", "pi2"), List.copyOf(plugin.hosts().keySet()));
+            PiGpioHost host = plugin.host("pi2");
+            assertEquals("127.0.0.1", host.host());
+            assertEquals(second.port(), host.port());
+            assertEquals("pigpio-digital-output.pi2", host.providerId(PiGpioDigitalOutputProvider.ID));
+            assertTrue(host.isHealthy());
+            assertTrue(host.ping().get(5, TimeUnit.SECONDS) >= 0);
+            assertTrue(host.metrics().getRequestCount() > 0);
+
+            // the providers of the hosts and the software serial provider are only addressed by ID
+            Set<String> additional = registrations.additional.stream().map(Provider::id).collect(Collectors.toSet());
+            assertEquals(1 + 2 * host.providers().length, additional.size());
+            assertTrue(additional.contains(PiGpioSoftwareSerialProvider.ID));
+            assertTrue(additional.contains("pigpio-digital-output.pi1"));
+            assertTrue(additional.contains("pigpio-i2c.pi2"));
+            assertTrue(registrations.providers.stream().map(Provider::id).noneMatch(additional::contains));
+        } finally {
+            plugin.shutdown(context);
+            context.shutdown();
+        }
+        assertTrue(plugin.hosts().isEmpty());
+    }
+
+    @Test
+    public void testDuplicateHost() {
+        Context context = Pi4J.newContextBuilder().properties(properties("pi1,pi2,pi1")).build();
+        PiGpioPlugin plugin = new PiGpioPlugin();
+        try {
+            assertThrows(InitializeException.class,
+                () -> plugin.initialize(new Registrations(context)));
+        } finally {
+            plugin.shutdown(context);
+            context.shutdown();
+        }
+    }
+
+    @Test
+    public void testMultiHostContext() {
+        Context pi4j = Pi4J.newContextBuilder().autoDetect().properties(properties("pi1,pi2")).build();
+        try {
+            // additional providers are found by their ID ...
+            assertTrue(pi4j.providers().exists("pigpio-digital-output.pi1"));
+            assertTrue(pi4j.providers().exists("pigpio-digital-output.pi2"));
+            assertEquals(PiGpioSoftwareSerialProvider.ID, pi4j.providers().get(PiGpioSoftwareSerialProvider.ID).id());
+
+            // ... but never become the default provider of their I/O type, lookups by type or class prefer
+            // the default provider and only fall back to an additional provider if there is no default one
+            Provider output = pi4j.providers().get(IOType.DIGITAL_OUTPUT);
+            assertFalse(output.id().startsWith("pigpio-digital-output."), output.id());
+            assertEquals(output.id(), pi4j.providers().get(DigitalOutputProvider.class).id());
+            String pigpio = pi4j.providers().get(PiGpioDigitalOutputProvider.class).id();
+            if (pi4j.providers().exists(PiGpioDigitalOutputProvider.ID))
+                assertEquals(PiGpioDigitalOutputProvider.ID, pigpio);
+            else
+                assertTrue(pigpio.startsWith("pigpio-digital-output."), pigpio);
+
+            // each host drives its own daemon (the registry requires distinct addresses across providers)
+            DigitalOutput one = pi4j.create(DigitalOutput.newConfigBuilder(pi4j)
+                .id("one").address(17).initial(DigitalState.LOW).provider("pigpio-digital-output.pi1").build());
+            DigitalOutput two = pi4j.create(DigitalOutput.newConfigBuilder(pi4j)
+                .id("two").address(18).initial(DigitalState.LOW).provider("pigpio-digital-output.pi2").build());
+            one.high();
+            assertEquals(1, first.level(17));
+            assertEquals(0, second.level(17));
+            two.high();
+            one.low();
+            assertEquals(0, first.level(17));
+            assertEquals(0, first.level(18));
+            assertEquals(1, second.level(18));
+            assertEquals(0, local.level(18));
+        } finally {
+            pi4j.shutdown();
+        }
+    }
+}
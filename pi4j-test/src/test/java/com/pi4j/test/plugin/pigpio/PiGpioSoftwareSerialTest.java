@@ -0,0 +1,86 @@
+package com.pi4j.test.plugin.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioSoftwareSerialTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.serial.Serial;
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.emulator.PiGpioEmulator;
+import com.pi4j.plugin.pigpio.provider.serial.PiGpioSoftwareSerial;
+import com.pi4j.plugin.pigpio.provider.serial.PiGpioSoftwareSerialProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiGpioSoftwareSerialTest {
+
+    private PiGpioEmulator daemon;
+    private PiGpio piGpio;
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        daemon = new PiGpioEmulator();
+        piGpio = PiGpio.newSocketInstance("127.0.0.1", daemon.port());
+        pi4j = Pi4J.newContextBuilder().add(PiGpioSoftwareSerialProvider.newInstance(piGpio)).build();
+    }
+
+    @AfterEach
+    public void afterTest() throws Exception {
+        pi4j.shutdown();
+        piGpio.shutdown();
+        daemon.close();
+    }
+
+    private Serial create(String id, String device) {
+        return pi4j.create(Serial.newConfigBuilder(pi4j)
+            .id(id).device(device).baud(9600).provider(PiGpioSoftwareSerialProvider.ID).build());
+    }
+
+    @Test
+    public void testGpioDevice() throws Exception {
+        assertEquals(17, ((PiGpioSoftwareSerial) create("gpio", "GPIO17")).pin());
+        assertEquals(4, ((PiGpioSoftwareSerial) create("number", " 4 ")).pin());
+
+        Serial serial = create("lower", "gpio22");
+        daemon.bitBangInput(22, new byte[]{ 'o', 'k' });
+        byte[] buffer = new byte[2];
+        assertEquals(2, serial.read(buffer));
+        assertArrayEquals(new byte[]{ 'o', 'k' }, buffer);
+    }
+
+    @Test
+    public void testNotAGpioDevice() {
+        // a serial device path must not be mistaken for the GPIO its digits happen to spell
+        assertThrows(IllegalArgumentException.class, () -> create("tty", "/dev/ttyAMA0"));
+        assertThrows(IllegalArgumentException.class, () -> create("serial", "/dev/serial1"));
+        assertThrows(IllegalArgumentException.class, () -> create("empty", "GPIO"));
+        assertThrows(IllegalArgumentException.class, () -> create("suffix", "GPIO17a"));
+    }
+}
@@ -0,0 +1,180 @@
+package com.pi4j.plugin.gpiod.provider.gpio.digital;
+
+import com.pi4j.exception.InitializeException;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.DigitalBank;
+import com.pi4j.io.gpio.digital.PullResistance;
+import com.pi4j.library.gpiod.internal.GpioDContext;
+import com.pi4j.library.gpiod.internal.GpioDException;
+import com.pi4j.library.gpiod.internal.GpioLineBulk;
+import com.pi4j.library.gpiod.internal.LineRequestFlag;
+
+import java.util.Arrays;
+
+/**
+ * <p>GpioDDigitalBank class.</p>
+ *
+ * <p>Requests up to 64 lines as one libgpiod line bulk, so the whole bank is read or written with a
+ * single ioctl and all outputs change at the same time.</p>
+ */
+public class GpioDDigitalBank implements DigitalBank {
+    private final String id;
+    private final int[] addresses;
+    private final GpioLineBulk bulk;
+    private final boolean output;
+    private final long lines;
+    private long values;
+    private boolean closed = false;
+
+    /**
+     * <p>Constructor for GpioDDigitalBank.</p>
+     *
+     * @param id        the bank identifier
+     * @param addresses the line addresses, in the order of the lines of the bulk
+     * @param bulk      the requested line bulk
+     * @param output    true if the lines are requested as outputs
+     * @param values    the current line states of an output bank
+     */
+    protected GpioDDigitalBank(String id, int[] addresses, GpioLineBulk bulk, boolean output, long values) {
+        this.id = id;
+        this.addresses = checkAddresses(id, addresses);
+        this.bulk = bulk;
+        this.output = output;
+        this.lines = (addresses.length == MAX_LINES) ? -1L : (1L << addresses.length) - 1;
+        this.values = values & this.lines;
+    }
+
+    /**
+     * <p>newOutputBank.</p>
+     *
+     * @param id            the bank identifier (used as line consumer)
+     * @param initialValues initial line states; bit {@code i} for {@code addresses[i]}
+     * @param addresses     the line addresses
+     * @return a {@link GpioDDigitalBank} object.
+     */
+    public static GpioDDigitalBank newOutputBank(String id, long initialValues, int... addresses) {
+        checkAddresses(id, addresses);
+        GpioLineBulk bulk = GpioDContext.getInstance().openLineBulk(addresses);
+        try {
+            bulk.requestOutputFlags(id, 0, initialValues);
+        } catch (GpioDException e) {
+            GpioDContext.getInstance().closeLineBulk(bulk);
+            throw new InitializeException("Failed to initialize output bank " + id, e);
+        }
+        return new GpioDDigitalBank(id, addresses, bulk, true, initialValues);
+    }
+
+    /**
+     * <p>newInputBank.</p>
+     *
+     * @param id        the bank identifier (used as line consumer)
+     * @param pull      the pull resistance of all lines
+     * @param addresses the line addresses
+     * @return a {@link GpioDDigitalBank} object.
+     */
+    public static GpioDDigitalBank newInputBank(String id, PullResistance pull, int... addresses) {
+        int flags;
+        switch (pull) {
+            case PULL_UP:
+                flags = LineRequestFlag.BIAS_PULL_UP.getVal();
+                break;
+            case PULL_DOWN:
+                flags = LineRequestFlag.BIAS_PULL_DOWN.getVal();
+                break;
+            default:
+                flags = LineRequestFlag.BIAS_DISABLE.getVal();
+                break;
+        }
+        checkAddresses(id, addresses);
+        GpioLineBulk bulk = GpioDContext.getInstance().openLineBulk(addresses);
+        try {
+            bulk.requestInputFlags(id, flags);
+        } catch (GpioDException e) {
+            GpioDContext.getInstance().closeLineBulk(bulk);
+            throw new InitializeException("Failed to initialize input bank " + id, e);
+        }
+        return new GpioDDigitalBank(id, addresses, bulk, false, 0);
+    }
+
+    private static int[] checkAddresses(String id, int[] addresses) {
+        if (addresses.length == 0 || addresses.length > MAX_LINES)
+            throw new IllegalArgumentException("A bank requires 1 to " + MAX_LINES + " lines: " + addresses.length);
+        int[] sorted = addresses.clone();
+        Arrays.sort(sorted);
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] == sorted[i - 1])
+                throw new IllegalArgumentException("Duplicate line address for bank " + id + ": " + sorted[i]);
+        }
+        return addresses.clone();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String id() {
+        return this.id;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int[] addresses() {
+        return this.addresses.clone();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long read() throws IOException {
+        if (this.closed)
+            throw new IOException("Bank " + this.id + " is closed");
+        try {
+            return this.bulk.getValues();
+        } catch (GpioDException e) {
+            throw new IOException("Failed to read bank " + this.id, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized DigitalBank write(long values) throws IOException {
+        if (!this.output)
+            throw new IOException("Bank " + this.id + " is an input bank");
+        if (this.closed)
+            throw new IOException("Bank " + this.id + " is closed");
+        try {
+            this.bulk.setValues(values & this.lines);
+        } catch (GpioDException e) {
+            throw new IOException("Failed to write bank " + this.id, e);
+        }
+        this.values = values & this.lines;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized DigitalBank write(long values, long mask) throws IOException {
+        return write((this.values & ~mask) | (values & mask));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() {
+        if (this.closed)
+            return;
+        this.closed = true;
+        release(this.bulk);
+    }
+
+    /**
+     * Releases the lines of the bank and frees the bulk; called once by {@link #close()}.
+     *
+     * @param bulk the line bulk of this bank
+     */
+    protected void release(GpioLineBulk bulk) {
+        GpioDContext.getInstance().closeLineBulk(bulk);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "GpioDDigitalBank{id=" + this.id + ", output=" + this.output + ", addresses=" + Arrays.toString(this.addresses) + "}";
+    }
+}
@@ -8,8 +8,6 @@ import com.pi4j.library.gpiod.internal.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.Future;
-
 /**
  * <p>PiGpioDigitalOutput class.</p>
  *
@@ -18,12 +16,10 @@ import java.util.concurrent.Future;
  */
 public class GpioDDigitalInput extends DigitalInputBase implements DigitalInput {
     private static final Logger logger = LoggerFactory.getLogger(GpioDDigitalInput.class);
-    private static final long inputMaxWaitNs = 10 * 1000 * 1000; // 10 ms
     private final GpioLine line;
     private final long debounceNs;
-    private volatile boolean inputListenerRun;
-    private volatile boolean inputListenerActive;
-    private Future<?> inputListener;
+    private GpioLineEventRequest request;
+    private DigitalState lastState = null;
 
     /**
      * <p>Constructor for GpioDDigitalInput.</p>
@@ -45,114 +41,95 @@ public class GpioDDigitalInput extends DigitalInputBase implements DigitalInput
 
     @Override
     public DigitalInput initialize(Context context) throws InitializeException {
+        GpioDContext gpioDContext = GpioDContext.getInstance();
         try {
             if (this.line.getDirection() == LineDirection.OUTPUT)
-                GpioDContext.getInstance().closeLine(this.line);
+                gpioDContext.closeLine(this.line);
 
+            int flags;
             switch (this.config.getPull()) {
                 case PULL_UP:
-                    this.line.requestBothEdgeEventsFlags(this.config.getId(), LineRequestFlag.BIAS_PULL_UP.getVal());
+                    flags = LineRequestFlag.BIAS_PULL_UP.getVal();
                     break;
                 case PULL_DOWN:
-                    this.line.requestBothEdgeEventsFlags(this.config.getId(), LineRequestFlag.BIAS_PULL_DOWN.getVal());
+                    flags = LineRequestFlag.BIAS_PULL_DOWN.getVal();
                     break;
-                case OFF:
-                    this.line.requestBothEdgeEventsFlags(this.config.getId(), LineRequestFlag.BIAS_DISABLE.getVal());
+                default:
+                    flags = LineRequestFlag.BIAS_DISABLE.getVal();
                     break;
             }
+
+            // request the events through the GPIO v2 uAPI if possible, so the kernel debounces the line and
+            // numbers its events; otherwise fall back to libgpiod and debounce in the event loop
+            try {
+                this.request = gpioDContext.requestLineEvents(this.line, this.config.getId(), flags, this.config.getDebounce());
+                if (this.debounceNs > 0)
+                    logger.info("Input {} debounced by the kernel ({} us)", this.id, this.config.getDebounce());
+            } catch (GpioDException e) {
+                if (this.debounceNs > 0)
+                    logger.info("Kernel debounce not available for input {}, debouncing in Java: {}", this.id, e.getMessage());
+                else
+                    logger.info("GPIO v2 line requests not available for input {}: {}", this.id, e.getMessage());
+            }
+            if (this.request == null)
+                this.line.requestBothEdgeEventsFlags(this.config.getId(), flags);
         } catch (GpioDException e) {
             throw new InitializeException("Failed to initialize input " + this.id, e);
         }
         super.initialize(context);
 
-        this.inputListenerRun = true;
-        this.inputListener = context.submitTask(this::monitorLineEvents);
+        // edge events of all gpiod inputs are read by the single GpioD context event loop
+        try {
+            if (this.request != null)
+                gpioDContext.addLineEventListener(this.request, this::onLineEvent);
+            else
+                gpioDContext.addLineEventListener(this.line, this.debounceNs, this::onLineEvent);
+        } catch (GpioDException | IllegalStateException e) {
+            throw new InitializeException("Failed to watch events of input " + this.id, e);
+        }
         return this;
     }
 
     @Override
     public DigitalInput shutdown(Context context) throws ShutdownException {
         super.shutdown(context);
-        if (this.inputListener != null)
-            shutdownInputListener();
-        return this;
-    }
-
-    private void shutdownInputListener() {
-        this.inputListenerRun = true;
-        if (!this.inputListenerActive)
-            return;
-        if (this.inputListener.isDone())
-            return;
-
-        if (!this.inputListener.cancel(true))
-            logger.error("Failed to cancel input listener!");
-
-        long start = System.currentTimeMillis();
-        while (this.inputListenerActive) {
-            if (System.currentTimeMillis() - start > 5000L)
-                throw new IllegalArgumentException("Input listener didn't stop in 5s");
-            try {
-                Thread.sleep(0L, 500);
-            } catch (InterruptedException e) {
-                logger.warn("Interrupted, while waiting for input listener to stop");
-            }
+        GpioDContext gpioDContext = GpioDContext.getInstance();
+        if (this.request != null) {
+            gpioDContext.removeLineEventListener(this.request);
+            gpioDContext.closeLineEventRequest(this.request);
+        } else {
+            gpioDContext.removeLineEventListener(this.line);
         }
-
         logger.info("Shutdown input listener for {}", this.id);
+        return this;
     }
 
     @Override
     public DigitalState state() {
+        if (this.request != null)
+            return DigitalState.getState(this.request.getValue());
         return DigitalState.getState(this.line.getValue());
     }
 
-    private void monitorLineEvents() {
-        this.inputListenerActive = true;
-        GpioDContext gpioDContext = GpioDContext.getInstance();
-        DigitalState lastState = null;
-        GpioLineEvent lineEvent = GpioDContext.getInstance().openLineEvent();
-
-        try {
-            while (this.inputListenerRun && this.inputListener != null && !this.inputListener.isCancelled()) {
-                long debounceNs = this.debounceNs;
-                // We have to use this function before calling eventRead() directly, since native methods can't be interrupted.
-                // eventRead() is blocking and prevents thread interrupt while running
-                while (!this.line.eventWait(inputMaxWaitNs)) {
-                    if (!this.inputListenerRun || this.inputListener == null || this.inputListener.isCancelled())
-                        return;
-                }
-
-                this.line.eventRead(lineEvent);
-                long currentTime = System.nanoTime();
-
-                // Perform debouncing
-                // If the event is too new to be sure that it is debounced then ...
-                while (lineEvent.getTimeNs() + debounceNs >= currentTime) {
-                    if (!this.inputListenerRun || this.inputListener == null || this.inputListener.isCancelled())
-                        return;
-
-                    // ... wait for remaining debounce time and watch out for new event(s)
-                    if (this.line.eventWait(
-                        Math.min(inputMaxWaitNs, lineEvent.getTimeNs() + debounceNs - currentTime))) {
-                        // Repeat if a second event occurred withing debounce interval
-                        this.line.eventRead(lineEvent);
-                    }
-
-                    currentTime = System.nanoTime();
-                }
+    /**
+     * Returns the number of edges lost because the kernel event fifo of this input overflowed (e.g. while
+     * bursts of edges arrived faster than they could be read). Lost edges are counted from gaps in the kernel
+     * sequence numbers; inputs are requested through the v2 uAPI whenever the kernel supports it, on
+     * older kernels without it the count stays zero.
+     *
+     * @return number of lost edges detected
+     */
+    public long getEventOverflowCount() {
+        return GpioDContext.getInstance().getLineEventOverflows(this.line);
+    }
 
-                // Apply event only if the new state is not the same as the last state.
-                DigitalState newState = DigitalState.getState(lineEvent.getType() == LineEvent.RISING_EDGE);
-                if (lastState != newState) {
-                    lastState = newState;
-                    this.dispatch(new DigitalStateChangeEvent<>(this, newState));
-                }
-            }
-        } finally {
-            if (lineEvent != null)
-                gpioDContext.closeLineEvent(lineEvent);
-            this.inputListenerActive = false;
+    private void onLineEvent(LineEvent type, long timestampNs) {
+        // Apply event only if the new state is not the same as the last state.
+        DigitalState newState = DigitalState.getState(type == LineEvent.RISING_EDGE);
+        if (this.lastState != newState) {
+            this.lastState = newState;
+            // kernel line event timestamps use CLOCK_MONOTONIC, the same clock as System.nanoTime()
+            this.dispatch(newState == DigitalState.HIGH, timestampNs);
         }
     }
 }
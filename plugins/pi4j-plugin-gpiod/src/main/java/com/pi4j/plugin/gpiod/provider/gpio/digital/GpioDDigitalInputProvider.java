@@ -1,6 +1,7 @@
 package com.pi4j.plugin.gpiod.provider.gpio.digital;
 
 import com.pi4j.io.gpio.digital.DigitalInputProvider;
+import com.pi4j.io.gpio.digital.PullResistance;
 import com.pi4j.plugin.gpiod.GpioDPlugin;
 
 /**
@@ -23,4 +24,16 @@ public interface GpioDDigitalInputProvider extends DigitalInputProvider  {
     static GpioDDigitalInputProvider newInstance() {
         return new GpioDDigitalInputProviderImpl();
     }
+
+    /**
+     * Creates a bank of input lines read together with a single ioctl.
+     *
+     * @param id        the bank identifier
+     * @param pull      the pull resistance of all lines
+     * @param addresses the line addresses (at most 64)
+     * @return a {@link GpioDDigitalBank} object.
+     */
+    default GpioDDigitalBank createBank(String id, PullResistance pull, int... addresses) {
+        return GpioDDigitalBank.newInputBank(id, pull, addresses);
+    }
 }
@@ -50,4 +50,16 @@ public interface GpioDDigitalOutputProvider extends DigitalOutputProvider {
     static GpioDDigitalOutputProvider newInstance() {
         return new GpioDDigitalOutputProviderImpl();
     }
+
+    /**
+     * Creates a bank of output lines written together with a single ioctl.
+     *
+     * @param id            the bank identifier
+     * @param initialValues initial line states; bit {@code i} for {@code addresses[i]}
+     * @param addresses     the line addresses (at most 64)
+     * @return a {@link GpioDDigitalBank} object.
+     */
+    default GpioDDigitalBank createBank(String id, long initialValues, int... addresses) {
+        return GpioDDigitalBank.newOutputBank(id, initialValues, addresses);
+    }
 }
@@ -35,6 +35,9 @@ import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
 import com.pi4j.plugin.linuxfs.provider.i2c.LinuxFsI2CProvider;
 import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalInputProvider;
 import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalOutputProvider;
+import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsGpioMem;
+import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsGpioMemDigitalInputProvider;
+import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsGpioMemDigitalOutputProvider;
 import com.pi4j.plugin.linuxfs.provider.pwm.LinuxFsPwmProvider;
 import com.pi4j.plugin.linuxfs.internal.LinuxPwm;
 import com.pi4j.provider.Provider;
@@ -92,6 +95,14 @@ public class LinuxFsPlugin implements Plugin {
      */
     public static final String DIGITAL_OUTPUT_PROVIDER_ID = ID + "-digital-output";
 
+    // Digital Input (GPIO registers) Provider name and unique ID
+    public static final String GPIOMEM_DIGITAL_INPUT_PROVIDER_NAME = NAME + " GPIO Memory Digital Input Provider";
+    public static final String GPIOMEM_DIGITAL_INPUT_PROVIDER_ID = ID + "-gpiomem-digital-input";
+
+    // Digital Output (GPIO registers) Provider name and unique ID
+    public static final String GPIOMEM_DIGITAL_OUTPUT_PROVIDER_NAME = NAME + " GPIO Memory Digital Output Provider";
+    public static final String GPIOMEM_DIGITAL_OUTPUT_PROVIDER_ID = ID + "-gpiomem-digital-output";
+
     // PWM Provider name and unique ID
     public static final String PWM_PROVIDER_NAME = NAME + " PWM Provider";
     public static final String PWM_PROVIDER_ID = ID + "-pwm";
@@ -110,6 +121,7 @@ public class LinuxFsPlugin implements Plugin {
 
     public static String DEFAULT_GPIO_FILESYSTEM_PATH = LinuxGpio.DEFAULT_SYSTEM_PATH;
     public static String DEFAULT_PWM_FILESYSTEM_PATH = LinuxPwm.DEFAULT_SYSTEM_PATH;
+    public static String DEFAULT_GPIOMEM_PATH = LinuxFsGpioMem.DEFAULT_PATH;
 
     private Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -122,6 +134,8 @@ public class LinuxFsPlugin implements Plugin {
         // get Linux file system path for GPIO & PWM
         String gpioFileSystemPath = DEFAULT_GPIO_FILESYSTEM_PATH;
         String pwmFileSystemPath = DEFAULT_PWM_FILESYSTEM_PATH;
+        String gpioMemPath = DEFAULT_GPIOMEM_PATH;
+        LinuxFsGpioMem.Chip gpioMemChip = null;
 
         int pwmChip;
         if(BoardInfoHelper.usesRP1()) {
@@ -135,6 +149,21 @@ public class LinuxFsPlugin implements Plugin {
             gpioFileSystemPath = service.context().properties().get("linux.gpio.system.path", gpioFileSystemPath);
         }
 
+        // [GPIOMEM] get overriding custom 'linux.gpiomem.path' setting from Pi4J context
+        if(service.context().properties().has("linux.gpiomem.path")){
+            gpioMemPath = service.context().properties().get("linux.gpiomem.path", gpioMemPath);
+        }
+
+        // [GPIOMEM] get overriding custom 'linux.gpiomem.chip' register layout from Pi4J context (detected if unset)
+        if(service.context().properties().has("linux.gpiomem.chip")){
+            try {
+                gpioMemChip = LinuxFsGpioMem.Chip.valueOf(service.context().properties().get("linux.gpiomem.chip").trim().toUpperCase());
+            }
+            catch (Exception e){
+                logger.error(e.getMessage(), e);
+            }
+        }
+
         // [PWM] get overriding custom 'linux.gpio.system.path' setting from Pi4J context
         if(service.context().properties().has("linux.pwm.system.path")){
             pwmFileSystemPath = service.context().properties().get("linux.pwm.system.path", pwmFileSystemPath);
@@ -160,5 +189,10 @@ public class LinuxFsPlugin implements Plugin {
 
         // register the LinuxFS I/O Providers with the plugin service
         service.register(providers);
+
+        // the GPIO register providers are additional digital providers, only used when requested by ID
+        service.registerAdditional(
+            LinuxFsGpioMemDigitalInputProvider.newInstance(gpioMemPath, gpioMemChip),
+            LinuxFsGpioMemDigitalOutputProvider.newInstance(gpioMemPath, gpioMemChip));
     }
 }
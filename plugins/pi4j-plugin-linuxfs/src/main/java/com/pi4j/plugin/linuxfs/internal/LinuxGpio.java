@@ -29,18 +29,28 @@ package com.pi4j.plugin.linuxfs.internal;
 
 import com.pi4j.io.gpio.digital.DigitalState;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /**
  * <p>LinuxGpio class.</p>
  *
+ * <p>The <code>value</code>, <code>direction</code> and <code>edge</code> attributes of an exported pin
+ * are opened once and kept open until the pin is closed or un-exported; state changes are then a single
+ * positional read or write through a reusable direct buffer instead of an open/write/close cycle.</p>
+ *
  * @see "https://www.kernel.org/doc/Documentation/gpio/sysfs.txt"
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
-public class LinuxGpio {
+public class LinuxGpio implements Closeable {
 
     /** Constant <code>DEFAULT_SYSTEM_PATH="/sys/class/gpio"</code> */
     public static String DEFAULT_SYSTEM_PATH = "/sys/class/gpio";
@@ -49,6 +59,14 @@ public class LinuxGpio {
     protected final int address;
     protected final String pinPath;
 
+    private final Path valuePath;
+    private final Path directionPath;
+    private final Path edgePath;
+    private FileChannel value;
+    private FileChannel direction;
+    private FileChannel edge;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+
     public enum Direction{
         IN,
         OUT,
@@ -73,6 +91,9 @@ public class LinuxGpio {
         this.address = address;
         this.systemPath = systemPath;
         this.pinPath = Paths.get(systemPath, String.format("gpio%d", address)).toString();
+        this.valuePath = Paths.get(pinPath, "value");
+        this.directionPath = Paths.get(pinPath, "direction");
+        this.edgePath = Paths.get(pinPath, "edge");
     }
 
     /**
@@ -100,6 +121,7 @@ public class LinuxGpio {
      * @throws java.io.IOException if any.
      */
     public void unexport() throws IOException {
+        close();
         var path = Paths.get(systemPath, "unexport");
         Files.writeString(path, Integer.toString(address));
     }
@@ -139,9 +161,8 @@ public class LinuxGpio {
      * @param direction a {@link LinuxGpio.Direction} object.
      * @throws java.io.IOException if any.
      */
-    public void setDirection(Direction direction) throws IOException {
-        var path = Paths.get(pinPath, "direction");
-        Files.writeString(path, direction.name().toLowerCase());
+    public synchronized void setDirection(Direction direction) throws IOException {
+        this.direction = write(this.direction, directionPath, direction.name().toLowerCase());
     }
 
     /**
@@ -159,9 +180,9 @@ public class LinuxGpio {
      * @return a {@link LinuxGpio.Direction} object.
      * @throws java.io.IOException if any.
      */
-    public Direction getDirection() throws IOException {
-        var path = Paths.get(pinPath, "direction");
-        switch(Files.readString(path).trim().toLowerCase()){
+    public synchronized Direction getDirection() throws IOException {
+        this.direction = read(this.direction, directionPath);
+        switch(token()){
             case "in": return Direction.IN;
             case "out": return Direction.OUT;
             default: return Direction.UNKNOWN;
@@ -183,9 +204,16 @@ public class LinuxGpio {
      * @param state a {@link com.pi4j.io.gpio.digital.DigitalState} object.
      * @throws java.io.IOException if any.
      */
-    public void setState(DigitalState state) throws IOException {
-        var path = Paths.get(pinPath,"value");
-        Files.writeString(path, (state.isHigh() ? "1" : "0"));
+    public synchronized void setState(DigitalState state) throws IOException {
+        if(value == null) value = open(valuePath);
+        buffer.clear();
+        buffer.put(state.isHigh() ? (byte)'1' : (byte)'0').flip();
+        try {
+            value.write(buffer, 0);
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
     }
 
     /**
@@ -203,9 +231,15 @@ public class LinuxGpio {
      * @return a {@link com.pi4j.io.gpio.digital.DigitalState} object.
      * @throws java.io.IOException if any.
      */
-    public DigitalState getState() throws IOException {
-        var path = Paths.get(pinPath,"value");
-        return DigitalState.parse(Files.readString(path).trim());
+    public synchronized DigitalState getState() throws IOException {
+        this.value = read(this.value, valuePath);
+        if(buffer.hasRemaining()) {
+            switch (buffer.get(0)) {
+                case '0': return DigitalState.LOW;
+                case '1': return DigitalState.HIGH;
+            }
+        }
+        return DigitalState.parse(token());
     }
 
     /**
@@ -223,9 +257,8 @@ public class LinuxGpio {
      * @param edge a {@link LinuxGpio.Edge} object.
      * @throws java.io.IOException if any.
      */
-    public void setInterruptEdge(Edge edge) throws IOException {
-        var path = Paths.get(pinPath, "edge");
-        Files.writeString(path, edge.name().toLowerCase());
+    public synchronized void setInterruptEdge(Edge edge) throws IOException {
+        this.edge = write(this.edge, edgePath, edge.name().toLowerCase());
     }
 
 
@@ -244,9 +277,9 @@ public class LinuxGpio {
      * @return a {@link LinuxGpio.Edge} object.
      * @throws java.io.IOException if any.
      */
-    public Edge getInterruptEdge() throws IOException {
-        var path = Paths.get(pinPath, "edge");
-        switch(Files.readString(path).trim().toLowerCase()){
+    public synchronized Edge getInterruptEdge() throws IOException {
+        this.edge = read(this.edge, edgePath);
+        switch(token()){
             case "none": return Edge.NONE;
             case "rising": return Edge.RISING;
             case "falling": return Edge.FALLING;
@@ -327,4 +360,71 @@ public class LinuxGpio {
     public String getPinPath(){
         return this.pinPath;
     }
+
+    /**
+     * Close the cached <code>value</code>, <code>direction</code> and <code>edge</code> attribute channels.
+     * They are re-opened on the next access.
+     *
+     * @throws java.io.IOException if any.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        IOException failure = null;
+        for (FileChannel channel : new FileChannel[]{ value, direction, edge }) {
+            try {
+                if (channel != null) channel.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        value = direction = edge = null;
+        if (failure != null) throw failure;
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    // attribute values are written with a trailing newline (accepted by sysfs) so a shorter
+    // value written over a longer one in a plain file still reads back as a single token
+    private FileChannel write(FileChannel channel, Path path, String text) throws IOException {
+        if (channel == null) channel = open(path);
+        buffer.clear();
+        buffer.put(text.getBytes(StandardCharsets.US_ASCII)).put((byte)'\n').flip();
+        try {
+            channel.write(buffer, 0);
+        } catch (IOException e) {
+            channel.close();
+            close();
+            throw e;
+        }
+        return channel;
+    }
+
+    private FileChannel read(FileChannel channel, Path path) throws IOException {
+        if (channel == null) channel = open(path);
+        buffer.clear();
+        try {
+            channel.read(buffer, 0);
+        } catch (IOException e) {
+            channel.close();
+            close();
+            throw e;
+        }
+        buffer.flip();
+        return channel;
+    }
+
+    private String token() {
+        StringBuilder token = new StringBuilder(buffer.remaining());
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (b <= ' ') {
+                if (token.length() > 0) break;
+                continue;
+            }
+            token.append(Character.toLowerCase((char) b));
+        }
+        return token.toString();
+    }
 }
@@ -0,0 +1,355 @@
+package com.pi4j.plugin.linuxfs.internal;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxGpioPoller.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+import com.pi4j.library.linuxfs.LinuxFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * <p>Edge detection for any number of sysfs GPIO pins from a single thread.</p>
+ *
+ * <p>sysfs raises <code>POLLPRI|POLLERR</code> on the <code>value</code> attribute of a pin when an edge
+ * configured with {@link LinuxGpio#setInterruptEdge(LinuxGpio.Edge)} occurs.  Each registered pin keeps
+ * its <code>value</code> attribute open, all of them are waited on with one <code>poll()</code> call and the
+ * new level is read back from offset zero, which also re-arms the attribute, before it is handed to the
+ * listener of the pin.  The polling thread is started with the first registration and ends once the last
+ * pin is unregistered.</p>
+ *
+ * <p>A failed <code>poll()</code> does not end edge detection: the failure is passed to the listeners of all
+ * registered pins and polling is retried after a delay doubling from {@link #POLL_TIMEOUT} up to
+ * {@link #MAX_RETRY_DELAY} milliseconds.  {@link #open(LinuxGpio)} and
+ * {@link #poll(int[], int[], int, int, int)} may be overridden to poll something other than sysfs.</p>
+ */
+public class LinuxGpioPoller implements Closeable {
+
+    /** maximum time in milliseconds before a poll picks up added or removed pins */
+    public static final int POLL_TIMEOUT = 100;
+
+    /** maximum delay in milliseconds before a failed poll is retried */
+    public static final int MAX_RETRY_DELAY = 5000;
+
+    private static final int EVENTS = LinuxFile.POLLPRI | LinuxFile.POLLERR;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final String name;
+    private final Object lock = new Object();
+    private volatile Registration[] registrations = new Registration[0];
+    private Thread thread;
+
+    /**
+     * Listener receiving the level of a pin after each edge.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * <p>edge.</p>
+         *
+         * @param high true if the pin reads high after the edge
+         * @param timestampNanos {@link System#nanoTime()} when the edge was detected
+         */
+        void edge(boolean high, long timestampNanos);
+
+        /**
+         * Called for each failed poll; polling of the pin continues after a delay.
+         *
+         * @param cause the failure
+         */
+        default void failed(IOException cause) {
+        }
+    }
+
+    /**
+     * The open <code>value</code> attribute of a registered pin.
+     */
+    protected interface Value extends Closeable {
+        /**
+         * <p>fd.</p>
+         *
+         * @return file descriptor passed to {@link #poll(int[], int[], int, int, int)}
+         */
+        int fd();
+
+        /**
+         * Read the current level, re-arming the attribute for the next edge.
+         *
+         * @return true if the pin reads high
+         * @throws java.io.IOException if the attribute cannot be read
+         */
+        boolean read() throws IOException;
+    }
+
+    private static final class FileValue implements Value {
+        final LinuxFile file;
+        final int fd;
+        final byte[] buffer = new byte[8];
+
+        FileValue(LinuxFile file, int fd) {
+            this.file = file;
+            this.fd = fd;
+        }
+
+        @Override
+        public int fd() {
+            return fd;
+        }
+
+        @Override
+        public boolean read() throws IOException {
+            file.seek(0);
+            int count = file.read(buffer);
+            return count > 0 && buffer[0] == '1';
+        }
+
+        @Override
+        public void close() throws IOException {
+            file.close();
+        }
+    }
+
+    private static final class Registration {
+        final LinuxGpio gpio;
+        final Value value;
+        final int fd;
+        final Listener listener;
+        volatile boolean closed;
+
+        Registration(LinuxGpio gpio, Value value, int fd, Listener listener) {
+            this.gpio = gpio;
+            this.value = value;
+            this.fd = fd;
+            this.listener = listener;
+        }
+
+        void close() {
+            closed = true;
+            try {
+                value.close();
+            } catch (IOException e) {
+                // already closed
+            }
+        }
+    }
+
+    /**
+     * <p>Constructor for LinuxGpioPoller.</p>
+     *
+     * @param name name of the polling thread
+     */
+    public LinuxGpioPoller(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Start delivering edges of a pin.  The interrupt edge of the pin must already be configured.
+     *
+     * @param gpio an exported pin
+     * @param listener receives the level of the pin after each edge
+     * @throws java.io.IOException if the value attribute cannot be opened
+     */
+    public void register(LinuxGpio gpio, Listener listener) throws IOException {
+        Value value = open(gpio);
+        Registration registration;
+        try {
+            registration = new Registration(gpio, value, value.fd(), listener);
+            // consume the current value so only subsequent edges are reported
+            value.read();
+        } catch (IOException e) {
+            value.close();
+            throw e;
+        }
+
+        synchronized (lock) {
+            Registration[] current = registrations;
+            Registration[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = registration;
+            registrations = updated;
+            if (thread == null) {
+                thread = new Thread(this::run, name);
+                thread.setDaemon(true);
+                thread.start();
+            }
+        }
+    }
+
+    /**
+     * Stop delivering edges of a pin.
+     *
+     * @param gpio a registered pin
+     * @return true if the pin was registered
+     */
+    public boolean unregister(LinuxGpio gpio) {
+        Registration removed = null;
+        synchronized (lock) {
+            Registration[] current = registrations;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].gpio == gpio) {
+                    removed = current[i];
+                    Registration[] updated = new Registration[current.length - 1];
+                    System.arraycopy(current, 0, updated, 0, i);
+                    System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                    registrations = updated;
+                    break;
+                }
+            }
+        }
+        if (removed == null) return false;
+        removed.close();
+        return true;
+    }
+
+    /**
+     * <p>size.</p>
+     *
+     * @return number of registered pins
+     */
+    public int size() {
+        return registrations.length;
+    }
+
+    /**
+     * Unregister all pins; the polling thread ends within {@link #POLL_TIMEOUT} milliseconds.
+     */
+    @Override
+    public void close() {
+        Registration[] current;
+        synchronized (lock) {
+            current = registrations;
+            registrations = new Registration[0];
+        }
+        for (Registration registration : current) {
+            registration.close();
+        }
+    }
+
+    /**
+     * Open the <code>value</code> attribute of a pin for polling.
+     *
+     * @param gpio an exported pin
+     * @return the open attribute
+     * @throws java.io.IOException if the attribute cannot be opened
+     */
+    protected Value open(LinuxGpio gpio) throws IOException {
+        LinuxFile file = new LinuxFile(Paths.get(gpio.getPinPath(), "value").toString(), "r");
+        try {
+            return new FileValue(file, file.getPosixFD());
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for events on a number of file descriptors, see {@link LinuxFile#poll(int[], int[], int, int, int)}.
+     *
+     * @param fds file descriptors of the registered pins
+     * @param revents receives the events raised on each file descriptor
+     * @param count number of file descriptors to wait on
+     * @param events events to wait for
+     * @param timeout maximum time to wait in milliseconds
+     * @return number of file descriptors with events, zero on timeout
+     * @throws java.io.IOException if polling fails
+     */
+    protected int poll(int[] fds, int[] revents, int count, int events, int timeout) throws IOException {
+        return LinuxFile.poll(fds, revents, count, events, timeout);
+    }
+
+    private void run() {
+        int[] fds = new int[0];
+        int[] revents = new int[0];
+        int failures = 0;
+        while (true) {
+            Registration[] current = registrations;
+            if (current.length == 0) {
+                synchronized (lock) {
+                    if (registrations.length == 0) {
+                        thread = null;
+                        return;
+                    }
+                }
+                continue;
+            }
+            if (fds.length < current.length) {
+                fds = new int[current.length];
+                revents = new int[current.length];
+            }
+            for (int i = 0; i < current.length; i++) {
+                fds[i] = current[i].fd;
+            }
+
+            int ready;
+            try {
+                ready = poll(fds, revents, current.length, EVENTS, POLL_TIMEOUT);
+            } catch (IOException e) {
+                long delay = Math.min((long) POLL_TIMEOUT << Math.min(failures++, 16), MAX_RETRY_DELAY);
+                if (failures == 1)
+                    logger.error("GPIO edge polling failed, retrying; {}", e.getMessage(), e);
+                else
+                    logger.debug("GPIO edge polling failed {} times, retrying in {} ms; {}", failures, delay, e.getMessage());
+                for (Registration registration : current) {
+                    if (registration.closed) continue;
+                    try {
+                        registration.listener.failed(e);
+                    } catch (RuntimeException re) {
+                        logger.error("GPIO edge listener failed; {}", registration.gpio.getPinPath(), re);
+                    }
+                }
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException ie) {
+                    synchronized (lock) {
+                        thread = null;
+                    }
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                continue;
+            }
+            failures = 0;
+            if (ready == 0) continue;
+
+            long timestamp = System.nanoTime();
+            for (int i = 0; i < current.length; i++) {
+                Registration registration = current[i];
+                if ((revents[i] & EVENTS) == 0 || registration.closed) continue;
+                try {
+                    registration.listener.edge(registration.value.read(), timestamp);
+                } catch (IOException e) {
+                    if (!registration.closed)
+                        logger.error("unable to read GPIO value; {}", registration.gpio.getPinPath(), e);
+                } catch (RuntimeException e) {
+                    logger.error("GPIO edge listener failed; {}", registration.gpio.getPinPath(), e);
+                }
+            }
+        }
+    }
+}
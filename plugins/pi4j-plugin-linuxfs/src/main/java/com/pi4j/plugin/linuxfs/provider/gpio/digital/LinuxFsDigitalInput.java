@@ -33,11 +33,10 @@ import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.exception.IOException;
 import com.pi4j.io.gpio.digital.*;
 import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
+import com.pi4j.plugin.linuxfs.internal.LinuxGpioPoller;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.file.*;
-import java.util.concurrent.Future;
 
 /**
  * <p>LinuxFsDigitalInput class.</p>
@@ -48,9 +47,9 @@ import java.util.concurrent.Future;
 public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInput {
 
     protected final LinuxGpio gpio;
+    protected final LinuxGpioPoller poller;
     private Logger logger = LoggerFactory.getLogger(this.getClass());
     protected DigitalState state = DigitalState.UNKNOWN;
-    private Future<?> inputListener;
 
     /**
      * <p>Constructor for LinuxFsDigitalInput.</p>
@@ -60,8 +59,21 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
      * @param config a {@link com.pi4j.io.gpio.digital.DigitalInputConfig} object.
      */
     public LinuxFsDigitalInput(LinuxGpio gpio, DigitalInputProvider provider, DigitalInputConfig config){
+        this(gpio, new LinuxGpioPoller("pi4j-linuxfs-gpio" + config.address()), provider, config);
+    }
+
+    /**
+     * <p>Constructor for LinuxFsDigitalInput.</p>
+     *
+     * @param gpio a {@link LinuxGpio} linux file system GPIO object.
+     * @param poller a {@link LinuxGpioPoller} delivering the edges of this and other inputs.
+     * @param provider a {@link com.pi4j.io.gpio.digital.DigitalInputProvider} object.
+     * @param config a {@link com.pi4j.io.gpio.digital.DigitalInputConfig} object.
+     */
+    public LinuxFsDigitalInput(LinuxGpio gpio, LinuxGpioPoller poller, DigitalInputProvider provider, DigitalInputConfig config){
         super(provider, config);
         this.gpio = gpio;
+        this.poller = poller;
     }
 
     @Override
@@ -120,47 +132,15 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
         // [INITIALIZE] perform any further initialization on GPIO  via superclass impl
         super.initialize(context);
 
-        // [MONITOR] start background monitoring thread for GPIO state changes
-        logger.trace("start monitoring thread for GPIO [{}]; {}", this.config.address(), gpio.getPinPath());
-        Runnable monitorTask = () -> {
-			try {
-				// create file system watcher
-                logger.trace("monitoring thread watching GPIO [{}]; {}",
-                             LinuxFsDigitalInput.this.config.address(),
-                             gpio.getPinPath());
-				WatchService watchService = FileSystems.getDefault().newWatchService();
-				WatchKey key;
-
-				// create GPIO path to monitor
-				Path path = Paths.get(gpio.getPinPath());
-
-				// only watch for modified files in this path
-				path.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY);
-
-				// dispatch value change event
-				while ((key = watchService.take()) != null) {
-					for (WatchEvent<?> event : key.pollEvents()) {
-						if (event.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
-							if (event.context().toString().equalsIgnoreCase("value")) {
-								// filter out any redundant event notifications for same state
-								DigitalState newState = LinuxFsDigitalInput.this.gpio.state();
-								if (newState != LinuxFsDigitalInput.this.state) {
-									LinuxFsDigitalInput.this.state = newState;
-									LinuxFsDigitalInput.this.dispatch(
-										new DigitalStateChangeEvent(LinuxFsDigitalInput.this, newState));
-								}
-							}
-						}
-					}
-					key.reset();
-				}
-			} catch (java.io.IOException e) {
-				logger.error(e.getMessage(), e);
-			} catch (InterruptedException e) {
-				// thread interrupted; likely exiting on shutdown
-			}
-		};
-        this.inputListener = context.submitTask(monitorTask);
+        // [MONITOR] deliver GPIO edges from the shared poll loop
+        try {
+            if (gpio.isInterruptSupported()) {
+                logger.trace("register GPIO [{}] for edge polling; {}", this.config.address(), gpio.getPinPath());
+                poller.register(gpio, this::edge);
+            }
+        } catch (java.io.IOException | LinkageError e) {
+            logger.warn("GPIO [{}] edge detection unavailable; {}", this.config.address(), e.toString());
+        }
 
         // return this I/O instance
         return this;
@@ -171,12 +151,9 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
     public DigitalInput shutdown(Context context) throws ShutdownException {
         logger.trace("shutdown GPIO [{}]; {}", this.config.address(), gpio.getPinPath());
 
-        // this line will execute immediately, not waiting for your task to complete
-        logger.trace("shutdown monitoring thread for GPIO [{}]; {}", this.config.address(), gpio.getPinPath());
-        if (this.inputListener != null) {
-            if (!this.inputListener.cancel(true))
-                logger.error("Failed to cancel input listener!");
-        }
+        // stop edge delivery from the shared poll loop
+        logger.trace("unregister GPIO [{}] from edge polling; {}", this.config.address(), gpio.getPinPath());
+        poller.unregister(gpio);
 
         // perform any shutdown cleanup via superclass
         super.shutdown(context);
@@ -206,4 +183,13 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
             throw new IOException(e.getMessage(), e);
         }
     }
+
+    private void edge(boolean high, long timestampNanos) {
+        // filter out any redundant event notifications for same state
+        DigitalState newState = DigitalState.getState(high);
+        if (newState != this.state) {
+            this.state = newState;
+            dispatch(high, timestampNanos);
+        }
+    }
 }
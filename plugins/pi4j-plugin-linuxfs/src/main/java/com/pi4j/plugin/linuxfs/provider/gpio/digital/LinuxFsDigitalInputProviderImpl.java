@@ -29,10 +29,14 @@ package com.pi4j.plugin.linuxfs.provider.gpio.digital;
 
 
 import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.gpio.digital.DigitalInput;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
+import com.pi4j.io.gpio.digital.DigitalInputProvider;
 import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
 import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
+import com.pi4j.plugin.linuxfs.internal.LinuxGpioPoller;
 
 /**
  * <p>LinuxFsDigitalInputProviderImpl class.</p>
@@ -43,6 +47,7 @@ import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
 public class LinuxFsDigitalInputProviderImpl extends DigitalInputProviderBase implements LinuxFsDigitalInputProvider {
 
     final String gpioFileSystemPath;
+    final LinuxGpioPoller poller = new LinuxGpioPoller("pi4j-linuxfs-gpio-poll");
 
     /**
      * <p>Constructor for LinuxFsDigitalInputProviderImpl.</p>
@@ -66,8 +71,18 @@ public class LinuxFsDigitalInputProviderImpl extends DigitalInputProviderBase im
     public DigitalInput create(DigitalInputConfig config) {
         // create filesystem based GPIO instance using instance address (GPIO NUMBER)
         LinuxGpio gpio = new LinuxGpio(this.gpioFileSystemPath, config.address());
-        LinuxFsDigitalInput digitalInput = new LinuxFsDigitalInput(gpio, this, config);
+        LinuxFsDigitalInput digitalInput = new LinuxFsDigitalInput(gpio, poller, this, config);
         this.context.registry().add(digitalInput);
         return digitalInput;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DigitalInputProvider shutdown(Context context) throws ShutdownException {
+        super.shutdown(context);
+        poller.close();
+        return this;
+    }
 }
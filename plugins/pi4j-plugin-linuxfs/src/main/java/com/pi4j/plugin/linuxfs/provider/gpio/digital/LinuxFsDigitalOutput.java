@@ -124,7 +124,13 @@ public class LinuxFsDigitalOutput extends DigitalOutputBase implements DigitalOu
 
         // set pin state to shutdown state if a shutdown state is configured
         if(config().shutdownState() != null && config().shutdownState() != DigitalState.UNKNOWN){
-            return super.shutdown(context);
+            super.shutdown(context);
+            try {
+                gpio.close();
+            } catch (java.io.IOException e) {
+                logger.error(e.getMessage(), e);
+            }
+            return this;
         }
 
         // otherwise ... un-export the GPIO pin from the Linux file system impl
@@ -0,0 +1,352 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsGpioMem.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.boardinfo.definition.Soc;
+import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.io.gpio.digital.PullResistance;
+import com.pi4j.library.linuxfs.LinuxFile;
+import com.pi4j.library.linuxfs.MappedRegion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>LinuxFsGpioMem class.</p>
+ *
+ * <p>Direct access to the GPIO register block of the BCM2835 family and the BCM2711 mapped from
+ * <code>/dev/gpiomem</code>: function select (GPFSEL), set (GPSET), clear (GPCLR), level (GPLEV) and pull
+ * registers.  Setting, clearing and reading lines are plain memory accesses without a system call.  An
+ * ordinary file of at least {@link #BLOCK_SIZE} bytes may stand in for the device, e.g. to test
+ * against a fake register block.</p>
+ *
+ * <p>The function select and pull registers are updated with a read-modify-write that is only atomic
+ * within one instance, so the providers share a single instance per device, see
+ * {@link #acquire(String, Chip)}.</p>
+ */
+public class LinuxFsGpioMem implements Closeable {
+
+    /** Default path of the GPIO register block device */
+    public static final String DEFAULT_PATH = "/dev/gpiomem";
+    /** Size of the mapped register block */
+    public static final int BLOCK_SIZE = 4096;
+    /** Highest GPIO number of the register block */
+    public static final int MAX_GPIO = 53;
+
+    /** GPFSEL function: input */
+    public static final int FUNCTION_INPUT = 0b000;
+    /** GPFSEL function: output */
+    public static final int FUNCTION_OUTPUT = 0b001;
+
+    // register byte offsets
+    static final int GPFSEL0 = 0x00;
+    static final int GPSET0 = 0x1C;
+    static final int GPCLR0 = 0x28;
+    static final int GPLEV0 = 0x34;
+    static final int GPPUD = 0x94;
+    static final int GPPUDCLK0 = 0x98;
+    static final int GPIO_PUP_PDN_CNTRL_REG0 = 0xE4;
+
+    // BCM2835 pull-up/down control signal set-up and hold time; 150 cycles at 250MHz and some margin
+    private static final long PULL_SETTLE_NANOS = 5_000;
+
+    /**
+     * GPIO register layouts.
+     */
+    public enum Chip {
+        /** BCM2835, BCM2836, BCM2837 (Pi 1, 2, 3, Zero); pull set with the clocked GPPUD sequence */
+        BCM2835,
+        /** BCM2711 (Pi 4, Pi 400, CM4); pull set with GPIO_PUP_PDN_CNTRL registers */
+        BCM2711;
+
+        /**
+         * <p>of.</p>
+         *
+         * @param soc the system on chip of a board
+         * @return the GPIO register layout of the SoC, or null if it has no supported GPIO register block
+         */
+        public static Chip of(Soc soc) {
+            switch (soc) {
+                case BCM2835:
+                case BCM2836:
+                case BCM2837:
+                case BCM2837B0:
+                case BCM2710A1:
+                    return BCM2835;
+                case BCM2711:
+                case BCM2711C0:
+                    return BCM2711;
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * <p>detect.</p>
+         *
+         * @return the GPIO register layout of the board running this JVM, or null if it is not supported
+         */
+        public static Chip detect() {
+            return of(BoardInfoHelper.current().getBoardModel().getSoc());
+        }
+    }
+
+    // shared instances by device path and their number of users; guarded by SHARED
+    private static final Map<Path, LinuxFsGpioMem> SHARED = new HashMap<>();
+    private Path sharedPath;
+    private int references;
+
+    private final MappedRegion region;
+    private final Chip chip;
+
+    /**
+     * <p>Constructor for LinuxFsGpioMem.</p>
+     *
+     * @param region the mapped register block
+     * @param chip   the register layout
+     */
+    public LinuxFsGpioMem(MappedRegion region, Chip chip) {
+        if (region.length() < BLOCK_SIZE)
+            throw new IllegalArgumentException("GPIO register block requires " + BLOCK_SIZE + " bytes: " + region.length());
+        this.region = region;
+        this.chip = chip;
+    }
+
+    /**
+     * Maps the GPIO register block.
+     *
+     * @param path the register block device, or an ordinary file standing in for it
+     * @param chip the register layout; null to detect it from the board
+     * @return the mapped register block
+     * @throws IOException when the board is not supported or the register block cannot be mapped
+     */
+    public static LinuxFsGpioMem open(String path, Chip chip) throws IOException {
+        if (chip == null) chip = Chip.detect();
+        if (chip == null)
+            throw new IOException("GPIO register access is not supported on " + BoardInfoHelper.current().getBoardModel());
+        Path file = Paths.get(path);
+        if (Files.isRegularFile(file))
+            return new LinuxFsGpioMem(MappedRegion.map(file, 0, BLOCK_SIZE), chip);
+        try (LinuxFile device = new LinuxFile(path, "rw")) {
+            return new LinuxFsGpioMem(MappedRegion.map(device, 0, BLOCK_SIZE), chip);
+        }
+    }
+
+    /**
+     * Returns the instance shared by all users of a register block device, mapping it on first use.
+     * Each call must be paired with a call to {@link #release()}.
+     *
+     * @param path the register block device, or an ordinary file standing in for it
+     * @param chip the register layout; null to detect it from the board
+     * @return the shared register block
+     * @throws IOException when the board is not supported, the register block cannot be mapped or it is
+     *                     already shared with a different register layout
+     */
+    public static LinuxFsGpioMem acquire(String path, Chip chip) throws IOException {
+        Path key = Paths.get(path).toAbsolutePath().normalize();
+        synchronized (SHARED) {
+            LinuxFsGpioMem gpioMem = SHARED.get(key);
+            if (gpioMem == null) {
+                gpioMem = open(path, chip);
+                gpioMem.sharedPath = key;
+                SHARED.put(key, gpioMem);
+            } else if (chip != null && chip != gpioMem.chip) {
+                throw new IOException("GPIO registers @ <" + path + "> are already mapped as " + gpioMem.chip);
+            }
+            gpioMem.references++;
+            return gpioMem;
+        }
+    }
+
+    /**
+     * Releases an instance returned by {@link #acquire(String, Chip)}; the register block is unmapped
+     * once its last user released it.
+     *
+     * @throws IOException when unmapping fails
+     */
+    public void release() throws IOException {
+        synchronized (SHARED) {
+            if (sharedPath == null)
+                throw new IllegalStateException("GPIO register block is not shared");
+            if (references == 0 || --references > 0)
+                return;
+            SHARED.remove(sharedPath);
+        }
+        close();
+    }
+
+    /**
+     * <p>chip.</p>
+     *
+     * @return the register layout
+     */
+    public Chip chip() {
+        return chip;
+    }
+
+    /**
+     * Selects the function of a GPIO.
+     *
+     * @param gpio     the GPIO number
+     * @param function the function, e.g. {@link #FUNCTION_INPUT} or {@link #FUNCTION_OUTPUT}
+     */
+    public synchronized void function(int gpio, int function) {
+        check(gpio);
+        int shift = (gpio % 10) * 3;
+        region.updateInt(GPFSEL0 + (gpio / 10) * 4, 0b111 << shift, function << shift);
+    }
+
+    /**
+     * <p>function.</p>
+     *
+     * @param gpio the GPIO number
+     * @return the selected function of the GPIO
+     */
+    public int function(int gpio) {
+        check(gpio);
+        return (region.readInt(GPFSEL0 + (gpio / 10) * 4) >>> ((gpio % 10) * 3)) & 0b111;
+    }
+
+    /**
+     * Sets the pull resistance of a GPIO.
+     *
+     * @param gpio the GPIO number
+     * @param pull the pull resistance
+     */
+    public synchronized void pull(int gpio, PullResistance pull) {
+        check(gpio);
+        if (chip == Chip.BCM2711) {
+            int value = (pull == PullResistance.PULL_UP) ? 0b01 : (pull == PullResistance.PULL_DOWN) ? 0b10 : 0b00;
+            int shift = (gpio % 16) * 2;
+            region.updateInt(GPIO_PUP_PDN_CNTRL_REG0 + (gpio / 16) * 4, 0b11 << shift, value << shift);
+        } else {
+            int value = (pull == PullResistance.PULL_UP) ? 0b10 : (pull == PullResistance.PULL_DOWN) ? 0b01 : 0b00;
+            int clock = GPPUDCLK0 + (gpio >> 5) * 4;
+            region.writeInt(GPPUD, value);
+            settle();
+            region.writeInt(clock, 1 << (gpio & 31));
+            settle();
+            region.writeInt(GPPUD, 0);
+            region.writeInt(clock, 0);
+        }
+    }
+
+    /**
+     * Drives a GPIO high.
+     *
+     * @param gpio the GPIO number
+     */
+    public void set(int gpio) {
+        check(gpio);
+        region.writeInt(GPSET0 + (gpio >> 5) * 4, 1 << (gpio & 31));
+    }
+
+    /**
+     * Drives a GPIO low.
+     *
+     * @param gpio the GPIO number
+     */
+    public void clear(int gpio) {
+        check(gpio);
+        region.writeInt(GPCLR0 + (gpio >> 5) * 4, 1 << (gpio & 31));
+    }
+
+    /**
+     * <p>level.</p>
+     *
+     * @param gpio the GPIO number
+     * @return true if the GPIO is high
+     */
+    public boolean level(int gpio) {
+        check(gpio);
+        return ((region.readInt(GPLEV0 + (gpio >> 5) * 4) >>> (gpio & 31)) & 1) != 0;
+    }
+
+    /**
+     * Drives the GPIOs selected by a mask high; at most one register write per 32 GPIOs.
+     *
+     * @param gpios bitmask of GPIO numbers
+     * @throws IllegalArgumentException if the mask selects a GPIO above {@link #MAX_GPIO}
+     */
+    public void setMask(long gpios) {
+        checkMask(gpios);
+        if ((int) gpios != 0) region.writeInt(GPSET0, (int) gpios);
+        if ((gpios >>> 32) != 0) region.writeInt(GPSET0 + 4, (int) (gpios >>> 32));
+    }
+
+    /**
+     * Drives the GPIOs selected by a mask low; at most one register write per 32 GPIOs.
+     *
+     * @param gpios bitmask of GPIO numbers
+     * @throws IllegalArgumentException if the mask selects a GPIO above {@link #MAX_GPIO}
+     */
+    public void clearMask(long gpios) {
+        checkMask(gpios);
+        if ((int) gpios != 0) region.writeInt(GPCLR0, (int) gpios);
+        if ((gpios >>> 32) != 0) region.writeInt(GPCLR0 + 4, (int) (gpios >>> 32));
+    }
+
+    /**
+     * <p>levels.</p>
+     *
+     * @return bitmask of the levels of all GPIOs; bit {@code n} is GPIO {@code n}
+     */
+    public long levels() {
+        return Integer.toUnsignedLong(region.readInt(GPLEV0)) | ((long) region.readInt(GPLEV0 + 4) << 32);
+    }
+
+    /**
+     * Unmaps the register block.
+     *
+     * @throws IOException when unmapping fails
+     */
+    @Override
+    public void close() throws IOException {
+        region.close();
+    }
+
+    private static void check(int gpio) {
+        if (gpio < 0 || gpio > MAX_GPIO)
+            throw new IllegalArgumentException("Invalid GPIO number: " + gpio);
+    }
+
+    private static void checkMask(long gpios) {
+        if ((gpios >>> (MAX_GPIO + 1)) != 0)
+            throw new IllegalArgumentException("Invalid GPIO mask: 0x" + Long.toHexString(gpios));
+    }
+
+    private static void settle() {
+        long deadline = System.nanoTime() + PULL_SETTLE_NANOS;
+        while (System.nanoTime() < deadline) Thread.onSpinWait();
+    }
+}
@@ -0,0 +1,180 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsGpioMemBank.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.exception.InitializeException;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.DigitalBank;
+import com.pi4j.io.gpio.digital.PullResistance;
+
+import java.util.Arrays;
+
+/**
+ * <p>LinuxFsGpioMemBank class.</p>
+ *
+ * <p>Reads a snapshot of all lines from the GPLEV registers and changes many outputs with one GPCLR and
+ * one GPSET write per 32 GPIOs, however many lines change.</p>
+ */
+public class LinuxFsGpioMemBank implements DigitalBank {
+
+    private final LinuxFsGpioMem gpioMem;
+    private final String id;
+    private final int[] addresses;
+    private final boolean output;
+    private final long lines;
+
+    private LinuxFsGpioMemBank(LinuxFsGpioMem gpioMem, String id, int[] addresses, boolean output) {
+        if (addresses.length == 0 || addresses.length > MAX_LINES)
+            throw new IllegalArgumentException("A bank requires 1-" + MAX_LINES + " lines: " + addresses.length);
+        long gpios = 0;
+        for (int address : addresses) {
+            if (address < 0 || address > LinuxFsGpioMem.MAX_GPIO)
+                throw new IllegalArgumentException("Invalid GPIO address for bank " + id + ": " + address);
+            if ((gpios & (1L << address)) != 0)
+                throw new IllegalArgumentException("Duplicate GPIO address for bank " + id + ": " + address);
+            gpios |= 1L << address;
+        }
+        this.gpioMem = gpioMem;
+        this.id = id;
+        this.addresses = addresses;
+        this.output = output;
+        this.lines = (addresses.length == MAX_LINES) ? -1L : (1L << addresses.length) - 1;
+    }
+
+    /**
+     * <p>newOutputBank.</p>
+     *
+     * @param gpioMem       the mapped GPIO register block
+     * @param id            the bank identifier
+     * @param initialValues initial line states; bit {@code i} for {@code addresses[i]}
+     * @param addresses     the GPIO addresses (0-53)
+     * @return a {@link LinuxFsGpioMemBank} object.
+     */
+    public static LinuxFsGpioMemBank newOutputBank(LinuxFsGpioMem gpioMem, String id, long initialValues, int... addresses) {
+        LinuxFsGpioMemBank bank = new LinuxFsGpioMemBank(gpioMem, id, addresses.clone(), true);
+        try {
+            // drive the initial levels before switching the lines to outputs to avoid glitches
+            bank.write(initialValues);
+            for (int address : addresses) gpioMem.function(address, LinuxFsGpioMem.FUNCTION_OUTPUT);
+        } catch (IllegalStateException | IOException e) {
+            throw new InitializeException("Failed to initialize output bank " + id, e);
+        }
+        return bank;
+    }
+
+    /**
+     * <p>newInputBank.</p>
+     *
+     * @param gpioMem   the mapped GPIO register block
+     * @param id        the bank identifier
+     * @param pull      the pull resistance of all lines
+     * @param addresses the GPIO addresses (0-53)
+     * @return a {@link LinuxFsGpioMemBank} object.
+     */
+    public static LinuxFsGpioMemBank newInputBank(LinuxFsGpioMem gpioMem, String id, PullResistance pull, int... addresses) {
+        LinuxFsGpioMemBank bank = new LinuxFsGpioMemBank(gpioMem, id, addresses.clone(), false);
+        try {
+            for (int address : addresses) {
+                gpioMem.function(address, LinuxFsGpioMem.FUNCTION_INPUT);
+                gpioMem.pull(address, pull);
+            }
+        } catch (IllegalStateException e) {
+            throw new InitializeException("Failed to initialize input bank " + id, e);
+        }
+        return bank;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String id() {
+        return this.id;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int[] addresses() {
+        return this.addresses.clone();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long read() throws IOException {
+        long levels;
+        try {
+            levels = gpioMem.levels();
+        } catch (IllegalStateException e) {
+            throw new IOException("Failed to read bank " + this.id, e);
+        }
+        long values = 0;
+        for (int i = 0; i < addresses.length; i++) {
+            values |= ((levels >>> addresses[i]) & 1L) << i;
+        }
+        return values;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalBank write(long values) throws IOException {
+        return write(values, this.lines);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalBank write(long values, long mask) throws IOException {
+        if (!this.output)
+            throw new IOException("Bank " + this.id + " is an input bank");
+        try {
+            gpioMem.clearMask(toGpios(mask & ~values & this.lines));
+            gpioMem.setMask(toGpios(mask & values & this.lines));
+        } catch (IllegalStateException e) {
+            throw new IOException("Failed to write bank " + this.id, e);
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        // the register block is shared with the provider; nothing to release
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "LinuxFsGpioMemBank{id=" + this.id + ", output=" + this.output + ", addresses=" + Arrays.toString(this.addresses) + "}";
+    }
+
+    private long toGpios(long bits) {
+        long gpios = 0;
+        while (bits != 0) {
+            gpios |= 1L << addresses[Long.numberOfTrailingZeros(bits)];
+            bits &= bits - 1;
+        }
+        return gpios;
+    }
+}
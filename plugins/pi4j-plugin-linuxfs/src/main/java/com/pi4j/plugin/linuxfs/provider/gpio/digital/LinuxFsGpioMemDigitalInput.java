@@ -0,0 +1,81 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsGpioMemDigitalInput.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.*;
+
+/**
+ * <p>LinuxFsGpioMemDigitalInput class.</p>
+ *
+ * <p>Digital input read from the memory-mapped GPLEV registers; reading the state is a single register
+ * read.  The register block offers no edge notification, so no state change events are raised; use
+ * {@link LinuxFsDigitalInput} for interrupt driven inputs.</p>
+ */
+public class LinuxFsGpioMemDigitalInput extends DigitalInputBase implements DigitalInput {
+
+    private final LinuxFsGpioMem gpioMem;
+    private final int pin;
+
+    /**
+     * <p>Constructor for LinuxFsGpioMemDigitalInput.</p>
+     *
+     * @param gpioMem  the mapped GPIO register block
+     * @param provider a {@link com.pi4j.io.gpio.digital.DigitalInputProvider} object.
+     * @param config   a {@link com.pi4j.io.gpio.digital.DigitalInputConfig} object.
+     */
+    public LinuxFsGpioMemDigitalInput(LinuxFsGpioMem gpioMem, DigitalInputProvider provider, DigitalInputConfig config) {
+        super(provider, config);
+        this.gpioMem = gpioMem;
+        this.pin = config.address();
+    }
+
+    @Override
+    public DigitalInput initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        try {
+            gpioMem.function(pin, LinuxFsGpioMem.FUNCTION_INPUT);
+            gpioMem.pull(pin, config.pull());
+        } catch (IllegalArgumentException e) {
+            throw new InitializeException("Unable to set GPIO [" + pin + "] FUNCTION=[IN]; " + e.getMessage(), e);
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalState state() {
+        try {
+            return gpioMem.level(pin) ? DigitalState.HIGH : DigitalState.LOW;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+}
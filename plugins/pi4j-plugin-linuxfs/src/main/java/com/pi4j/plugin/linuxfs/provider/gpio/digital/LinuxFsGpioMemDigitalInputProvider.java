@@ -0,0 +1,76 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsGpioMemDigitalInputProvider.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.DigitalInputProvider;
+import com.pi4j.io.gpio.digital.PullResistance;
+import com.pi4j.plugin.linuxfs.LinuxFsPlugin;
+
+/**
+ * <p>LinuxFsGpioMemDigitalInputProvider interface.</p>
+ *
+ * <p>Digital input provider using the memory-mapped GPIO registers of the BCM2835 family and the BCM2711
+ * (<code>/dev/gpiomem</code>).  It has a lower priority than the file system provider; select it by its
+ * ID.</p>
+ */
+public interface LinuxFsGpioMemDigitalInputProvider extends DigitalInputProvider {
+    /** Constant <code>NAME="LinuxFs.GPIOMEM_DIGITAL_INPUT_PROVIDER_NAME"</code> */
+    String NAME = LinuxFsPlugin.GPIOMEM_DIGITAL_INPUT_PROVIDER_NAME;
+    /** Constant <code>ID="LinuxFs.GPIOMEM_DIGITAL_INPUT_PROVIDER_ID"</code> */
+    String ID = LinuxFsPlugin.GPIOMEM_DIGITAL_INPUT_PROVIDER_ID;
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param gpioMemPath the GPIO register block device, or an ordinary file standing in for it
+     * @param chip        the register layout; null to detect it from the board
+     * @return a {@link com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsGpioMemDigitalInputProvider} object.
+     */
+    static LinuxFsGpioMemDigitalInputProvider newInstance(String gpioMemPath, LinuxFsGpioMem.Chip chip) {
+        return new LinuxFsGpioMemDigitalInputProviderImpl(gpioMemPath, chip);
+    }
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @return a {@link com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsGpioMemDigitalInputProvider} object.
+     */
+    static LinuxFsGpioMemDigitalInputProvider newInstance() {
+        return new LinuxFsGpioMemDigitalInputProviderImpl(LinuxFsPlugin.DEFAULT_GPIOMEM_PATH, null);
+    }
+
+    /**
+     * Creates a bank of inputs whose levels are read as one snapshot with a single register read per 32 GPIOs.
+     *
+     * @param id            the bank identifier
+     * @param pull          the pull resistance of all lines
+     * @param addresses     the GPIO addresses (0-53)
+     * @return a {@link com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsGpioMemBank} object.
+     */
+    LinuxFsGpioMemBank createBank(String id, PullResistance pull, int... addresses);
+}
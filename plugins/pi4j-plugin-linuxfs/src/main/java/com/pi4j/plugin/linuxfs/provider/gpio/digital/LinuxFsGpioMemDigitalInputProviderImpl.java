@@ -0,0 +1,118 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsGpioMemDigitalInputProviderImpl.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalInputConfig;
+import com.pi4j.io.gpio.digital.DigitalInputProvider;
+import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
+import com.pi4j.io.gpio.digital.PullResistance;
+
+import java.io.IOException;
+
+/**
+ * <p>LinuxFsGpioMemDigitalInputProviderImpl class.</p>
+ */
+public class LinuxFsGpioMemDigitalInputProviderImpl extends DigitalInputProviderBase
+    implements LinuxFsGpioMemDigitalInputProvider {
+
+    final String gpioMemPath;
+    final LinuxFsGpioMem.Chip chip;
+    private LinuxFsGpioMem gpioMem;
+
+    /**
+     * <p>Constructor for LinuxFsGpioMemDigitalInputProviderImpl.</p>
+     *
+     * @param gpioMemPath the GPIO register block device, or an ordinary file standing in for it
+     * @param chip        the register layout; null to detect it from the board
+     */
+    public LinuxFsGpioMemDigitalInputProviderImpl(String gpioMemPath, LinuxFsGpioMem.Chip chip) {
+        this.id = ID;
+        this.name = NAME;
+        this.gpioMemPath = gpioMemPath;
+        this.chip = chip;
+    }
+
+    @Override
+    public int getPriority() {
+        // only used when explicitly selected; requires access to the GPIO registers
+        return 25;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DigitalInput create(DigitalInputConfig config) {
+        LinuxFsGpioMemDigitalInput digitalInput = new LinuxFsGpioMemDigitalInput(gpioMem(), this, config);
+        this.context.registry().add(digitalInput);
+        return digitalInput;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LinuxFsGpioMemBank createBank(String id, PullResistance pull, int... addresses) {
+        return LinuxFsGpioMemBank.newInputBank(gpioMem(), id, pull, addresses);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DigitalInputProvider shutdown(Context context) throws ShutdownException {
+        super.shutdown(context);
+        synchronized (this) {
+            if (gpioMem != null) {
+                try {
+                    gpioMem.release();
+                } catch (IOException e) {
+                    throw new ShutdownException(e);
+                } finally {
+                    gpioMem = null;
+                }
+            }
+        }
+        return this;
+    }
+
+    private synchronized LinuxFsGpioMem gpioMem() {
+        if (gpioMem == null) {
+            try {
+                gpioMem = LinuxFsGpioMem.acquire(gpioMemPath, chip);
+            } catch (IOException e) {
+                throw new InitializeException("Unable to map GPIO registers @ <" + gpioMemPath + ">; " + e.getMessage(), e);
+            }
+        }
+        return gpioMem;
+    }
+}
@@ -0,0 +1,84 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsGpioMemDigitalOutput.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.*;
+
+/**
+ * <p>LinuxFsGpioMemDigitalOutput class.</p>
+ *
+ * <p>Digital output driven through the memory-mapped GPSET/GPCLR registers; changing the state is a
+ * single register write.</p>
+ */
+public class LinuxFsGpioMemDigitalOutput extends DigitalOutputBase implements DigitalOutput {
+
+    private final LinuxFsGpioMem gpioMem;
+    private final int pin;
+
+    /**
+     * <p>Constructor for LinuxFsGpioMemDigitalOutput.</p>
+     *
+     * @param gpioMem  the mapped GPIO register block
+     * @param provider a {@link com.pi4j.io.gpio.digital.DigitalOutputProvider} object.
+     * @param config   a {@link com.pi4j.io.gpio.digital.DigitalOutputConfig} object.
+     */
+    public LinuxFsGpioMemDigitalOutput(LinuxFsGpioMem gpioMem, DigitalOutputProvider provider, DigitalOutputConfig config) {
+        super(provider, config);
+        this.gpioMem = gpioMem;
+        this.pin = config.address();
+    }
+
+    @Override
+    public DigitalOutput initialize(Context context) throws InitializeException {
+        // drive the initial state (via superclass impl) before switching the pin to an output to avoid glitches
+        super.initialize(context);
+        try {
+            gpioMem.function(pin, LinuxFsGpioMem.FUNCTION_OUTPUT);
+        } catch (IllegalArgumentException e) {
+            throw new InitializeException("Unable to set GPIO [" + pin + "] FUNCTION=[OUT]; " + e.getMessage(), e);
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalOutput state(DigitalState state) throws IOException {
+        try {
+            if (state.isHigh())
+                gpioMem.set(pin);
+            else
+                gpioMem.clear(pin);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        return super.state(state);
+    }
+}
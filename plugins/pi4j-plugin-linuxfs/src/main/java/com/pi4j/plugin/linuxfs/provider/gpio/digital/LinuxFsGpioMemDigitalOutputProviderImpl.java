@@ -0,0 +1,117 @@
+package com.pi4j.plugin.linuxfs.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsGpioMemDigitalOutputProviderImpl.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputConfig;
+import com.pi4j.io.gpio.digital.DigitalOutputProvider;
+import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
+
+import java.io.IOException;
+
+/**
+ * <p>LinuxFsGpioMemDigitalOutputProviderImpl class.</p>
+ */
+public class LinuxFsGpioMemDigitalOutputProviderImpl extends DigitalOutputProviderBase
+    implements LinuxFsGpioMemDigitalOutputProvider {
+
+    final String gpioMemPath;
+    final LinuxFsGpioMem.Chip chip;
+    private LinuxFsGpioMem gpioMem;
+
+    /**
+     * <p>Constructor for LinuxFsGpioMemDigitalOutputProviderImpl.</p>
+     *
+     * @param gpioMemPath the GPIO register block device, or an ordinary file standing in for it
+     * @param chip        the register layout; null to detect it from the board
+     */
+    public LinuxFsGpioMemDigitalOutputProviderImpl(String gpioMemPath, LinuxFsGpioMem.Chip chip) {
+        this.id = ID;
+        this.name = NAME;
+        this.gpioMemPath = gpioMemPath;
+        this.chip = chip;
+    }
+
+    @Override
+    public int getPriority() {
+        // only used when explicitly selected; requires access to the GPIO registers
+        return 25;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DigitalOutput create(DigitalOutputConfig config) {
+        LinuxFsGpioMemDigitalOutput digitalOutput = new LinuxFsGpioMemDigitalOutput(gpioMem(), this, config);
+        this.context.registry().add(digitalOutput);
+        return digitalOutput;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LinuxFsGpioMemBank createBank(String id, long initialValues, int... addresses) {
+        return LinuxFsGpioMemBank.newOutputBank(gpioMem(), id, initialValues, addresses);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DigitalOutputProvider shutdown(Context context) throws ShutdownException {
+        super.shutdown(context);
+        synchronized (this) {
+            if (gpioMem != null) {
+                try {
+                    gpioMem.release();
+                } catch (IOException e) {
+                    throw new ShutdownException(e);
+                } finally {
+                    gpioMem = null;
+                }
+            }
+        }
+        return this;
+    }
+
+    private synchronized LinuxFsGpioMem gpioMem() {
+        if (gpioMem == null) {
+            try {
+                gpioMem = LinuxFsGpioMem.acquire(gpioMemPath, chip);
+            } catch (IOException e) {
+                throw new InitializeException("Unable to map GPIO registers @ <" + gpioMemPath + ">; " + e.getMessage(), e);
+            }
+        }
+        return gpioMem;
+    }
+}
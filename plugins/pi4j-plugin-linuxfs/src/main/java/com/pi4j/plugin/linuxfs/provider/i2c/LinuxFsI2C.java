@@ -26,23 +26,29 @@ import com.pi4j.io.i2c.I2C;
 import com.pi4j.io.i2c.I2CBase;
 import com.pi4j.io.i2c.I2CConfig;
 import com.pi4j.io.i2c.I2CProvider;
-import com.pi4j.plugin.linuxfs.util.SystemUtil;
 
 import java.io.RandomAccessFile;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.nio.IntBuffer;
 import java.util.Objects;
 
 /**
  * <p>PiGpioI2C class.</p>
  *
+ * <p>Register access uses the single-syscall <code>I2C_SMBUS</code> ioctl for byte, word and block
+ * (up to 32 bytes) transfers the adapter supports, and combined <code>I2C_RDWR</code> transfers
+ * otherwise.  The config property <code>smbus</code> selects SMBus transfers explicitly:
+ * <code>true</code> (always), <code>false</code> (never) or <code>auto</code> (default; per
+ * <code>I2C_FUNCS</code> of the adapter).</p>
+ *
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
 public class LinuxFsI2C extends I2CBase<LinuxFsI2CBus> implements I2C {
 
+    /** Config property selecting SMBus transfers: true, false or auto */
+    public static final String SMBUS_PROPERTY = "smbus";
+
     private final LinuxFsI2CBus i2CBus;
+    private final long smbus;
 
     /**
      * <p>Constructor for PiGpioI2C.</p>
@@ -55,6 +61,23 @@ public class LinuxFsI2C extends I2CBase<LinuxFsI2CBus> implements I2C {
     public LinuxFsI2C(LinuxFsI2CBus i2CBus, I2CProvider provider, I2CConfig config) {
         super(provider, config, i2CBus);
         this.i2CBus = i2CBus;
+        String mode = config.properties().getOrDefault(SMBUS_PROPERTY, "auto");
+        if (mode.equalsIgnoreCase("true"))
+            this.smbus = -1L;
+        else if (mode.equalsIgnoreCase("false"))
+            this.smbus = 0L;
+        else
+            this.smbus = i2CBus.functionality(this);
+    }
+
+    /**
+     * <p>isSmbus.</p>
+     *
+     * @param functionality I2C_FUNC_SMBUS_* bits from {@link I2CConstants}
+     * @return true if the transfers are performed with the SMBus ioctl
+     */
+    public boolean isSmbus(int functionality) {
+        return (this.smbus & functionality) == functionality;
     }
 
     // -------------------------------------------------------------------
@@ -114,7 +137,18 @@ public class LinuxFsI2C extends I2CBase<LinuxFsI2CBus> implements I2C {
      */
     @Override
     public int writeRegister(int register, byte b) {
-        return write((byte) register, b);
+        if (isSmbus(I2CConstants.I2C_FUNC_SMBUS_WRITE_BYTE_DATA)) {
+            return this.i2CBus.smbus(this, smbus -> {
+                smbus.writeByteData(register, b);
+                return 2;
+            });
+        }
+        return this.i2CBus.transfer(this, messages -> {
+            messages.write(this.config.device(), (byte) register);
+            messages.append(b);
+            messages.transfer();
+            return 2;
+        });
     }
 
     /**
@@ -123,213 +157,189 @@ public class LinuxFsI2C extends I2CBase<LinuxFsI2CBus> implements I2C {
     @Override
     public int writeRegister(int register, byte[] data, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, data.length);
-        byte[] tmp = new byte[length + 1];
-        tmp[0] = (byte) register;
-        System.arraycopy(data, offset, tmp, 1, length);
-        return write(tmp);
+        if (length > 0 && length <= LinuxFsI2CSmbus.BLOCK_MAX && isSmbus(I2CConstants.I2C_FUNC_SMBUS_WRITE_I2C_BLOCK)) {
+            return this.i2CBus.smbus(this, smbus -> {
+                smbus.writeI2CBlockData(register, data, offset, length);
+                return length + 1;
+            });
+        }
+        return this.i2CBus.transfer(this, messages -> {
+            messages.write(this.config.device(), (byte) register);
+            messages.append(data, offset, length);
+            messages.transfer();
+            return length + 1;
+        });
     }
 
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int writeRegisterWord(int register, int word) {
+        if (isSmbus(I2CConstants.I2C_FUNC_SMBUS_WRITE_WORD_DATA)) {
+            // SMBus words are sent low byte first; register words are sent high byte first
+            return this.i2CBus.smbus(this, smbus -> {
+                smbus.writeWordData(register, swap(word));
+                return 3;
+            });
+        }
+        return super.writeRegisterWord(register, word);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public int writeRegister(byte[] register, byte[] data, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, data.length);
-        byte[] tmp = new byte[length + register.length];
-        System.arraycopy(register,0, tmp, 0, register.length);
-        System.arraycopy(data, offset, tmp, register.length, length);
-        int rc = write(tmp);
-        return (rc - register.length);  // do not include the register bytes as what was written...
+        return this.i2CBus.transfer(this, messages -> {
+            messages.write(this.config.device(), register, 0, register.length);
+            messages.append(data, offset, length);
+            messages.transfer();
+            return length;  // do not include the register bytes as what was written...
+        });
     }
 
     // -------------------------------------------------------------------
     // DEVICE REGISTER READ FUNCTIONS
     // -------------------------------------------------------------------
 
-
-
     /**
      * {@inheritDoc}
      */
     @Override
     public int readRegister(int register) {
-        byte reg[] = new byte[1];
-        reg[0] = (byte) (register & 0xff);
-        byte buffer[] = new byte[1];
-        this.readRegister(reg, buffer,0,buffer.length);
-        int rVal =  buffer[0] & 0xff;
-        return rVal;
+        if (isSmbus(I2CConstants.I2C_FUNC_SMBUS_READ_BYTE_DATA)) {
+            return this.i2CBus.smbus(this, smbus -> smbus.readByteData(register));
+        }
+        return this.i2CBus.transfer(this, messages -> {
+            messages.write(this.config.device(), (byte) register);
+            int read = messages.read(this.config.device(), 1);
+            messages.transfer();
+            return messages.resultByte(read, 0);
+        });
     }
 
     /**
      * {@inheritDoc}
      */
-     @Override
+    @Override
     public int readRegister(int register, byte[] buffer, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, buffer.length);
-         byte reg[] = new byte[1];
-         reg[0] = (byte) (register & 0xff);
-         int rCode = this.readRegister(reg, buffer, offset, length);
-         return rCode;
+        if (length > 0 && length <= LinuxFsI2CSmbus.BLOCK_MAX && isSmbus(I2CConstants.I2C_FUNC_SMBUS_READ_I2C_BLOCK)) {
+            return this.i2CBus.smbus(this, smbus -> smbus.readI2CBlockData(register, buffer, offset, length));
+        }
+        return this.i2CBus.transfer(this, messages -> {
+            messages.write(this.config.device(), (byte) register);
+            int read = messages.read(this.config.device(), length);
+            messages.transfer();
+            return messages.result(read, buffer, offset);
+        });
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int readRegisterWord(int register) {
+        if (isSmbus(I2CConstants.I2C_FUNC_SMBUS_READ_WORD_DATA)) {
+            return this.i2CBus.smbus(this, smbus -> swap(smbus.readWordData(register)));
+        }
+        return super.readRegisterWord(register);
+    }
 
-     /**
+    /**
      * {@inheritDoc}
-      *
-      * <p>  This function uses the IOCTL interface to the LinuxFS. This
-      * is required so the I2C transaction uses an I2C RESTART.
-      * The following details explain creating the ByteBuffers used
-      * to create the 'C" structures for the IOCTL. </p>
-      * <p>i2c_msg: The space *buf will be used to set a pointer to the data buffer.
-      * This pointer must be aligned to the machines 4 or 8 byte alignment.
-      * </p>
-      * <p>
-      * This alignment is accomplished when the pointer is 'put' into the
-      * ByteBuffer
-      * </p>
-      *
-      *<ul>
-      *<li> struct i2c_msg {</li>
-      * <li>        __u16 addr;</li>
-      * <li>        __u16 flags;</li>
-      * <li>        __u16 len;</li>
-      * <li>        __u8 *buf;    wordSize</li>
-      * <li>        u8 buffer</li>
-      * <li>};</li>
-      *</ul>
-      * <p>
-      *     The ioctl command is  I2CConstants.I2C_RDWR, this command requires
-      *     two i2c_msg entries.
-      *</p>
-      * <p> The following describes the ByteBuffer, ioctlData,  contents:  </p>
-      *
-      * <ul>
-      * <li>     two byte address entry one</li>
-      * <li>     two byte len entry one</li>
-      * <li>     Possible padding for alignment</li>
-      * <li>     word size area for pointer to write data buffer</li>
-      * <li>     two byte address entry two</li>
-      * <li>     two byte flags entry two</li>
-      * <li>     two byte len entry two</li>
-      * <li>     Possible padding for alignment</li>
-      * <li>     word size area for pointer to read data buffer</li>
-      * <li>     Bytes required to contain write buffer contents</li>
-      * <li>     Bytes required to contain read data buffer</li>
-      *</ul>
-      *
-      * <p> There is a second byte buffer, offsets, this specifies the
-      *     ByteBuffer offset of any pointer paired with the ByteBuffer offset
-      *     of the data pointed to. </p>
-      *
-      *     This ByteBuffer contents
-      *<ul>
-      *<li>      ByteBuffer position start of pointer to write data buffer</li>
-      *<li>      ByteBuffer position start of write buffer contents</li>
-      *<li>      ByteBuffer position start of pointer to read data buffer</li>
-      * <li>     ByteBuffer position start of read buffer contents</li>
-      *</ul>
-      *
-      */
+     *
+     * <p>The register address is written and the data read back in a single I2C_RDWR ioctl, so
+     * the transaction uses an I2C RESTART between both messages.  The i2c_msg structures are
+     * built in the reusable direct buffer of the bus, see {@link LinuxFsI2CMessages}.</p>
+     */
     @Override
     public int readRegister(byte[] register, byte[] buffer, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, buffer.length);
-        // command I2C_RDWR
-        long command = I2CConstants.I2C_RDWR;
-        // create byte buffer containing the i2c messages
-        // address,flags, number of bytes data, pointer
-        // First message to write device register
-        short deviceAddr = (short) (this.config.device()& 0xff);
-        short writeFlags = (short) (I2CConstants.I2C_SMBUS_WRITE & 0xff);
-        short writeLength = (short) register.length;
-        // two pointers will be used so 2 pairs of offset entries
-        IntBuffer offsets = IntBuffer.allocate(4);
-         // create ByteBuffer, load with the write details Matches i2c provider
-        ByteBuffer ioctlData = ByteBuffer.allocate(2048);
-        // Ensures Pi BCM little_endian
-        ioctlData.order(ByteOrder.nativeOrder());
-        ioctlData.putShort(deviceAddr);
-        ioctlData.putShort(writeFlags);
-        ioctlData.putShort(writeLength);
-        // Before creating the pointer entry space, see if we are properly aligned
-        int wrtAlignValue = ioctlData.position()%SystemUtil.getWordSize();
-        // test if current position is less than word size, if less move position to word boundary
-        //  If greater than word size set position to next word boundary
-        if(ioctlData.position() <SystemUtil.getWordSize()) {
-            ioctlData.position( (SystemUtil.getWordSize() - ioctlData.position()) +  ioctlData.position());
-        }else if(wrtAlignValue != 0){
-            ioctlData.position(ioctlData.position()+ (SystemUtil.getWordSize() - wrtAlignValue) );
-        }
-        // first pair of offset info
-        offsets.put(ioctlData.position());
-        byte[] wrtPtrData = new byte[SystemUtil.getWordSize()];
-        ioctlData.put(wrtPtrData);
+        return this.i2CBus.transfer(this, messages -> {
+            messages.write(this.config.device(), register, 0, register.length);
+            int read = messages.read(this.config.device(), length);
+            messages.transfer();
+            return messages.result(read, buffer, offset);
+        });
+    }
 
-        // second message to read back from device
-        short readFlags = (short) (I2CConstants.I2C_M_RD & 0xff);
-        short readLength = (short) length;
-        byte[] readBuff =  new byte[length];
-        //  load ByteBuffer with read details
-        ioctlData.putShort(deviceAddr);
-        ioctlData.putShort(readFlags);
-        ioctlData.putShort(readLength);
-        // Before creating the pointer entry space, see if we are properly aligned
-        // If not aligned, the pointer entry will be moved right the required number
-        // of byte to be properly aligned
-        // For consistency, test if current position is less than word size, if less move position to word boundary
-        //  If greater than word size set position to next word boundary
-        int rdAlignValue = ioctlData.position()%SystemUtil.getWordSize();
-        if(ioctlData.position() <SystemUtil.getWordSize()) {
-            ioctlData.position( (SystemUtil.getWordSize() - ioctlData.position()) +  ioctlData.position());
-        }else if(rdAlignValue != 0){
-            ioctlData.position(ioctlData.position()+(SystemUtil.getWordSize() - rdAlignValue));
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Performed as an SMBus process call: the register and word are written, followed by an
+     * I2C RESTART and the read of the reply word.</p>
+     */
+    @Override
+    public int writeReadRegisterWord(int register, int word) {
+        if (isSmbus(I2CConstants.I2C_FUNC_SMBUS_PROC_CALL)) {
+            return this.i2CBus.smbus(this, smbus -> smbus.processCall(register, word));
         }
+        return this.i2CBus.transfer(this, messages -> {
+            messages.write(this.config.device(), (byte) register);
+            messages.append((byte) (word & 0xff));
+            messages.append((byte) ((word >> 8) & 0xff));
+            int read = messages.read(this.config.device(), 2);
+            messages.transfer();
+            return (messages.resultByte(read, 1) << 8) | messages.resultByte(read, 0);
+        });
+    }
 
-        byte[] rdPtrData = new byte[SystemUtil.getWordSize()];
-        // second pair of offset info, position 2
-        offsets.put(2,ioctlData.position());
-        ioctlData.put(rdPtrData);
-
-
-
-        int regBuffPosition = ioctlData.position();
-        // part of first pair, position 1
-        offsets.put(1, regBuffPosition);
-        ioctlData.put(register);
-        int readBuffPosition = ioctlData.position();
-        // last section of second pair, position 3
-        offsets.put(3,readBuffPosition);
-        ioctlData.put(readBuff);
-        // restore offset position to expected value, It was not at 4 as we put data into offset
-        // out of order
-        offsets.position(4);
-        // set to start of your data
-        ioctlData.flip();
-        offsets.flip();
-
-       this.i2CBus.executeIOCTL(this, command, ioctlData, offsets);
+    // -------------------------------------------------------------------
+    // COMBINED (TRANSACTION) FUNCTIONS
+    // -------------------------------------------------------------------
 
-        // move results back into user buffer
-        for (int i = 0; i < length; i++) {   // can I assume length is safe and the readBuff data is not shorter ??   I think yes
-            buffer[i] = ioctlData.get(readBuffPosition + i);
-        }
+    /**
+     * Creates an empty transaction; its messages address this device unless another
+     * address on the same bus is given.
+     *
+     * @return a {@link LinuxFsI2CTransaction} object.
+     */
+    public LinuxFsI2CTransaction newTransaction() {
+        return new LinuxFsI2CTransaction();
+    }
 
-        return readLength;
+    /**
+     * Executes all messages of a transaction in a single I2C_RDWR ioctl with repeated starts
+     * between the messages; the data read are stored in the buffers given to the transaction.
+     *
+     * @param transaction the I2C messages to perform
+     * @return the number of bytes read
+     */
+    public int execute(LinuxFsI2CTransaction transaction) {
+        return this.i2CBus.transfer(this, messages -> transaction.transfer(this.config.device(), messages));
     }
 
     /**
-     * {@inheritDoc}
+     * Reads several registers of this device in a single I2C_RDWR ioctl; the data of each register
+     * is stored consecutively in the buffer.
+     *
+     * @param registers the register addresses (at most {@link LinuxFsI2CMessages#MAX_MESSAGES} / 2)
+     * @param length the number of bytes to read from each register
+     * @param buffer the buffer receiving the data
+     * @param offset the offset in the buffer at which to start storing data
+     * @return the number of bytes read
      */
-    @Override
-    public int writeReadRegisterWord(int register, int word) {
-        byte reg[] = new byte[3];
-        reg[0] = (byte) (register & 0xff);
-        reg[1] = (byte) (word & 0xff);
-        reg[2] = (byte) ((word >> 8) & 0xff);
-        byte buff[] = new byte[2];
-        word = (buff[1] << 8)  | buff[0];
-        return word;
+    public int readRegisters(int[] registers, int length, byte[] buffer, int offset) {
+        Objects.checkFromIndexSize(offset, registers.length * length, buffer.length);
+        return this.i2CBus.transfer(this, messages -> {
+            for (int register : registers) {
+                messages.write(this.config.device(), (byte) register);
+                messages.read(this.config.device(), length);
+            }
+            messages.transfer();
+            int read = 0;
+            for (int i = 0; i < registers.length; i++) {
+                read += messages.result(i * 2 + 1, buffer, offset + read);
+            }
+            return read;
+        });
+    }
 
+    private static int swap(int word) {
+        return ((word & 0xff) << 8) | ((word >> 8) & 0xff);
     }
 }
@@ -23,6 +23,17 @@ public class LinuxFsI2CBus extends I2CBusBase {
      * File handle for this i2c bus
      */
     protected LinuxFile file;
+
+    /**
+     * Reusable i2c_msg array for combined transfers on this bus
+     */
+    protected LinuxFsI2CMessages messages;
+
+    /**
+     * Reusable SMBus ioctl buffer of this bus
+     */
+    protected LinuxFsI2CSmbus smbus;
+    private volatile Long functionality;
     private int lastAddress;
 
     public LinuxFsI2CBus(I2CConfig config) {
@@ -39,6 +50,8 @@ public class LinuxFsI2CBus extends I2CBusBase {
         try {
             String fileName = devfs.getCanonicalPath();
             this.file = new LinuxFile(fileName, "rw");
+            this.messages = new LinuxFsI2CMessages(this.file, 256);
+            this.smbus = new LinuxFsI2CSmbus(this.file);
         } catch (IOException e) {
             throw new Pi4JException(e);
         }
@@ -73,6 +86,72 @@ public class LinuxFsI2CBus extends I2CBusBase {
         });
     }
 
+    /**
+     * Performs a combined transfer (I2C_RDWR) with the reusable message buffer of this bus.  The
+     * action adds its messages to the cleared buffer, calls {@link LinuxFsI2CMessages#transfer()}
+     * and collects the data read, all while holding the bus lock.
+     *
+     * @param i2c    the device performing the transfer
+     * @param action the transfer
+     * @param <R>    the result type
+     * @return the result of the action
+     */
+    public <R> R transfer(final I2C i2c, final CheckedFunction<LinuxFsI2CMessages, R> action) {
+        return _execute(i2c, () -> {
+            try {
+                return action.apply(this.messages.clear());
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new Pi4JException("Failed to execute transfer for device " + i2c.device() + " on bus " + this.bus,
+                    e);
+            }
+        });
+    }
+
+    /**
+     * Performs SMBus transfers (I2C_SMBUS) on the selected device with the reusable SMBus buffer of
+     * this bus, while holding the bus lock.
+     *
+     * @param i2c    the device to select before performing the transfers
+     * @param action the transfers
+     * @param <R>    the result type
+     * @return the result of the action
+     */
+    public <R> R smbus(final I2C i2c, final CheckedFunction<LinuxFsI2CSmbus, R> action) {
+        return _execute(i2c, () -> {
+            try {
+                selectBusSlave(i2c);
+                return action.apply(this.smbus);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new Pi4JException("Failed to execute SMBus transfer for device " + i2c.device() + " on bus " + this.bus,
+                    e);
+            }
+        });
+    }
+
+    /**
+     * Gets the functionality of the adapter of this bus (I2C_FUNCS); queried once.
+     *
+     * @param i2c the device performing the query
+     * @return the I2C_FUNC_* bits supported by the adapter, 0 if unknown
+     */
+    public long functionality(final I2C i2c) {
+        Long funcs = this.functionality;
+        if (funcs == null) {
+            try {
+                funcs = _execute(i2c, () -> this.smbus.functionality());
+            } catch (RuntimeException e) {
+                logger.warn("Failed to query the functionality of I2C bus {}", this.bus, e);
+                funcs = 0L;
+            }
+            this.functionality = funcs;
+        }
+        return funcs;
+    }
+
     /**
      * @param i2c     the device to select before performing the ioctl command
      * @param command From I2CConstants
@@ -108,7 +187,9 @@ public class LinuxFsI2CBus extends I2CBusBase {
         this.file.ioctl(I2CConstants.I2C_SLAVE, i2c.device() & 0xFF);
     }
 
+    @Override
     public void close() {
+        super.close();
         if (this.file != null) {
             try {
                 this.file.close();
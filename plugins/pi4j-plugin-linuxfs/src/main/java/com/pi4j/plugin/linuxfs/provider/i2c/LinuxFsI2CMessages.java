@@ -0,0 +1,312 @@
+package com.pi4j.plugin.linuxfs.provider.i2c;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsI2CMessages.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.*
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+import com.pi4j.library.linuxfs.LinuxFile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Objects;
+
+/**
+ * <p>Reusable <code>i2c_msg</code> array for the <code>I2C_RDWR</code> ioctl, kept in a direct buffer.</p>
+ *
+ * <p>The messages of one combined transfer are written straight into native memory: the
+ * <code>i2c_msg</code> headers at the start of the buffer (sized for {@link #MAX_MESSAGES}) followed by
+ * the data of each message.  The ioctl therefore runs without the scratch buffer copies of
+ * {@link LinuxFile#ioctl(long, ByteBuffer, IntBuffer)} for heap buffers, and data read is copied
+ * once, in bulk, into the caller's array.  Messages are separated by repeated starts; the transfer
+ * ends with a single stop.</p>
+ *
+ * <pre>
+ * struct i2c_msg {
+ *     __u16 addr;
+ *     __u16 flags;
+ *     __u16 len;
+ *     __u8 *buf;     // aligned to the word size
+ * };
+ * </pre>
+ *
+ * Instances are not thread safe; {@link LinuxFsI2CBus} owns one and uses it while holding the bus lock.
+ */
+public class LinuxFsI2CMessages {
+
+    /** maximum number of messages in one transfer (I2C_RDWR_IOCTL_MAX_MSGS) */
+    public static final int MAX_MESSAGES = 42;
+
+    /** maximum length of a single message */
+    public static final int MAX_LENGTH = 0xFFFF;
+
+    private final LinuxFile file;
+    private final int wordSize;
+    private final int messageSize;
+    private final int header;
+    private final IntBuffer offsets;
+    private final int[] positions = new int[MAX_MESSAGES];
+    private final int[] lengths = new int[MAX_MESSAGES];
+    private ByteBuffer data;
+    private int count;
+    private int end;
+
+    /**
+     * <p>Constructor for LinuxFsI2CMessages.</p>
+     *
+     * @param file the I2C bus device performing the transfers
+     * @param capacity initial space for message data in bytes; grows on demand
+     */
+    public LinuxFsI2CMessages(LinuxFile file, int capacity) {
+        this(file, LinuxFile.wordSize, capacity);
+    }
+
+    /**
+     * <p>Constructor for LinuxFsI2CMessages.</p>
+     *
+     * @param file the I2C bus device performing the transfers
+     * @param wordSize native pointer size in bytes (4 or 8)
+     * @param capacity initial space for message data in bytes; grows on demand
+     */
+    public LinuxFsI2CMessages(LinuxFile file, int wordSize, int capacity) {
+        this.file = file;
+        this.wordSize = wordSize;
+        this.messageSize = align(6) + wordSize;
+        this.header = MAX_MESSAGES * messageSize;
+        this.data = ByteBuffer.allocateDirect(header + capacity + 1).order(ByteOrder.nativeOrder());
+        this.offsets = ByteBuffer.allocateDirect(MAX_MESSAGES * 2 * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+        clear();
+    }
+
+    /**
+     * Remove all messages.
+     *
+     * @return this instance
+     */
+    public LinuxFsI2CMessages clear() {
+        count = 0;
+        end = header;
+        return this;
+    }
+
+    /**
+     * <p>size.</p>
+     *
+     * @return number of messages
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Add a message writing data to a device.
+     *
+     * @param address the device address
+     * @param buffer the data to write
+     * @param offset the offset of the data
+     * @param length the number of bytes to write
+     * @return the index of the message
+     */
+    public int write(int address, byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        int index = message(address, 0, length);
+        data.position(positions[index]);
+        data.put(buffer, offset, length);
+        return index;
+    }
+
+    /**
+     * Add a message writing a single byte to a device; more data may be added with the append methods.
+     *
+     * @param address the device address
+     * @param b the byte to write
+     * @return the index of the message
+     */
+    public int write(int address, byte b) {
+        int index = message(address, 0, 1);
+        data.put(positions[index], b);
+        return index;
+    }
+
+    /**
+     * Append data to the last message, which must write data.
+     *
+     * @param buffer the data to write
+     * @param offset the offset of the data
+     * @param length the number of bytes to write
+     * @return this instance
+     */
+    public LinuxFsI2CMessages append(byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        int position = extend(length);
+        data.position(position);
+        data.put(buffer, offset, length);
+        return this;
+    }
+
+    /**
+     * Append a byte to the last message, which must write data.
+     *
+     * @param b the byte to write
+     * @return this instance
+     */
+    public LinuxFsI2CMessages append(byte b) {
+        data.put(extend(1), b);
+        return this;
+    }
+
+    /**
+     * Add a message reading data from a device.
+     *
+     * @param address the device address
+     * @param length the number of bytes to read
+     * @return the index of the message, see {@link #result(int, byte[], int)}
+     */
+    public int read(int address, int length) {
+        return message(address, I2CConstants.I2C_M_RD, length);
+    }
+
+    /**
+     * Perform all messages in a single <code>I2C_RDWR</code> ioctl.
+     *
+     * @return the number of messages transferred
+     * @throws java.io.IOException if the transfer fails
+     */
+    public int transfer() throws IOException {
+        if (count == 0) return 0;
+        ioctl(I2CConstants.I2C_RDWR, data(), offsets());
+        return count;
+    }
+
+    /**
+     * Runs the ioctl; the hook used by tests and benchmarks to emulate an adapter.
+     *
+     * @param command ioctl command
+     * @param data ioctl argument
+     * @param offsets pointer offsets, see {@link LinuxFile#ioctl(long, ByteBuffer, IntBuffer)}
+     * @throws java.io.IOException if the ioctl fails
+     */
+    protected void ioctl(long command, ByteBuffer data, IntBuffer offsets) throws IOException {
+        file.ioctl(command, data, offsets);
+    }
+
+    /**
+     * Copy the data of a message after {@link #transfer()}.
+     *
+     * @param index the index of the message
+     * @param buffer the buffer receiving the data
+     * @param offset the offset in the buffer
+     * @return the number of bytes copied
+     */
+    public int result(int index, byte[] buffer, int offset) {
+        Objects.checkIndex(index, count);
+        Objects.checkFromIndexSize(offset, lengths[index], buffer.length);
+        data.position(positions[index]);
+        data.get(buffer, offset, lengths[index]);
+        return lengths[index];
+    }
+
+    /**
+     * Get a byte of a message after {@link #transfer()}.
+     *
+     * @param index the index of the message
+     * @param position the position of the byte in the message data
+     * @return the unsigned byte value
+     */
+    public int resultByte(int index, int position) {
+        Objects.checkIndex(index, count);
+        Objects.checkIndex(position, lengths[index]);
+        return data.get(positions[index] + position) & 0xFF;
+    }
+
+    /**
+     * The <code>i2c_msg</code> array followed by the message data; the pointers of the messages are
+     * filled in from {@link #offsets()} by the ioctl.
+     *
+     * @return the message buffer, positioned at the first message
+     */
+    public ByteBuffer data() {
+        data.limit(end);
+        data.position(0);
+        return data;
+    }
+
+    /**
+     * Pairs of the <code>buf</code> pointer offset and the data offset of each message.
+     *
+     * @return the pointer offsets, positioned at the first message
+     */
+    public IntBuffer offsets() {
+        offsets.clear();
+        for (int i = 0; i < count; i++) {
+            offsets.put(i * messageSize + messageSize - wordSize);
+            offsets.put(positions[i]);
+        }
+        offsets.flip();
+        return offsets;
+    }
+
+    private int message(int address, int flags, int length) {
+        if (count == MAX_MESSAGES)
+            throw new IllegalStateException("an I2C transfer is limited to " + MAX_MESSAGES + " messages");
+        if (length < 0 || length > MAX_LENGTH)
+            throw new IllegalArgumentException("invalid I2C message length: " + length);
+        ensure(end + length);
+        int index = count++;
+        int base = index * messageSize;
+        if (address > 0x7F) flags |= I2CConstants.I2C_M_TEN;
+        data.putShort(base, (short) address);
+        data.putShort(base + 2, (short) flags);
+        data.putShort(base + 4, (short) length);
+        positions[index] = end;
+        lengths[index] = length;
+        end += length;
+        return index;
+    }
+
+    private int extend(int length) {
+        int index = count - 1;
+        if (index < 0 || (data.getShort(index * messageSize + 2) & I2CConstants.I2C_M_RD) != 0)
+            throw new IllegalStateException("data can only be appended to a write message");
+        if (lengths[index] + length > MAX_LENGTH)
+            throw new IllegalArgumentException("invalid I2C message length: " + (lengths[index] + length));
+        ensure(end + length);
+        int position = end;
+        lengths[index] += length;
+        data.putShort(index * messageSize + 4, (short) lengths[index]);
+        end += length;
+        return position;
+    }
+
+    private void ensure(int required) {
+        // keep one spare byte; offsets must be inside the buffer even for an empty final message
+        if (required < data.capacity()) return;
+        ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(required + 1, data.capacity() * 2)).order(ByteOrder.nativeOrder());
+        data.limit(end);
+        data.position(0);
+        larger.put(data);
+        data = larger;
+    }
+
+    private int align(int size) {
+        return (size + wordSize - 1) / wordSize * wordSize;
+    }
+}
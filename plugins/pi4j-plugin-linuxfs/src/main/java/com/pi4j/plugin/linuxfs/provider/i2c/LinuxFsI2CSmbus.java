@@ -0,0 +1,244 @@
+package com.pi4j.plugin.linuxfs.provider.i2c;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsI2CSmbus.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.*
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+import com.pi4j.library.linuxfs.LinuxFile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Objects;
+
+/**
+ * <p>Register access through the <code>I2C_SMBUS</code> ioctl, kept in a reusable direct buffer.</p>
+ *
+ * <p>Each call is a single ioctl with a small fixed payload: the argument structure followed by the
+ * data union.  The adapter performs the complete SMBus transaction (including the repeated start of
+ * reads) on the device selected with <code>I2C_SLAVE</code>.</p>
+ *
+ * <pre>
+ * struct i2c_smbus_ioctl_data {
+ *     __u8 read_write;
+ *     __u8 command;
+ *     __u32 size;
+ *     union i2c_smbus_data *data;   // aligned to the word size
+ * };
+ * union i2c_smbus_data {
+ *     __u8 byte;
+ *     __u16 word;
+ *     __u8 block[I2C_SMBUS_BLOCK_MAX + 2];   // block[0] is the length
+ * };
+ * </pre>
+ *
+ * Instances are not thread safe; {@link LinuxFsI2CBus} owns one and uses it while holding the bus lock.
+ */
+public class LinuxFsI2CSmbus {
+
+    /** maximum number of bytes of a block transfer */
+    public static final int BLOCK_MAX = 32;
+
+    private final LinuxFile file;
+    private final int wordSize;
+    private final int header;
+    private final ByteBuffer data;
+    private final IntBuffer offsets;
+    private final IntBuffer none;
+
+    /**
+     * <p>Constructor for LinuxFsI2CSmbus.</p>
+     *
+     * @param file the I2C bus device
+     */
+    public LinuxFsI2CSmbus(LinuxFile file) {
+        this(file, LinuxFile.wordSize);
+    }
+
+    /**
+     * <p>Constructor for LinuxFsI2CSmbus.</p>
+     *
+     * @param file the I2C bus device
+     * @param wordSize native pointer size in bytes (4 or 8)
+     */
+    public LinuxFsI2CSmbus(LinuxFile file, int wordSize) {
+        this.file = file;
+        this.wordSize = wordSize;
+        this.header = 8 + wordSize;
+        this.data = ByteBuffer.allocateDirect(header + BLOCK_MAX + 2).order(ByteOrder.nativeOrder());
+        ByteBuffer pointers = ByteBuffer.allocateDirect(2 * Integer.BYTES).order(ByteOrder.nativeOrder());
+        this.offsets = pointers.asIntBuffer().put(8).put(header);
+        this.none = pointers.asIntBuffer();
+        this.none.limit(0);
+    }
+
+    /**
+     * Query the adapter functionality (<code>I2C_FUNCS</code>).
+     *
+     * @return the <code>I2C_FUNC_*</code> bits supported by the adapter
+     * @throws java.io.IOException if the query fails
+     */
+    public long functionality() throws IOException {
+        data.clear();
+        data.putLong(0, 0);
+        none.position(0);
+        ioctl(I2CConstants.I2C_FUNCS, data, none);
+        return wordSize == 8 ? data.getLong(0) : data.getInt(0) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * SMBus read byte data.
+     *
+     * @param command the register address
+     * @return the unsigned byte read
+     * @throws java.io.IOException if the transfer fails
+     */
+    public int readByteData(int command) throws IOException {
+        transfer(I2CConstants.I2C_SMBUS_READ, command, I2CConstants.I2C_SMBUS_BYTE_DATA);
+        return data.get(header) & 0xFF;
+    }
+
+    /**
+     * SMBus write byte data.
+     *
+     * @param command the register address
+     * @param value the byte to write
+     * @throws java.io.IOException if the transfer fails
+     */
+    public void writeByteData(int command, int value) throws IOException {
+        data.put(header, (byte) value);
+        transfer(I2CConstants.I2C_SMBUS_WRITE, command, I2CConstants.I2C_SMBUS_BYTE_DATA);
+    }
+
+    /**
+     * SMBus read word data; the low byte is transferred first.
+     *
+     * @param command the register address
+     * @return the unsigned word read
+     * @throws java.io.IOException if the transfer fails
+     */
+    public int readWordData(int command) throws IOException {
+        transfer(I2CConstants.I2C_SMBUS_READ, command, I2CConstants.I2C_SMBUS_WORD_DATA);
+        return data.getShort(header) & 0xFFFF;
+    }
+
+    /**
+     * SMBus write word data; the low byte is transferred first.
+     *
+     * @param command the register address
+     * @param value the word to write
+     * @throws java.io.IOException if the transfer fails
+     */
+    public void writeWordData(int command, int value) throws IOException {
+        data.putShort(header, (short) value);
+        transfer(I2CConstants.I2C_SMBUS_WRITE, command, I2CConstants.I2C_SMBUS_WORD_DATA);
+    }
+
+    /**
+     * SMBus process call: write a word and read the reply word after a repeated start.
+     *
+     * @param command the register address
+     * @param value the word to write
+     * @return the unsigned word read
+     * @throws java.io.IOException if the transfer fails
+     */
+    public int processCall(int command, int value) throws IOException {
+        data.putShort(header, (short) value);
+        transfer(I2CConstants.I2C_SMBUS_WRITE, command, I2CConstants.I2C_SMBUS_PROC_CALL);
+        return data.getShort(header) & 0xFFFF;
+    }
+
+    /**
+     * I2C block read: write the register address and read a fixed number of bytes.
+     *
+     * @param command the register address
+     * @param buffer the buffer receiving the data
+     * @param offset the offset in the buffer
+     * @param length the number of bytes to read (1 - {@link #BLOCK_MAX})
+     * @return the number of bytes read
+     * @throws java.io.IOException if the transfer fails
+     */
+    public int readI2CBlockData(int command, byte[] buffer, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        checkBlock(length);
+        data.put(header, (byte) length);
+        transfer(I2CConstants.I2C_SMBUS_READ, command, I2CConstants.I2C_SMBUS_I2C_BLOCK_DATA);
+        int count = Math.min(data.get(header) & 0xFF, length);
+        data.limit(header + 1 + count).position(header + 1);
+        data.get(buffer, offset, count);
+        return count;
+    }
+
+    /**
+     * I2C block write: the register address followed by the data in one message.
+     *
+     * @param command the register address
+     * @param buffer the data to write
+     * @param offset the offset of the data
+     * @param length the number of bytes to write (1 - {@link #BLOCK_MAX})
+     * @throws java.io.IOException if the transfer fails
+     */
+    public void writeI2CBlockData(int command, byte[] buffer, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        checkBlock(length);
+        data.clear();
+        data.put(header, (byte) length);
+        data.position(header + 1);
+        data.put(buffer, offset, length);
+        transfer(I2CConstants.I2C_SMBUS_WRITE, command, I2CConstants.I2C_SMBUS_I2C_BLOCK_DATA);
+    }
+
+    /**
+     * The argument structure followed by the data union.
+     *
+     * @return the SMBus buffer
+     */
+    public ByteBuffer data() {
+        return data.clear();
+    }
+
+    /**
+     * Runs the ioctl; the hook used by tests and benchmarks to emulate an adapter.
+     *
+     * @param command ioctl command
+     * @param data ioctl argument
+     * @param offsets pointer offsets, see {@link LinuxFile#ioctl(long, ByteBuffer, IntBuffer)}
+     * @throws java.io.IOException if the ioctl fails
+     */
+    protected void ioctl(long command, ByteBuffer data, IntBuffer offsets) throws IOException {
+        file.ioctl(command, data, offsets);
+    }
+
+    private void transfer(int readWrite, int command, int size) throws IOException {
+        data.clear();
+        data.put(0, (byte) readWrite);
+        data.put(1, (byte) command);
+        data.putShort(2, (short) 0);
+        data.putInt(4, size);
+        offsets.position(0);
+        ioctl(I2CConstants.I2C_SMBUS, data, offsets);
+    }
+
+    private static void checkBlock(int length) {
+        if (length < 1 || length > BLOCK_MAX)
+            throw new IllegalArgumentException("SMBus block length must be 1 - " + BLOCK_MAX + ": " + length);
+    }
+}
@@ -0,0 +1,239 @@
+package com.pi4j.plugin.linuxfs.provider.i2c;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsI2CTransaction.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.*
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>A combined I2C transaction: a sequence of write and read messages separated by repeated starts
+ * and performed in a single <code>I2C_RDWR</code> ioctl by {@link LinuxFsI2C#execute(LinuxFsI2CTransaction)}.</p>
+ *
+ * <p>Messages address the executing device unless an address is given, so one transaction may sweep
+ * several devices on the same bus.  Data read is stored directly in the buffers passed to the read
+ * methods.  A transaction can be executed repeatedly and {@link #clear() cleared} and refilled
+ * without allocating, which suits fast sensor polling.</p>
+ */
+public class LinuxFsI2CTransaction {
+
+    private static final int DEVICE = -1;
+
+    private int count;
+    private int[] addresses = new int[8];
+    private boolean[] reads = new boolean[8];
+    private byte[][] buffers = new byte[8][];
+    private int[] offsets = new int[8];
+    private int[] lengths = new int[8];
+    private int[] registers = new int[8];
+
+    /**
+     * Remove all messages.
+     *
+     * @return this transaction
+     */
+    public LinuxFsI2CTransaction clear() {
+        Arrays.fill(buffers, 0, count, null);
+        count = 0;
+        return this;
+    }
+
+    /**
+     * <p>size.</p>
+     *
+     * @return number of messages
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * <p>readLength.</p>
+     *
+     * @return total number of bytes read by this transaction
+     */
+    public int readLength() {
+        int length = 0;
+        for (int i = 0; i < count; i++) {
+            if (reads[i]) length += lengths[i];
+        }
+        return length;
+    }
+
+    /**
+     * Write data to the executing device.
+     *
+     * @param data the data to write
+     * @param offset the offset of the data
+     * @param length the number of bytes to write
+     * @return this transaction
+     */
+    public LinuxFsI2CTransaction write(byte[] data, int offset, int length) {
+        return write(DEVICE, data, offset, length);
+    }
+
+    /**
+     * Write data to the executing device.
+     *
+     * @param data the data to write
+     * @return this transaction
+     */
+    public LinuxFsI2CTransaction write(byte... data) {
+        return write(DEVICE, data, 0, data.length);
+    }
+
+    /**
+     * Write data to a device.
+     *
+     * @param address the device address
+     * @param data the data to write
+     * @param offset the offset of the data
+     * @param length the number of bytes to write
+     * @return this transaction
+     */
+    public LinuxFsI2CTransaction write(int address, byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        return add(address, false, data, offset, length, -1);
+    }
+
+    /**
+     * Read data from the executing device.
+     *
+     * @param buffer the buffer receiving the data
+     * @param offset the offset in the buffer
+     * @param length the number of bytes to read
+     * @return this transaction
+     */
+    public LinuxFsI2CTransaction read(byte[] buffer, int offset, int length) {
+        return read(DEVICE, buffer, offset, length);
+    }
+
+    /**
+     * Read data from a device.
+     *
+     * @param address the device address
+     * @param buffer the buffer receiving the data
+     * @param offset the offset in the buffer
+     * @param length the number of bytes to read
+     * @return this transaction
+     */
+    public LinuxFsI2CTransaction read(int address, byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        return add(address, true, buffer, offset, length, -1);
+    }
+
+    /**
+     * Read a register of the executing device: the register address is written, followed by a
+     * repeated start and the read.
+     *
+     * @param register the register address
+     * @param buffer the buffer receiving the data
+     * @param offset the offset in the buffer
+     * @param length the number of bytes to read
+     * @return this transaction
+     */
+    public LinuxFsI2CTransaction readRegister(int register, byte[] buffer, int offset, int length) {
+        return readRegister(DEVICE, register, buffer, offset, length);
+    }
+
+    /**
+     * Read a register of a device: the register address is written, followed by a repeated start
+     * and the read.
+     *
+     * @param address the device address
+     * @param register the register address
+     * @param buffer the buffer receiving the data
+     * @param offset the offset in the buffer
+     * @param length the number of bytes to read
+     * @return this transaction
+     */
+    public LinuxFsI2CTransaction readRegister(int address, int register, byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        add(address, false, null, 0, 0, register & 0xFF);
+        return add(address, true, buffer, offset, length, -1);
+    }
+
+    /**
+     * Write a register of a device; the register address and data are sent in one message.
+     *
+     * @param address the device address
+     * @param register the register address
+     * @param data the data to write
+     * @param offset the offset of the data
+     * @param length the number of bytes to write
+     * @return this transaction
+     */
+    public LinuxFsI2CTransaction writeRegister(int address, int register, byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        return add(address, false, data, offset, length, register & 0xFF);
+    }
+
+    /**
+     * Encode, transfer and decode this transaction.
+     *
+     * @param device the address of the executing device
+     * @param messages the (cleared) message buffer of the bus
+     * @return the number of bytes read
+     */
+    int transfer(int device, LinuxFsI2CMessages messages) throws IOException {
+        int read = 0;
+        for (int i = 0; i < count; i++) {
+            int address = addresses[i] == DEVICE ? device : addresses[i];
+            if (reads[i]) {
+                messages.read(address, lengths[i]);
+            } else if (registers[i] < 0) {
+                messages.write(address, buffers[i], offsets[i], lengths[i]);
+            } else {
+                // register address and data in one message
+                messages.write(address, (byte) registers[i]);
+                if (buffers[i] != null) messages.append(buffers[i], offsets[i], lengths[i]);
+            }
+        }
+        messages.transfer();
+        for (int i = 0; i < count; i++) {
+            if (reads[i]) read += messages.result(i, buffers[i], offsets[i]);
+        }
+        return read;
+    }
+
+    private LinuxFsI2CTransaction add(int address, boolean read, byte[] buffer, int offset, int length, int register) {
+        if (count == LinuxFsI2CMessages.MAX_MESSAGES)
+            throw new IllegalStateException("an I2C transaction is limited to " + LinuxFsI2CMessages.MAX_MESSAGES + " messages");
+        if (count == addresses.length) {
+            int size = Math.min(count * 2, LinuxFsI2CMessages.MAX_MESSAGES);
+            addresses = Arrays.copyOf(addresses, size);
+            reads = Arrays.copyOf(reads, size);
+            buffers = Arrays.copyOf(buffers, size);
+            offsets = Arrays.copyOf(offsets, size);
+            lengths = Arrays.copyOf(lengths, size);
+            registers = Arrays.copyOf(registers, size);
+        }
+        addresses[count] = address;
+        reads[count] = read;
+        buffers[count] = buffer;
+        offsets[count] = offset;
+        lengths[count] = length;
+        registers[count] = register;
+        count++;
+        return this;
+    }
+}
@@ -65,7 +65,10 @@ public class MockDigitalInput extends DigitalInputBase implements DigitalInput {
     public MockDigitalInput mockState(DigitalState state){
         if(!this.state.equals(state)) {
             this.state = state;
-            this.dispatch(new DigitalStateChangeEvent(this, this.state));
+            if (state == DigitalState.UNKNOWN)
+                this.dispatch(new DigitalStateChangeEvent(this, this.state));
+            else
+                this.dispatch(state.isHigh(), System.nanoTime());
         }
         return this;
     }
@@ -64,7 +64,18 @@ public class MockI2C extends I2CBase<MockI2CBus> implements I2C, I2CRegisterData
      * @param config a {@link com.pi4j.io.i2c.I2CConfig} object.
      */
     public MockI2C(I2CProvider provider, I2CConfig config){
-        super(provider, config, new MockI2CBus(config));
+        this(provider, config, new MockI2CBus(config));
+    }
+
+    /**
+     * <p>Constructor for MockI2C.</p>
+     *
+     * @param provider a {@link com.pi4j.io.i2c.I2CProvider} object.
+     * @param config a {@link com.pi4j.io.i2c.I2CConfig} object.
+     * @param i2CBus the {@link com.pi4j.plugin.mock.provider.i2c.MockI2CBus} shared by the devices on the bus.
+     */
+    public MockI2C(I2CProvider provider, I2CConfig config, MockI2CBus i2CBus){
+        super(provider, config, i2CBus);
         logger.debug("[{}::{}] :: CREATE(BUS={}; DEVICE={})",
             Mock.I2C_PROVIDER_NAME, this.id, config.bus(), config.device());
     }
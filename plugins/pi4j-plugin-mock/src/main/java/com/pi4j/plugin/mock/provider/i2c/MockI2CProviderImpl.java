@@ -27,10 +27,16 @@ package com.pi4j.plugin.mock.provider.i2c;
  * #L%
  */
 
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.i2c.I2C;
 import com.pi4j.io.i2c.I2CConfig;
+import com.pi4j.io.i2c.I2CProvider;
 import com.pi4j.io.i2c.I2CProviderBase;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * <p>MockI2CProviderImpl class.</p>
  *
@@ -39,12 +45,15 @@ import com.pi4j.io.i2c.I2CProviderBase;
  */
 public class MockI2CProviderImpl extends I2CProviderBase implements MockI2CProvider {
 
+    private final Map<Integer, MockI2CBus> i2CBusMap;
+
     /**
      * <p>Constructor for MockI2CProviderImpl.</p>
      */
     public MockI2CProviderImpl() {
         this.id = ID;
         this.name = NAME;
+        this.i2CBusMap = new HashMap<>();
     }
 
     @Override
@@ -57,9 +66,18 @@ public class MockI2CProviderImpl extends I2CProviderBase implements MockI2CProvi
      * {@inheritDoc}
      */
     @Override
-    public I2C create(I2CConfig config) {
-        MockI2C i2C = new MockI2C(this, config);
+    public synchronized I2C create(I2CConfig config) {
+        MockI2CBus i2CBus = this.i2CBusMap.computeIfAbsent(config.getBus(), busNr -> new MockI2CBus(config));
+        MockI2C i2C = new MockI2C(this, config, i2CBus);
         this.context.registry().add(i2C);
         return i2C;
     }
+
+    @Override
+    public I2CProvider shutdown(Context context) throws ShutdownException {
+        // close the bus schedulers, cancelling the transactions still queued
+        this.i2CBusMap.forEach(((busNr, bus) -> bus.close()));
+        this.i2CBusMap.clear();
+        return super.shutdown(context);
+    }
 }
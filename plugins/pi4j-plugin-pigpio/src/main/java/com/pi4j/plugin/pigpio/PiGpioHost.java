@@ -0,0 +1,208 @@
+package com.pi4j.plugin.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioHost.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioAsync;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioMetrics;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioSelector;
+import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalInputProvider;
+import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalOutputProvider;
+import com.pi4j.plugin.pigpio.provider.i2c.PiGpioI2CProvider;
+import com.pi4j.plugin.pigpio.provider.pwm.PiGpioPwmProvider;
+import com.pi4j.plugin.pigpio.provider.serial.PiGpioSerialProvider;
+import com.pi4j.plugin.pigpio.provider.serial.PiGpioSoftwareSerialProvider;
+import com.pi4j.plugin.pigpio.provider.spi.PiGpioSpiProvider;
+import com.pi4j.provider.Provider;
+
+/**
+ * <p>PiGpioHost class.</p>
+ *
+ * <p>A named remote PIGPIO daemon of the {@link PiGpioPlugin} and its I/O providers.  The providers
+ * of a host are addressed by their ID, which is the ID of the default provider followed by
+ * <code>.&lt;name&gt;</code> (e.g. <code>pigpio-digital-output.pi2</code>); they never become the
+ * default provider of their I/O type.  All hosts of a plugin share one selector I/O thread for
+ * their commands and GPIO notifications.</p>
+ */
+public class PiGpioHost {
+
+    private final String name;
+    private final String host;
+    private final int port;
+    private final PiGpioAsync piGpio;
+    private final Provider[] providers;
+
+    /**
+     * <p>Constructor for PiGpioHost.</p>
+     *
+     * @param name unique name of this host
+     * @param host hostname or IP address of the RaspberryPi
+     * @param port TCP port number of the PIGPIO daemon
+     * @param selector the selector serving the daemon connections
+     */
+    public PiGpioHost(String name, String host, int port, PiGpioSelector selector) {
+        this.name = name;
+        this.host = host;
+        this.port = port;
+        this.piGpio = PiGpio.newAsyncSocketInstance(host, port, selector);
+        this.providers = new Provider[]{
+                PiGpioDigitalInputProvider.newInstance(piGpio, providerId(PiGpioDigitalInputProvider.ID), providerName(PiGpioDigitalInputProvider.NAME)),
+                PiGpioDigitalOutputProvider.newInstance(piGpio, providerId(PiGpioDigitalOutputProvider.ID), providerName(PiGpioDigitalOutputProvider.NAME)),
+                PiGpioPwmProvider.newInstance(piGpio, providerId(PiGpioPwmProvider.ID), providerName(PiGpioPwmProvider.NAME)),
+                PiGpioI2CProvider.newInstance(piGpio, providerId(PiGpioI2CProvider.ID), providerName(PiGpioI2CProvider.NAME)),
+                PiGpioSerialProvider.newInstance(piGpio, providerId(PiGpioSerialProvider.ID), providerName(PiGpioSerialProvider.NAME)),
+                PiGpioSoftwareSerialProvider.newInstance(piGpio, providerId(PiGpioSoftwareSerialProvider.ID), providerName(PiGpioSoftwareSerialProvider.NAME)),
+                PiGpioSpiProvider.newInstance(piGpio, providerId(PiGpioSpiProvider.ID), providerName(PiGpioSpiProvider.NAME))
+        };
+    }
+
+    /**
+     * Get the ID of a provider of this host.
+     *
+     * @param providerId the ID of the default provider, e.g. {@link PiGpioPlugin#DIGITAL_OUTPUT_PROVIDER_ID}
+     * @return the ID of the provider of this host
+     */
+    public String providerId(String providerId) {
+        return providerId + "." + name;
+    }
+
+    private String providerName(String providerName) {
+        return providerName + " [" + name + "]";
+    }
+
+    /**
+     * <p>name.</p>
+     *
+     * @return the unique name of this host
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * <p>host.</p>
+     *
+     * @return hostname or IP address of the RaspberryPi
+     */
+    public String host() {
+        return host;
+    }
+
+    /**
+     * <p>port.</p>
+     *
+     * @return TCP port number of the PIGPIO daemon
+     */
+    public int port() {
+        return port;
+    }
+
+    /**
+     * <p>piGpio.</p>
+     *
+     * @return the PIGPIO library instance of this host
+     */
+    public PiGpioAsync piGpio() {
+        return piGpio;
+    }
+
+    /**
+     * <p>providers.</p>
+     *
+     * @return the I/O providers of this host
+     */
+    public Provider[] providers() {
+        return providers.clone();
+    }
+
+    /**
+     * <p>isHealthy.</p>
+     *
+     * @return true while the connection to the daemon is established
+     */
+    public boolean isHealthy() {
+        return piGpio.isConnected();
+    }
+
+    /**
+     * <p>metrics.</p>
+     *
+     * @return the request, failure and latency metrics of this host
+     */
+    public PiGpioMetrics metrics() {
+        return piGpio.metrics();
+    }
+
+    /**
+     * Connect to the daemon and initialize the PIGPIO library instance of this host
+     * without blocking the caller.
+     *
+     * @return a future completed once connected and initialized
+     */
+    public CompletableFuture<Void> connect() {
+        return piGpio.connectAsync().thenRunAsync(() -> {
+            synchronized (piGpio) {
+                if(!piGpio.isInitialized()) piGpio.initialize();
+            }
+        });
+    }
+
+    /**
+     * Measure the round trip time of a single command (TICK) to the daemon.
+     *
+     * @return a future completed with the round trip time in microseconds
+     */
+    public CompletableFuture<Long> ping() {
+        long start = System.nanoTime();
+        try {
+            return piGpio.sendAsync(new PiGpioPacket(PiGpioCmd.TICK))
+                    .thenApply(rx -> TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        } catch (PiGpioException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Shutdown the PIGPIO library instance of this host and close its connection.
+     */
+    public void shutdown() {
+        piGpio.shutdown();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return name + " [" + host + ":" + port + "; " + (isHealthy() ? "connected" : "disconnected") + "; " + metrics() + "]";
+    }
+}
@@ -33,22 +33,43 @@ import com.pi4j.exception.ShutdownException;
 import com.pi4j.extension.Plugin;
 import com.pi4j.extension.PluginService;
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioSelector;
 import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalInputProvider;
 import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalOutputProvider;
 import com.pi4j.plugin.pigpio.provider.i2c.PiGpioI2CProvider;
 import com.pi4j.plugin.pigpio.provider.pwm.PiGpioPwmProvider;
 import com.pi4j.plugin.pigpio.provider.serial.PiGpioSerialProvider;
+import com.pi4j.plugin.pigpio.provider.serial.PiGpioSoftwareSerialProvider;
 import com.pi4j.plugin.pigpio.provider.spi.PiGpioSpiProvider;
 import com.pi4j.provider.Provider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * <p>PiGpioPlugin class.</p>
  *
+ * <p>Besides the default (local or remote) PIGPIO instance, any number of named remote hosts may be
+ * configured with the <code>pigpio.hosts</code> property, a comma separated list of names.  The address
+ * of each host is read from <code>pigpio.hosts.&lt;name&gt;.host</code> (default: the name itself) and
+ * <code>pigpio.hosts.&lt;name&gt;.port</code> (default: 8888).  Each host gets its own set of providers,
+ * addressed by ID, see {@link PiGpioHost}; all hosts share one I/O thread and are connected in parallel
+ * when the plugin is initialized.</p>
+ *
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
 public class PiGpioPlugin implements Plugin {
 
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioPlugin.class);
+
     /** Constant <code>NAME="PiGpio"</code> */
     public static final String NAME = "PiGpio";
     /** Constant <code>ID="pigpio"</code> */
@@ -96,7 +117,15 @@ public class PiGpioPlugin implements Plugin {
     /** Constant <code>SERIAL_PROVIDER_ID="ID + -serial"</code> */
     public static final String SERIAL_PROVIDER_ID = ID + "-serial";
 
+    // Software (bit-bang) Serial Provider name and unique ID
+    /** Constant <code>SOFTWARE_SERIAL_PROVIDER_NAME="NAME +  Software Serial Provider"</code> */
+    public static final String SOFTWARE_SERIAL_PROVIDER_NAME = NAME + " Software Serial Provider";
+    /** Constant <code>SOFTWARE_SERIAL_PROVIDER_ID="ID + -software-serial"</code> */
+    public static final String SOFTWARE_SERIAL_PROVIDER_ID = ID + "-software-serial";
+
     protected PiGpio piGpio = null;
+    protected PiGpioSelector selector = null;
+    protected final Map<String, PiGpioHost> hosts = new LinkedHashMap<>();
 
     /** Constant <code>PI4J_HOST_PROPERTY="pi4j.host"</code> */
     public static String PI4J_HOST_PROPERTY = "pi4j.host";
@@ -110,6 +139,12 @@ public class PiGpioPlugin implements Plugin {
     public static Integer DEFAULT_PIGPIO_PORT = 8888;
     /** Constant <code>DEFAULT_PIGPIO_REMOTE</code> */
     public static Boolean DEFAULT_PIGPIO_REMOTE = false;
+    /** Constant <code>PIGPIO_HOSTS_PROPERTY="pigpio.hosts"</code> */
+    public static String PIGPIO_HOSTS_PROPERTY = "pigpio.hosts";
+    /** Constant <code>PIGPIO_CONNECT_TIMEOUT_PROPERTY="pigpio.connect.timeout"</code> */
+    public static String PIGPIO_CONNECT_TIMEOUT_PROPERTY = "pigpio.connect.timeout";
+    /** Constant <code>DEFAULT_PIGPIO_CONNECT_TIMEOUT</code> (milliseconds) */
+    public static Integer DEFAULT_PIGPIO_CONNECT_TIMEOUT = 5000;
 
     /** {@inheritDoc} */
     @Override
@@ -171,6 +206,72 @@ public class PiGpioPlugin implements Plugin {
 
         // register all PiGpio I/O Providers with the plugin service
         service.register(providers);
+
+        // the software serial provider is an additional serial provider, only used when requested by ID
+        service.registerAdditional(PiGpioSoftwareSerialProvider.newInstance(piGpio));
+
+        // create, connect and register the providers of any additional named hosts
+        initializeHosts(service);
+    }
+
+    private void initializeHosts(PluginService service) throws InitializeException {
+        var properties = service.context().properties();
+        String names = properties.get(PIGPIO_HOSTS_PROPERTY, "");
+        if(names.isBlank()) return;
+
+        // all named hosts share a single selector I/O thread for commands and notifications
+        selector = new PiGpioSelector("pigpio-hosts");
+        for(String name : names.split(",")) {
+            name = name.trim();
+            if(name.isEmpty()) continue;
+            if(hosts.containsKey(name))
+                throw new InitializeException("PIGPIO host [" + name + "] is configured more than once");
+            String host = properties.get(PIGPIO_HOSTS_PROPERTY + "." + name + ".host", name);
+            int port = properties.getInteger(PIGPIO_HOSTS_PROPERTY + "." + name + ".port", DEFAULT_PIGPIO_PORT);
+            hosts.put(name, new PiGpioHost(name, host, port, selector));
+        }
+
+        // connect to all hosts in parallel; a host that is not reachable yet is registered anyway
+        // and connects on first use, its failure is reported by its health and metrics
+        int timeout = properties.getInteger(PIGPIO_CONNECT_TIMEOUT_PROPERTY, DEFAULT_PIGPIO_CONNECT_TIMEOUT);
+        Map<PiGpioHost, CompletableFuture<Void>> connecting = new LinkedHashMap<>();
+        hosts.values().forEach(host -> connecting.put(host, host.connect()));
+        try {
+            CompletableFuture.allOf(connecting.values().toArray(new CompletableFuture[0]))
+                    .get(timeout, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // reported per host below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InitializeException("interrupted while connecting to PIGPIO hosts", e);
+        }
+        connecting.forEach((host, connected) -> {
+            if(connected.isDone() && !connected.isCompletedExceptionally()) {
+                logger.debug("PIGPIO host [{}] connected to {}:{}", host.name(), host.host(), host.port());
+            } else {
+                logger.warn("PIGPIO host [{}] at {}:{} is not connected", host.name(), host.host(), host.port());
+            }
+            service.registerAdditional(host.providers());
+        });
+    }
+
+    /**
+     * <p>hosts.</p>
+     *
+     * @return the named remote hosts configured with the <code>pigpio.hosts</code> property
+     */
+    public Map<String, PiGpioHost> hosts() {
+        return Collections.unmodifiableMap(hosts);
+    }
+
+    /**
+     * <p>host.</p>
+     *
+     * @param name name of the host
+     * @return the named remote host, or null if no host of this name is configured
+     */
+    public PiGpioHost host(String name) {
+        return hosts.get(name);
     }
 
     /** {@inheritDoc} */
@@ -178,5 +279,17 @@ public class PiGpioPlugin implements Plugin {
     public void shutdown(Context context) throws ShutdownException {
         // shutdown the PiGpio library
         if(piGpio != null && piGpio.isInitialized()) piGpio.shutdown();
+
+        // shutdown all named hosts and their shared I/O thread
+        hosts.values().forEach(host -> {
+            try {
+                host.shutdown();
+            } catch (Exception e) {
+                logger.warn("PIGPIO host [{}] failed to shutdown: {}", host.name(), e.getMessage());
+            }
+        });
+        hosts.clear();
+        if(selector != null) selector.close();
+        selector = null;
     }
 }
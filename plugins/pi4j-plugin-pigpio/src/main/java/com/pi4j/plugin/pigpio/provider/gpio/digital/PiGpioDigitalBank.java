@@ -0,0 +1,225 @@
+package com.pi4j.plugin.pigpio.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioDigitalBank.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.exception.InitializeException;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.DigitalBank;
+import com.pi4j.io.gpio.digital.PullResistance;
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioBatch;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioError;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioPud;
+
+import java.util.Arrays;
+
+/**
+ * <p>PiGpioDigitalBank class.</p>
+ *
+ * <p>Reads a snapshot of all lines with a single bank read (BR1/BR2) and changes many outputs with a
+ * single bank clear and set (BC1/BS1, BC2/BS2) instead of one command per line; through the socket
+ * interface the clear and set commands of a bank update are pipelined in one batch, so an update costs a
+ * single round trip however many lines change.</p>
+ */
+public class PiGpioDigitalBank implements DigitalBank {
+
+    private static final int MAX_GPIO = 53;
+
+    private final PiGpio piGpio;
+    private final String id;
+    private final int[] addresses;
+    private final boolean output;
+    private final long lines;
+    private final long gpios;
+    // clear and set commands of a write, sent together; guarded by this
+    private final PiGpioBatch batch = new PiGpioBatch(4);
+
+    private PiGpioDigitalBank(PiGpio piGpio, String id, int[] addresses, boolean output) {
+        if (addresses.length == 0 || addresses.length > MAX_LINES)
+            throw new IllegalArgumentException("A bank requires 1-" + MAX_LINES + " lines: " + addresses.length);
+        long gpios = 0;
+        for (int address : addresses) {
+            if (address < 0 || address > MAX_GPIO)
+                throw new IllegalArgumentException("Invalid GPIO address for bank " + id + ": " + address);
+            if ((gpios & (1L << address)) != 0)
+                throw new IllegalArgumentException("Duplicate GPIO address for bank " + id + ": " + address);
+            gpios |= 1L << address;
+        }
+        this.piGpio = piGpio;
+        this.id = id;
+        this.addresses = addresses;
+        this.output = output;
+        this.lines = (addresses.length == MAX_LINES) ? -1L : (1L << addresses.length) - 1;
+        this.gpios = gpios;
+    }
+
+    /**
+     * <p>newOutputBank.</p>
+     *
+     * @param piGpio        a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param id            the bank identifier
+     * @param initialValues initial line states; bit {@code i} for {@code addresses[i]}
+     * @param addresses     the GPIO addresses (0-53)
+     * @return a {@link PiGpioDigitalBank} object.
+     */
+    public static PiGpioDigitalBank newOutputBank(PiGpio piGpio, String id, long initialValues, int... addresses) {
+        PiGpioDigitalBank bank = new PiGpioDigitalBank(piGpio, id, addresses.clone(), true);
+        try {
+            // drive the initial levels before switching the lines to outputs to avoid glitches
+            bank.write(initialValues);
+            for (int address : addresses) piGpio.gpioSetMode(address, PiGpioMode.OUTPUT);
+        } catch (PiGpioException | IOException e) {
+            throw new InitializeException("Failed to initialize output bank " + id, e);
+        }
+        return bank;
+    }
+
+    /**
+     * <p>newInputBank.</p>
+     *
+     * @param piGpio    a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param id        the bank identifier
+     * @param pull      the pull resistance of all lines
+     * @param addresses the GPIO addresses (0-53)
+     * @return a {@link PiGpioDigitalBank} object.
+     */
+    public static PiGpioDigitalBank newInputBank(PiGpio piGpio, String id, PullResistance pull, int... addresses) {
+        PiGpioDigitalBank bank = new PiGpioDigitalBank(piGpio, id, addresses.clone(), false);
+        PiGpioPud pud;
+        switch (pull) {
+            case PULL_UP:
+                pud = PiGpioPud.UP;
+                break;
+            case PULL_DOWN:
+                pud = PiGpioPud.DOWN;
+                break;
+            default:
+                pud = PiGpioPud.OFF;
+                break;
+        }
+        try {
+            for (int address : addresses) {
+                piGpio.gpioSetMode(address, PiGpioMode.INPUT);
+                piGpio.gpioSetPullUpDown(address, pud);
+            }
+        } catch (PiGpioException e) {
+            throw new InitializeException("Failed to initialize input bank " + id, e);
+        }
+        return bank;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String id() {
+        return this.id;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int[] addresses() {
+        return this.addresses.clone();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long read() throws IOException {
+        try {
+            long levels = 0;
+            if ((int) this.gpios != 0)
+                levels = Integer.toUnsignedLong(piGpio.gpioRead_Bits_0_31());
+            if ((this.gpios >>> 32) != 0)
+                levels |= Integer.toUnsignedLong(piGpio.gpioRead_Bits_32_53()) << 32;
+            long values = 0;
+            for (int i = 0; i < addresses.length; i++) {
+                values |= ((levels >>> addresses[i]) & 1L) << i;
+            }
+            return values;
+        } catch (PiGpioException e) {
+            throw new IOException("Failed to read bank " + this.id, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalBank write(long values) throws IOException {
+        return write(values, this.lines);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized DigitalBank write(long values, long mask) throws IOException {
+        if (!this.output)
+            throw new IOException("Bank " + this.id + " is an input bank");
+        long clear = toGpios(mask & ~values & this.lines);
+        long set = toGpios(mask & values & this.lines);
+        batch.clear();
+        if ((int) clear != 0) batch.add(PiGpioCmd.BC1, (int) clear, 0);
+        if ((int) set != 0) batch.add(PiGpioCmd.BS1, (int) set, 0);
+        if ((clear >>> 32) != 0) batch.add(PiGpioCmd.BC2, (int) (clear >>> 32), 0);
+        if ((set >>> 32) != 0) batch.add(PiGpioCmd.BS2, (int) (set >>> 32), 0);
+        if (batch.isEmpty())
+            return this;
+        try {
+            // a single round trip to the daemon for all commands
+            piGpio.execute(batch);
+        } catch (PiGpioException e) {
+            throw new IOException("Failed to write bank " + this.id, e);
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            if (!batch.success(i)) {
+                PiGpioError error = PiGpioError.from(batch.result(i));
+                throw new IOException("Failed to write bank " + this.id + ": " + error.name() + "; " + error.message());
+            }
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        // pigpio does not reserve GPIOs; nothing to release
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "PiGpioDigitalBank{id=" + this.id + ", output=" + this.output + ", addresses=" + Arrays.toString(this.addresses) + "}";
+    }
+
+    private long toGpios(long bits) {
+        long gpios = 0;
+        while (bits != 0) {
+            gpios |= 1L << addresses[Long.numberOfTrailingZeros(bits)];
+            bits &= bits - 1;
+        }
+        return gpios;
+    }
+}
@@ -35,6 +35,8 @@ import com.pi4j.io.gpio.digital.*;
 import com.pi4j.library.pigpio.PiGpio;
 import com.pi4j.library.pigpio.PiGpioMode;
 import com.pi4j.library.pigpio.PiGpioPud;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
 import com.pi4j.library.pigpio.PiGpioStateChangeListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,6 +51,7 @@ public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput
     private final PiGpio piGpio;
     private final int pin;
     private DigitalState state = DigitalState.LOW;
+    private final PiGpioTickClock clock = new PiGpioTickClock();
     private Logger logger = LoggerFactory.getLogger(this.getClass());
 
 
@@ -71,8 +74,20 @@ public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput
      * This listener implementation will forward pin change events received from PIGPIO
      * to registered Pi4J 'DigitalChangeEvent' event listeners on this digital pin.
      */
-    private PiGpioStateChangeListener piGpioPinListener =
-            event -> dispatch(new DigitalStateChangeEvent(PiGpioDigitalInput.this, DigitalState.getState(event.state().value())));
+    private PiGpioStateChangeListener piGpioPinListener = new PiGpioStateChangeListener() {
+        @Override
+        public void onChange(PiGpioStateChangeEvent event) {
+            onChange(event.pin(), event.state(), event.tick());
+        }
+
+        @Override
+        public void onChange(int pin, PiGpioState state, long tick) {
+            if (state == PiGpioState.UNKNOWN)
+                dispatch(new DigitalStateChangeEvent(PiGpioDigitalInput.this, DigitalState.UNKNOWN));
+            else
+                dispatch(state == PiGpioState.HIGH, clock.toNanos(tick));
+        }
+    };
 
     /** {@inheritDoc} */
     @Override
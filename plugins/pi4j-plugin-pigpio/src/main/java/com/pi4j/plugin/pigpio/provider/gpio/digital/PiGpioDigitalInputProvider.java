@@ -28,6 +28,7 @@ package com.pi4j.plugin.pigpio.provider.gpio.digital;
  */
 
 import com.pi4j.io.gpio.digital.DigitalInputProvider;
+import com.pi4j.io.gpio.digital.PullResistance;
 import com.pi4j.library.pigpio.PiGpio;
 import com.pi4j.plugin.pigpio.PiGpioPlugin;
 
@@ -51,4 +52,26 @@ public interface PiGpioDigitalInputProvider extends DigitalInputProvider {
     static PiGpioDigitalInputProvider newInstance(PiGpio piGpio) {
         return new PiGpioDigitalInputProviderImpl(piGpio);
     }
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param id the unique provider ID
+     * @param name the provider name
+     * @return a {@link com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalInputProvider} object.
+     */
+    static PiGpioDigitalInputProvider newInstance(PiGpio piGpio, String id, String name) {
+        return new PiGpioDigitalInputProviderImpl(piGpio, id, name);
+    }
+
+    /**
+     * Creates a bank of inputs whose levels are read as one snapshot with a single bank command.
+     *
+     * @param id        the bank identifier
+     * @param pull      the pull resistance of all lines
+     * @param addresses the GPIO addresses (0-53)
+     * @return a {@link com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalBank} object.
+     */
+    PiGpioDigitalBank createBank(String id, PullResistance pull, int... addresses);
 }
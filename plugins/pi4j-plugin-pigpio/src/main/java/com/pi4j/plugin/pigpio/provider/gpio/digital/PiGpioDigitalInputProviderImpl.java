@@ -32,6 +32,7 @@ import com.pi4j.boardinfo.util.BoardInfoHelper;
 import com.pi4j.io.gpio.digital.DigitalInput;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
 import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
+import com.pi4j.io.gpio.digital.PullResistance;
 import com.pi4j.library.pigpio.PiGpio;
 
 /**
@@ -50,8 +51,19 @@ public class PiGpioDigitalInputProviderImpl extends DigitalInputProviderBase imp
      * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
      */
     public PiGpioDigitalInputProviderImpl(PiGpio piGpio) {
-        this.id = ID;
-        this.name = NAME;
+        this(piGpio, ID, NAME);
+    }
+
+    /**
+     * <p>Constructor for PiGpioDigitalInputProviderImpl.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param id the unique provider ID
+     * @param name the provider name
+     */
+    public PiGpioDigitalInputProviderImpl(PiGpio piGpio, String id, String name) {
+        this.id = id;
+        this.name = name;
         this.piGpio = piGpio;
     }
 
@@ -77,4 +89,17 @@ public class PiGpioDigitalInputProviderImpl extends DigitalInputProviderBase imp
             return digitalInput;
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PiGpioDigitalBank createBank(String id, PullResistance pull, int... addresses) {
+        synchronized (this.piGpio) {
+            // initialize the PIGPIO library
+            if (!this.piGpio.isInitialized())
+                this.piGpio.initialize();
+            return PiGpioDigitalBank.newInputBank(piGpio, id, pull, addresses);
+        }
+    }
 }
@@ -52,4 +52,34 @@ public interface PiGpioDigitalOutputProvider extends DigitalOutputProvider {
     static PiGpioDigitalOutputProvider newInstance(PiGpio piGpio) {
         return new PiGpioDigitalOutputProviderImpl(piGpio);
     }
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param id the unique provider ID
+     * @param name the provider name
+     * @return a {@link com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalOutputProvider} object.
+     */
+    static PiGpioDigitalOutputProvider newInstance(PiGpio piGpio, String id, String name) {
+        return new PiGpioDigitalOutputProviderImpl(piGpio, id, name);
+    }
+
+    /**
+     * Creates a pulse train output that transmits waveforms with DMA timing.
+     *
+     * @param id the output identifier
+     * @return a {@link com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioPulseTrainOutput} object.
+     */
+    PiGpioPulseTrainOutput createPulseTrainOutput(String id);
+
+    /**
+     * Creates a bank of outputs that are set and cleared together with single bank commands.
+     *
+     * @param id            the bank identifier
+     * @param initialValues initial line states; bit {@code i} for {@code addresses[i]}
+     * @param addresses     the GPIO addresses (0-53)
+     * @return a {@link com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalBank} object.
+     */
+    PiGpioDigitalBank createBank(String id, long initialValues, int... addresses);
 }
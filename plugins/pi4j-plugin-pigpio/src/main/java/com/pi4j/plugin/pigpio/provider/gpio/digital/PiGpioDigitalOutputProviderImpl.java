@@ -50,8 +50,19 @@ public class PiGpioDigitalOutputProviderImpl extends DigitalOutputProviderBase i
      * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
      */
     public PiGpioDigitalOutputProviderImpl(PiGpio piGpio) {
-        this.id = ID;
-        this.name = NAME;
+        this(piGpio, ID, NAME);
+    }
+
+    /**
+     * <p>Constructor for PiGpioDigitalOutputProviderImpl.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param id the unique provider ID
+     * @param name the provider name
+     */
+    public PiGpioDigitalOutputProviderImpl(PiGpio piGpio, String id, String name) {
+        this.id = id;
+        this.name = name;
         this.piGpio = piGpio;
     }
 
@@ -77,4 +88,30 @@ public class PiGpioDigitalOutputProviderImpl extends DigitalOutputProviderBase i
             return digitalOutput;
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PiGpioPulseTrainOutput createPulseTrainOutput(String id) {
+        synchronized (this.piGpio) {
+            // initialize the PIGPIO library
+            if (!piGpio.isInitialized())
+                piGpio.initialize();
+            return new PiGpioPulseTrainOutput(piGpio, id);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PiGpioDigitalBank createBank(String id, long initialValues, int... addresses) {
+        synchronized (this.piGpio) {
+            // initialize the PIGPIO library
+            if (!piGpio.isInitialized())
+                piGpio.initialize();
+            return PiGpioDigitalBank.newOutputBank(piGpio, id, initialValues, addresses);
+        }
+    }
 }
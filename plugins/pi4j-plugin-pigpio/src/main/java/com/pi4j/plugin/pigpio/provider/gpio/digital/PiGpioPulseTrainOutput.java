@@ -0,0 +1,233 @@
+package com.pi4j.plugin.pigpio.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioPulseTrainOutput.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.PulseTrain;
+import com.pi4j.io.gpio.digital.PulseTrainOutput;
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioPulse;
+import com.pi4j.library.pigpio.PiGpioWaveMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * <p>{@link PulseTrainOutput} backed by pigpio waveforms.</p>
+ *
+ * <p>Each loaded {@link PulseTrain} becomes a pigpio wave whose id is the pulse train handle; pigpio
+ * transmits waves by DMA so the timing is exact to the microsecond, both with the native library and
+ * through the pigpiod socket.  Line addresses are BCM user GPIO numbers (0-31).</p>
+ */
+public class PiGpioPulseTrainOutput implements PulseTrainOutput {
+
+    private static final int CHAIN_COMMAND = 255;
+    private static final int CHAIN_LOOP_START = 0;
+    private static final int CHAIN_LOOP_REPEAT = 1;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final PiGpio piGpio;
+    private final String id;
+    private final Set<Integer> waves = new LinkedHashSet<>();
+    private int outputPins = 0;
+
+    /**
+     * <p>Constructor for PiGpioPulseTrainOutput.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param id the output identifier
+     */
+    public PiGpioPulseTrainOutput(PiGpio piGpio, String id) {
+        this.piGpio = piGpio;
+        this.id = id;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String id() {
+        return id;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int load(PulseTrain train) throws IOException {
+        long addresses = train.addressMask();
+        if ((addresses >>> 32) != 0)
+            throw new IllegalArgumentException("pigpio waveforms only support GPIO 0-31; mask: 0x"
+                    + Long.toHexString(addresses));
+        try {
+            configureOutputs((int) addresses);
+            piGpio.gpioWaveAddNew();
+
+            // pulses added by each call are merged with the pending pulses timed from the start of the
+            // waveform, so every chunk after the first is offset by a delay-only pulse
+            PiGpioPulse[] chunk = new PiGpioPulse[Math.min(train.size() + 1, PiGpioPulse.MAX_PULSES_PER_ADD)];
+            long elapsed = 0;
+            int step = 0;
+            while (step < train.size()) {
+                int count = 0;
+                if (step > 0) chunk[count++] = new PiGpioPulse(0, 0, (int) elapsed);
+                while (count < chunk.length && step < train.size()) {
+                    chunk[count++] = new PiGpioPulse((int) train.setMask(step), (int) train.clearMask(step),
+                            train.delayMicros(step));
+                    elapsed += train.delayMicros(step);
+                    step++;
+                }
+                if (elapsed > Integer.MAX_VALUE)
+                    throw new IllegalArgumentException("pulse train too long: " + elapsed + "us");
+                piGpio.gpioWaveAddGeneric(count == chunk.length ? chunk : Arrays.copyOf(chunk, count));
+            }
+
+            int wave = piGpio.gpioWaveCreate();
+            waves.add(wave);
+            logger.trace("[{}] loaded pulse train {} as wave {}", id, train, wave);
+            return wave;
+        } catch (PiGpioException e) {
+            logger.error(e.getMessage(), e);
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void send(int handle) throws IOException {
+        transmit(handle, PiGpioWaveMode.ONE_SHOT);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void repeat(int handle) throws IOException {
+        transmit(handle, PiGpioWaveMode.REPEAT);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void chain(int loops, int... handles) throws IOException {
+        if (loops < 1 || loops > MAX_LOOPS)
+            throw new IllegalArgumentException("loop count out of range (1-" + MAX_LOOPS + "): " + loops);
+        ByteArrayOutputStream chain = new ByteArrayOutputStream(handles.length + 6);
+        if (loops > 1) {
+            chain.write(CHAIN_COMMAND);
+            chain.write(CHAIN_LOOP_START);
+        }
+        for (int handle : handles) {
+            validateHandle(handle);
+            chain.write(handle);
+        }
+        if (loops > 1) {
+            chain.write(CHAIN_COMMAND);
+            chain.write(CHAIN_LOOP_REPEAT);
+            chain.write(loops & 0xFF);
+            chain.write(loops >>> 8);
+        }
+        try {
+            piGpio.gpioWaveChain(chain.toByteArray());
+        } catch (PiGpioException e) {
+            logger.error(e.getMessage(), e);
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean busy() throws IOException {
+        try {
+            return piGpio.gpioWaveTxBusy();
+        } catch (PiGpioException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void stop() throws IOException {
+        try {
+            piGpio.gpioWaveTxStop();
+        } catch (PiGpioException e) {
+            logger.error(e.getMessage(), e);
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void unload(int handle) throws IOException {
+        validateHandle(handle);
+        try {
+            piGpio.gpioWaveDelete(handle);
+            waves.remove(handle);
+        } catch (PiGpioException e) {
+            logger.error(e.getMessage(), e);
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() {
+        if (waves.isEmpty()) return;
+        try {
+            piGpio.gpioWaveTxStop();
+            for (int wave : waves) piGpio.gpioWaveDelete(wave);
+        } catch (PiGpioException e) {
+            logger.warn("[{}] failed to release waveforms: {}", id, e.getMessage());
+        }
+        waves.clear();
+    }
+
+    private void transmit(int handle, PiGpioWaveMode mode) {
+        validateHandle(handle);
+        try {
+            piGpio.gpioWaveTxSend(handle, mode);
+        } catch (PiGpioException e) {
+            logger.error(e.getMessage(), e);
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private void configureOutputs(int pins) {
+        int pending = pins & ~outputPins;
+        while (pending != 0) {
+            int pin = Integer.numberOfTrailingZeros(pending);
+            piGpio.gpioSetMode(pin, PiGpioMode.OUTPUT);
+            pending &= pending - 1;
+        }
+        outputPins |= pins;
+    }
+
+    private void validateHandle(int handle) {
+        if (!waves.contains(handle))
+            throw new IllegalArgumentException("pulse train not loaded by this output: " + handle);
+    }
+}
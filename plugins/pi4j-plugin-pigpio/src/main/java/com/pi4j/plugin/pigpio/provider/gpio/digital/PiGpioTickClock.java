@@ -0,0 +1,84 @@
+package com.pi4j.plugin.pigpio.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioTickClock.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Converts PIGPIO event ticks into monotonic nanosecond timestamps on the
+ * {@link System#nanoTime()} time line.</p>
+ *
+ * <p>PIGPIO reports edges with an unsigned 32 bit microsecond tick that wraps around
+ * roughly every 72 minutes and (for remote daemons) comes from a different clock.  Ticks
+ * are unwrapped into a 64 bit count and mapped using the smallest observed offset between
+ * the local receive time and the tick, which best approximates the moment the edge actually
+ * occurred; the offset is re-estimated periodically to follow clock drift.</p>
+ */
+class PiGpioTickClock {
+
+    private static final long WRAP_MICROS = 1L << 32;
+    private static final long RESYNC_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private boolean synced = false;
+    private long lastTick;
+    private long lastNanos;
+    private long extendedTick;
+    private long offset;
+    private long offsetNanos;
+
+    /**
+     * Convert an event tick; must be called with ticks in the order events were received.
+     *
+     * @param tick PIGPIO tick in microseconds (unsigned 32 bit)
+     * @return event timestamp in nanoseconds ({@link System#nanoTime()} time line)
+     */
+    synchronized long toNanos(long tick) {
+        long now = System.nanoTime();
+        tick &= 0xFFFFFFFFL;
+        if (!synced) {
+            extendedTick = tick;
+        } else {
+            // microseconds since the previous event; add the whole wrap periods that elapsed locally
+            long delta = (tick - lastTick) & 0xFFFFFFFFL;
+            long elapsed = TimeUnit.NANOSECONDS.toMicros(now - lastNanos);
+            delta += Math.floorDiv(elapsed - delta + WRAP_MICROS / 2, WRAP_MICROS) * WRAP_MICROS;
+            extendedTick += delta;
+        }
+        lastTick = tick;
+        lastNanos = now;
+
+        long tickNanos = TimeUnit.MICROSECONDS.toNanos(extendedTick);
+        long observed = now - tickNanos;
+        if (!synced || observed < offset || now - offsetNanos > RESYNC_NANOS) {
+            offset = observed;
+            offsetNanos = now;
+            synced = true;
+        }
+        return tickNanos + offset;
+    }
+}
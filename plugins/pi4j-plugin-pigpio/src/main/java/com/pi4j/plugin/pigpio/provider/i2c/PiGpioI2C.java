@@ -34,6 +34,7 @@ import com.pi4j.io.i2c.I2CBase;
 import com.pi4j.io.i2c.I2CConfig;
 import com.pi4j.io.i2c.I2CProvider;
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioI2CTransaction;
 import com.pi4j.library.pigpio.PiGpioMode;
 
 import java.util.Objects;
@@ -216,4 +217,52 @@ public class PiGpioI2C extends I2CBase<PiGpioI2CBus> implements I2C {
     public int writeReadRegisterWord(int register, int word) {
         return piGpio.i2cProcessCall(this.handle, register, word);
     }
+
+    // -------------------------------------------------------------------
+    // BATCH (TRANSACTION) FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /**
+     * Creates an empty transaction; its operations start at the address of this device
+     * and may switch to other devices on the same bus.
+     *
+     * @return a {@link PiGpioI2CTransaction} object.
+     */
+    public PiGpioI2CTransaction newTransaction() {
+        return new PiGpioI2CTransaction();
+    }
+
+    /**
+     * Executes all operations of a transaction in a single PIGPIO call (one round trip when
+     * connected to a remote PIGPIO daemon); the data read are stored in the transaction.
+     *
+     * @param transaction the I2C operations to perform
+     * @return the number of bytes read, or a negative PIGPIO error code
+     */
+    public int execute(PiGpioI2CTransaction transaction) {
+        return piGpio.i2cZip(this.handle, transaction);
+    }
+
+    /**
+     * Reads several registers of this device in a single PIGPIO call; the data of each register
+     * is stored consecutively in the buffer.
+     *
+     * @param registers the register addresses
+     * @param length the number of bytes to read from each register
+     * @param buffer the buffer receiving the data
+     * @param offset the offset in the buffer at which to start storing data
+     * @return the number of bytes read, or a negative PIGPIO error code
+     */
+    public int readRegisters(int[] registers, int length, byte[] buffer, int offset) {
+        Objects.checkFromIndexSize(offset, registers.length * length, buffer.length);
+        PiGpioI2CTransaction transaction = newTransaction();
+        for (int register : registers) {
+            transaction.readRegister(register, length);
+        }
+        int result = execute(transaction);
+        for (int i = 0; result >= transaction.readLength() && i < registers.length; i++) {
+            transaction.result(i, buffer, offset + i * length);
+        }
+        return result;
+    }
 }
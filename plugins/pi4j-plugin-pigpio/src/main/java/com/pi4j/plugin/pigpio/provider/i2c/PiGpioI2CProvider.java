@@ -51,4 +51,16 @@ public interface PiGpioI2CProvider extends I2CProvider {
     static PiGpioI2CProvider newInstance(PiGpio piGpio) {
         return new PiGpioI2CProviderImpl(piGpio);
     }
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param id the unique provider ID
+     * @param name the provider name
+     * @return a {@link com.pi4j.plugin.pigpio.provider.i2c.PiGpioI2CProvider} object.
+     */
+    static PiGpioI2CProvider newInstance(PiGpio piGpio, String id, String name) {
+        return new PiGpioI2CProviderImpl(piGpio, id, name);
+    }
 }
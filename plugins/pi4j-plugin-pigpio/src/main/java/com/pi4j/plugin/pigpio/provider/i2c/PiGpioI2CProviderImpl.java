@@ -29,8 +29,11 @@ package com.pi4j.plugin.pigpio.provider.i2c;
 
 
 import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.i2c.I2C;
 import com.pi4j.io.i2c.I2CConfig;
+import com.pi4j.io.i2c.I2CProvider;
 import com.pi4j.io.i2c.I2CProviderBase;
 import com.pi4j.library.pigpio.PiGpio;
 
@@ -54,8 +57,19 @@ public class PiGpioI2CProviderImpl extends I2CProviderBase implements PiGpioI2CP
      * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
      */
     public PiGpioI2CProviderImpl(PiGpio piGpio) {
-        this.id = ID;
-        this.name = NAME;
+        this(piGpio, ID, NAME);
+    }
+
+    /**
+     * <p>Constructor for PiGpioI2CProviderImpl.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param id the unique provider ID
+     * @param name the provider name
+     */
+    public PiGpioI2CProviderImpl(PiGpio piGpio, String id, String name) {
+        this.id = id;
+        this.name = name;
         this.piGpio = piGpio;
         this.i2CBusMap = new HashMap<>();
     }
@@ -84,4 +98,14 @@ public class PiGpioI2CProviderImpl extends I2CProviderBase implements PiGpioI2CP
             return i2C;
         }
     }
+
+    @Override
+    public I2CProvider shutdown(Context context) throws ShutdownException {
+        synchronized (this.piGpio) {
+            // close the bus schedulers, cancelling the transactions still queued
+            this.i2CBusMap.forEach(((busNr, bus) -> bus.close()));
+            this.i2CBusMap.clear();
+        }
+        return super.shutdown(context);
+    }
 }
@@ -51,4 +51,16 @@ public interface PiGpioPwmProvider extends PwmProvider {
     static PiGpioPwmProvider newInstance(PiGpio piGpio) {
         return new PiGpioPwmProviderImpl(piGpio);
     }
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param id the unique provider ID
+     * @param name the provider name
+     * @return a {@link com.pi4j.plugin.pigpio.provider.pwm.PiGpioPwmProvider} object.
+     */
+    static PiGpioPwmProvider newInstance(PiGpio piGpio, String id, String name) {
+        return new PiGpioPwmProviderImpl(piGpio, id, name);
+    }
 }
@@ -51,8 +51,19 @@ public class PiGpioPwmProviderImpl extends PwmProviderBase implements PiGpioPwmP
      * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
      */
     public PiGpioPwmProviderImpl(PiGpio piGpio) {
-        this.id = ID;
-        this.name = NAME;
+        this(piGpio, ID, NAME);
+    }
+
+    /**
+     * <p>Constructor for PiGpioPwmProviderImpl.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param id the unique provider ID
+     * @param name the provider name
+     */
+    public PiGpioPwmProviderImpl(PiGpio piGpio, String id, String name) {
+        this.id = id;
+        this.name = name;
         this.piGpio = piGpio;
     }
 
@@ -51,4 +51,16 @@ public interface PiGpioSerialProvider extends SerialProvider {
     static PiGpioSerialProvider newInstance(PiGpio piGpio) {
         return new PiGpioSerialProviderImpl(piGpio);
     }
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param id the unique provider ID
+     * @param name the provider name
+     * @return a {@link com.pi4j.plugin.pigpio.provider.serial.PiGpioSerialProvider} object.
+     */
+    static PiGpioSerialProvider newInstance(PiGpio piGpio, String id, String name) {
+        return new PiGpioSerialProviderImpl(piGpio, id, name);
+    }
 }
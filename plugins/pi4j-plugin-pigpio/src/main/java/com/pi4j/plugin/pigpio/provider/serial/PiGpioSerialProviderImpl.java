@@ -49,8 +49,19 @@ public class PiGpioSerialProviderImpl extends SerialProviderBase implements PiGp
      * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
      */
     public PiGpioSerialProviderImpl(PiGpio piGpio) {
-        this.id = ID;
-        this.name = NAME;
+        this(piGpio, ID, NAME);
+    }
+
+    /**
+     * <p>Constructor for PiGpioSerialProviderImpl.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param id the unique provider ID
+     * @param name the provider name
+     */
+    public PiGpioSerialProviderImpl(PiGpio piGpio, String id, String name) {
+        this.id = id;
+        this.name = name;
         this.piGpio = piGpio;
     }
 
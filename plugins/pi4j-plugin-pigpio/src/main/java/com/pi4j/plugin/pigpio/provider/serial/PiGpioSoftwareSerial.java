@@ -0,0 +1,199 @@
+package com.pi4j.plugin.pigpio.provider.serial;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioSoftwareSerial.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.exception.IOReadException;
+import com.pi4j.io.serial.Serial;
+import com.pi4j.io.serial.SerialBase;
+import com.pi4j.io.serial.SerialConfig;
+import com.pi4j.io.serial.SerialProvider;
+import com.pi4j.library.pigpio.PiGpio;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>PiGpioSoftwareSerial class.</p>
+ *
+ * <p>Receive-only serial port on any user GPIO (0-31), using the bit-banged serial reader of PIGPIO
+ * (SLRO/SLR/SLRC/SLRI): the GPIO is sampled by DMA and the daemon buffers the received characters.
+ * The GPIO number is taken from the configured device, which must be a plain number or <code>GPIO</code>
+ * followed by the number (e.g. <code>"17"</code> or <code>"GPIO17"</code>);
+ * the serial logic is inverted if the config property <code>invert</code> is <code>true</code>.  Only
+ * 8N1 style framing is decoded, so parity and stop bits of the config are ignored.</p>
+ *
+ * <p>Received bytes are staged in a ring buffer allocated once per port: each refill is a single bulk
+ * read sized to the free space of the ring, written straight into it, so whatever the daemon has
+ * buffered is fetched in one round trip instead of polling byte by byte.</p>
+ */
+public class PiGpioSoftwareSerial extends SerialBase implements Serial {
+
+    /** Capacity of the ring buffer; the cyclic buffer of the PIGPIO bit-bang reader is 8192 bytes as well. */
+    public static final int BUFFER_SIZE = 8192;
+
+    private static final Pattern GPIO_DEVICE = Pattern.compile("(?:GPIO)?(\\d{1,2})", Pattern.CASE_INSENSITIVE);
+
+    protected final PiGpio piGpio;
+    protected final int pin;
+
+    // ring buffer: 'count' bytes starting at 'head'; BUFFER_SIZE is a power of two
+    private final byte[] ring = new byte[BUFFER_SIZE];
+    private int head = 0;
+    private int count = 0;
+
+    /**
+     * <p>Constructor for PiGpioSoftwareSerial.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param provider a {@link com.pi4j.io.serial.SerialProvider} object.
+     * @param config a {@link com.pi4j.io.serial.SerialConfig} object.
+     * @throws IllegalArgumentException if the configured device does not name a GPIO
+     */
+    public PiGpioSoftwareSerial(PiGpio piGpio, SerialProvider provider, SerialConfig config) {
+        super(provider, config);
+
+        // set local reference instance
+        this.piGpio = piGpio;
+        this.pin = pin(config.device());
+
+        // open the bit-bang serial reader on the GPIO
+        piGpio.gpioSerialReadOpen(pin, config.baud(), config.dataBits().getValue());
+        if(Boolean.parseBoolean(config.properties().get("invert")))
+            piGpio.gpioSerialReadInvert(pin, true);
+
+        // set open state flag
+        this.isOpen = true;
+    }
+
+    private static int pin(String device) {
+        // only a plain GPIO number or "GPIO<n>"; any other device name (e.g. "/dev/ttyAMA0") is not a GPIO
+        Matcher matcher = (device == null) ? null : GPIO_DEVICE.matcher(device.trim());
+        if(matcher == null || !matcher.matches())
+            throw new IllegalArgumentException("software serial device must name a GPIO (e.g. \"GPIO17\" or \"17\"): " + device);
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    /**
+     * <p>pin.</p>
+     *
+     * @return the GPIO the serial data is read from
+     */
+    public int pin() {
+        return pin;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int available() {
+        fill();
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() {
+        piGpio.gpioSerialReadClose(this.pin);
+        head = 0;
+        count = 0;
+        super.close();
+    }
+
+    // -------------------------------------------------------------------
+    // DEVICE WRITE FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte b) {
+        throw new IOException("software serial on GPIO " + pin + " is receive only");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte[] data, int offset, int length) {
+        throw new IOException("software serial on GPIO " + pin + " is receive only");
+    }
+
+    // -------------------------------------------------------------------
+    // RAW DEVICE READ FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int read() {
+        if(count == 0) fill();
+        if(count == 0) return -1;
+        int b = Byte.toUnsignedInt(ring[head]);
+        head = (head + 1) & (BUFFER_SIZE - 1);
+        count--;
+        return b;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int read(byte[] buffer, int offset, int length) {
+        if(count < length) fill();
+        int actual = Math.min(length, count);
+        int first = Math.min(actual, BUFFER_SIZE - head);
+        System.arraycopy(ring, head, buffer, offset, first);
+        System.arraycopy(ring, 0, buffer, offset + first, actual - first);
+        head = (head + actual) & (BUFFER_SIZE - 1);
+        count -= actual;
+        return actual;
+    }
+
+    // -------------------------------------------------------------------
+    // MISC I/O FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int drain() {
+        fill();
+        int drained = count;
+        head = 0;
+        count = 0;
+        return drained;
+    }
+
+    /**
+     * Move the bytes buffered by the daemon into the free space of the ring; at most two bulk reads
+     * are needed, the second only if the free space wraps and the first read filled its part.
+     */
+    private void fill() {
+        while (count < BUFFER_SIZE) {
+            int tail = (head + count) & (BUFFER_SIZE - 1);
+            int contiguous = Math.min(BUFFER_SIZE - count, BUFFER_SIZE - tail);
+            int received = piGpio.gpioSerialRead(pin, ring, tail, contiguous);
+            if(received < 0) throw new IOReadException(received);
+            count += received;
+            if(received < contiguous) return;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.pi4j.plugin.pigpio.provider.serial;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioSoftwareSerialProviderImpl.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.serial.Serial;
+import com.pi4j.io.serial.SerialConfig;
+import com.pi4j.io.serial.SerialProviderBase;
+import com.pi4j.library.pigpio.PiGpio;
+
+/**
+ * <p>PiGpioSoftwareSerialProviderImpl class.</p>
+ */
+public class PiGpioSoftwareSerialProviderImpl extends SerialProviderBase implements PiGpioSoftwareSerialProvider {
+
+    final PiGpio piGpio;
+
+    /**
+     * <p>Constructor for PiGpioSoftwareSerialProviderImpl.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    public PiGpioSoftwareSerialProviderImpl(PiGpio piGpio) {
+        this(piGpio, ID, NAME);
+    }
+
+    /**
+     * <p>Constructor for PiGpioSoftwareSerialProviderImpl.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param id the unique provider ID
+     * @param name the provider name
+     */
+    public PiGpioSoftwareSerialProviderImpl(PiGpio piGpio, String id, String name) {
+        this.id = id;
+        this.name = name;
+        this.piGpio = piGpio;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Serial create(SerialConfig config) {
+        synchronized (this.piGpio) {
+            // initialize the PIGPIO library
+            if (!piGpio.isInitialized())
+                piGpio.initialize();
+
+            // create new I/O instance based on I/O config
+            PiGpioSoftwareSerial serial = new PiGpioSoftwareSerial(piGpio, this, config);
+            this.context.registry().add(serial);
+            return serial;
+        }
+    }
+}
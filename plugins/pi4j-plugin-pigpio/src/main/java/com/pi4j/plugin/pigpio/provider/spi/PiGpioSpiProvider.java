@@ -51,4 +51,16 @@ public interface PiGpioSpiProvider extends SpiProvider {
     static PiGpioSpiProvider newInstance(PiGpio piGpio) {
         return new PiGpioSpiProviderImpl(piGpio);
     }
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.PiGpio} object.
+     * @param id the unique provider ID
+     * @param name the provider name
+     * @return a {@link com.pi4j.plugin.pigpio.provider.spi.PiGpioSpiProvider} object.
+     */
+    static PiGpioSpiProvider newInstance(PiGpio piGpio, String id, String name) {
+        return new PiGpioSpiProviderImpl(piGpio, id, name);
+    }
 }
@@ -48,7 +48,18 @@ public class RpiI2C extends I2CBase<RpiI2CBus> implements I2C {
      * @param config a {@link com.pi4j.io.i2c.I2CConfig} object.
      */
     public RpiI2C(I2CProvider provider, I2CConfig config){
-        super(provider, config, new RpiI2CBus(config));
+        this(provider, config, new RpiI2CBus(config));
+    }
+
+    /**
+     * <p>Constructor for RpiI2C.</p>
+     *
+     * @param provider a {@link com.pi4j.io.i2c.I2CProvider} object.
+     * @param config a {@link com.pi4j.io.i2c.I2CConfig} object.
+     * @param i2CBus the {@link com.pi4j.plugin.raspberrypi.provider.i2c.RpiI2CBus} shared by the devices on the bus.
+     */
+    public RpiI2C(I2CProvider provider, I2CConfig config, RpiI2CBus i2CBus){
+        super(provider, config, i2CBus);
     }
 
     /** {@inheritDoc} */
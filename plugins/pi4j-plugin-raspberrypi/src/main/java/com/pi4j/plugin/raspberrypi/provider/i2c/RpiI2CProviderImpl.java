@@ -27,10 +27,16 @@ package com.pi4j.plugin.raspberrypi.provider.i2c;
  * #L%
  */
 
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.i2c.I2C;
 import com.pi4j.io.i2c.I2CConfig;
+import com.pi4j.io.i2c.I2CProvider;
 import com.pi4j.io.i2c.I2CProviderBase;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * <p>RpiI2CProviderImpl class.</p>
  *
@@ -39,22 +45,33 @@ import com.pi4j.io.i2c.I2CProviderBase;
  */
 public class RpiI2CProviderImpl extends I2CProviderBase implements RpiI2CProvider {
 
+    private final Map<Integer, RpiI2CBus> i2CBusMap;
+
     /**
      * <p>Constructor for RpiI2CProviderImpl.</p>
      */
     public RpiI2CProviderImpl() {
         this.id = ID;
         this.name = NAME;
+        this.i2CBusMap = new HashMap<>();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public I2C create(I2CConfig config) {
-        RpiI2C i2C = new RpiI2C(this, config);
+    public synchronized I2C create(I2CConfig config) {
+        RpiI2CBus i2CBus = this.i2CBusMap.computeIfAbsent(config.getBus(), busNr -> new RpiI2CBus(config));
+        RpiI2C i2C = new RpiI2C(this, config, i2CBus);
         this.context.registry().add(i2C);
         return i2C;
     }
 
+    @Override
+    public I2CProvider shutdown(Context context) throws ShutdownException {
+        // close the bus schedulers, cancelling the transactions still queued
+        this.i2CBusMap.forEach(((busNr, bus) -> bus.close()));
+        this.i2CBusMap.clear();
+        return super.shutdown(context);
+    }
 }